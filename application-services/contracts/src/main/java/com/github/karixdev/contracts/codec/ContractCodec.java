@@ -0,0 +1,69 @@
+package com.github.karixdev.contracts.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.SchemaStore;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Encodes a contract with Avro single-object encoding: a two byte marker, the fingerprint of the writer schema and
+ * the binary datum. Decoding resolves the writer schema through {@link ContractSchemas#registry()}, so a message
+ * written with an older or newer version of the contract reads into the current one.
+ */
+public final class ContractCodec<R extends SpecificRecord> {
+
+    private static final byte MARKER_FIRST = (byte) 0xC3;
+    private static final byte MARKER_SECOND = (byte) 0x01;
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private final String name;
+    private final BinaryMessageEncoder<R> encoder;
+    private final BinaryMessageDecoder<R> decoder;
+
+    public ContractCodec(Class<R> type) {
+        this(type, ContractSchemas.registry());
+    }
+
+    ContractCodec(Class<R> type, SchemaStore registry) {
+        SpecificData model = SpecificData.getForClass(type);
+        Schema schema = model.getSchema(type);
+
+        this.name = schema.getFullName();
+        this.encoder = new BinaryMessageEncoder<>(model, schema);
+        this.decoder = new BinaryMessageDecoder<>(model, schema, registry);
+    }
+
+    public byte[] encode(R contract) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try {
+            encoder.encode(contract, out);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not encode " + name, e);
+        }
+
+        return out.toByteArray();
+    }
+
+    public R decode(byte[] data) {
+        try {
+            return decoder.decode(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode " + name, e);
+        }
+    }
+
+    /**
+     * Tells binary messages apart from JSON ones, which start with a brace.
+     */
+    public static boolean isEncoded(byte[] data) {
+        return data.length > 2 && data[0] == MARKER_FIRST && data[1] == MARKER_SECOND;
+    }
+
+}
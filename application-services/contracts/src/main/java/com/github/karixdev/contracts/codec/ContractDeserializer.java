@@ -0,0 +1,63 @@
+package com.github.karixdev.contracts.codec;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads a contract into a record of a service. Records that are not binary encoded, the JSON ones of producers not
+ * yet switched to contracts, go to the fallback deserializer.
+ */
+public class ContractDeserializer<T, R extends SpecificRecord> implements Deserializer<T> {
+
+    private final ContractCodec<R> codec;
+    private final Function<R, T> fromContract;
+    private final Deserializer<T> fallback;
+
+    public ContractDeserializer(Class<R> contractType, Function<R, T> fromContract, Deserializer<T> fallback) {
+        this.codec = new ContractCodec<>(contractType);
+        this.fromContract = fromContract;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        fallback.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null || !ContractCodec.isEncoded(data)) {
+            return fallback.deserialize(topic, data);
+        }
+
+        return decode(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null || !ContractCodec.isEncoded(data)) {
+            return fallback.deserialize(topic, headers, data);
+        }
+
+        return decode(topic, data);
+    }
+
+    @Override
+    public void close() {
+        fallback.close();
+    }
+
+    private T decode(String topic, byte[] data) {
+        try {
+            return fromContract.apply(codec.decode(data));
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not deserialize record of " + topic, e);
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.github.karixdev.contracts.codec;
+
+import com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent;
+import com.github.karixdev.contracts.raw.RawScheduleEvent;
+import com.github.karixdev.contracts.schedule.ScheduleEvent;
+import com.github.karixdev.contracts.schedule.ScheduleFetchEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.message.SchemaStore;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Embedded stand-in for a schema registry. Every binary message carries the fingerprint of the schema it was written
+ * with, which a decoder looks up here: among the current schemas of the contracts and the ones they replaced, listed in
+ * {@value #HISTORY_INDEX}.
+ * <p>
+ * Versioning rules, checked by {@code ContractSchemasTest}:
+ * <ul>
+ *     <li>a new field must have a default, a removed field must have had one</li>
+ *     <li>an enum that gains a symbol must have a default symbol</li>
+ *     <li>the replaced schema is copied to the history directory and listed in its index</li>
+ *     <li>consumers are upgraded before producers, so that they know the schema a producer writes with</li>
+ * </ul>
+ * A change that cannot follow them is a new contract with a new name, produced to a new topic.
+ */
+public final class ContractSchemas {
+
+    static final String HISTORY_DIRECTORY = "contracts/history/";
+    static final String HISTORY_INDEX = HISTORY_DIRECTORY + "index";
+
+    private static final List<Schema> CURRENT = List.of(
+            ScheduleEvent.getClassSchema(),
+            ScheduleFetchEvent.getClassSchema(),
+            RawScheduleEvent.getClassSchema(),
+            ProcessedRawScheduleEvent.getClassSchema()
+    );
+
+    private static final List<Schema> HISTORY = loadHistory();
+
+    private static final SchemaStore.Cache REGISTRY = createRegistry();
+
+    private ContractSchemas() {}
+
+    public static SchemaStore registry() {
+        return REGISTRY;
+    }
+
+    public static List<Schema> current() {
+        return CURRENT;
+    }
+
+    public static List<Schema> history() {
+        return HISTORY;
+    }
+
+    private static SchemaStore.Cache createRegistry() {
+        SchemaStore.Cache registry = new SchemaStore.Cache();
+        CURRENT.forEach(registry::addSchema);
+        HISTORY.forEach(registry::addSchema);
+
+        return registry;
+    }
+
+    private static List<Schema> loadHistory() {
+        List<Schema> schemas = new ArrayList<>();
+
+        for (String file : readIndex()) {
+            try (InputStream in = resource(HISTORY_DIRECTORY + file)) {
+                // a parser per file, names of nested types repeat across versions
+                schemas.add(new Schema.Parser().parse(in));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read schema " + file, e);
+            }
+        }
+
+        return Collections.unmodifiableList(schemas);
+    }
+
+    private static List<String> readIndex() {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource(HISTORY_INDEX), StandardCharsets.UTF_8))
+        ) {
+            return reader.lines()
+                    .map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + HISTORY_INDEX, e);
+        }
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = ContractSchemas.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException("Missing resource " + name);
+        }
+
+        return in;
+    }
+
+}
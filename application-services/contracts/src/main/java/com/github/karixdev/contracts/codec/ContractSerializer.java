@@ -0,0 +1,35 @@
+package com.github.karixdev.contracts.codec;
+
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.function.Function;
+
+/**
+ * Writes a record of a service as its contract, mapped at the Kafka boundary so that the service keeps its own model.
+ */
+public class ContractSerializer<T, R extends SpecificRecord> implements Serializer<T> {
+
+    private final ContractCodec<R> codec;
+    private final Function<T, R> toContract;
+
+    public ContractSerializer(Class<R> contractType, Function<T, R> toContract) {
+        this.codec = new ContractCodec<>(contractType);
+        this.toContract = toContract;
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return codec.encode(toContract.apply(data));
+        } catch (RuntimeException e) {
+            throw new SerializationException("Could not serialize record for " + topic, e);
+        }
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.github.karixdev.contracts.codec;
+
+/**
+ * Format producers write events in. Consumers read both, producers switch to {@link #AVRO} once all consumers of their
+ * topics do.
+ */
+public enum EventEncoding {
+    AVRO,
+    JSON
+}
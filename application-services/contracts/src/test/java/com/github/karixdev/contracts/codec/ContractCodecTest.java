@@ -0,0 +1,125 @@
+package com.github.karixdev.contracts.codec;
+
+import com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent;
+import com.github.karixdev.contracts.raw.RawScheduleEvent;
+import com.github.karixdev.contracts.schedule.ScheduleFetchEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.MissingSchemaException;
+import org.apache.avro.message.SchemaStore;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ContractCodecTest {
+
+    @Test
+    void GivenRawScheduleEvent_WhenEncodeAndDecode_ThenReturnsEqualEvent() {
+        // Given
+        ContractCodec<RawScheduleEvent> underTest = new ContractCodec<>(RawScheduleEvent.class);
+        RawScheduleEvent event = EventFixtures.rawScheduleEvent();
+
+        // When
+        RawScheduleEvent result = underTest.decode(underTest.encode(event));
+
+        // Then
+        assertThat(result).isEqualTo(event);
+    }
+
+    @Test
+    void GivenProcessedRawScheduleEvent_WhenEncodeAndDecode_ThenReturnsEqualEvent() {
+        // Given
+        ContractCodec<ProcessedRawScheduleEvent> underTest = new ContractCodec<>(ProcessedRawScheduleEvent.class);
+        ProcessedRawScheduleEvent event = EventFixtures.processedRawScheduleEvent();
+
+        // When
+        ProcessedRawScheduleEvent result = underTest.decode(underTest.encode(event));
+
+        // Then
+        assertThat(result).isEqualTo(event);
+    }
+
+    @Test
+    void GivenMessageWrittenWithNewerRegisteredSchema_WhenDecode_ThenReadsItIntoCurrentSchema() {
+        // Given
+        Schema newer = newerScheduleFetchEventSchema();
+
+        SchemaStore.Cache registry = new SchemaStore.Cache();
+        registry.addSchema(newer);
+
+        ContractCodec<ScheduleFetchEvent> underTest = new ContractCodec<>(ScheduleFetchEvent.class, registry);
+
+        Instant fetchedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        byte[] message = encodeWithNewerSchema(newer, fetchedAt);
+
+        // When
+        ScheduleFetchEvent result = underTest.decode(message);
+
+        // Then
+        assertThat(result).isEqualTo(new ScheduleFetchEvent("scheduleId", true, fetchedAt, 120L));
+    }
+
+    @Test
+    void GivenMessageWrittenWithUnknownSchema_WhenDecode_ThenThrows() {
+        // Given
+        ContractCodec<ScheduleFetchEvent> underTest =
+                new ContractCodec<>(ScheduleFetchEvent.class, new SchemaStore.Cache());
+
+        byte[] message = encodeWithNewerSchema(newerScheduleFetchEventSchema(), Instant.now());
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.decode(message))
+                .isInstanceOf(MissingSchemaException.class);
+    }
+
+    @Test
+    void GivenJsonAndBinaryMessages_WhenIsEncoded_ThenTellsThemApart() {
+        // Given
+        ContractCodec<RawScheduleEvent> codec = new ContractCodec<>(RawScheduleEvent.class);
+
+        byte[] binary = codec.encode(EventFixtures.rawScheduleEvent());
+        byte[] json = "{\"scheduleId\":\"id\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertThat(ContractCodec.isEncoded(binary)).isTrue();
+        assertThat(ContractCodec.isEncoded(json)).isFalse();
+    }
+
+    private static Schema newerScheduleFetchEventSchema() {
+        Schema current = ScheduleFetchEvent.getClassSchema();
+
+        return SchemaBuilder.record(current.getName())
+                .namespace(current.getNamespace())
+                .fields()
+                .requiredString("scheduleId")
+                .requiredBoolean("changed")
+                .name("fetchedAt").type(current.getField("fetchedAt").schema()).noDefault()
+                .requiredLong("fetchLatencyMillis")
+                .name("attempt").type().intType().intDefault(1)
+                .endRecord();
+    }
+
+    private static byte[] encodeWithNewerSchema(Schema newer, Instant fetchedAt) {
+        GenericRecord record = new GenericData.Record(newer);
+        record.put("scheduleId", "scheduleId");
+        record.put("changed", true);
+        record.put("fetchedAt", fetchedAt.toEpochMilli());
+        record.put("fetchLatencyMillis", 120L);
+        record.put("attempt", 2);
+
+        try {
+            return new BinaryMessageEncoder<GenericRecord>(GenericData.get(), newer).encode(record).array();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
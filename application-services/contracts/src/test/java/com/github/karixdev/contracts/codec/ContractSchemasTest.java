@@ -0,0 +1,74 @@
+package com.github.karixdev.contracts.codec;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContractSchemasTest {
+
+    @Test
+    void GivenHistoricSchemas_WhenComparedWithCurrentOnes_ThenEveryPairIsCompatibleBothWays() {
+        // Given
+        Map<String, Schema> current = ContractSchemas.current().stream()
+                .collect(Collectors.toMap(Schema::getFullName, Function.identity()));
+
+        // When & Then
+        for (Schema previous : ContractSchemas.history()) {
+            assertThat(current).containsKey(previous.getFullName());
+            Schema latest = current.get(previous.getFullName());
+
+            assertThat(compatibility(latest, previous))
+                    .as("%s reads messages of its previous version", previous.getFullName())
+                    .isEqualTo(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE);
+            assertThat(compatibility(previous, latest))
+                    .as("previous version of %s reads its messages", previous.getFullName())
+                    .isEqualTo(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE);
+        }
+    }
+
+    @Test
+    void GivenCurrentSchemas_WhenRegistryResolvesTheirFingerprints_ThenReturnsThem() {
+        // Given
+        for (Schema schema : ContractSchemas.current()) {
+            long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+
+            // When
+            Schema result = ContractSchemas.registry().findByFingerprint(fingerprint);
+
+            // Then
+            assertThat(result).isEqualTo(schema);
+        }
+    }
+
+    @Test
+    void GivenFieldAddedWithoutDefault_WhenCheckingCompatibility_ThenNewSchemaCannotReadOldMessages() {
+        // Given
+        Schema previous = new Schema.Parser().parse("""
+                {"type": "record", "name": "Event", "fields": [{"name": "id", "type": "string"}]}
+                """);
+        Schema latest = new Schema.Parser().parse("""
+                {"type": "record", "name": "Event", "fields": [
+                    {"name": "id", "type": "string"},
+                    {"name": "attempt", "type": "int"}
+                ]}
+                """);
+
+        // When
+        SchemaCompatibility.SchemaCompatibilityType result = compatibility(latest, previous);
+
+        // Then
+        assertThat(result).isEqualTo(SchemaCompatibility.SchemaCompatibilityType.INCOMPATIBLE);
+    }
+
+    private static SchemaCompatibility.SchemaCompatibilityType compatibility(Schema reader, Schema writer) {
+        return SchemaCompatibility.checkReaderWriterCompatibility(reader, writer).getType();
+    }
+
+}
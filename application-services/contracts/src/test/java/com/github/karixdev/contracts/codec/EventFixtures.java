@@ -0,0 +1,130 @@
+package com.github.karixdev.contracts.codec;
+
+import com.github.karixdev.contracts.processed.CourseType;
+import com.github.karixdev.contracts.processed.DayOfWeek;
+import com.github.karixdev.contracts.processed.ProcessedRawCourse;
+import com.github.karixdev.contracts.processed.ProcessedRawSchedule;
+import com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent;
+import com.github.karixdev.contracts.processed.WeekType;
+import com.github.karixdev.contracts.raw.RawAnchor;
+import com.github.karixdev.contracts.raw.RawCourse;
+import com.github.karixdev.contracts.raw.RawSchedule;
+import com.github.karixdev.contracts.raw.RawScheduleEvent;
+import com.github.karixdev.contracts.raw.RawTimeInterval;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Events of a group timetable of plan.polsl.pl, 30 courses over a week, and the JSON they were produced as before
+ * contracts.
+ */
+public final class EventFixtures {
+
+    public static final String SCHEDULE_ID = "b8b3ae8e-0a6f-4bb4-9d35-3a0b3e3f5a41";
+
+    private static final int COURSES = 30;
+
+    private static final String[] NAMES = {
+            "Programowanie komputerów", "Analiza matematyczna i algebra liniowa", "Podstawy elektroniki",
+            "Bazy danych", "Systemy operacyjne", "Grafika komputerowa"
+    };
+    private static final String[] TYPES = {"wyk", "lab", "proj", "ćw"};
+    private static final CourseType[] COURSE_TYPES = {
+            CourseType.LECTURE, CourseType.LAB, CourseType.PROJECT, CourseType.PRACTICAL
+    };
+
+    public static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private EventFixtures() {}
+
+    public static RawScheduleEvent rawScheduleEvent() {
+        List<RawTimeInterval> timeIntervals = new ArrayList<>();
+        for (int hour = 7; hour < 20; hour++) {
+            timeIntervals.add(new RawTimeInterval("%d:00".formatted(hour), "%d:00".formatted(hour + 1)));
+        }
+
+        List<RawCourse> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            String name = NAMES[i % NAMES.length];
+            String type = TYPES[i % TYPES.length];
+
+            courses.add(RawCourse.newBuilder()
+                    .setText("%s, %s\nprof. dr hab. inż. Jan Kowalski %d\nCEK Lab. %d\nnp. zajęcia w tygodniach 1-7"
+                            .formatted(name, type, i, 300 + i))
+                    .setHeight(80 + 40 * (i % 3))
+                    .setWidth(i % 2 == 0 ? 154 : 76)
+                    .setLeft(88 + 156 * (i % 5) + (i % 4 == 1 ? 78 : 0))
+                    .setTop(253 + 42 * (i % 8))
+                    .setAnchors(List.of(
+                            new RawAnchor("plan.php?type=10&id=%d&w=4".formatted(1200 + i), "JK%d".formatted(i)),
+                            new RawAnchor("plan.php?type=20&id=%d&w=4".formatted(700 + i), "CEK Lab. %d".formatted(300 + i))
+                    ))
+                    .build());
+        }
+
+        return new RawScheduleEvent(SCHEDULE_ID, new RawSchedule(timeIntervals, courses));
+    }
+
+    public static ProcessedRawScheduleEvent processedRawScheduleEvent() {
+        List<ProcessedRawCourse> courses = new ArrayList<>();
+        for (int i = 0; i < COURSES; i++) {
+            LocalTime startsAt = LocalTime.of(8 + i % 8, i % 2 == 0 ? 30 : 15);
+
+            courses.add(ProcessedRawCourse.newBuilder()
+                    .setName(NAMES[i % NAMES.length])
+                    .setCourseType(COURSE_TYPES[i % COURSE_TYPES.length])
+                    .setTeachers("prof. dr hab. inż. Jan Kowalski %d".formatted(i))
+                    .setClassrooms("CEK Lab. %d".formatted(300 + i))
+                    .setAdditionalInfo(i % 3 == 0 ? "np. zajęcia w tygodniach 1-7" : null)
+                    .setDayOfWeek(DayOfWeek.values()[i % 5])
+                    .setWeekType(WeekType.values()[i % 3])
+                    .setStartsAt(startsAt)
+                    .setEndsAt(startsAt.plusMinutes(90))
+                    .build());
+        }
+
+        return new ProcessedRawScheduleEvent(SCHEDULE_ID, new ProcessedRawSchedule(courses));
+    }
+
+    /**
+     * JSON of the service records the contract replaced: same field names, and the schedule id repeated in every
+     * processed course.
+     */
+    public static byte[] toJson(GenericRecord contract) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(toTree(contract));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Object toTree(Object value) {
+        if (value instanceof GenericRecord record) {
+            Map<String, Object> tree = new LinkedHashMap<>();
+            if (record instanceof ProcessedRawCourse) {
+                tree.put("scheduleId", SCHEDULE_ID);
+            }
+            for (Schema.Field field : record.getSchema().getFields()) {
+                tree.put(field.name(), toTree(record.get(field.pos())));
+            }
+            return tree;
+        }
+        if (value instanceof List<?> list) {
+            return list.stream().map(EventFixtures::toTree).toList();
+        }
+        if (value instanceof Enum<?> || value instanceof GenericData.EnumSymbol) {
+            return value.toString();
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.karixdev.contracts.codec;
+
+import com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent;
+import com.github.karixdev.contracts.raw.RawScheduleEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventPayloadSizeTest {
+
+    @Test
+    void GivenRawScheduleEvent_WhenEncoded_ThenIsSmallerThanItsJson() {
+        // Given
+        RawScheduleEvent event = EventFixtures.rawScheduleEvent();
+
+        // When
+        int binary = new ContractCodec<>(RawScheduleEvent.class).encode(event).length;
+        int json = EventFixtures.toJson(event).length;
+
+        // Then
+        assertThat(binary).isLessThan(json * 3 / 4);
+    }
+
+    @Test
+    void GivenProcessedRawScheduleEvent_WhenEncoded_ThenIsLessThanHalfOfItsJson() {
+        // Given
+        ProcessedRawScheduleEvent event = EventFixtures.processedRawScheduleEvent();
+
+        // When
+        int binary = new ContractCodec<>(ProcessedRawScheduleEvent.class).encode(event).length;
+        int json = EventFixtures.toJson(event).length;
+
+        // Then
+        assertThat(binary).isLessThan(json / 2);
+    }
+
+}
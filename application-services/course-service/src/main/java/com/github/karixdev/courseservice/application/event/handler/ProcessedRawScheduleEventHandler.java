@@ -2,19 +2,20 @@ package com.github.karixdev.courseservice.application.event.handler;
 
 import com.github.karixdev.courseservice.application.event.ProcessedRawScheduleEvent;
 import com.github.karixdev.courseservice.application.mapper.ModelMapper;
+import com.github.karixdev.courseservice.application.updater.ScheduleCoursesUpdateReport;
 import com.github.karixdev.courseservice.application.updater.ScheduleCoursesUpdater;
 import com.github.karixdev.courseservice.application.validator.Validator;
 import com.github.karixdev.courseservice.domain.entity.Course;
 import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourse;
 import com.github.karixdev.courseservice.domain.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ProcessedRawScheduleEventHandler implements EventHandler<ProcessedRawScheduleEvent> {
@@ -26,17 +27,19 @@ public class ProcessedRawScheduleEventHandler implements EventHandler<ProcessedR
 
     @Override
     public void handle(ProcessedRawScheduleEvent event) {
-        Set<Course> receivedCourses = event.entity()
+        // received courses have no id yet, so they would all share the hash of Course
+        List<Course> receivedCourses = event.entity()
                 .courses()
                 .stream()
                 .filter(processedRawCourseValidator::isValid)
                 .map(toEntityMapper::map)
-                .collect(Collectors.toSet());
+                .toList();
 
         UUID scheduleId = UUID.fromString(event.scheduleId());
-        Set<Course> currentCourses = new HashSet<>(repository.findByScheduleId(scheduleId));
+        List<Course> currentCourses = repository.findByScheduleId(scheduleId);
 
-        updater.update(currentCourses, receivedCourses);
+        ScheduleCoursesUpdateReport report = updater.update(currentCourses, receivedCourses);
+        log.debug("Updated courses of schedule {}: {}", scheduleId, report);
     }
 
 }
@@ -0,0 +1,69 @@
+package com.github.karixdev.courseservice.application.updater;
+
+import com.github.karixdev.courseservice.domain.entity.Course;
+import com.github.karixdev.courseservice.domain.entity.CourseType;
+import com.github.karixdev.courseservice.domain.entity.WeekType;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Objects;
+
+/**
+ * Course of a schedule by value, i.e. every property but its id and schedule id. The hash is computed once, keys of
+ * different hashes are never compared property by property.
+ */
+final class CourseKey {
+
+    private final String name;
+    private final CourseType courseType;
+    private final String teachers;
+    private final String classrooms;
+    private final String additionalInfo;
+    private final DayOfWeek dayOfWeek;
+    private final WeekType weekType;
+    private final LocalTime startsAt;
+    private final LocalTime endsAt;
+
+    private final int hash;
+
+    private CourseKey(Course course) {
+        this.name = course.getName();
+        this.courseType = course.getCourseType();
+        this.teachers = course.getTeachers();
+        this.classrooms = course.getClassrooms();
+        this.additionalInfo = course.getAdditionalInfo();
+        this.dayOfWeek = course.getDayOfWeek();
+        this.weekType = course.getWeekType();
+        this.startsAt = course.getStartsAt();
+        this.endsAt = course.getEndsAt();
+
+        this.hash = Objects.hash(
+                name, courseType, teachers, classrooms, additionalInfo, dayOfWeek, weekType, startsAt, endsAt
+        );
+    }
+
+    static CourseKey of(Course course) {
+        return new CourseKey(course);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CourseKey other) || hash != other.hash) return false;
+        return Objects.equals(name, other.name) &&
+                courseType == other.courseType &&
+                Objects.equals(teachers, other.teachers) &&
+                Objects.equals(classrooms, other.classrooms) &&
+                Objects.equals(additionalInfo, other.additionalInfo) &&
+                dayOfWeek == other.dayOfWeek &&
+                weekType == other.weekType &&
+                Objects.equals(startsAt, other.startsAt) &&
+                Objects.equals(endsAt, other.endsAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+}
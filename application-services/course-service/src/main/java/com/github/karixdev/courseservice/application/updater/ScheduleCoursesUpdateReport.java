@@ -0,0 +1,7 @@
+package com.github.karixdev.courseservice.application.updater;
+
+/**
+ * Outcome of updating courses of a schedule: current courses kept as they are, received courses saved and current
+ * courses deleted.
+ */
+public record ScheduleCoursesUpdateReport(int unchanged, int added, int removed) {}
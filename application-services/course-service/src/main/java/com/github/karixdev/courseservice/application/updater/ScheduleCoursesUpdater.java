@@ -6,10 +6,12 @@ import com.github.karixdev.courseservice.domain.repository.CourseRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.Objects;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
 @Component
@@ -19,36 +21,49 @@ public class ScheduleCoursesUpdater {
     private final CourseRepository repository;
     private final TransactionManager transactionManager;
 
-    public void update(Set<Course> current, Set<Course> received) {
-        Set<Course> coursesToSave = received.stream()
-                .filter(retrievedCourse -> current.stream()
-                        .noneMatch(currentCourse -> areNonIdParamsEqualPredicate().test(retrievedCourse, currentCourse)))
-                .collect(Collectors.toSet());
+    /**
+     * Saves received courses with no current course of the same value and deletes current courses with no received
+     * course of the same value. Both sides are indexed by {@link CourseKey}, so it takes time linear in their sizes.
+     */
+    public ScheduleCoursesUpdateReport update(Collection<Course> current, Collection<Course> received) {
+        Map<CourseKey, List<Course>> currentByKey = current.stream()
+                .collect(Collectors.groupingBy(CourseKey::of));
 
-        coursesToSave.forEach(course -> course.setId(UUID.randomUUID()));
+        Set<CourseKey> receivedKeys = new HashSet<>();
+        Set<Course> coursesToSave = new HashSet<>();
+        for (Course course : received) {
+            CourseKey key = CourseKey.of(course);
+            receivedKeys.add(key);
 
-        Set<Course> coursesToDelete = current.stream()
-                .filter(currentCourse -> received.stream()
-                        .noneMatch(retrievedCourse ->
-                                areNonIdParamsEqualPredicate().test(retrievedCourse, currentCourse)))
-                .collect(Collectors.toSet());
+            if (!currentByKey.containsKey(key)) {
+                course.setId(UUID.randomUUID());
+                coursesToSave.add(course);
+            }
+        }
+
+        Set<Course> coursesToDelete = new HashSet<>();
+        currentByKey.forEach((key, courses) -> {
+            if (!receivedKeys.contains(key)) {
+                coursesToDelete.addAll(courses);
+            }
+        });
+
+        ScheduleCoursesUpdateReport report = new ScheduleCoursesUpdateReport(
+                current.size() - coursesToDelete.size(),
+                coursesToSave.size(),
+                coursesToDelete.size()
+        );
+
+        if (coursesToSave.isEmpty() && coursesToDelete.isEmpty()) {
+            return report;
+        }
 
         transactionManager.execute(() -> {
             repository.saveAll(coursesToSave);
             repository.deleteAll(coursesToDelete);
         });
-    }
 
-    private BiPredicate<Course, Course> areNonIdParamsEqualPredicate() {
-        return (course1, course2) -> Objects.equals(course1.getName(), course2.getName()) &&
-                course1.getCourseType() == course2.getCourseType() &&
-                Objects.equals(course1.getTeachers(), course2.getTeachers()) &&
-                Objects.equals(course1.getClassrooms(), course2.getClassrooms()) &&
-                Objects.equals(course1.getAdditionalInfo(), course2.getAdditionalInfo()) &&
-                course1.getDayOfWeek() == course2.getDayOfWeek() &&
-                course1.getWeekType() == course2.getWeekType() &&
-                Objects.equals(course1.getStartsAt(), course2.getStartsAt()) &&
-                Objects.equals(course1.getEndsAt(), course2.getEndsAt());
+        return report;
     }
 
 }
@@ -1,7 +1,10 @@
 package com.github.karixdev.courseservice.infrastructure.kafka.config;
 
+import com.github.karixdev.contracts.codec.ContractDeserializer;
 import com.github.karixdev.courseservice.application.event.ProcessedRawScheduleEvent;
 import com.github.karixdev.courseservice.application.event.ScheduleEvent;
+import com.github.karixdev.courseservice.infrastructure.kafka.mapper.ProcessedRawScheduleEventContractMapper;
+import com.github.karixdev.courseservice.infrastructure.kafka.mapper.ScheduleEventContractMapper;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
@@ -26,12 +29,17 @@ public class KafkaConfig {
     @Bean
     ConsumerFactory<String, ScheduleEvent> scheduleEventConsumerFactory(
             KafkaProperties properties,
-            MeterRegistry meterRegistry
+            MeterRegistry meterRegistry,
+            ScheduleEventContractMapper mapper
     ) {
         ConsumerFactory<String, ScheduleEvent> factory = new DefaultKafkaConsumerFactory<>(
                 properties.buildConsumerProperties(),
                 new StringDeserializer(),
-                new JsonDeserializer<>(ScheduleEvent.class, false)
+                new ContractDeserializer<>(
+                        com.github.karixdev.contracts.schedule.ScheduleEvent.class,
+                        mapper::toEvent,
+                        new JsonDeserializer<>(ScheduleEvent.class, false)
+                )
         );
         factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
 
@@ -68,12 +76,17 @@ public class KafkaConfig {
     @Bean
     ConsumerFactory<String, ProcessedRawScheduleEvent> processedRawScheduleEventConsumerFactory(
             KafkaProperties properties,
-            MeterRegistry meterRegistry
+            MeterRegistry meterRegistry,
+            ProcessedRawScheduleEventContractMapper mapper
     ) {
         ConsumerFactory<String, ProcessedRawScheduleEvent> factory = new DefaultKafkaConsumerFactory<>(
                 properties.buildConsumerProperties(),
                 new StringDeserializer(),
-                new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false)
+                new ContractDeserializer<>(
+                        com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+                        mapper::toEvent,
+                        new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false)
+                )
         );
         factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
 
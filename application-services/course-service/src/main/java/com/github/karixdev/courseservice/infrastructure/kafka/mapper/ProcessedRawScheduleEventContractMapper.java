@@ -0,0 +1,51 @@
+package com.github.karixdev.courseservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.courseservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourse;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourseType;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourseWeekType;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawSchedule;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Maps processed schedules read from the contract. Courses get the schedule id of the event, the contract does not
+ * repeat it in every course.
+ */
+@Component
+public class ProcessedRawScheduleEventContractMapper {
+
+    public ProcessedRawScheduleEvent toEvent(com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent contract) {
+        UUID scheduleId = UUID.fromString(contract.getScheduleId());
+
+        return ProcessedRawScheduleEvent.builder()
+                .scheduleId(contract.getScheduleId())
+                .entity(ProcessedRawSchedule.builder()
+                        .courses(contract.getEntity().getCourses().stream()
+                                .map(course -> toCourse(course, scheduleId))
+                                .collect(Collectors.toSet()))
+                        .build())
+                .build();
+    }
+
+    private ProcessedRawCourse toCourse(com.github.karixdev.contracts.processed.ProcessedRawCourse contract, UUID scheduleId) {
+        return ProcessedRawCourse.builder()
+                .scheduleId(scheduleId)
+                .name(contract.getName())
+                .courseType(contract.getCourseType() == null ? null :
+                        ProcessedRawCourseType.valueOf(contract.getCourseType().name()))
+                .teachers(contract.getTeachers())
+                .classrooms(contract.getClassrooms())
+                .additionalInfo(contract.getAdditionalInfo())
+                .dayOfWeek(contract.getDayOfWeek() == null ? null : DayOfWeek.valueOf(contract.getDayOfWeek().name()))
+                .weekType(contract.getWeekType() == null ? null :
+                        ProcessedRawCourseWeekType.valueOf(contract.getWeekType().name()))
+                .startsAt(contract.getStartsAt())
+                .endsAt(contract.getEndsAt())
+                .build();
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.github.karixdev.courseservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.courseservice.application.event.EventType;
+import com.github.karixdev.courseservice.application.event.ScheduleEvent;
+import com.github.karixdev.courseservice.domain.entity.schedule.Schedule;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Maps schedule events read from the contract. Only the id of the schedule is of interest here, the rest of the
+ * entity and the priority are ignored.
+ */
+@Component
+public class ScheduleEventContractMapper {
+
+    public ScheduleEvent toEvent(com.github.karixdev.contracts.schedule.ScheduleEvent contract) {
+        return ScheduleEvent.builder()
+                .scheduleId(contract.getScheduleId())
+                .type(EventType.valueOf(contract.getType().name()))
+                .entity(contract.getEntity() == null ? null :
+                        new Schedule(UUID.fromString(contract.getEntity().getId())))
+                .build();
+    }
+
+}
@@ -126,7 +126,7 @@ class ProcessedRawScheduleEventHandlerTest {
         underTest.handle(event);
 
         // Then
-        verify(updater).update(Set.of(course2), Set.of(course1));
+        verify(updater).update(List.of(course2), List.of(course1));
     }
 
 }
\ No newline at end of file
@@ -19,7 +19,9 @@ import java.time.LocalTime;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class ScheduleCoursesUpdaterTest {
@@ -96,4 +98,75 @@ class ScheduleCoursesUpdaterTest {
         verify(repository).saveAll(Set.of(course1));
     }
 
-}
\ No newline at end of file
+    @Test
+    void GivenCurrentReceivedCoursesSets_WhenUpdate_ThenReturnsUnchangedAddedAndRemovedCounts() {
+        // Given
+        UUID scheduleId = UUID.randomUUID();
+
+        Course kept = course(scheduleId, "Calculus I", LocalTime.of(8, 30));
+        Course removed1 = course(scheduleId, "Physics", LocalTime.of(10, 30));
+        Course removed2 = course(scheduleId, "C++", LocalTime.of(14, 30));
+
+        Set<Course> current = Set.of(kept, removed1, removed2);
+        Set<Course> received = Set.of(
+                copyWithoutId(kept),
+                course(scheduleId, "Physics", LocalTime.of(12, 30))
+        );
+
+        // When
+        ScheduleCoursesUpdateReport result = underTest.update(current, received);
+
+        // Then
+        assertThat(result).isEqualTo(new ScheduleCoursesUpdateReport(1, 1, 2));
+    }
+
+    @Test
+    void GivenReceivedCoursesEqualByValueToCurrent_WhenUpdate_ThenDoesNotOpenTransaction() {
+        // Given
+        UUID scheduleId = UUID.randomUUID();
+
+        Course course1 = course(scheduleId, "Calculus I", LocalTime.of(8, 30));
+        Course course2 = course(scheduleId, "Physics", LocalTime.of(10, 30));
+
+        Set<Course> current = Set.of(course1, course2);
+        Set<Course> received = Set.of(copyWithoutId(course1), copyWithoutId(course2));
+
+        // When
+        ScheduleCoursesUpdateReport result = underTest.update(current, received);
+
+        // Then
+        assertThat(result).isEqualTo(new ScheduleCoursesUpdateReport(2, 0, 0));
+        verifyNoInteractions(transactionManager, repository);
+    }
+
+    private static Course course(UUID scheduleId, String name, LocalTime startsAt) {
+        return Course.builder()
+                .id(UUID.randomUUID())
+                .name(name)
+                .scheduleId(scheduleId)
+                .courseType(CourseType.LECTURE)
+                .teachers("dr. Adam")
+                .classrooms("314MS")
+                .dayOfWeek(DayOfWeek.FRIDAY)
+                .weekType(WeekType.EVERY)
+                .startsAt(startsAt)
+                .endsAt(startsAt.plusMinutes(105))
+                .build();
+    }
+
+    private static Course copyWithoutId(Course course) {
+        return Course.builder()
+                .name(course.getName())
+                .scheduleId(course.getScheduleId())
+                .courseType(course.getCourseType())
+                .teachers(course.getTeachers())
+                .classrooms(course.getClassrooms())
+                .additionalInfo(course.getAdditionalInfo())
+                .dayOfWeek(course.getDayOfWeek())
+                .weekType(course.getWeekType())
+                .startsAt(course.getStartsAt())
+                .endsAt(course.getEndsAt())
+                .build();
+    }
+
+}
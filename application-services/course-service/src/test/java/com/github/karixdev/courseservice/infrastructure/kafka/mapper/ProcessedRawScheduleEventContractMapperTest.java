@@ -0,0 +1,111 @@
+package com.github.karixdev.courseservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.contracts.codec.ContractDeserializer;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.contracts.processed.CourseType;
+import com.github.karixdev.contracts.processed.ProcessedRawCourse;
+import com.github.karixdev.contracts.processed.ProcessedRawSchedule;
+import com.github.karixdev.contracts.processed.WeekType;
+import com.github.karixdev.courseservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourseType;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourseWeekType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessedRawScheduleEventContractMapperTest {
+
+    static final String TOPIC = "schedule.processed-raw";
+
+    ProcessedRawScheduleEventContractMapper underTest;
+
+    ContractDeserializer<ProcessedRawScheduleEvent, com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent> deserializer;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ProcessedRawScheduleEventContractMapper();
+        deserializer = new ContractDeserializer<>(
+                com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+                underTest::toEvent,
+                new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false)
+        );
+    }
+
+    @Test
+    void GivenProcessedRawScheduleEventContract_WhenDeserialized_ThenCoursesGetScheduleIdOfEvent() {
+        // Given
+        UUID scheduleId = UUID.randomUUID();
+        com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent contract =
+                com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.newBuilder()
+                        .setScheduleId(scheduleId.toString())
+                        .setEntity(new ProcessedRawSchedule(List.of(
+                                ProcessedRawCourse.newBuilder()
+                                        .setName("Programowanie komputerów")
+                                        .setCourseType(CourseType.LAB)
+                                        .setTeachers("dr inż. Jan Kowalski")
+                                        .setClassrooms("CEK Lab 3")
+                                        .setAdditionalInfo("(co 2 tyg.)")
+                                        .setDayOfWeek(com.github.karixdev.contracts.processed.DayOfWeek.TUESDAY)
+                                        .setWeekType(WeekType.ODD)
+                                        .setStartsAt(LocalTime.of(10, 15))
+                                        .setEndsAt(LocalTime.of(11, 45))
+                                        .build()
+                        )))
+                        .build();
+        byte[] data = new ContractSerializer<>(
+                com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+                Function.<com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent>identity()
+        ).serialize(TOPIC, contract);
+
+        // When
+        ProcessedRawScheduleEvent result = deserializer.deserialize(TOPIC, data);
+
+        // Then
+        assertThat(result).isEqualTo(ProcessedRawScheduleEvent.builder()
+                .scheduleId(scheduleId.toString())
+                .entity(com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawSchedule.builder()
+                        .courses(Set.of(com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourse.builder()
+                                .scheduleId(scheduleId)
+                                .name("Programowanie komputerów")
+                                .courseType(ProcessedRawCourseType.LAB)
+                                .teachers("dr inż. Jan Kowalski")
+                                .classrooms("CEK Lab 3")
+                                .additionalInfo("(co 2 tyg.)")
+                                .dayOfWeek(DayOfWeek.TUESDAY)
+                                .weekType(ProcessedRawCourseWeekType.ODD)
+                                .startsAt(LocalTime.of(10, 15))
+                                .endsAt(LocalTime.of(11, 45))
+                                .build()))
+                        .build())
+                .build());
+    }
+
+    @Test
+    void GivenProcessedRawScheduleEventWrittenAsJson_WhenDeserialized_ThenFallsBackToJson() {
+        // Given
+        ProcessedRawScheduleEvent event = ProcessedRawScheduleEvent.builder()
+                .scheduleId(UUID.randomUUID().toString())
+                .entity(com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawSchedule.builder()
+                        .courses(Set.of())
+                        .build())
+                .build();
+        byte[] json = new JsonSerializer<ProcessedRawScheduleEvent>().noTypeInfo().serialize(TOPIC, event);
+
+        // When
+        ProcessedRawScheduleEvent result = deserializer.deserialize(TOPIC, json);
+
+        // Then
+        assertThat(result).isEqualTo(event);
+    }
+
+}
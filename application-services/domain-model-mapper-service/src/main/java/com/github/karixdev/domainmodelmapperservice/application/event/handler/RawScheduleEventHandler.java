@@ -29,6 +29,16 @@ public class RawScheduleEventHandler implements EventHandler<RawScheduleEvent> {
 
     @Override
     public void handle(RawScheduleEvent event) {
+        eventProducer.produce(map(event));
+    }
+
+    /**
+     * Maps a raw schedule to the processed one without producing it.
+     *
+     * @throws NoScheduleStartTimeException when the schedule has no time intervals
+     * @throws EmptyProcessedRawCourseSetException when the schedule has no courses
+     */
+    public ProcessedRawScheduleEvent map(RawScheduleEvent event) {
         RawSchedule rawSchedule = event.entity();
 
         LocalTime scheduleStartTime = rawSchedule.timeIntervals().stream()
@@ -47,12 +57,10 @@ public class RawScheduleEventHandler implements EventHandler<RawScheduleEvent> {
 
         ProcessedRawSchedule schedule = new ProcessedRawSchedule(courses);
 
-        ProcessedRawScheduleEvent processedRawScheduleEvent = ProcessedRawScheduleEvent.builder()
+        return ProcessedRawScheduleEvent.builder()
                 .scheduleId(event.scheduleId())
                 .entity(schedule)
                 .build();
-
-        eventProducer.produce(processedRawScheduleEvent);
     }
 
 }
@@ -0,0 +1,101 @@
+package com.github.karixdev.domainmodelmapperservice.application.mapper;
+
+import com.github.karixdev.domainmodelmapperservice.application.props.CourseMapperProperties;
+import lombok.experimental.UtilityClass;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+/**
+ * Course cell geometry of {@link CourseMapperProperties} precompiled into lookup tables indexed by pixel. Pixels
+ * outside of the tables are not expected from plan.polsl.pl, they are computed the same way the tables are filled.
+ */
+@UtilityClass
+class CourseGeometry {
+
+    private static final int QUARTERS_PER_DAY = 24 * 4;
+    private static final int TOP_TABLE_SIZE = 2048;
+
+    private static final int[] QUARTERS_BY_TOP = new int[TOP_TABLE_SIZE];
+    private static final LocalTime[] TIME_BY_QUARTER_OF_DAY = new LocalTime[QUARTERS_PER_DAY];
+    private static final DayOfWeek[] DAY_OF_WEEK_BY_LEFT;
+    private static final boolean[] ODD_WEEK_BY_LEFT;
+
+    static {
+        for (int top = 0; top < TOP_TABLE_SIZE; top++) {
+            QUARTERS_BY_TOP[top] = computeQuarters(top);
+        }
+
+        for (int quarter = 0; quarter < QUARTERS_PER_DAY; quarter++) {
+            TIME_BY_QUARTER_OF_DAY[quarter] = LocalTime.of(quarter / 4, quarter % 4 * 15);
+        }
+
+        int maxLeft = CourseMapperProperties.DAY_OF_WEEK_MAP.keySet().stream()
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+        int leftTableSize = maxLeft + CourseMapperProperties.WEEK_CELL_HALF_OF_WIDTH + 1;
+
+        DAY_OF_WEEK_BY_LEFT = new DayOfWeek[leftTableSize];
+        ODD_WEEK_BY_LEFT = new boolean[leftTableSize];
+
+        CourseMapperProperties.DAY_OF_WEEK_MAP.forEach((left, dayOfWeek) -> {
+            DAY_OF_WEEK_BY_LEFT[left + CourseMapperProperties.WEEK_CELL_HALF_OF_WIDTH] = dayOfWeek;
+        });
+        CourseMapperProperties.DAY_OF_WEEK_MAP.forEach((left, dayOfWeek) -> {
+            DAY_OF_WEEK_BY_LEFT[left] = dayOfWeek;
+            ODD_WEEK_BY_LEFT[left] = true;
+        });
+    }
+
+    /**
+     * Number of quarter-hours, rounded up, between the top of the first cell and the given top.
+     */
+    static int quartersFromFirstCell(int top) {
+        if (top >= 0 && top < TOP_TABLE_SIZE) {
+            return QUARTERS_BY_TOP[top];
+        }
+
+        return computeQuarters(top);
+    }
+
+    /**
+     * Time at the given quarter-hour of the day.
+     *
+     * @throws java.time.DateTimeException if the quarter does not fall within a day
+     */
+    static LocalTime time(int quarterOfDay) {
+        if (quarterOfDay >= 0 && quarterOfDay < QUARTERS_PER_DAY) {
+            return TIME_BY_QUARTER_OF_DAY[quarterOfDay];
+        }
+
+        int minutes = quarterOfDay * 15;
+        return LocalTime.of(minutes / 60, minutes % 60);
+    }
+
+    /**
+     * Day of week of a cell starting at the given left, either at the start of the day column or in its second half.
+     */
+    static DayOfWeek dayOfWeek(int left) {
+        if (left >= 0 && left < DAY_OF_WEEK_BY_LEFT.length) {
+            return DAY_OF_WEEK_BY_LEFT[left];
+        }
+
+        return null;
+    }
+
+    /**
+     * Whether a cell starting at the given left is held in odd weeks, i.e. starts at the start of a day column.
+     */
+    static boolean isOddWeek(int left) {
+        return left >= 0 && left < ODD_WEEK_BY_LEFT.length && ODD_WEEK_BY_LEFT[left];
+    }
+
+    private static int computeQuarters(int top) {
+        int difference = top - CourseMapperProperties.FIRST_CELL_TOP_VALUE;
+        double ratio = difference / CourseMapperProperties.ONE_HOUR_CELL_HEIGHT;
+
+        return (int) Math.ceil(ratio / 0.25);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.github.karixdev.domainmodelmapperservice.application.mapper;
+
+import com.github.karixdev.domainmodelmapperservice.application.props.CourseMapperProperties;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Classifies plan.polsl.pl links of a course cell by the {@code type} parameter of their query string, e.g.
+ * {@code plan.php?type=10&id=1234&w=4} links a teacher and {@code plan.php?type=20&id=567&w=4} a room. The query
+ * string is scanned in place, without copying parameters out of it.
+ */
+@UtilityClass
+class CourseLinkClassifier {
+
+    enum LinkType {
+        TEACHER,
+        ROOM,
+        OTHER
+    }
+
+    /**
+     * Texts of teacher and room links, each sorted, without duplicates and joined with {@code ", "}.
+     */
+    record ClassifiedLinks(String teachers, String rooms) {}
+
+    private static final ClassifiedLinks NO_LINKS = new ClassifiedLinks("", "");
+
+    static ClassifiedLinks classify(Collection<RawAnchor> anchors) {
+        if (anchors == null || anchors.isEmpty()) {
+            return NO_LINKS;
+        }
+
+        List<String> teachers = null;
+        List<String> rooms = null;
+
+        for (RawAnchor anchor : anchors) {
+            if (anchor.text() == null) {
+                continue;
+            }
+
+            switch (classify(anchor.address())) {
+                case TEACHER -> {
+                    if (teachers == null) {
+                        teachers = new ArrayList<>(anchors.size());
+                    }
+                    teachers.add(anchor.text());
+                }
+                case ROOM -> {
+                    if (rooms == null) {
+                        rooms = new ArrayList<>(anchors.size());
+                    }
+                    rooms.add(anchor.text());
+                }
+                case OTHER -> {
+                    // neither a teacher nor a room, e.g. a link to the schedule of another group
+                }
+            }
+        }
+
+        return new ClassifiedLinks(join(teachers), join(rooms));
+    }
+
+    static LinkType classify(String href) {
+        if (href == null) {
+            return LinkType.OTHER;
+        }
+
+        int queryStart = href.indexOf('?');
+        if (queryStart == -1) {
+            return LinkType.OTHER;
+        }
+
+        String name = CourseMapperProperties.COURSE_LINK_TYPE_PARAMETER;
+        int end = href.length();
+
+        for (int start = queryStart + 1; start < end; ) {
+            int parameterEnd = href.indexOf('&', start);
+            if (parameterEnd == -1) {
+                parameterEnd = end;
+            }
+
+            int valueStart = start + name.length() + 1;
+            if (valueStart <= parameterEnd
+                    && href.startsWith(name, start)
+                    && href.charAt(start + name.length()) == '=') {
+                return linkType(href, valueStart, parameterEnd);
+            }
+
+            start = parameterEnd + 1;
+        }
+
+        return LinkType.OTHER;
+    }
+
+    private static LinkType linkType(String href, int valueStart, int valueEnd) {
+        if (isValue(href, valueStart, valueEnd, CourseMapperProperties.COURSE_LINK_TEACHER_TYPE)) {
+            return LinkType.TEACHER;
+        }
+        if (isValue(href, valueStart, valueEnd, CourseMapperProperties.COURSE_LINK_ROOM_TYPE)) {
+            return LinkType.ROOM;
+        }
+
+        return LinkType.OTHER;
+    }
+
+    private static boolean isValue(String href, int valueStart, int valueEnd, String value) {
+        return valueEnd - valueStart == value.length() && href.startsWith(value, valueStart);
+    }
+
+    private static String join(List<String> texts) {
+        if (texts == null) {
+            return "";
+        }
+        if (texts.size() == 1) {
+            return texts.get(0);
+        }
+
+        texts.sort(null);
+
+        StringBuilder sb = new StringBuilder();
+        String previous = null;
+        for (String text : texts) {
+            if (text.equals(previous)) {
+                continue;
+            }
+            if (previous != null) {
+                sb.append(", ");
+            }
+            sb.append(text);
+            previous = text;
+        }
+
+        return sb.toString();
+    }
+
+}
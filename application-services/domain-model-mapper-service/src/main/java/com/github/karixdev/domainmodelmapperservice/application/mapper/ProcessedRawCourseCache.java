@@ -0,0 +1,62 @@
+package com.github.karixdev.domainmodelmapperservice.application.mapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Courses mapped regardless of the schedule they belong to. Lectures and other courses shared by groups come as the
+ * same cell in each of their schedules, which all start at the same hour, so a full refresh maps them once. Hits and
+ * misses are reported as {@code cache.gets} of the {@value #CACHE_NAME} cache. A maximum size of 0 disables it.
+ */
+@Component
+public class ProcessedRawCourseCache {
+
+    static final String CACHE_NAME = "processed_raw_course";
+
+    private final Cache<Key, ProcessedRawCourse> cache;
+
+    public ProcessedRawCourseCache(
+            @Value("${mapper.course-cache.maximum-size}") long maximumSize,
+            @Value("${mapper.course-cache.expire-after-write}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry
+    ) {
+        if (maximumSize <= 0) {
+            this.cache = null;
+            return;
+        }
+
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public static ProcessedRawCourseCache disabled() {
+        return new ProcessedRawCourseCache(0, Duration.ZERO, null);
+    }
+
+    /**
+     * Course mapped from the cell in a schedule starting at the given hour, without a schedule id.
+     */
+    ProcessedRawCourse get(RawCourse rawCourse, int scheduleStartHour, Supplier<ProcessedRawCourse> mapping) {
+        if (cache == null) {
+            return mapping.get();
+        }
+
+        return cache.get(new Key(rawCourse, scheduleStartHour), key -> mapping.get());
+    }
+
+    private record Key(RawCourse rawCourse, int scheduleStartHour) {}
+
+}
@@ -3,156 +3,112 @@ package com.github.karixdev.domainmodelmapperservice.application.mapper;
 import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawCourse;
 import com.github.karixdev.domainmodelmapperservice.domain.processed.CourseType;
 import com.github.karixdev.domainmodelmapperservice.domain.processed.WeekType;
-import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
 import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
 import com.github.karixdev.domainmodelmapperservice.application.props.CourseMapperProperties;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
-import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 public class ProcessedRawCourseMapper {
 
+    private final ProcessedRawCourseCache cache;
+
     public ProcessedRawCourse map(RawCourse rawCourse, UUID scheduleId, LocalTime startTime) {
-        int scheduleStartTimeHour = startTime.getHour();
+        int scheduleStartHour = startTime.getHour();
+        ProcessedRawCourse course = cache.get(rawCourse, scheduleStartHour, () -> mapShared(rawCourse, scheduleStartHour));
+
+        return ProcessedRawCourse.builder()
+                .scheduleId(scheduleId)
+                .startsAt(course.startsAt())
+                .endsAt(course.endsAt())
+                .name(course.name())
+                .courseType(course.courseType())
+                .teachers(course.teachers())
+                .dayOfWeek(course.dayOfWeek())
+                .weekType(course.weekType())
+                .classrooms(course.classrooms())
+                .additionalInfo(course.additionalInfo())
+                .build();
+    }
+
+    /**
+     * Maps everything but the schedule id, which is all that differs between cells shared by schedules.
+     */
+    private ProcessedRawCourse mapShared(RawCourse rawCourse, int scheduleStartHour) {
+        int scheduleStartQuarter = scheduleStartHour * 4;
 
-        LocalTime startsAt = getTime(
-                rawCourse.top(),
-                scheduleStartTimeHour,
-                false
+        LocalTime startsAt = CourseGeometry.time(
+                scheduleStartQuarter + CourseGeometry.quartersFromFirstCell(rawCourse.top())
         );
-        LocalTime endsAt = getTime(
-                rawCourse.top() + rawCourse.height(),
-                scheduleStartTimeHour,
-                true
+        LocalTime endsAt = CourseGeometry.time(
+                scheduleStartQuarter + CourseGeometry.quartersFromFirstCell(
+                        rawCourse.top() + rawCourse.height() + CourseMapperProperties.COURSE_CELL_BORDER_SIZE
+                )
         );
 
-        CourseType courseType = getCourseType(rawCourse.text());
-        String name = getName(rawCourse.text());
+        Title title = getTitle(rawCourse.text());
 
-        DayOfWeek dayOfWeek = getDayOfWeek(rawCourse.left());
-        WeekType weeks = getWeekType(rawCourse.left(), rawCourse.width(), dayOfWeek);
+        DayOfWeek dayOfWeek = CourseGeometry.dayOfWeek(rawCourse.left());
+        WeekType weeks = getWeekType(rawCourse.left(), rawCourse.width());
 
-        String teachers = getTeachers(rawCourse.anchors());
-        String rooms = getRooms(rawCourse.anchors());
+        CourseLinkClassifier.ClassifiedLinks links = CourseLinkClassifier.classify(rawCourse.anchors());
 
         String additionalInfo = getAdditionalInfo(rawCourse.text());
 
         return ProcessedRawCourse.builder()
-                .scheduleId(scheduleId)
                 .startsAt(startsAt)
                 .endsAt(endsAt)
-                .name(name)
-                .courseType(courseType)
-                .teachers(teachers)
+                .name(title.name())
+                .courseType(title.courseType())
+                .teachers(links.teachers())
                 .dayOfWeek(dayOfWeek)
                 .weekType(weeks)
-                .classrooms(rooms)
+                .classrooms(links.rooms())
                 .additionalInfo(additionalInfo)
                 .build();
     }
 
-    private LocalTime getTime(int top, int startsAt, boolean addBorderToTop) {
-        if (addBorderToTop) {
-            top += CourseMapperProperties.COURSE_CELL_BORDER_SIZE;
-        }
-
-        int difference = top - CourseMapperProperties.FIRST_CELL_TOP_VALUE;
-        double ratio = difference / CourseMapperProperties.ONE_HOUR_CELL_HEIGHT;
-        ratio /= 0.25;
-
-        int totalNumOfQuarters = (int) Math.ceil(ratio);
-        totalNumOfQuarters *= 15;
-
-        double totalTime = totalNumOfQuarters / 60.0 + startsAt;
-        int hours = (int) totalTime;
-        int minutes = (int) ((totalTime - hours) * 60);
-
-        return LocalTime.of(hours, minutes);
-    }
-
-    private CourseType getCourseType(String text) {
-        String[] firstLineSplit = getFirstLineSplit(text);
-
-        if (firstLineSplit.length == 1) {
-            return CourseType.INFO;
-        }
-
-        String typeName = firstLineSplit[1].trim();
-
-        return Optional
-                .ofNullable(CourseMapperProperties.COURSE_TYPE_MAP.get(typeName))
-                .orElse(CourseType.INFO);
-    }
-
-    private String getName(String text) {
-        return getFirstLineSplit(text)[0].trim();
-    }
-
-    private String[] getFirstLineSplit(String text) {
-        String[] linesSplit = text.split("\n");
-
-        return linesSplit[0].split(",");
-    }
-
-    private String getTeachers(Set<RawAnchor> anchors) {
-        return String.join(", ", getTextFromLinks(
-                anchors,
-                CourseMapperProperties.COURSE_LINK_TEACHER_TYPE)
-        );
-    }
-
-    private String getTypeFromUrl(String href) {
-        int len = CourseMapperProperties.COURSE_LINKS_PREFIX.length();
-        String str = href.substring(len + 1);
-
-        int typeIdx = str.indexOf("type");
-
-        if (typeIdx == -1) {
-            return "";
+    /**
+     * Reads name and course type from the first line of the text, e.g. {@code "Analiza matematyczna, wyk"}, in one
+     * pass over it.
+     */
+    private Title getTitle(String text) {
+        int lineEnd = text.indexOf('\n');
+        if (lineEnd == -1) {
+            lineEnd = text.length();
         }
 
-        String substr = str.substring(typeIdx);
-
-        if (substr.contains("&")) {
-            int typeEndIdx = substr.indexOf("&");
-            substr = substr.substring(typeIdx, typeEndIdx);
+        int nameEnd = text.indexOf(',');
+        if (nameEnd == -1 || nameEnd > lineEnd) {
+            return new Title(text.substring(0, lineEnd).trim(), CourseType.INFO);
         }
 
-        return substr.split("=")[1];
-    }
-
-    private DayOfWeek getDayOfWeek(int left) {
-        if (CourseMapperProperties.DAY_OF_WEEK_MAP.containsKey(left)) {
-            return CourseMapperProperties.DAY_OF_WEEK_MAP.get(left);
+        int typeEnd = text.indexOf(',', nameEnd + 1);
+        if (typeEnd == -1 || typeEnd > lineEnd) {
+            typeEnd = lineEnd;
         }
 
-        return CourseMapperProperties.DAY_OF_WEEK_MAP.get(left - CourseMapperProperties.WEEK_CELL_HALF_OF_WIDTH);
-    }
+        CourseType courseType = CourseMapperProperties.COURSE_TYPE_MAP.get(
+                text.substring(nameEnd + 1, typeEnd).trim()
+        );
 
-    private String getRooms(Set<RawAnchor> anchors) {
-        return String.join(", ", getTextFromLinks(
-                anchors,
-                CourseMapperProperties.COURSE_LINK_ROOM_TYPE)
+        return new Title(
+                text.substring(0, nameEnd).trim(),
+                courseType == null ? CourseType.INFO : courseType
         );
     }
 
-    private WeekType getWeekType(int left, int cw, DayOfWeek dayOfWeek) {
+    private WeekType getWeekType(int left, int cw) {
         if (cw == CourseMapperProperties.EVERY_WEEK_CW_VALUE) {
             return WeekType.EVERY;
         }
 
-        boolean isOdd = CourseMapperProperties.DAY_OF_WEEK_MAP
-                .entrySet()
-                .stream()
-                .anyMatch(entry -> entry.getKey().equals(left) && entry.getValue().equals(dayOfWeek));
-
-        return isOdd ? WeekType.ODD : WeekType.EVEN;
+        return CourseGeometry.isOddWeek(left) ? WeekType.ODD : WeekType.EVEN;
     }
 
     private String getAdditionalInfo(String text) {
@@ -167,15 +123,6 @@ public class ProcessedRawCourseMapper {
                 .replace(" +", " ");
     }
 
-    private Set<String> getTextFromLinks(Set<RawAnchor> anchors, String type) {
-        if (anchors == null) {
-            return Set.of();
-        }
-
-        return anchors.stream()
-                .filter(anchor -> getTypeFromUrl(anchor.address()).equals(type))
-                .map(RawAnchor::text)
-                .collect(Collectors.toSet());
-    }
+    private record Title(String name, CourseType courseType) {}
 
 }
@@ -24,6 +24,7 @@ public class CourseMapperProperties {
     );
     public static final String COURSE_LINKS_PREFIX = "plan.php";
     public static final String COURSE_ADDITIONAL_INFO_PREFIX = "występowanie";
+    public static final String COURSE_LINK_TYPE_PARAMETER = "type";
     public static final String COURSE_LINK_TEACHER_TYPE = "10";
     public static final String COURSE_LINK_ROOM_TYPE = "20";
     public static final Map<String, CourseType> COURSE_TYPE_MAP = Map.of(
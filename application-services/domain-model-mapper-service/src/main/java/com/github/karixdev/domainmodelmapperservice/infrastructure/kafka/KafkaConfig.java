@@ -1,22 +1,41 @@
 package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka;
 
+import com.github.karixdev.contracts.codec.ContractDeserializer;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.contracts.codec.EventEncoding;
 import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
 import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper.ProcessedRawScheduleEventContractMapper;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper.RawScheduleEventContractMapper;
+import com.github.karixdev.kafkasupport.producer.BoundedKafkaSender;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.specific.SpecificRecord;
 import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.backoff.BackOff;
 import org.springframework.util.backoff.FixedBackOff;
 
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
 @Slf4j
 @Configuration
 public class KafkaConfig {
@@ -24,10 +43,19 @@ public class KafkaConfig {
 	@Bean
 	ProducerFactory<String, ProcessedRawScheduleEvent> processedRawScheduleEventProducerFactory(
 			KafkaProperties properties,
-			MeterRegistry meterRegistry
+			MeterRegistry meterRegistry,
+			ProcessedRawScheduleEventContractMapper mapper,
+			@Value("${kafka.producer.encoding}") EventEncoding encoding
 	) {
-		ProducerFactory<String, ProcessedRawScheduleEvent> factory =
-				new DefaultKafkaProducerFactory<>(properties.buildProducerProperties());
+		ProducerFactory<String, ProcessedRawScheduleEvent> factory = new DefaultKafkaProducerFactory<>(
+				properties.buildProducerProperties(),
+				new StringSerializer(),
+				valueSerializer(
+						encoding,
+						com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+						mapper::toContract
+				)
+		);
 		factory.addListener(new MicrometerProducerListener<>(meterRegistry));
 
 		return factory;
@@ -44,15 +72,31 @@ public class KafkaConfig {
 		return kafkaTemplate;
 	}
 
+	@Bean
+	BoundedKafkaSender<ProcessedRawScheduleEvent> processedRawScheduleEventSender(
+			KafkaTemplate<String, ProcessedRawScheduleEvent> kafkaTemplate,
+			@Value("${kafka.topics.processed-raw-schedule}") String topic,
+			@Value("${kafka.producer.max-in-flight}") int maxInFlight,
+			@Value("${kafka.producer.send-timeout}") Duration sendTimeout,
+			MeterRegistry meterRegistry
+	) {
+		return new BoundedKafkaSender<>(kafkaTemplate, topic, maxInFlight, sendTimeout, meterRegistry);
+	}
+
 	@Bean
 	ConsumerFactory<String, RawScheduleEvent> rawScheduleEventConsumerFactory(
 			KafkaProperties properties,
-			MeterRegistry meterRegistry
+			MeterRegistry meterRegistry,
+			RawScheduleEventContractMapper mapper
 	) {
 		ConsumerFactory<String, RawScheduleEvent> factory = new DefaultKafkaConsumerFactory<>(
 				properties.buildConsumerProperties(),
 				new StringDeserializer(),
-				new JsonDeserializer<>(RawScheduleEvent.class, false)
+				new ContractDeserializer<>(
+						com.github.karixdev.contracts.raw.RawScheduleEvent.class,
+						mapper::toEvent,
+						new JsonDeserializer<>(RawScheduleEvent.class, false)
+				)
 		);
 		factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
 
@@ -99,21 +143,73 @@ public class KafkaConfig {
 	}
 
 	@Bean
-	DefaultErrorHandler rawScheduleEventErrorHandler(
+	ConcurrentKafkaListenerContainerFactory<String, RawScheduleEvent> rawScheduleEventBatchConcurrentKafkaListenerContainerFactory(
+			ConsumerFactory<String, RawScheduleEvent> consumerFactory,
+			@Value("${kafka.consumer.schedule-raw.batch.retry-interval}") Duration retryInterval,
+			@Value("${kafka.observation.consumer.enabled}") Boolean isObservationEnabled
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, RawScheduleEvent> factory =
+				new ConcurrentKafkaListenerContainerFactory<>();
+
+		factory.setConsumerFactory(consumerFactory);
+		// the listener publishes records failing to be mapped to the DLT itself, a batch failing to be produced
+		// is retried until it is, instead of being published to the DLT as a whole
+		factory.setCommonErrorHandler(new DefaultErrorHandler(
+				new FixedBackOff(retryInterval.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)
+		));
+		factory.setBatchListener(true);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+		factory.getContainerProperties().setObservationEnabled(isObservationEnabled);
+
+		return factory;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "kafka.consumer.schedule-raw.mode", havingValue = "batch")
+	ExecutorService rawScheduleEventWorkers(@Value("${kafka.consumer.schedule-raw.batch.workers}") int workers) {
+		int threads = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+
+		return Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("schedule-raw-worker-"));
+	}
+
+	@Bean
+	DeadLetterPublishingRecoverer rawScheduleEventDeadLetterPublishingRecoverer(
 			@Value("${kafka.topics.dlt}") String dlt,
-			@Value("${kafka.config.back-off.interval}") long interval,
-			@Value("${kafka.config.back-off.max-attempts}") long maxAttempts,
 			KafkaTemplate<String, RawScheduleEvent> kafkaTemplate
 	) {
-		DeadLetterPublishingRecoverer recover =
-				new DeadLetterPublishingRecoverer(kafkaTemplate, (cr, e) -> new TopicPartition(dlt, cr.partition()));
+		return new DeadLetterPublishingRecoverer(kafkaTemplate, (cr, e) -> new TopicPartition(dlt, cr.partition()));
+	}
+
+	@Bean
+	BackOff rawScheduleEventBackOff(
+			@Value("${kafka.config.back-off.interval}") long interval,
+			@Value("${kafka.config.back-off.max-attempts}") long maxAttempts
+	) {
+		return new FixedBackOff(interval, maxAttempts);
+	}
 
-		FixedBackOff bo = new FixedBackOff(interval, maxAttempts);
-		DefaultErrorHandler handler = new DefaultErrorHandler(recover, bo);
+	@Bean
+	DefaultErrorHandler rawScheduleEventErrorHandler(
+			DeadLetterPublishingRecoverer rawScheduleEventDeadLetterPublishingRecoverer,
+			BackOff rawScheduleEventBackOff
+	) {
+		DefaultErrorHandler handler =
+				new DefaultErrorHandler(rawScheduleEventDeadLetterPublishingRecoverer, rawScheduleEventBackOff);
 
 		handler.setRetryListeners((cr, e, v) -> log.info("Consuming attempt {} after exception: {}", v, e.getClass().getName()));
 
 		return handler;
 	}
 
+	static <T, R extends SpecificRecord> Serializer<T> valueSerializer(
+			EventEncoding encoding,
+			Class<R> contractType,
+			Function<T, R> toContract
+	) {
+		return switch (encoding) {
+			case AVRO -> new ContractSerializer<>(contractType, toContract);
+			case JSON -> new JsonSerializer<>();
+		};
+	}
+
 }
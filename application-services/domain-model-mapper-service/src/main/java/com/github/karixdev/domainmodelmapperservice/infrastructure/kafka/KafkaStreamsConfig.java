@@ -0,0 +1,143 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka;
+
+import com.github.karixdev.contracts.codec.ContractDeserializer;
+import com.github.karixdev.contracts.codec.EventEncoding;
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper.ProcessedRawScheduleEventContractMapper;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper.RawScheduleEventContractMapper;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.streams.RawScheduleTopology;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.errors.StreamsUncaughtExceptionHandler;
+import org.apache.kafka.streams.kstream.KStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+import org.springframework.kafka.config.StreamsBuilderFactoryBeanConfigurer;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.streams.KafkaStreamsMicrometerListener;
+import org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.Map;
+
+/**
+ * Streams mode of the service, it runs {@link RawScheduleTopology} instead of the raw schedule listeners. The
+ * application id is the group id of the listeners, so switching modes carries on from the committed offsets.
+ */
+@Slf4j
+@Configuration
+@EnableKafkaStreams
+@ConditionalOnProperty(name = "kafka.consumer.schedule-raw.mode", havingValue = "streams")
+public class KafkaStreamsConfig {
+
+	@Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+	KafkaStreamsConfiguration defaultKafkaStreamsConfig(
+			KafkaProperties properties,
+			ProducerFactory<byte[], byte[]> rawScheduleDeadLetterProducerFactory,
+			@Value("${spring.application.name}") String applicationName,
+			@Value("${kafka.streams.threads}") int threads,
+			@Value("${kafka.topics.dlt}") String dlt
+	) {
+		Map<String, Object> props = properties.buildStreamsProperties();
+		props.putIfAbsent(StreamsConfig.APPLICATION_ID_CONFIG, applicationName);
+		props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, StreamsConfig.EXACTLY_ONCE_V2);
+		props.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, threads);
+
+		// a record that cannot be deserialized is copied to the DLT as consumed instead of stopping every stream thread
+		props.put(
+				StreamsConfig.DEFAULT_DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+				RecoveringDeserializationExceptionHandler.class
+		);
+		props.put(
+				RecoveringDeserializationExceptionHandler.KSTREAM_DESERIALIZATION_RECOVERER,
+				new DeadLetterPublishingRecoverer(
+						new KafkaTemplate<>(rawScheduleDeadLetterProducerFactory),
+						(cr, e) -> new TopicPartition(dlt, cr.partition())
+				)
+		);
+
+		return new KafkaStreamsConfiguration(props);
+	}
+
+	@Bean
+	ProducerFactory<byte[], byte[]> rawScheduleDeadLetterProducerFactory(KafkaProperties properties) {
+		return new DefaultKafkaProducerFactory<>(
+				properties.buildProducerProperties(),
+				new ByteArraySerializer(),
+				new ByteArraySerializer()
+		);
+	}
+
+	@Bean
+	StreamsBuilderFactoryBeanConfigurer kafkaStreamsMicrometerConfigurer(MeterRegistry meterRegistry) {
+		return factoryBean -> factoryBean.addListener(new KafkaStreamsMicrometerListener(meterRegistry));
+	}
+
+	@Bean
+	StreamsBuilderFactoryBeanConfigurer kafkaStreamsUncaughtExceptionConfigurer() {
+		return factoryBean -> factoryBean.setStreamsUncaughtExceptionHandler(e -> {
+			// the task is reprocessed from its last committed offset by the new thread
+			log.error("Stream thread failed, replacing it", e);
+			return StreamsUncaughtExceptionHandler.StreamThreadExceptionResponse.REPLACE_THREAD;
+		});
+	}
+
+	@Bean
+	KStream<String, RawScheduleEvent> rawScheduleStream(
+			StreamsBuilder builder,
+			RawScheduleEventHandler eventHandler,
+			RawScheduleEventContractMapper rawMapper,
+			ProcessedRawScheduleEventContractMapper processedMapper,
+			@Value("${kafka.producer.encoding}") EventEncoding encoding,
+			@Value("${kafka.topics.schedule-raw}") String rawScheduleTopic,
+			@Value("${kafka.topics.processed-raw-schedule}") String processedRawScheduleTopic,
+			@Value("${kafka.topics.dlt}") String dlt
+	) {
+		return RawScheduleTopology.builder()
+				.rawScheduleTopic(rawScheduleTopic)
+				.processedRawScheduleTopic(processedRawScheduleTopic)
+				.dlt(dlt)
+				.rawScheduleSerde(Serdes.serdeFrom(
+						new JsonSerializer<>(),
+						new ContractDeserializer<>(
+								com.github.karixdev.contracts.raw.RawScheduleEvent.class,
+								rawMapper::toEvent,
+								new JsonDeserializer<>(RawScheduleEvent.class, false)
+						)
+				))
+				.processedRawScheduleSerde(Serdes.serdeFrom(
+						KafkaConfig.valueSerializer(
+								encoding,
+								com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+								processedMapper::toContract
+						),
+						new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false)
+				))
+				// written as JSON like the DLT records of the listener modes
+				.deadLetterSerde(Serdes.serdeFrom(
+						new JsonSerializer<>(),
+						new JsonDeserializer<>(RawScheduleEvent.class, false)
+				))
+				.mapper(eventHandler::map)
+				.build()
+				.build(builder);
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
+import com.github.karixdev.kafkasupport.consumer.KeyedBatch;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Batch mode counterpart of {@link RawScheduleConsumer}. Mapping is pure CPU work, so records of a polled batch are
+ * mapped concurrently by worker threads, records of one schedule stay in offset order on one worker. Mapping is also
+ * deterministic, a record that failed to be mapped would fail again, so it is published to the DLT right away. Processed
+ * schedules are produced without waiting for each of them and flushed by the worker that produced them. A failed send
+ * says nothing about the record, so it fails the whole batch, which is then retried. The listener returns, and the batch
+ * offsets are committed, only once every record was either mapped or published to the DLT, and every processed schedule
+ * is acknowledged.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-raw.mode", havingValue = "batch")
+public class RawScheduleBatchConsumer {
+
+    private final RawScheduleEventHandler eventHandler;
+    private final EventProducer<ProcessedRawScheduleEvent> eventProducer;
+    private final ExecutorService workers;
+    private final ConsumerRecordRecoverer recoverer;
+
+    public RawScheduleBatchConsumer(
+            RawScheduleEventHandler eventHandler,
+            EventProducer<ProcessedRawScheduleEvent> eventProducer,
+            ExecutorService rawScheduleEventWorkers,
+            ConsumerRecordRecoverer rawScheduleEventDeadLetterPublishingRecoverer
+    ) {
+        this.eventHandler = eventHandler;
+        this.eventProducer = eventProducer;
+        this.workers = rawScheduleEventWorkers;
+        this.recoverer = rawScheduleEventDeadLetterPublishingRecoverer;
+    }
+
+    @KafkaListener(topics = "${kafka.topics.schedule-raw}", groupId = "${spring.application.name}", containerFactory = "rawScheduleEventBatchConcurrentKafkaListenerContainerFactory")
+    public void consumeScheduleRaws(List<ConsumerRecord<String, RawScheduleEvent>> consumerRecords) {
+        CompletableFuture<?>[] tasks = KeyedBatch.groupByKey(consumerRecords).stream()
+                .map(records -> CompletableFuture.runAsync(() -> processInOrder(records), workers))
+                .toArray(CompletableFuture[]::new);
+
+        KeyedBatch.awaitAll(tasks);
+    }
+
+    private void processInOrder(List<ConsumerRecord<String, RawScheduleEvent>> records) {
+        records.forEach(this::process);
+
+        // the producer flushes the sends of the calling thread, i.e. of this worker
+        eventProducer.flush();
+    }
+
+    private void process(ConsumerRecord<String, RawScheduleEvent> consumerRecord) {
+        ProcessedRawScheduleEvent processedRawScheduleEvent;
+        try {
+            processedRawScheduleEvent = eventHandler.map(consumerRecord.value());
+        } catch (RuntimeException e) {
+            log.info("Publishing {} to DLT after exception: {}", consumerRecord.key(), e.getClass().getName());
+            recoverer.accept(consumerRecord, e);
+            return;
+        }
+
+        eventProducer.produce(processedRawScheduleEvent);
+    }
+
+}
@@ -1,21 +1,31 @@
 package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.consumer;
 
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
 import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
 import com.github.karixdev.domainmodelmapperservice.application.event.handler.EventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * Consumes raw schedules one by one on the listener thread, see {@link RawScheduleBatchConsumer} for the batch mode.
+ */
 @Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-raw.mode", havingValue = "record", matchIfMissing = true)
 @RequiredArgsConstructor
 public class RawScheduleConsumer {
 
     private final EventHandler<RawScheduleEvent> eventHandler;
+    private final EventProducer<ProcessedRawScheduleEvent> eventProducer;
 
     @KafkaListener(topics = "${kafka.topics.schedule-raw}", groupId = "${spring.application.name}", containerFactory = "rawScheduleEventConcurrentKafkaListenerContainerFactory")
     public void consumeScheduleRaw(ConsumerRecord<String, RawScheduleEvent> consumerRecord) {
         eventHandler.handle(consumerRecord.value());
+        // the offset must not be committed before the processed schedule is acknowledged
+        eventProducer.flush();
     }
 
 }
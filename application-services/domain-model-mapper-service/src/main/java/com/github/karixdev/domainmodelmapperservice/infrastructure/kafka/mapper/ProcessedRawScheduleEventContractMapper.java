@@ -0,0 +1,41 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawCourse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps processed schedules. The contract does not repeat the schedule id in every course, it is the one of the event.
+ */
+@Component
+public class ProcessedRawScheduleEventContractMapper {
+
+    public com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent toContract(ProcessedRawScheduleEvent event) {
+        return com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.newBuilder()
+                .setScheduleId(event.scheduleId())
+                .setEntity(new com.github.karixdev.contracts.processed.ProcessedRawSchedule(
+                        event.entity().courses().stream()
+                                .map(this::toContract)
+                                .toList()
+                ))
+                .build();
+    }
+
+    private com.github.karixdev.contracts.processed.ProcessedRawCourse toContract(ProcessedRawCourse course) {
+        return com.github.karixdev.contracts.processed.ProcessedRawCourse.newBuilder()
+                .setName(course.name())
+                .setCourseType(course.courseType() == null ? null :
+                        com.github.karixdev.contracts.processed.CourseType.valueOf(course.courseType().name()))
+                .setTeachers(course.teachers())
+                .setClassrooms(course.classrooms())
+                .setAdditionalInfo(course.additionalInfo())
+                .setDayOfWeek(course.dayOfWeek() == null ? null :
+                        com.github.karixdev.contracts.processed.DayOfWeek.valueOf(course.dayOfWeek().name()))
+                .setWeekType(course.weekType() == null ? null :
+                        com.github.karixdev.contracts.processed.WeekType.valueOf(course.weekType().name()))
+                .setStartsAt(course.startsAt())
+                .setEndsAt(course.endsAt())
+                .build();
+    }
+
+}
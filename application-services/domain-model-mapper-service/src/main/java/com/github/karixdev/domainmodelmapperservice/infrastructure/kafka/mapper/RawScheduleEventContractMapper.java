@@ -0,0 +1,54 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawSchedule;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawTimeInterval;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class RawScheduleEventContractMapper {
+
+    public RawScheduleEvent toEvent(com.github.karixdev.contracts.raw.RawScheduleEvent contract) {
+        com.github.karixdev.contracts.raw.RawSchedule schedule = contract.getEntity();
+
+        return RawScheduleEvent.builder()
+                .scheduleId(contract.getScheduleId())
+                .entity(RawSchedule.builder()
+                        .timeIntervals(schedule.getTimeIntervals().stream()
+                                .map(timeInterval -> new RawTimeInterval(timeInterval.getStart(), timeInterval.getEnd()))
+                                .collect(Collectors.toSet()))
+                        .courses(schedule.getCourses().stream()
+                                .map(this::toCourse)
+                                .collect(Collectors.toSet()))
+                        .build())
+                .build();
+    }
+
+    private RawCourse toCourse(com.github.karixdev.contracts.raw.RawCourse contract) {
+        return RawCourse.builder()
+                .text(contract.getText())
+                .height(contract.getHeight())
+                .width(contract.getWidth())
+                .left(contract.getLeft())
+                .top(contract.getTop())
+                .anchors(toAnchors(contract.getAnchors()))
+                .build();
+    }
+
+    private Set<RawAnchor> toAnchors(List<com.github.karixdev.contracts.raw.RawAnchor> anchors) {
+        if (anchors == null) {
+            return null;
+        }
+
+        return anchors.stream()
+                .map(anchor -> new RawAnchor(anchor.getAddress(), anchor.getText()))
+                .collect(Collectors.toSet());
+    }
+
+}
@@ -2,26 +2,23 @@ package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.produc
 
 import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
 import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import com.github.karixdev.kafkasupport.producer.BoundedKafkaSender;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@RequiredArgsConstructor
 public class ProcessedRawScheduleEventProducer implements EventProducer<ProcessedRawScheduleEvent> {
 
-    private final String topic;
-    private final KafkaTemplate<String, ProcessedRawScheduleEvent> kafkaTemplate;
+    private final BoundedKafkaSender<ProcessedRawScheduleEvent> processedRawScheduleEventSender;
 
-    public ProcessedRawScheduleEventProducer(
-            @Value("${kafka.topics.processed-raw-schedule}") String topic,
-            KafkaTemplate<String, ProcessedRawScheduleEvent> kafkaTemplate
-    ) {
-        this.topic = topic;
-        this.kafkaTemplate = kafkaTemplate;
+    @Override
+    public void produce(ProcessedRawScheduleEvent event) {
+        processedRawScheduleEventSender.send(event.scheduleId(), event);
     }
 
     @Override
-    public void produce(ProcessedRawScheduleEvent event) {
-        kafkaTemplate.send(topic, event.scheduleId(), event);
+    public void flush() {
+        processedRawScheduleEventSender.flush();
     }
 }
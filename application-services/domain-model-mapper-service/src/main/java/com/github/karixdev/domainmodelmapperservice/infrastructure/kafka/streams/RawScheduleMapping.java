@@ -0,0 +1,15 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.streams;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+
+/**
+ * Outcome of mapping one raw schedule, the processed schedule or null when it could not be mapped.
+ */
+record RawScheduleMapping(RawScheduleEvent raw, ProcessedRawScheduleEvent processed) {
+
+    boolean failed() {
+        return processed == null;
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.streams;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessor;
+import org.apache.kafka.streams.processor.api.FixedKeyProcessorContext;
+import org.apache.kafka.streams.processor.api.FixedKeyRecord;
+import org.apache.kafka.streams.processor.api.RecordMetadata;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Maps raw schedules. A raw schedule that cannot be mapped is forwarded as failed, with the headers the
+ * {@link org.springframework.kafka.listener.DeadLetterPublishingRecoverer} of the listener modes sets on the DLT
+ * records, so that the DLT looks the same whatever mode the service runs in.
+ */
+@Slf4j
+@RequiredArgsConstructor
+class RawScheduleMappingProcessor implements FixedKeyProcessor<String, RawScheduleEvent, RawScheduleMapping> {
+
+    private final Function<RawScheduleEvent, ProcessedRawScheduleEvent> mapper;
+
+    private FixedKeyProcessorContext<String, RawScheduleMapping> context;
+
+    @Override
+    public void init(FixedKeyProcessorContext<String, RawScheduleMapping> context) {
+        this.context = context;
+    }
+
+    @Override
+    public void process(FixedKeyRecord<String, RawScheduleEvent> rawRecord) {
+        RawScheduleEvent raw = rawRecord.value();
+
+        try {
+            context.forward(rawRecord.withValue(new RawScheduleMapping(raw, mapper.apply(raw))));
+        } catch (RuntimeException e) {
+            log.warn("Could not map raw schedule with key {}", rawRecord.key(), e);
+
+            addDeadLetterHeaders(rawRecord.headers(), e);
+            context.forward(rawRecord.withValue(new RawScheduleMapping(raw, null)));
+        }
+    }
+
+    private void addDeadLetterHeaders(Headers headers, RuntimeException e) {
+        context.recordMetadata().ifPresent(metadata -> addOriginHeaders(headers, metadata));
+
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, bytes(e.getClass().getName()));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, bytes(Objects.toString(e.getMessage(), "")));
+    }
+
+    private static void addOriginHeaders(Headers headers, RecordMetadata metadata) {
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, bytes(metadata.topic()));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(metadata.partition()).array());
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(metadata.offset()).array());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.streams;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import lombok.Builder;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Branched;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Named;
+import org.apache.kafka.streams.kstream.Produced;
+
+import java.util.function.Function;
+
+/**
+ * Stateless topology of the streams mode: raw schedules are mapped to processed ones, the ones that cannot be
+ * mapped go to the DLT. With exactly-once processing the processed schedule, or the DLT record, and the consumed
+ * offset are committed in one transaction, so a rebalance does not produce a schedule twice.
+ */
+@Builder
+public class RawScheduleTopology {
+
+    private final String rawScheduleTopic;
+    private final String processedRawScheduleTopic;
+    private final String dlt;
+
+    private final Serde<RawScheduleEvent> rawScheduleSerde;
+    private final Serde<ProcessedRawScheduleEvent> processedRawScheduleSerde;
+    private final Serde<RawScheduleEvent> deadLetterSerde;
+
+    private final Function<RawScheduleEvent, ProcessedRawScheduleEvent> mapper;
+
+    /**
+     * Adds the topology to the builder.
+     *
+     * @return the stream of consumed raw schedules
+     */
+    public KStream<String, RawScheduleEvent> build(StreamsBuilder builder) {
+        KStream<String, RawScheduleEvent> rawSchedules =
+                builder.stream(rawScheduleTopic, Consumed.with(Serdes.String(), rawScheduleSerde));
+
+        rawSchedules
+                .processValues(() -> new RawScheduleMappingProcessor(mapper), Named.as("map-raw-schedule"))
+                .split(Named.as("raw-schedule-"))
+                .branch(
+                        (key, mapping) -> mapping.failed(),
+                        Branched.withConsumer(failed -> failed
+                                .mapValues(RawScheduleMapping::raw)
+                                .to(dlt, Produced.with(Serdes.String(), deadLetterSerde)), "dlt")
+                )
+                .defaultBranch(Branched.withConsumer(mapped -> mapped
+                        .mapValues(RawScheduleMapping::processed)
+                        .to(processedRawScheduleTopic, Produced.with(Serdes.String(), processedRawScheduleSerde)), "processed"));
+
+        return rawSchedules;
+    }
+
+}
@@ -77,7 +77,11 @@ class DomainModelMapperServiceApplicationIntegrationTest {
         Map<String, Object> processedRawScheduleEventProps = KafkaTestUtils.consumerProps(kafkaContainer.getBootstrapServers(), "schedule-domain-test-group", "false");
         addCommonConsumerProps(processedRawScheduleEventProps);
 
-        ConsumerFactory<String, ProcessedRawScheduleEvent> processedRawScheduleEventConsumerFactory = new DefaultKafkaConsumerFactory<>(processedRawScheduleEventProps);
+        ConsumerFactory<String, ProcessedRawScheduleEvent> processedRawScheduleEventConsumerFactory = new DefaultKafkaConsumerFactory<>(
+                processedRawScheduleEventProps,
+                new StringDeserializer(),
+                new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false)
+        );
         processedRawScheduleEventConsumer = processedRawScheduleEventConsumerFactory.createConsumer();
         processedRawScheduleEventConsumer.subscribe(List.of(PROCESSED_RAW_SCHEDULE_TOPIC));
 
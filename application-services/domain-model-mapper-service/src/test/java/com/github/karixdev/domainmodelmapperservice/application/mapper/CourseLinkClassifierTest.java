@@ -0,0 +1,155 @@
+package com.github.karixdev.domainmodelmapperservice.application.mapper;
+
+import com.github.karixdev.domainmodelmapperservice.application.mapper.CourseLinkClassifier.ClassifiedLinks;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.CourseLinkClassifier.LinkType;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Properties are checked against hrefs generated the way plan.polsl.pl builds them, with a fixed seed so that a
+ * failing case can be reproduced.
+ */
+class CourseLinkClassifierTest {
+
+    static final long SEED = 20231118L;
+    static final int SAMPLES = 500;
+    static final String[] TYPES = {"0", "1", "2", "10", "20", "100", "", "1O"};
+
+    @ParameterizedTest
+    @MethodSource("planPolslHrefs")
+    void GivenPlanPolslHref_WhenClassify_ThenLinkTypeFollowsTypeParameter(String href, String type) {
+        // When
+        LinkType result = CourseLinkClassifier.classify(href);
+
+        // Then
+        LinkType expected = switch (type) {
+            case "10" -> LinkType.TEACHER;
+            case "20" -> LinkType.ROOM;
+            default -> LinkType.OTHER;
+        };
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @MethodSource("hrefsWithoutTypeParameter")
+    void GivenHrefWithoutTypeParameter_WhenClassify_ThenReturnsOther(String href) {
+        // When
+        LinkType result = CourseLinkClassifier.classify(href);
+
+        // Then
+        assertThat(result).isEqualTo(LinkType.OTHER);
+    }
+
+    @ParameterizedTest
+    @MethodSource("anchorLists")
+    void GivenAnchorsInAnyOrder_WhenClassify_ThenReturnsSortedDistinctTextsOfEachType(List<RawAnchor> anchors) {
+        // Given
+        List<RawAnchor> shuffled = new ArrayList<>(anchors);
+        Collections.shuffle(shuffled, new Random(SEED));
+
+        // When
+        ClassifiedLinks result = CourseLinkClassifier.classify(anchors);
+
+        // Then
+        assertThat(result).isEqualTo(CourseLinkClassifier.classify(shuffled));
+        assertThat(result.teachers()).isEqualTo(expectedTexts(anchors, "10"));
+        assertThat(result.rooms()).isEqualTo(expectedTexts(anchors, "20"));
+    }
+
+    @Test
+    void GivenNoAnchors_WhenClassify_ThenReturnsEmptyTexts() {
+        // When
+        ClassifiedLinks result = CourseLinkClassifier.classify((Set<RawAnchor>) null);
+
+        // Then
+        assertThat(result.teachers()).isEmpty();
+        assertThat(result.rooms()).isEmpty();
+    }
+
+    private static Stream<Arguments> planPolslHrefs() {
+        Stream<Arguments> scraped = Stream.of(
+                Arguments.of("plan.php?type=10&id=1234&w=4", "10"),
+                Arguments.of("plan.php?type=20&id=567&w=4", "20"),
+                Arguments.of("plan.php?type=0&id=1", "0"),
+                Arguments.of("plan.php?id=10&type=20", "20"),
+                Arguments.of("plan.php?id=10&type=10&w=1", "10")
+        );
+
+        Random random = new Random(SEED);
+        Stream<Arguments> generated = IntStream.range(0, SAMPLES).mapToObj(i -> {
+            String type = TYPES[random.nextInt(TYPES.length)];
+
+            List<String> parameters = new ArrayList<>(List.of(
+                    "type=" + type,
+                    "id=" + random.nextInt(100_000),
+                    "w=" + random.nextInt(8)
+            ));
+            if (random.nextBoolean()) {
+                parameters.add("winW=" + random.nextInt(2000));
+            }
+            Collections.shuffle(parameters, random);
+
+            return Arguments.of("plan.php?" + String.join("&", parameters), type);
+        });
+
+        return Stream.concat(scraped, generated);
+    }
+
+    private static Stream<String> hrefsWithoutTypeParameter() {
+        return Stream.of(
+                "plan.php",
+                "plan.php?",
+                "plan.php?id=10",
+                "plan.php?subtype=10&id=10",
+                "plan.php?types=20&id=10",
+                "plan.php?type&id=10",
+                "type=10",
+                "",
+                null
+        );
+    }
+
+    private static Stream<Arguments> anchorLists() {
+        Random random = new Random(SEED);
+
+        return IntStream.range(0, SAMPLES).mapToObj(i -> {
+            List<RawAnchor> anchors = new ArrayList<>();
+            int size = random.nextInt(6);
+            for (int j = 0; j < size; j++) {
+                String type = TYPES[random.nextInt(TYPES.length)];
+                anchors.add(RawAnchor.builder()
+                        .address("plan.php?type=" + type + "&id=" + random.nextInt(50) + "&w=4")
+                        .text("text " + random.nextInt(4))
+                        .build());
+            }
+
+            return Arguments.of(anchors);
+        });
+    }
+
+    private static String expectedTexts(List<RawAnchor> anchors, String type) {
+        TreeSet<String> texts = new TreeSet<>();
+        for (RawAnchor anchor : anchors) {
+            if (anchor.address().startsWith("plan.php?type=" + type + "&")) {
+                texts.add(anchor.text());
+            }
+        }
+
+        return String.join(", ", texts);
+    }
+
+}
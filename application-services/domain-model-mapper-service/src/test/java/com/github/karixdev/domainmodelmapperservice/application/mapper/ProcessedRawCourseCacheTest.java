@@ -0,0 +1,111 @@
+package com.github.karixdev.domainmodelmapperservice.application.mapper;
+
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessedRawCourseCacheTest {
+
+    ProcessedRawCourseCache underTest;
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new ProcessedRawCourseCache(100, Duration.ofHours(1), meterRegistry);
+    }
+
+    @Test
+    void GivenSameCellInTwoSchedules_WhenMap_ThenMapsItOnceAndStampsEachScheduleId() {
+        // Given
+        ProcessedRawCourseMapper mapper = new ProcessedRawCourseMapper(underTest);
+        UUID firstScheduleId = UUID.randomUUID();
+        UUID secondScheduleId = UUID.randomUUID();
+        LocalTime startTime = LocalTime.of(8, 0);
+
+        // When
+        ProcessedRawCourse first = mapper.map(rawCourse(), firstScheduleId, startTime);
+        ProcessedRawCourse second = mapper.map(rawCourse(), secondScheduleId, startTime);
+
+        // Then
+        assertThat(first.scheduleId()).isEqualTo(firstScheduleId);
+        assertThat(second.scheduleId()).isEqualTo(secondScheduleId);
+        assertThat(second).usingRecursiveComparison()
+                .ignoringFields("scheduleId")
+                .isEqualTo(first);
+        assertThat(gets("hit")).isEqualTo(1);
+        assertThat(gets("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void GivenSameCellInSchedulesStartingAtDifferentHours_WhenGet_ThenMapsItForEachHour() {
+        // Given
+        AtomicInteger mappings = new AtomicInteger();
+
+        // When
+        underTest.get(rawCourse(), 7, () -> course(mappings));
+        underTest.get(rawCourse(), 8, () -> course(mappings));
+        underTest.get(rawCourse(), 8, () -> course(mappings));
+
+        // Then
+        assertThat(mappings).hasValue(2);
+    }
+
+    @Test
+    void GivenDisabledCache_WhenGet_ThenMapsEveryTime() {
+        // Given
+        underTest = ProcessedRawCourseCache.disabled();
+        AtomicInteger mappings = new AtomicInteger();
+
+        // When
+        underTest.get(rawCourse(), 8, () -> course(mappings));
+        underTest.get(rawCourse(), 8, () -> course(mappings));
+
+        // Then
+        assertThat(mappings).hasValue(2);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", ProcessedRawCourseCache.CACHE_NAME)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static ProcessedRawCourse course(AtomicInteger mappings) {
+        mappings.incrementAndGet();
+
+        return ProcessedRawCourse.builder().build();
+    }
+
+    private static RawCourse rawCourse() {
+        return RawCourse.builder()
+                .top(259)
+                .left(254)
+                .height(135)
+                .width(154)
+                .text("Analiza matematyczna, wyk\n")
+                .anchors(Set.of(
+                        RawAnchor.builder()
+                                .address("plan.php?type=10&id=1234")
+                                .text("dr inż. Jan Kowalski")
+                                .build()
+                ))
+                .build();
+    }
+
+}
@@ -21,7 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class ProcessedRawCourseMapperTest {
 
-    ProcessedRawCourseMapper underTest = new ProcessedRawCourseMapper();
+    ProcessedRawCourseMapper underTest = new ProcessedRawCourseMapper(ProcessedRawCourseCache.disabled());
 
     LocalTime startTime;
 
@@ -117,6 +117,30 @@ class ProcessedRawCourseMapperTest {
                 .isEqualTo(expectedType);
     }
 
+    @ParameterizedTest
+    @MethodSource("courseTopAndHeightValues")
+    void GivenCourseWithDifferentTopAndHeightValues_WhenMap_ThenReturnsCourseRoundedUpToQuarters(int top, int height, LocalTime expectedStartsAt, LocalTime expectedEndsAt) {
+        // Given
+        RawCourse courseCell = RawCourse.builder()
+                .top(top)
+                .left(254)
+                .height(height)
+                .width(154)
+                .text("course, wyk, gr. 2")
+                .build();
+
+        // When
+        ProcessedRawCourse result = underTest.map(courseCell, scheduleId, startTime);
+
+        // Then
+        assertThat(result.name())
+                .isEqualTo("course");
+        assertThat(result.startsAt())
+                .isEqualTo(expectedStartsAt);
+        assertThat(result.endsAt())
+                .isEqualTo(expectedEndsAt);
+    }
+
     @ParameterizedTest
     @MethodSource("courseDayOfWeekLeftValues")
     void GivenCourseWithDifferentCourseLeftValues_WhenMap_ThenReturnsCourseWithProperDayOfWeek(int left, DayOfWeek expectedDay) {
@@ -186,7 +210,19 @@ class ProcessedRawCourseMapperTest {
                 Arguments.of("course, lab", CourseType.LAB),
                 Arguments.of("course, proj", CourseType.PROJECT),
                 Arguments.of("course, ćw", CourseType.PRACTICAL),
-                Arguments.of("course", CourseType.INFO)
+                Arguments.of("course", CourseType.INFO),
+                Arguments.of("course, wyk, gr. 2", CourseType.LECTURE),
+                Arguments.of("course, ,wyk", CourseType.INFO),
+                Arguments.of("course\nroom, lab", CourseType.INFO)
+        );
+    }
+
+    private static Stream<Arguments> courseTopAndHeightValues() {
+        return Stream.of(
+                Arguments.of(237, 39, LocalTime.of(8, 0), LocalTime.of(9, 0)),
+                Arguments.of(248, 84, LocalTime.of(8, 15), LocalTime.of(10, 15)),
+                Arguments.of(226, 50, LocalTime.of(8, 0), LocalTime.of(9, 0)),
+                Arguments.of(822, 84, LocalTime.of(21, 0), LocalTime.of(23, 0))
         );
     }
 
@@ -0,0 +1,184 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
+import com.github.karixdev.domainmodelmapperservice.application.exception.NoScheduleStartTimeException;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawSchedule;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RawScheduleBatchConsumerTest {
+
+    static final String TOPIC = "schedule.raw";
+
+    RawScheduleBatchConsumer underTest;
+
+    RawScheduleEventHandler eventHandler;
+    EventProducer<ProcessedRawScheduleEvent> eventProducer;
+    ConsumerRecordRecoverer recoverer;
+    ExecutorService workers;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventHandler = mock(RawScheduleEventHandler.class);
+        eventProducer = mock(EventProducer.class);
+        recoverer = mock(ConsumerRecordRecoverer.class);
+        workers = Executors.newFixedThreadPool(4);
+
+        underTest = new RawScheduleBatchConsumer(
+                eventHandler,
+                eventProducer,
+                workers,
+                recoverer
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void GivenRecordsWithDifferentKeys_WhenConsumeScheduleRaws_ThenRecordsAreMappedConcurrently() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            latch.countDown();
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(eventHandler).map(any());
+
+        List<ConsumerRecord<String, RawScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-2")
+        );
+
+        // When
+        underTest.consumeScheduleRaws(records);
+
+        // Then
+        assertThat(latch.getCount()).isZero();
+        verify(eventHandler, times(2)).map(any());
+        verifyNoInteractions(recoverer);
+    }
+
+    @Test
+    void GivenRecordsWithSameKey_WhenConsumeScheduleRaws_ThenRecordsAreMappedInOffsetOrder() {
+        // Given
+        List<RawScheduleEvent> handled = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> handled.add(invocation.getArgument(0))).when(eventHandler).map(any());
+
+        List<ConsumerRecord<String, RawScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-2"),
+                record(2, "schedule-1"),
+                record(3, "schedule-1")
+        );
+
+        // When
+        underTest.consumeScheduleRaws(records);
+
+        // Then
+        assertThat(handled.stream().filter(event -> event.scheduleId().equals("schedule-1")))
+                .containsExactly(records.get(0).value(), records.get(2).value(), records.get(3).value());
+    }
+
+    @Test
+    void GivenRecordFailingToBeMapped_WhenConsumeScheduleRaws_ThenRecordIsRecoveredWithoutRetryAndOthersAreMapped() {
+        // Given
+        NoScheduleStartTimeException ex = new NoScheduleStartTimeException();
+        List<ConsumerRecord<String, RawScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-2")
+        );
+        doThrow(ex).when(eventHandler).map(records.get(0).value());
+
+        // When
+        underTest.consumeScheduleRaws(records);
+
+        // Then
+        verify(eventHandler).map(records.get(0).value());
+        verify(eventHandler).map(records.get(1).value());
+        verify(recoverer).accept(eq(records.get(0)), eq(ex));
+    }
+
+    @Test
+    void GivenMappedRecordsOfOneSchedule_WhenConsumeScheduleRaws_ThenFlushesOnceAfterEveryRecordIsMapped() {
+        // Given
+        List<ConsumerRecord<String, RawScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-1")
+        );
+
+        // When
+        underTest.consumeScheduleRaws(records);
+
+        // Then
+        InOrder inOrder = inOrder(eventHandler, eventProducer);
+        inOrder.verify(eventHandler, times(2)).map(any());
+        inOrder.verify(eventProducer).flush();
+    }
+
+    @Test
+    void GivenFailedSend_WhenConsumeScheduleRaws_ThenThrowsSoThatBatchIsNotCommitted() {
+        // Given
+        doThrow(new KafkaException("broker unavailable")).when(eventProducer).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.consumeScheduleRaws(List.of(record(0, "schedule-1"))))
+                .isInstanceOf(KafkaException.class);
+    }
+
+    @Test
+    void GivenRejectedSend_WhenConsumeScheduleRaws_ThenThrowsWithoutPublishingRecordToDlt() {
+        // Given
+        doThrow(new KafkaException("send timed out")).when(eventProducer).produce(any());
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.consumeScheduleRaws(List.of(record(0, "schedule-1"))))
+                .isInstanceOf(KafkaException.class);
+        verifyNoInteractions(recoverer);
+    }
+
+    private static ConsumerRecord<String, RawScheduleEvent> record(long offset, String scheduleId) {
+        return new ConsumerRecord<>(
+                TOPIC,
+                0,
+                offset,
+                scheduleId,
+                RawScheduleEvent.builder()
+                        .scheduleId(scheduleId)
+                        .entity(RawSchedule.builder()
+                                .timeIntervals(Set.of())
+                                .courses(Set.of(RawCourse.builder()
+                                        .top((int) offset)
+                                        .build()))
+                                .build())
+                        .build()
+        );
+    }
+
+}
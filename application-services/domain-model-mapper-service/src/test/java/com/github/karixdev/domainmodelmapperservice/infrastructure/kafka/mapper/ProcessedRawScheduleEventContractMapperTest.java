@@ -0,0 +1,107 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.contracts.codec.ContractCodec;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.CourseType;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawSchedule;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.WeekType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProcessedRawScheduleEventContractMapperTest {
+
+    static final String TOPIC = "schedule.processed-raw";
+
+    ProcessedRawScheduleEventContractMapper underTest;
+
+    ContractSerializer<ProcessedRawScheduleEvent, com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent> serializer;
+
+    ContractCodec<com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent> codec;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ProcessedRawScheduleEventContractMapper();
+        serializer = new ContractSerializer<>(
+                com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+                underTest::toContract
+        );
+        codec = new ContractCodec<>(com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class);
+    }
+
+    @Test
+    void GivenProcessedRawScheduleEvent_WhenSerializedAsContract_ThenCoursesAreWrittenWithoutScheduleId() {
+        // Given
+        ProcessedRawScheduleEvent event = processedRawScheduleEvent();
+
+        // When
+        com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent result =
+                codec.decode(serializer.serialize(TOPIC, event));
+
+        // Then
+        assertThat(result.getScheduleId()).isEqualTo(event.scheduleId());
+        assertThat(result.getEntity().getCourses()).containsExactlyInAnyOrder(
+                com.github.karixdev.contracts.processed.ProcessedRawCourse.newBuilder()
+                        .setName("Programowanie komputerów")
+                        .setCourseType(com.github.karixdev.contracts.processed.CourseType.LAB)
+                        .setTeachers("dr inż. Jan Kowalski")
+                        .setClassrooms("CEK Lab 3")
+                        .setAdditionalInfo("(co 2 tyg.)")
+                        .setDayOfWeek(com.github.karixdev.contracts.processed.DayOfWeek.TUESDAY)
+                        .setWeekType(com.github.karixdev.contracts.processed.WeekType.ODD)
+                        .setStartsAt(LocalTime.of(10, 15))
+                        .setEndsAt(LocalTime.of(11, 45))
+                        .build(),
+                com.github.karixdev.contracts.processed.ProcessedRawCourse.newBuilder()
+                        .setName("Analiza matematyczna")
+                        .setCourseType(com.github.karixdev.contracts.processed.CourseType.LECTURE)
+                        .setDayOfWeek(com.github.karixdev.contracts.processed.DayOfWeek.MONDAY)
+                        .setWeekType(com.github.karixdev.contracts.processed.WeekType.EVERY)
+                        .setStartsAt(LocalTime.of(8, 30))
+                        .setEndsAt(LocalTime.of(10, 0))
+                        .build()
+        );
+    }
+
+    private static ProcessedRawScheduleEvent processedRawScheduleEvent() {
+        UUID scheduleId = UUID.randomUUID();
+
+        return ProcessedRawScheduleEvent.builder()
+                .scheduleId(scheduleId.toString())
+                .entity(ProcessedRawSchedule.builder()
+                        .courses(Set.of(
+                                ProcessedRawCourse.builder()
+                                        .scheduleId(scheduleId)
+                                        .name("Programowanie komputerów")
+                                        .courseType(CourseType.LAB)
+                                        .teachers("dr inż. Jan Kowalski")
+                                        .classrooms("CEK Lab 3")
+                                        .additionalInfo("(co 2 tyg.)")
+                                        .dayOfWeek(DayOfWeek.TUESDAY)
+                                        .weekType(WeekType.ODD)
+                                        .startsAt(LocalTime.of(10, 15))
+                                        .endsAt(LocalTime.of(11, 45))
+                                        .build(),
+                                ProcessedRawCourse.builder()
+                                        .scheduleId(scheduleId)
+                                        .name("Analiza matematyczna")
+                                        .courseType(CourseType.LECTURE)
+                                        .dayOfWeek(DayOfWeek.MONDAY)
+                                        .weekType(WeekType.EVERY)
+                                        .startsAt(LocalTime.of(8, 30))
+                                        .endsAt(LocalTime.of(10, 0))
+                                        .build()
+                        ))
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.streams;
+
+import com.github.karixdev.contracts.codec.ContractCodec;
+import com.github.karixdev.contracts.codec.ContractDeserializer;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
+import com.github.karixdev.domainmodelmapperservice.application.exception.NoScheduleStartTimeException;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseCache;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseMapper;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawTimeIntervalMapper;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawSchedule;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawTimeInterval;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper.ProcessedRawScheduleEventContractMapper;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.mapper.RawScheduleEventContractMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.test.TestRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.streams.RecoveringDeserializationExceptionHandler;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class RawScheduleTopologyTest {
+
+    static final String RAW_TOPIC = "schedule.raw";
+    static final String PROCESSED_TOPIC = "schedule.raw-processed";
+    static final String DLT = "domain-model-mapper-service.schedule.raw.dlt";
+
+    TopologyTestDriver driver;
+
+    TestInputTopic<String, RawScheduleEvent> jsonInput;
+    TestInputTopic<String, com.github.karixdev.contracts.raw.RawScheduleEvent> contractInput;
+    TestOutputTopic<String, com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent> processedOutput;
+    TestOutputTopic<String, RawScheduleEvent> dltOutput;
+    TestInputTopic<String, byte[]> bytesInput;
+
+    List<ConsumerRecord<?, ?>> unreadable;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RawScheduleEventHandler eventHandler = new RawScheduleEventHandler(
+                new ProcessedRawCourseMapper(ProcessedRawCourseCache.disabled()),
+                new ProcessedRawTimeIntervalMapper(),
+                mock(EventProducer.class)
+        );
+        RawScheduleEventContractMapper rawMapper = new RawScheduleEventContractMapper();
+        ProcessedRawScheduleEventContractMapper processedMapper = new ProcessedRawScheduleEventContractMapper();
+
+        StreamsBuilder builder = new StreamsBuilder();
+        RawScheduleTopology.builder()
+                .rawScheduleTopic(RAW_TOPIC)
+                .processedRawScheduleTopic(PROCESSED_TOPIC)
+                .dlt(DLT)
+                .rawScheduleSerde(Serdes.serdeFrom(
+                        new JsonSerializer<>(),
+                        new ContractDeserializer<>(
+                                com.github.karixdev.contracts.raw.RawScheduleEvent.class,
+                                rawMapper::toEvent,
+                                new JsonDeserializer<>(RawScheduleEvent.class, false)
+                        )
+                ))
+                .processedRawScheduleSerde(Serdes.serdeFrom(
+                        new ContractSerializer<>(
+                                com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class,
+                                processedMapper::toContract
+                        ),
+                        new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false)
+                ))
+                .deadLetterSerde(Serdes.serdeFrom(
+                        new JsonSerializer<>(),
+                        new JsonDeserializer<>(RawScheduleEvent.class, false)
+                ))
+                .mapper(eventHandler::map)
+                .build()
+                .build(builder);
+
+        Properties props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "domain-model-mapper-service");
+        props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, StreamsConfig.EXACTLY_ONCE_V2);
+        props.put(
+                StreamsConfig.DEFAULT_DESERIALIZATION_EXCEPTION_HANDLER_CLASS_CONFIG,
+                RecoveringDeserializationExceptionHandler.class
+        );
+        unreadable = new ArrayList<>();
+        props.put(
+                RecoveringDeserializationExceptionHandler.KSTREAM_DESERIALIZATION_RECOVERER,
+                (ConsumerRecordRecoverer) (consumerRecord, e) -> unreadable.add(consumerRecord)
+        );
+        driver = new TopologyTestDriver(builder.build(), props);
+
+        jsonInput = driver.createInputTopic(RAW_TOPIC, new StringSerializer(), new JsonSerializer<>());
+        ContractCodec<com.github.karixdev.contracts.raw.RawScheduleEvent> rawCodec =
+                new ContractCodec<>(com.github.karixdev.contracts.raw.RawScheduleEvent.class);
+        ContractCodec<com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent> processedCodec =
+                new ContractCodec<>(com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.class);
+
+        contractInput = driver.createInputTopic(RAW_TOPIC, new StringSerializer(), (topic, data) -> rawCodec.encode(data));
+        processedOutput = driver.createOutputTopic(PROCESSED_TOPIC, new StringDeserializer(), (topic, data) -> processedCodec.decode(data));
+        bytesInput = driver.createInputTopic(RAW_TOPIC, new StringSerializer(), new ByteArraySerializer());
+        dltOutput = driver.createOutputTopic(DLT, new StringDeserializer(), new JsonDeserializer<>(RawScheduleEvent.class, false));
+    }
+
+    @AfterEach
+    void tearDown() {
+        driver.close();
+    }
+
+    @Test
+    void GivenRawScheduleEvent_WhenPiped_ThenProcessedScheduleIsProducedWithSameKey() {
+        // Given
+        String scheduleId = UUID.randomUUID().toString();
+
+        // When
+        jsonInput.pipeInput(scheduleId, rawScheduleEvent(scheduleId));
+
+        // Then
+        assertThat(dltOutput.isEmpty()).isTrue();
+        assertThat(processedOutput.readKeyValue().value).isEqualTo(
+                com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent.newBuilder()
+                        .setScheduleId(scheduleId)
+                        .setEntity(new com.github.karixdev.contracts.processed.ProcessedRawSchedule(List.of(
+                                com.github.karixdev.contracts.processed.ProcessedRawCourse.newBuilder()
+                                        .setName("Analiza matematyczna")
+                                        .setCourseType(com.github.karixdev.contracts.processed.CourseType.LECTURE)
+                                        .setTeachers("")
+                                        .setClassrooms("")
+                                        .setDayOfWeek(com.github.karixdev.contracts.processed.DayOfWeek.TUESDAY)
+                                        .setWeekType(com.github.karixdev.contracts.processed.WeekType.EVERY)
+                                        .setStartsAt(LocalTime.of(8, 30))
+                                        .setEndsAt(LocalTime.of(11, 45))
+                                        .build()
+                        )))
+                        .build()
+        );
+    }
+
+    @Test
+    void GivenRawScheduleEventEncodedAsContract_WhenPiped_ThenProcessedScheduleIsProduced() {
+        // Given
+        String scheduleId = UUID.randomUUID().toString();
+
+        // When
+        contractInput.pipeInput(scheduleId, com.github.karixdev.contracts.raw.RawScheduleEvent.newBuilder()
+                .setScheduleId(scheduleId)
+                .setEntity(new com.github.karixdev.contracts.raw.RawSchedule(
+                        List.of(new com.github.karixdev.contracts.raw.RawTimeInterval("08:00", "08:45")),
+                        List.of(com.github.karixdev.contracts.raw.RawCourse.newBuilder()
+                                .setTop(259)
+                                .setLeft(254)
+                                .setHeight(135)
+                                .setWidth(154)
+                                .setText("Analiza matematyczna, wyk\n")
+                                .build())
+                ))
+                .build());
+
+        // Then
+        assertThat(processedOutput.readKeyValue().key).isEqualTo(scheduleId);
+        assertThat(dltOutput.isEmpty()).isTrue();
+    }
+
+    @Test
+    void GivenRawScheduleEventWithoutTimeIntervals_WhenPiped_ThenItGoesToDltWithExceptionHeaders() {
+        // Given
+        String scheduleId = UUID.randomUUID().toString();
+        RawScheduleEvent event = RawScheduleEvent.builder()
+                .scheduleId(scheduleId)
+                .entity(RawSchedule.builder()
+                        .timeIntervals(Set.of())
+                        .courses(rawScheduleEvent(scheduleId).entity().courses())
+                        .build())
+                .build();
+
+        // When
+        jsonInput.pipeInput(scheduleId, event);
+
+        // Then
+        assertThat(processedOutput.isEmpty()).isTrue();
+
+        TestRecord<String, RawScheduleEvent> result = dltOutput.readRecord();
+        assertThat(result.key()).isEqualTo(scheduleId);
+        assertThat(result.value()).isEqualTo(event);
+        assertThat(header(result, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .isEqualTo(NoScheduleStartTimeException.class.getName());
+        assertThat(header(result, KafkaHeaders.DLT_ORIGINAL_TOPIC))
+                .isEqualTo(RAW_TOPIC);
+    }
+
+    @Test
+    void GivenUnreadableRecord_WhenPiped_ThenItIsRecoveredAndNextRawScheduleIsMapped() {
+        // Given
+        String scheduleId = UUID.randomUUID().toString();
+
+        // When
+        bytesInput.pipeInput(scheduleId, "not a raw schedule".getBytes(StandardCharsets.UTF_8));
+        jsonInput.pipeInput(scheduleId, rawScheduleEvent(scheduleId));
+
+        // Then
+        assertThat(unreadable).hasSize(1);
+        assertThat(unreadable.get(0).value()).isEqualTo("not a raw schedule".getBytes(StandardCharsets.UTF_8));
+        assertThat(processedOutput.readKeyValue().key).isEqualTo(scheduleId);
+    }
+
+    private static String header(TestRecord<String, RawScheduleEvent> testRecord, String name) {
+        Header header = testRecord.headers().lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    private static RawScheduleEvent rawScheduleEvent(String scheduleId) {
+        return RawScheduleEvent.builder()
+                .scheduleId(scheduleId)
+                .entity(RawSchedule.builder()
+                        .timeIntervals(Set.of(new RawTimeInterval("08:00", "08:45")))
+                        .courses(Set.of(RawCourse.builder()
+                                .top(259)
+                                .left(254)
+                                .height(135)
+                                .width(154)
+                                .text("Analiza matematyczna, wyk\n")
+                                .build()))
+                        .build())
+                .build();
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.github.karixdev.kafkasupport.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers of batch listeners handling the records of a polled batch concurrently on worker threads.
+ */
+public final class KeyedBatch {
+
+    private KeyedBatch() {}
+
+    /**
+     * Groups records of a batch by key keeping offset order within each group, so that records of one key can be
+     * handled sequentially while different keys are handled concurrently.
+     */
+    public static <K, V> List<List<ConsumerRecord<K, V>>> groupByKey(List<ConsumerRecord<K, V>> consumerRecords) {
+        return new ArrayList<>(consumerRecords.stream()
+                .collect(Collectors.groupingBy(
+                        consumerRecord -> Objects.toString(consumerRecord.key()),
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ))
+                .values());
+    }
+
+    /**
+     * Blocks until every worker task of the batch is completed and rethrows the failure of the first failed one as
+     * is, so that the batch error handler classifies it as if the listener thread threw it.
+     */
+    public static void awaitAll(CompletableFuture<?>[] tasks) {
+        try {
+            CompletableFuture.allOf(tasks).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.github.karixdev.kafkasupport.producer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Sends records to one topic without waiting for each of them to be acknowledged, with at most {@code maxInFlight}
+ * sends outstanding. A send beyond that window blocks the caller until an earlier one completes. Every completed send
+ * is timed. Sends are kept per calling thread until its next {@link #flush()}, which waits for them and rethrows the
+ * first failure among them, so that listeners sharing the sender never see the failures of one another. Consumers
+ * flush at the end of a record or batch on the thread that handled it, so that its offsets are committed only once
+ * its output is acknowledged.
+ */
+@Slf4j
+public class BoundedKafkaSender<V> {
+
+    public static final String SEND_METRIC = "kafka.sender.send";
+    public static final String PENDING_METRIC = "kafka.sender.pending";
+
+    private final KafkaTemplate<String, V> kafkaTemplate;
+    private final String topic;
+    private final Semaphore window;
+    private final Duration sendTimeout;
+
+    private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<List<CompletableFuture<Void>>> unflushed = ThreadLocal.withInitial(ArrayList::new);
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public BoundedKafkaSender(
+            KafkaTemplate<String, V> kafkaTemplate,
+            String topic,
+            int maxInFlight,
+            Duration sendTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+        this.window = new Semaphore(maxInFlight);
+        this.sendTimeout = sendTimeout;
+
+        this.successTimer = sendTimer(meterRegistry, "success");
+        this.failureTimer = sendTimer(meterRegistry, "failure");
+
+        Gauge.builder(PENDING_METRIC, inFlight, Set::size)
+                .tag("topic", topic)
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, V>> send(String key, V value) {
+        acquire();
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, V>> future;
+        try {
+            future = kafkaTemplate.send(topic, key, value);
+        } catch (RuntimeException e) {
+            window.release();
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+
+        // flush waits for the callback rather than for the send itself, so that the send is timed once flush returns
+        CompletableFuture<Void> completion = future
+                .whenComplete((result, ex) -> {
+                    window.release();
+                    onComplete(key, ex, System.nanoTime() - start);
+                })
+                .thenApply(result -> null);
+        inFlight.add(completion);
+        completion.whenComplete((result, ex) -> inFlight.remove(completion));
+
+        List<CompletableFuture<Void>> sends = unflushed.get();
+        // acknowledged sends have nothing left to report, which bounds the sends of a thread that seldom flushes
+        sends.removeIf(send -> send.isDone() && !send.isCompletedExceptionally());
+        sends.add(completion);
+
+        return future;
+    }
+
+    /**
+     * Blocks until every send started by the calling thread since its previous flush is completed.
+     *
+     * @throws KafkaException when any of these sends failed, or they did not complete in time
+     */
+    public void flush() {
+        List<CompletableFuture<Void>> sends = unflushed.get();
+        if (sends.isEmpty()) {
+            return;
+        }
+        unflushed.remove();
+
+        // sends records lingering in the producer right away instead of after linger.ms
+        kafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new KafkaException("Failed to send records to %s".formatted(topic), e.getCause());
+        } catch (TimeoutException e) {
+            throw new KafkaException("Sends to %s did not complete in %s".formatted(topic, sendTimeout), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while flushing sends to %s".formatted(topic), e);
+        }
+    }
+
+    private void onComplete(String key, Throwable ex, long nanos) {
+        if (ex == null) {
+            successTimer.record(nanos, TimeUnit.NANOSECONDS);
+            return;
+        }
+
+        failureTimer.record(nanos, TimeUnit.NANOSECONDS);
+        log.warn("Failed to send record with key {} to {}", key, topic, ex);
+    }
+
+    private void acquire() {
+        try {
+            if (!window.tryAcquire(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new KafkaException("No send to %s completed in %s".formatted(topic, sendTimeout));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while waiting to send to %s".formatted(topic), e);
+        }
+    }
+
+    private Timer sendTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder(SEND_METRIC)
+                .tag("topic", topic)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.github.karixdev.kafkasupport.producer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BoundedKafkaSenderTest {
+
+    static final String TOPIC = "schedule.raw";
+
+    BoundedKafkaSender<String> underTest;
+
+    KafkaTemplate<String, String> kafkaTemplate;
+    MeterRegistry meterRegistry;
+
+    List<CompletableFuture<SendResult<String, String>>> sends;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        sends = new ArrayList<>();
+        when(kafkaTemplate.send(eq(TOPIC), any(), any())).thenAnswer(invocation -> {
+            CompletableFuture<SendResult<String, String>> future = new CompletableFuture<>();
+            sends.add(future);
+            return future;
+        });
+
+        underTest = new BoundedKafkaSender<>(kafkaTemplate, TOPIC, 2, Duration.ofMillis(200), meterRegistry);
+    }
+
+    @Test
+    void GivenFullWindow_WhenSend_ThenBlocksUntilEarlierSendCompletes() {
+        // Given
+        underTest.send("schedule-1", "event-1");
+        underTest.send("schedule-2", "event-2");
+
+        CompletableFuture<?> third = CompletableFuture.runAsync(() -> underTest.send("schedule-3", "event-3"));
+
+        // When
+        sends.get(0).complete(null);
+
+        // Then
+        assertThat(third).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(sends).hasSize(3);
+    }
+
+    @Test
+    void GivenFullWindowThatDoesNotDrain_WhenSend_ThenThrowsAfterSendTimeout() {
+        // Given
+        underTest.send("schedule-1", "event-1");
+        underTest.send("schedule-2", "event-2");
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.send("schedule-3", "event-3"))
+                .isInstanceOf(KafkaException.class);
+
+        assertThat(sends).hasSize(2);
+    }
+
+    @Test
+    void GivenFailedSend_WhenFlush_ThenThrowsOnceAndRecordsFailure() {
+        // Given
+        RuntimeException ex = new IllegalStateException("broker unavailable");
+        underTest.send("schedule-1", "event-1");
+        underTest.send("schedule-2", "event-2");
+
+        sends.get(0).complete(null);
+        sends.get(1).completeExceptionally(ex);
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.flush())
+                .isInstanceOf(KafkaException.class)
+                .hasCause(ex);
+
+        underTest.flush();
+
+        verify(kafkaTemplate).flush();
+        assertThat(meterRegistry.get(BoundedKafkaSender.SEND_METRIC).tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(BoundedKafkaSender.SEND_METRIC).tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GivenSendOfAnotherThreadFailed_WhenFlush_ThenDoesNotThrow() {
+        // Given
+        CompletableFuture.runAsync(() -> underTest.send("schedule-1", "event-1")).join();
+        underTest.send("schedule-2", "event-2");
+
+        sends.get(0).completeExceptionally(new IllegalStateException("broker unavailable"));
+        sends.get(1).complete(null);
+
+        // When & Then
+        underTest.flush();
+
+        assertThat(meterRegistry.get(BoundedKafkaSender.SEND_METRIC).tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GivenSendNotCompletedInTime_WhenFlush_ThenThrows() {
+        // Given
+        underTest.send("schedule-1", "event-1");
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.flush())
+                .isInstanceOf(KafkaException.class);
+
+        assertThat(meterRegistry.get(BoundedKafkaSender.PENDING_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.github.karixdev.scheduleservice.application.command;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record RecordScheduleFetchCommand(
+        UUID scheduleId,
+        boolean changed,
+        Instant fetchedAt,
+        Duration fetchLatency
+) {}
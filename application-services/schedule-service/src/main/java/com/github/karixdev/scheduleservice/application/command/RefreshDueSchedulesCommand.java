@@ -0,0 +1,5 @@
+package com.github.karixdev.scheduleservice.application.command;
+
+import java.time.Instant;
+
+public record RefreshDueSchedulesCommand(Instant now, int batchSize) {}
@@ -2,6 +2,7 @@ package com.github.karixdev.scheduleservice.application.command.handler;
 
 import com.github.karixdev.scheduleservice.application.command.CreateScheduleCommand;
 import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
@@ -46,11 +47,13 @@ public class CreateScheduleCommandHandler implements CommandHandler<CreateSchedu
 
         ScheduleEvent event = ScheduleEvent.builder()
                 .type(EventType.CREATE)
+                .priority(EventPriority.HIGH)
                 .scheduleId(schedule.getId().toString())
                 .entity(schedule)
                 .build();
 
         producer.produce(event);
+        producer.flush();
     }
 
 }
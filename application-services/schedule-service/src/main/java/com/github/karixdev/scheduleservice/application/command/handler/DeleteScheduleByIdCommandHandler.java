@@ -2,11 +2,13 @@ package com.github.karixdev.scheduleservice.application.command.handler;
 
 import com.github.karixdev.scheduleservice.application.command.DeleteScheduleByIdCommand;
 import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
 import com.github.karixdev.scheduleservice.application.exception.ScheduleWithIdNotFoundException;
 import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
 import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,6 +20,7 @@ import java.util.Optional;
 public class DeleteScheduleByIdCommandHandler implements CommandHandler<DeleteScheduleByIdCommand> {
 
     private final ScheduleRepository repository;
+    private final ScheduleRefreshRepository refreshRepository;
     private final TransactionManager transactionManager;
     private final EventProducer<ScheduleEvent> producer;
 
@@ -29,15 +32,22 @@ public class DeleteScheduleByIdCommandHandler implements CommandHandler<DeleteSc
         }
 
         Schedule schedule = optionalSchedule.get();
-        transactionManager.execute(() -> repository.delete(schedule));
+        transactionManager.execute(() -> {
+            refreshRepository.deleteByScheduleId(schedule.getId());
+            repository.delete(schedule);
+        });
 
+        // course-service consumes deletions from the normal lane only, and a deletion must not overtake the refreshes
+        // of the schedule that are still queued there
         ScheduleEvent scheduleEvent = ScheduleEvent.builder()
                 .type(EventType.DELETE)
+                .priority(EventPriority.NORMAL)
                 .scheduleId(schedule.getId().toString())
                 .entity(schedule)
                 .build();
 
         producer.produce(scheduleEvent);
+        producer.flush();
     }
 
 }
@@ -0,0 +1,54 @@
+package com.github.karixdev.scheduleservice.application.command.handler;
+
+import com.github.karixdev.scheduleservice.application.command.RecordScheduleFetchCommand;
+import com.github.karixdev.scheduleservice.application.refresh.AdaptiveRefreshPolicy;
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecordScheduleFetchCommandHandler implements CommandHandler<RecordScheduleFetchCommand> {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleRefreshRepository refreshRepository;
+    private final AdaptiveRefreshPolicy refreshPolicy;
+
+    @Override
+    public void handle(RecordScheduleFetchCommand command) {
+        if (scheduleRepository.findById(command.scheduleId()).isEmpty()) {
+            log.info("Ignoring fetch of schedule {} because it no longer exists", command.scheduleId());
+            return;
+        }
+
+        Optional<ScheduleRefresh> previous = refreshRepository.findByScheduleId(command.scheduleId());
+        if (previous.isPresent() && previous.get().getLastFetchedAt() != null
+                && !command.fetchedAt().isAfter(previous.get().getLastFetchedAt())) {
+            log.info("Ignoring fetch of schedule {} because a later one is already recorded", command.scheduleId());
+            return;
+        }
+
+        Duration interval = refreshPolicy.nextInterval(previous, command.changed());
+
+        ScheduleRefresh refresh = ScheduleRefresh.builder()
+                .scheduleId(command.scheduleId())
+                .lastFetchedAt(command.fetchedAt())
+                .lastChangedAt(command.changed()
+                        ? command.fetchedAt()
+                        : previous.map(ScheduleRefresh::getLastChangedAt).orElse(null))
+                .fetchLatency(command.fetchLatency())
+                .refreshInterval(interval)
+                .nextRefreshAt(refreshPolicy.nextRefreshAt(command.fetchedAt(), interval))
+                .build();
+
+        refreshRepository.save(refresh);
+    }
+
+}
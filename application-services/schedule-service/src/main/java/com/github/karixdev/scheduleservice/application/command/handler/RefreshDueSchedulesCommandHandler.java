@@ -0,0 +1,96 @@
+package com.github.karixdev.scheduleservice.application.command.handler;
+
+import com.github.karixdev.scheduleservice.application.command.RefreshDueSchedulesCommand;
+import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
+import com.github.karixdev.scheduleservice.application.event.EventType;
+import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
+import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
+import com.github.karixdev.scheduleservice.application.refresh.AdaptiveRefreshPolicy;
+import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Publishes a refresh of every schedule that is due, the ones never fetched included. A schedule is leased for its
+ * current interval before its refresh is published: it is not due again until then, unless the outcome of its fetch
+ * plans it otherwise. The lease only moves the next refresh of a schedule that is still due, so that it never
+ * overwrites a fetch recorded in the meantime, and a schedule whose lease is not taken is not published.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshDueSchedulesCommandHandler implements CommandHandler<RefreshDueSchedulesCommand> {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleRefreshRepository refreshRepository;
+    private final EventProducer<ScheduleEvent> eventProducer;
+    private final AdaptiveRefreshPolicy refreshPolicy;
+    private final TransactionManager transactionManager;
+
+    @Override
+    public void handle(RefreshDueSchedulesCommand command) {
+        List<Schedule> dueSchedules;
+        do {
+            dueSchedules = scheduleRepository.findDueForRefresh(command.now(), command.batchSize());
+            if (dueSchedules.isEmpty()) {
+                return;
+            }
+
+            lease(dueSchedules, command).forEach(schedule -> eventProducer.produce(ScheduleEvent.builder()
+                    .type(EventType.CREATE)
+                    .priority(EventPriority.NORMAL)
+                    .scheduleId(schedule.getId().toString())
+                    .entity(schedule)
+                    .build()));
+            eventProducer.flush();
+        } while (dueSchedules.size() == command.batchSize());
+    }
+
+    /**
+     * @return schedules leased by this run
+     */
+    private List<Schedule> lease(List<Schedule> schedules, RefreshDueSchedulesCommand command) {
+        List<UUID> ids = schedules.stream()
+                .map(Schedule::getId)
+                .toList();
+        Map<UUID, ScheduleRefresh> refreshes = refreshRepository.findByScheduleIds(ids)
+                .stream()
+                .collect(Collectors.toMap(ScheduleRefresh::getScheduleId, Function.identity()));
+
+        List<Schedule> leased = new ArrayList<>(schedules.size());
+        transactionManager.execute(() -> schedules.forEach(schedule -> {
+            ScheduleRefresh refresh = refreshes.get(schedule.getId());
+
+            if (refresh == null) {
+                refreshRepository.save(ScheduleRefresh.builder()
+                        .scheduleId(schedule.getId())
+                        .nextRefreshAt(refreshPolicy.nextRefreshAt(command.now(), refreshPolicy.initialInterval()))
+                        .build());
+                leased.add(schedule);
+                return;
+            }
+
+            Duration interval = refresh.getRefreshInterval() != null
+                    ? refresh.getRefreshInterval()
+                    : refreshPolicy.initialInterval();
+
+            if (refreshRepository.leaseIfDue(schedule.getId(), command.now(), refreshPolicy.nextRefreshAt(command.now(), interval))) {
+                leased.add(schedule);
+            }
+        }));
+
+        return leased;
+    }
+
+}
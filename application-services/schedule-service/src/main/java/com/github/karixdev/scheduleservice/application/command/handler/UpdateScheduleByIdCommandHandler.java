@@ -2,6 +2,7 @@ package com.github.karixdev.scheduleservice.application.command.handler;
 
 import com.github.karixdev.scheduleservice.application.command.UpdateScheduleByIdCommand;
 import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
@@ -61,11 +62,13 @@ public class UpdateScheduleByIdCommandHandler implements CommandHandler<UpdateSc
         if (shouldProduceEvent) {
             ScheduleEvent event = ScheduleEvent.builder()
                     .type(EventType.UPDATE)
+                    .priority(EventPriority.HIGH)
                     .scheduleId(schedule.getId().toString())
                     .entity(schedule)
                     .build();
 
             producer.produce(event);
+            producer.flush();
         }
     }
 
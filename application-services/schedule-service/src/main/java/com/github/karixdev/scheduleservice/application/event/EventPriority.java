@@ -0,0 +1,9 @@
+package com.github.karixdev.scheduleservice.application.event;
+
+/**
+ * Lane a schedule event travels in. Changes made by an admin go {@link #HIGH}, ahead of the bulk refreshes.
+ */
+public enum EventPriority {
+    HIGH,
+    NORMAL
+}
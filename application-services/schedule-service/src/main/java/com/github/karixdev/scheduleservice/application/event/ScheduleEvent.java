@@ -6,6 +6,7 @@ import lombok.Builder;
 @Builder
 public record ScheduleEvent(
         EventType type,
+        EventPriority priority,
         String scheduleId,
         Schedule entity
 ) {}
@@ -0,0 +1,13 @@
+package com.github.karixdev.scheduleservice.application.event;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record ScheduleFetchEvent(
+        String scheduleId,
+        boolean changed,
+        Instant fetchedAt,
+        long fetchLatencyMillis
+) {}
@@ -0,0 +1,77 @@
+package com.github.karixdev.scheduleservice.application.refresh;
+
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plans when a schedule is refreshed next from what its fetches found. A changed page shrinks the interval, so that
+ * a volatile schedule is polled often, an unchanged one grows it, so that a stable schedule is polled rarely. The
+ * interval stays within the configured bounds, and the refresh time is jittered so that schedules fetched together
+ * drift apart instead of coming due at once.
+ */
+@Component
+public class AdaptiveRefreshPolicy {
+
+    private final Duration initialInterval;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final double changedMultiplier;
+    private final double unchangedMultiplier;
+    private final double jitter;
+
+    public AdaptiveRefreshPolicy(
+            @Value("${schedule.refresh.interval.initial}") Duration initialInterval,
+            @Value("${schedule.refresh.interval.min}") Duration minInterval,
+            @Value("${schedule.refresh.interval.max}") Duration maxInterval,
+            @Value("${schedule.refresh.changed-multiplier}") double changedMultiplier,
+            @Value("${schedule.refresh.unchanged-multiplier}") double unchangedMultiplier,
+            @Value("${schedule.refresh.jitter}") double jitter
+    ) {
+        this.initialInterval = initialInterval;
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.changedMultiplier = changedMultiplier;
+        this.unchangedMultiplier = unchangedMultiplier;
+        this.jitter = jitter;
+    }
+
+    public Duration initialInterval() {
+        return initialInterval;
+    }
+
+    public Duration nextInterval(Optional<ScheduleRefresh> previous, boolean changed) {
+        // the first fetch of a schedule has nothing to compare with, its page always counts as changed
+        if (previous.isEmpty() || previous.get().getRefreshInterval() == null) {
+            return initialInterval;
+        }
+
+        Duration interval = scale(previous.get().getRefreshInterval(), changed ? changedMultiplier : unchangedMultiplier);
+        if (interval.compareTo(minInterval) < 0) {
+            return minInterval;
+        }
+        if (interval.compareTo(maxInterval) > 0) {
+            return maxInterval;
+        }
+        return interval;
+    }
+
+    public Instant nextRefreshAt(Instant from, Duration interval) {
+        if (jitter <= 0) {
+            return from.plus(interval);
+        }
+
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return from.plus(scale(interval, factor));
+    }
+
+    private static Duration scale(Duration duration, double factor) {
+        return Duration.ofMillis(Math.round(duration.toMillis() * factor));
+    }
+
+}
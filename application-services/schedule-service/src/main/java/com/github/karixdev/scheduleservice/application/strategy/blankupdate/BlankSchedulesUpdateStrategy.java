@@ -1,5 +1,6 @@
 package com.github.karixdev.scheduleservice.application.strategy.blankupdate;
 
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
@@ -21,12 +22,16 @@ public abstract class BlankSchedulesUpdateStrategy {
         schedules.forEach(schedule -> {
             ScheduleEvent event = ScheduleEvent.builder()
                     .type(EventType.CREATE)
+                    .priority(EventPriority.NORMAL)
                     .scheduleId(schedule.getId().toString())
                     .entity(schedule)
                     .build();
 
             eventProducer.produce(event);
         });
+
+        // events of a page are sent without waiting for each other, the next page is read once they are acknowledged
+        eventProducer.flush();
     }
 
 }
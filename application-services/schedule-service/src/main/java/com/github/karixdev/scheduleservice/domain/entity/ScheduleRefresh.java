@@ -0,0 +1,39 @@
+package com.github.karixdev.scheduleservice.domain.entity;
+
+import lombok.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleRefresh {
+
+    private UUID scheduleId;
+
+    private Instant lastFetchedAt;
+    private Instant lastChangedAt;
+    private Duration fetchLatency;
+
+    private Duration refreshInterval;
+    private Instant nextRefreshAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ScheduleRefresh that = (ScheduleRefresh) o;
+        return scheduleId != null && Objects.equals(scheduleId, that.scheduleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scheduleId);
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.github.karixdev.scheduleservice.domain.repository;
+
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ScheduleRefreshRepository {
+
+    void save(ScheduleRefresh refresh);
+    void deleteByScheduleId(UUID scheduleId);
+
+    /**
+     * Moves the next refresh of the schedule to {@code nextRefreshAt} unless it is no longer due at {@code now},
+     * leaving every other field as it is.
+     *
+     * @return whether the schedule was due and is leased now
+     */
+    boolean leaseIfDue(UUID scheduleId, Instant now, Instant nextRefreshAt);
+
+    Optional<ScheduleRefresh> findByScheduleId(UUID scheduleId);
+    List<ScheduleRefresh> findByScheduleIds(List<UUID> scheduleIds);
+}
@@ -5,6 +5,7 @@ import com.github.karixdev.scheduleservice.application.pagination.Page;
 import com.github.karixdev.scheduleservice.application.pagination.PageRequest;
 import com.github.karixdev.scheduleservice.domain.entity.Schedule;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,4 +26,5 @@ public interface ScheduleRepository {
     List<Schedule> findByMajorAndSemester(String major, Integer group);
     List<String> findUniqueMajorsOrderedAlphabetically();
     List<Integer> findSemestersByMajorOrderAsc(String major);
+    List<Schedule> findDueForRefresh(Instant now, int limit);
 }
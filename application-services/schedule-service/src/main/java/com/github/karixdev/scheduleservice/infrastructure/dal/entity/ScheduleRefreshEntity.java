@@ -0,0 +1,62 @@
+package com.github.karixdev.scheduleservice.infrastructure.dal.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+@Entity(name = "ScheduleRefresh")
+@Table(
+        name = "schedule_refresh",
+        indexes = {
+                @Index(
+                        name = "schedule_refresh_next_refresh_at_idx",
+                        columnList = "next_refresh_at"
+                )
+        }
+)
+@Getter
+@Setter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class ScheduleRefreshEntity {
+
+    @Id
+    @Column(name = "schedule_id")
+    private UUID scheduleId;
+
+    @Column(name = "last_fetched_at")
+    private Instant lastFetchedAt;
+
+    @Column(name = "last_changed_at")
+    private Instant lastChangedAt;
+
+    @Column(name = "fetch_latency_ms")
+    private Long fetchLatencyMs;
+
+    @Column(name = "refresh_interval_ms")
+    private Long refreshIntervalMs;
+
+    @Column(
+            name = "next_refresh_at",
+            nullable = false
+    )
+    private Instant nextRefreshAt;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ScheduleRefreshEntity that = (ScheduleRefreshEntity) o;
+        return scheduleId != null && Objects.equals(scheduleId, that.scheduleId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(scheduleId);
+    }
+}
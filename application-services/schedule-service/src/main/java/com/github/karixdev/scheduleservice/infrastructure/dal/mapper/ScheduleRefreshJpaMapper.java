@@ -0,0 +1,42 @@
+package com.github.karixdev.scheduleservice.infrastructure.dal.mapper;
+
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import com.github.karixdev.scheduleservice.infrastructure.dal.entity.ScheduleRefreshEntity;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class ScheduleRefreshJpaMapper {
+
+    public ScheduleRefreshEntity toJpaEntity(ScheduleRefresh domainRefresh) {
+        return ScheduleRefreshEntity.builder()
+                .scheduleId(domainRefresh.getScheduleId())
+                .lastFetchedAt(domainRefresh.getLastFetchedAt())
+                .lastChangedAt(domainRefresh.getLastChangedAt())
+                .fetchLatencyMs(toMillis(domainRefresh.getFetchLatency()))
+                .refreshIntervalMs(toMillis(domainRefresh.getRefreshInterval()))
+                .nextRefreshAt(domainRefresh.getNextRefreshAt())
+                .build();
+    }
+
+    public ScheduleRefresh toDomainEntity(ScheduleRefreshEntity jpaRefresh) {
+        return ScheduleRefresh.builder()
+                .scheduleId(jpaRefresh.getScheduleId())
+                .lastFetchedAt(jpaRefresh.getLastFetchedAt())
+                .lastChangedAt(jpaRefresh.getLastChangedAt())
+                .fetchLatency(toDuration(jpaRefresh.getFetchLatencyMs()))
+                .refreshInterval(toDuration(jpaRefresh.getRefreshIntervalMs()))
+                .nextRefreshAt(jpaRefresh.getNextRefreshAt())
+                .build();
+    }
+
+    private static Long toMillis(Duration duration) {
+        return duration != null ? duration.toMillis() : null;
+    }
+
+    private static Duration toDuration(Long millis) {
+        return millis != null ? Duration.ofMillis(millis) : null;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.github.karixdev.scheduleservice.infrastructure.dal.repository;
+
+import com.github.karixdev.scheduleservice.infrastructure.dal.entity.ScheduleRefreshEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface JpaScheduleRefreshRepository extends JpaRepository<ScheduleRefreshEntity, UUID> {
+
+    @Modifying
+    @Query("""
+            UPDATE ScheduleRefresh refresh
+            SET refresh.nextRefreshAt = :nextRefreshAt
+            WHERE refresh.scheduleId = :scheduleId
+            AND refresh.nextRefreshAt <= :now
+            """)
+    int updateNextRefreshAtIfDue(
+            @Param("scheduleId") UUID scheduleId,
+            @Param("now") Instant now,
+            @Param("nextRefreshAt") Instant nextRefreshAt
+    );
+
+}
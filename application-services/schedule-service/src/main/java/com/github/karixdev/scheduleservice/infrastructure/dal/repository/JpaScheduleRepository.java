@@ -13,6 +13,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -55,6 +56,16 @@ public interface JpaScheduleRepository extends JpaRepository<ScheduleEntity, UUI
             @Param("semester") Integer semester
     );
 
+    @Query("""
+            SELECT schedule
+            FROM Schedule schedule
+            LEFT JOIN ScheduleRefresh refresh ON refresh.scheduleId = schedule.id
+            WHERE refresh.scheduleId IS NULL
+            OR refresh.nextRefreshAt <= :now
+            ORDER BY refresh.nextRefreshAt ASC NULLS FIRST
+            """)
+    List<ScheduleEntity> findDueForRefresh(@Param("now") Instant now, Pageable pageable);
+
 
     default Page<ScheduleEntity> findByFilterAndPaginate(ScheduleFilter filter, PageRequest pageRequest) {
         PlanPolslDataFilter planPolslFilter = filter.planPolslDataFilter();
@@ -0,0 +1,49 @@
+package com.github.karixdev.scheduleservice.infrastructure.dal.repository;
+
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
+import com.github.karixdev.scheduleservice.infrastructure.dal.mapper.ScheduleRefreshJpaMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleRefreshRepositoryJpaAdapter implements ScheduleRefreshRepository {
+
+    private final JpaScheduleRefreshRepository jpaRepository;
+    private final ScheduleRefreshJpaMapper entityMapper;
+
+    @Override
+    public void save(ScheduleRefresh refresh) {
+        jpaRepository.save(entityMapper.toJpaEntity(refresh));
+    }
+
+    @Override
+    public void deleteByScheduleId(UUID scheduleId) {
+        jpaRepository.findById(scheduleId).ifPresent(jpaRepository::delete);
+    }
+
+    @Override
+    public boolean leaseIfDue(UUID scheduleId, Instant now, Instant nextRefreshAt) {
+        return jpaRepository.updateNextRefreshAtIfDue(scheduleId, now, nextRefreshAt) > 0;
+    }
+
+    @Override
+    public Optional<ScheduleRefresh> findByScheduleId(UUID scheduleId) {
+        return jpaRepository.findById(scheduleId).map(entityMapper::toDomainEntity);
+    }
+
+    @Override
+    public List<ScheduleRefresh> findByScheduleIds(List<UUID> scheduleIds) {
+        return jpaRepository.findAllById(scheduleIds)
+                .stream()
+                .map(entityMapper::toDomainEntity)
+                .toList();
+    }
+
+}
@@ -10,6 +10,7 @@ import com.github.karixdev.scheduleservice.infrastructure.dal.mapper.ScheduleJpa
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -88,4 +89,13 @@ public class ScheduleRepositoryJpaAdapter implements ScheduleRepository {
         return jpaRepository.findSemestersByMajorOrderAsc(major);
     }
 
+    @Override
+    public List<Schedule> findDueForRefresh(Instant now, int limit) {
+        var jpaPageRequest = org.springframework.data.domain.PageRequest.of(0, limit);
+        return jpaRepository.findDueForRefresh(now, jpaPageRequest)
+                .stream()
+                .map(entityMapper::toDomainEntity)
+                .toList();
+    }
+
 }
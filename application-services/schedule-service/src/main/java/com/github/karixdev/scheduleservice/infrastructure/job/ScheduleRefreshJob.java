@@ -0,0 +1,34 @@
+package com.github.karixdev.scheduleservice.infrastructure.job;
+
+import com.github.karixdev.scheduleservice.application.command.RefreshDueSchedulesCommand;
+import com.github.karixdev.scheduleservice.application.command.handler.CommandHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+public class ScheduleRefreshJob {
+
+    private final CommandHandler<RefreshDueSchedulesCommand> refreshDueSchedulesCommandHandler;
+    private final int batchSize;
+
+    public ScheduleRefreshJob(
+            CommandHandler<RefreshDueSchedulesCommand> refreshDueSchedulesCommandHandler,
+            @Value("${schedule.refresh.batch-size}") int batchSize
+    ) {
+        this.refreshDueSchedulesCommandHandler = refreshDueSchedulesCommandHandler;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${schedule.refresh.initial-delay}",
+            fixedDelayString = "${schedule.refresh.dispatch-interval}"
+    )
+    private void refreshDueSchedules() {
+        RefreshDueSchedulesCommand command = new RefreshDueSchedulesCommand(Instant.now(), batchSize);
+        refreshDueSchedulesCommandHandler.handle(command);
+    }
+
+}
@@ -1,17 +1,37 @@
 package com.github.karixdev.scheduleservice.infrastructure.kafka;
 
+import com.github.karixdev.contracts.codec.ContractDeserializer;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.contracts.codec.EventEncoding;
+import com.github.karixdev.kafkasupport.producer.BoundedKafkaSender;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
+import com.github.karixdev.scheduleservice.application.event.ScheduleFetchEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
+import com.github.karixdev.scheduleservice.infrastructure.kafka.mapper.ScheduleEventContractMapper;
+import com.github.karixdev.scheduleservice.infrastructure.kafka.mapper.ScheduleFetchEventContractMapper;
 import com.github.karixdev.scheduleservice.infrastructure.kafka.producer.ScheduleEventProducer;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
 import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
 
 @Configuration
 public class KafkaConfig {
@@ -19,10 +39,15 @@ public class KafkaConfig {
 	@Bean
 	ProducerFactory<String, ScheduleEvent> scheduleEventProducerFactory(
 			KafkaProperties properties,
-			MeterRegistry meterRegistry
+			MeterRegistry meterRegistry,
+			ScheduleEventContractMapper mapper,
+			@Value("${kafka.producer.encoding}") EventEncoding encoding
 	) {
-		ProducerFactory<String, ScheduleEvent> factory =
-				new DefaultKafkaProducerFactory<>(properties.buildProducerProperties());
+		ProducerFactory<String, ScheduleEvent> factory = new DefaultKafkaProducerFactory<>(
+				properties.buildProducerProperties(),
+				new StringSerializer(),
+				scheduleEventSerializer(encoding, mapper)
+		);
 		factory.addListener(new MicrometerProducerListener<>(meterRegistry));
 
 		return factory;
@@ -42,17 +67,80 @@ public class KafkaConfig {
 	EventProducer<ScheduleEvent> kafkaScheduleEventProducer(
 			KafkaProperties properties,
 			MeterRegistry meterRegistry,
+			ScheduleEventContractMapper mapper,
+			@Value("${kafka.producer.encoding}") EventEncoding encoding,
 			@Value("${kafka.observation.producer.enabled}") Boolean isObservationEnabled,
-			@Value("${kafka.topics.schedule-event}") String topic
+			@Value("${kafka.topics.schedule-event}") String topic,
+			@Value("${kafka.topics.schedule-event-priority}") String priorityTopic,
+			@Value("${kafka.producer.max-in-flight}") int maxInFlight,
+			@Value("${kafka.producer.send-timeout}") Duration sendTimeout
 	) {
-		ProducerFactory<String, ScheduleEvent> factory =
-				new DefaultKafkaProducerFactory<>(properties.buildProducerProperties());
+		ProducerFactory<String, ScheduleEvent> factory = new DefaultKafkaProducerFactory<>(
+				properties.buildProducerProperties(),
+				new StringSerializer(),
+				scheduleEventSerializer(encoding, mapper)
+		);
 		factory.addListener(new MicrometerProducerListener<>(meterRegistry));
 
 		KafkaTemplate<String, ScheduleEvent> kafkaTemplate = new KafkaTemplate<>(factory);
 		kafkaTemplate.setObservationEnabled(isObservationEnabled);
 
-		return new ScheduleEventProducer(kafkaTemplate, topic);
+		return new ScheduleEventProducer(
+				new BoundedKafkaSender<>(kafkaTemplate, topic, maxInFlight, sendTimeout, meterRegistry),
+				new BoundedKafkaSender<>(kafkaTemplate, priorityTopic, maxInFlight, sendTimeout, meterRegistry)
+		);
+	}
+
+	@Bean
+	ConsumerFactory<String, ScheduleFetchEvent> scheduleFetchEventConsumerFactory(
+			KafkaProperties properties,
+			MeterRegistry meterRegistry,
+			ScheduleFetchEventContractMapper mapper
+	) {
+		ConsumerFactory<String, ScheduleFetchEvent> factory = new DefaultKafkaConsumerFactory<>(
+				properties.buildConsumerProperties(),
+				new StringDeserializer(),
+				new ContractDeserializer<>(
+						com.github.karixdev.contracts.schedule.ScheduleFetchEvent.class,
+						mapper::toEvent,
+						new JsonDeserializer<>(ScheduleFetchEvent.class, false)
+				)
+		);
+		factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+
+		return factory;
+	}
+
+	@Bean
+	ConcurrentKafkaListenerContainerFactory<String, ScheduleFetchEvent> scheduleFetchEventConcurrentKafkaListenerContainerFactory(
+			ConsumerFactory<String, ScheduleFetchEvent> consumerFactory,
+			@Value("${kafka.config.back-off.interval}") Long interval,
+			@Value("${kafka.config.back-off.max-attempts}") Long maxAttempts,
+			@Value("${kafka.observation.consumer.enabled}") Boolean isObservationEnabled
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ScheduleFetchEvent> factory =
+				new ConcurrentKafkaListenerContainerFactory<>();
+
+		factory.setConsumerFactory(consumerFactory);
+		// fetch outcomes are not dead-lettered, the lease taken when dispatching refreshes a schedule whose outcome
+		// could not be recorded
+		factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(interval, maxAttempts)));
+		factory.getContainerProperties().setObservationEnabled(isObservationEnabled);
+
+		return factory;
+	}
+
+	private static Serializer<ScheduleEvent> scheduleEventSerializer(
+			EventEncoding encoding,
+			ScheduleEventContractMapper mapper
+	) {
+		return switch (encoding) {
+			case AVRO -> new ContractSerializer<>(
+					com.github.karixdev.contracts.schedule.ScheduleEvent.class,
+					mapper::toContract
+			);
+			case JSON -> new JsonSerializer<ScheduleEvent>().noTypeInfo();
+		};
 	}
 
 }
@@ -0,0 +1,38 @@
+package com.github.karixdev.scheduleservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.scheduleservice.application.command.RecordScheduleFetchCommand;
+import com.github.karixdev.scheduleservice.application.command.handler.CommandHandler;
+import com.github.karixdev.scheduleservice.application.event.ScheduleFetchEvent;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class ScheduleFetchEventConsumer {
+
+    private final CommandHandler<RecordScheduleFetchCommand> recordScheduleFetchCommandHandler;
+
+    @KafkaListener(
+            topics = "${kafka.topics.schedule-fetch}",
+            groupId = "${spring.application.name}",
+            containerFactory = "scheduleFetchEventConcurrentKafkaListenerContainerFactory"
+    )
+    public void consume(ConsumerRecord<String, ScheduleFetchEvent> consumerRecord) {
+        ScheduleFetchEvent event = consumerRecord.value();
+
+        RecordScheduleFetchCommand command = RecordScheduleFetchCommand.builder()
+                .scheduleId(UUID.fromString(event.scheduleId()))
+                .changed(event.changed())
+                .fetchedAt(event.fetchedAt())
+                .fetchLatency(Duration.ofMillis(event.fetchLatencyMillis()))
+                .build();
+
+        recordScheduleFetchCommandHandler.handle(command);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.github.karixdev.scheduleservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
+import com.github.karixdev.scheduleservice.domain.entity.PlanPolslData;
+import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduleEventContractMapper {
+
+    public com.github.karixdev.contracts.schedule.ScheduleEvent toContract(ScheduleEvent event) {
+        return com.github.karixdev.contracts.schedule.ScheduleEvent.newBuilder()
+                .setScheduleId(event.scheduleId())
+                .setType(com.github.karixdev.contracts.schedule.EventType.valueOf(event.type().name()))
+                .setPriority(com.github.karixdev.contracts.schedule.EventPriority.valueOf(event.priority().name()))
+                .setEntity(event.entity() == null ? null : toContract(event.entity()))
+                .build();
+    }
+
+    private com.github.karixdev.contracts.schedule.Schedule toContract(Schedule schedule) {
+        PlanPolslData planPolslData = schedule.getPlanPolslData();
+
+        return com.github.karixdev.contracts.schedule.Schedule.newBuilder()
+                .setId(schedule.getId().toString())
+                .setMajor(schedule.getMajor())
+                .setSemester(schedule.getSemester())
+                .setGroupNumber(schedule.getGroupNumber())
+                .setPlanPolslData(planPolslData == null ? null : com.github.karixdev.contracts.schedule.PlanPolslData.newBuilder()
+                        .setId(planPolslData.getId())
+                        .setType(planPolslData.getType())
+                        .setWeekDays(planPolslData.getWeekDays())
+                        .build())
+                .build();
+    }
+
+}
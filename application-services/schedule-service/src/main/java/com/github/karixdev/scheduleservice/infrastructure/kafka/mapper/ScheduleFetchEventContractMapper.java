@@ -0,0 +1,18 @@
+package com.github.karixdev.scheduleservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.scheduleservice.application.event.ScheduleFetchEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduleFetchEventContractMapper {
+
+    public ScheduleFetchEvent toEvent(com.github.karixdev.contracts.schedule.ScheduleFetchEvent contract) {
+        return ScheduleFetchEvent.builder()
+                .scheduleId(contract.getScheduleId())
+                .changed(contract.getChanged())
+                .fetchedAt(contract.getFetchedAt())
+                .fetchLatencyMillis(contract.getFetchLatencyMillis())
+                .build();
+    }
+
+}
@@ -1,19 +1,27 @@
 package com.github.karixdev.scheduleservice.infrastructure.kafka.producer;
 
+import com.github.karixdev.kafkasupport.producer.BoundedKafkaSender;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 
 @RequiredArgsConstructor
 public class ScheduleEventProducer implements EventProducer<ScheduleEvent> {
 
-    private final KafkaTemplate<String, ScheduleEvent> kafkaTemplate;
-    private final String topic;
+    private final BoundedKafkaSender<ScheduleEvent> sender;
+    private final BoundedKafkaSender<ScheduleEvent> prioritySender;
 
     @Override
     public void produce(ScheduleEvent event) {
-        kafkaTemplate.send(topic, event.scheduleId(), event);
+        BoundedKafkaSender<ScheduleEvent> laneSender = event.priority() == EventPriority.HIGH ? prioritySender : sender;
+        laneSender.send(event.scheduleId(), event);
+    }
+
+    @Override
+    public void flush() {
+        prioritySender.flush();
+        sender.flush();
     }
 
 }
@@ -3,6 +3,7 @@ package com.github.karixdev.scheduleservice.application.command.handler;
 import com.github.karixdev.scheduleservice.application.command.CreateScheduleCommand;
 import com.github.karixdev.scheduleservice.application.dal.TransactionCallback;
 import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
@@ -22,6 +23,8 @@ import java.util.Optional;
 
 import static com.github.karixdev.scheduleservice.matcher.ScheduleNonIdArgumentMatcher.scheduleNonIdEq;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -104,11 +107,34 @@ class CreateScheduleCommandHandlerTest {
         verify(repository).save(scheduleCaptor.capture());
         ScheduleEvent expectedEvent = ScheduleEvent.builder()
                 .type(EventType.CREATE)
+                .priority(EventPriority.HIGH)
                 .scheduleId(scheduleCaptor.getValue().getId().toString())
                 .entity(scheduleCaptor.getValue())
                 .build();
 
         verify(producer).produce(expectedEvent);
+        verify(producer).flush();
+    }
+
+    @Test
+    void GivenEventThatCouldNotBeProduced_WhenHandle_ThenThrowsProducerException() {
+        // Given
+        CreateScheduleCommand command = CreateScheduleCommand.builder()
+                .type(0)
+                .planPolslId(1)
+                .semester(2)
+                .groupNumber(3)
+                .weekDays(4)
+                .major("schedule")
+                .build();
+
+        RuntimeException exception = new RuntimeException("send failed");
+        doThrow(exception).when(producer).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.handle(command))
+                .isSameAs(exception);
+        verify(producer).produce(any());
     }
 
 }
\ No newline at end of file
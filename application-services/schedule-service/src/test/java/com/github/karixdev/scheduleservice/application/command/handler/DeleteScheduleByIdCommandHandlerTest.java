@@ -3,12 +3,14 @@ package com.github.karixdev.scheduleservice.application.command.handler;
 import com.github.karixdev.scheduleservice.application.command.DeleteScheduleByIdCommand;
 import com.github.karixdev.scheduleservice.application.dal.TransactionCallback;
 import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
 import com.github.karixdev.scheduleservice.application.exception.ScheduleWithIdNotFoundException;
 import com.github.karixdev.scheduleservice.domain.entity.PlanPolslData;
 import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
 import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,6 +21,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -31,6 +35,9 @@ class DeleteScheduleByIdCommandHandlerTest {
     @Mock
     ScheduleRepository repository;
 
+    @Mock
+    ScheduleRefreshRepository refreshRepository;
+
     @Mock
     TransactionManager transactionManager;
 
@@ -56,7 +63,7 @@ class DeleteScheduleByIdCommandHandlerTest {
     }
 
     @Test
-    void GivenValidCommand_WhenHandle_ThenDeletesScheduleAndProducesEvent() {
+    void GivenValidCommand_WhenHandle_ThenDeletesScheduleWithItsRefreshStateAndProducesEvent() {
         // Given
         UUID id = UUID.randomUUID();
 
@@ -89,15 +96,44 @@ class DeleteScheduleByIdCommandHandlerTest {
         TransactionCallback transactionCallback = transactionCallbackCaptor.getValue();
         transactionCallback.execute();
 
+        verify(refreshRepository).deleteByScheduleId(id);
         verify(repository).delete(schedule);
 
         ScheduleEvent expectedEvent = ScheduleEvent.builder()
                 .type(EventType.DELETE)
+                .priority(EventPriority.NORMAL)
                 .scheduleId(id.toString())
                 .entity(schedule)
                 .build();
 
         verify(producer).produce(expectedEvent);
+        verify(producer).flush();
+    }
+
+    @Test
+    void GivenEventThatCouldNotBeProduced_WhenHandle_ThenThrowsProducerException() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        DeleteScheduleByIdCommand command = DeleteScheduleByIdCommand.builder()
+                .id(id)
+                .build();
+
+        Schedule schedule = Schedule.builder()
+                .id(id)
+                .planPolslData(PlanPolslData.builder().build())
+                .build();
+
+        when(repository.findById(id))
+                .thenReturn(Optional.of(schedule));
+
+        RuntimeException exception = new RuntimeException("send failed");
+        doThrow(exception).when(producer).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.handle(command))
+                .isSameAs(exception);
+        verify(producer).produce(any());
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.github.karixdev.scheduleservice.application.command.handler;
+
+import com.github.karixdev.scheduleservice.application.command.RecordScheduleFetchCommand;
+import com.github.karixdev.scheduleservice.application.refresh.AdaptiveRefreshPolicy;
+import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordScheduleFetchCommandHandlerTest {
+
+    RecordScheduleFetchCommandHandler underTest;
+
+    @Mock
+    ScheduleRepository scheduleRepository;
+
+    @Mock
+    ScheduleRefreshRepository refreshRepository;
+
+    @Captor
+    ArgumentCaptor<ScheduleRefresh> refreshCaptor;
+
+    static final Instant FETCHED_AT = Instant.parse("2023-10-01T12:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        AdaptiveRefreshPolicy refreshPolicy = new AdaptiveRefreshPolicy(
+                Duration.ofHours(1),
+                Duration.ofMinutes(30),
+                Duration.ofHours(12),
+                0.25,
+                1.5,
+                0.0
+        );
+        underTest = new RecordScheduleFetchCommandHandler(scheduleRepository, refreshRepository, refreshPolicy);
+    }
+
+    @Test
+    void GivenFetchOfNotExistingSchedule_WhenHandle_ThenNothingIsSaved() {
+        // Given
+        RecordScheduleFetchCommand command = command(UUID.randomUUID(), true, FETCHED_AT);
+
+        when(scheduleRepository.findById(command.scheduleId()))
+                .thenReturn(Optional.empty());
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        verify(refreshRepository, never()).save(any());
+    }
+
+    @Test
+    void GivenUnchangedFetch_WhenHandle_ThenKeepsLastChangeAndPlansRefreshAfterGrownInterval() {
+        // Given
+        UUID id = UUID.randomUUID();
+        RecordScheduleFetchCommand command = command(id, false, FETCHED_AT);
+
+        Instant lastChangedAt = FETCHED_AT.minus(Duration.ofDays(3));
+        ScheduleRefresh previous = ScheduleRefresh.builder()
+                .scheduleId(id)
+                .lastFetchedAt(FETCHED_AT.minus(Duration.ofHours(2)))
+                .lastChangedAt(lastChangedAt)
+                .refreshInterval(Duration.ofHours(2))
+                .nextRefreshAt(FETCHED_AT)
+                .build();
+
+        when(scheduleRepository.findById(id))
+                .thenReturn(Optional.of(Schedule.builder().id(id).build()));
+        when(refreshRepository.findByScheduleId(id))
+                .thenReturn(Optional.of(previous));
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        verify(refreshRepository).save(refreshCaptor.capture());
+        ScheduleRefresh result = refreshCaptor.getValue();
+
+        assertThat(result.getLastFetchedAt()).isEqualTo(FETCHED_AT);
+        assertThat(result.getLastChangedAt()).isEqualTo(lastChangedAt);
+        assertThat(result.getFetchLatency()).isEqualTo(Duration.ofMillis(250));
+        assertThat(result.getRefreshInterval()).isEqualTo(Duration.ofHours(3));
+        assertThat(result.getNextRefreshAt()).isEqualTo(FETCHED_AT.plus(Duration.ofHours(3)));
+    }
+
+    @Test
+    void GivenChangedFetch_WhenHandle_ThenRecordsChangeAndPlansRefreshAfterShrunkInterval() {
+        // Given
+        UUID id = UUID.randomUUID();
+        RecordScheduleFetchCommand command = command(id, true, FETCHED_AT);
+
+        ScheduleRefresh previous = ScheduleRefresh.builder()
+                .scheduleId(id)
+                .lastFetchedAt(FETCHED_AT.minus(Duration.ofHours(4)))
+                .refreshInterval(Duration.ofHours(4))
+                .nextRefreshAt(FETCHED_AT)
+                .build();
+
+        when(scheduleRepository.findById(id))
+                .thenReturn(Optional.of(Schedule.builder().id(id).build()));
+        when(refreshRepository.findByScheduleId(id))
+                .thenReturn(Optional.of(previous));
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        verify(refreshRepository).save(refreshCaptor.capture());
+        ScheduleRefresh result = refreshCaptor.getValue();
+
+        assertThat(result.getLastChangedAt()).isEqualTo(FETCHED_AT);
+        assertThat(result.getRefreshInterval()).isEqualTo(Duration.ofHours(1));
+        assertThat(result.getNextRefreshAt()).isEqualTo(FETCHED_AT.plus(Duration.ofHours(1)));
+    }
+
+    @Test
+    void GivenFetchOlderThanRecordedOne_WhenHandle_ThenNothingIsSaved() {
+        // Given
+        UUID id = UUID.randomUUID();
+        RecordScheduleFetchCommand command = command(id, true, FETCHED_AT);
+
+        ScheduleRefresh previous = ScheduleRefresh.builder()
+                .scheduleId(id)
+                .lastFetchedAt(FETCHED_AT.plusSeconds(1))
+                .refreshInterval(Duration.ofHours(1))
+                .build();
+
+        when(scheduleRepository.findById(id))
+                .thenReturn(Optional.of(Schedule.builder().id(id).build()));
+        when(refreshRepository.findByScheduleId(id))
+                .thenReturn(Optional.of(previous));
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        verify(refreshRepository, never()).save(any());
+    }
+
+    private static RecordScheduleFetchCommand command(UUID id, boolean changed, Instant fetchedAt) {
+        return RecordScheduleFetchCommand.builder()
+                .scheduleId(id)
+                .changed(changed)
+                .fetchedAt(fetchedAt)
+                .fetchLatency(Duration.ofMillis(250))
+                .build();
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.github.karixdev.scheduleservice.application.command.handler;
+
+import com.github.karixdev.scheduleservice.application.command.RefreshDueSchedulesCommand;
+import com.github.karixdev.scheduleservice.application.dal.TransactionCallback;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
+import com.github.karixdev.scheduleservice.application.event.EventType;
+import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
+import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
+import com.github.karixdev.scheduleservice.application.refresh.AdaptiveRefreshPolicy;
+import com.github.karixdev.scheduleservice.domain.entity.PlanPolslData;
+import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRefreshRepository;
+import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshDueSchedulesCommandHandlerTest {
+
+    RefreshDueSchedulesCommandHandler underTest;
+
+    @Mock
+    ScheduleRepository scheduleRepository;
+
+    @Mock
+    ScheduleRefreshRepository refreshRepository;
+
+    @Mock
+    EventProducer<ScheduleEvent> eventProducer;
+
+    @Captor
+    ArgumentCaptor<ScheduleRefresh> refreshCaptor;
+
+    static final Instant NOW = Instant.parse("2023-10-01T12:00:00Z");
+
+    @BeforeEach
+    void setUp() {
+        AdaptiveRefreshPolicy refreshPolicy = new AdaptiveRefreshPolicy(
+                Duration.ofHours(1),
+                Duration.ofMinutes(30),
+                Duration.ofHours(12),
+                0.25,
+                1.5,
+                0.0
+        );
+        underTest = new RefreshDueSchedulesCommandHandler(
+                scheduleRepository,
+                refreshRepository,
+                eventProducer,
+                refreshPolicy,
+                TransactionCallback::execute
+        );
+    }
+
+    @Test
+    void GivenNoDueSchedules_WhenHandle_ThenNothingIsPublished() {
+        // Given
+        RefreshDueSchedulesCommand command = new RefreshDueSchedulesCommand(NOW, 2);
+
+        when(scheduleRepository.findDueForRefresh(NOW, 2))
+                .thenReturn(List.of());
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        verifyNoInteractions(eventProducer, refreshRepository);
+    }
+
+    @Test
+    void GivenDueSchedules_WhenHandle_ThenLeasesSchedulesAndPublishesEventsBatchByBatch() {
+        // Given
+        RefreshDueSchedulesCommand command = new RefreshDueSchedulesCommand(NOW, 2);
+
+        List<Schedule> schedules = createSchedules(3);
+        Schedule knownSchedule = schedules.get(0);
+        ScheduleRefresh knownRefresh = ScheduleRefresh.builder()
+                .scheduleId(knownSchedule.getId())
+                .refreshInterval(Duration.ofHours(6))
+                .nextRefreshAt(NOW.minusSeconds(60))
+                .build();
+
+        when(scheduleRepository.findDueForRefresh(NOW, 2))
+                .thenReturn(schedules.subList(0, 2))
+                .thenReturn(schedules.subList(2, 3));
+        when(refreshRepository.findByScheduleIds(any()))
+                .thenReturn(List.of(knownRefresh))
+                .thenReturn(List.of());
+        when(refreshRepository.leaseIfDue(knownSchedule.getId(), NOW, NOW.plus(Duration.ofHours(6))))
+                .thenReturn(true);
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        InOrder inOrder = inOrder(eventProducer, refreshRepository);
+        inOrder.verify(refreshRepository).leaseIfDue(any(), any(), any());
+        inOrder.verify(refreshRepository).save(any());
+        inOrder.verify(eventProducer, times(2)).produce(any());
+        inOrder.verify(eventProducer).flush();
+        inOrder.verify(refreshRepository).save(any());
+        inOrder.verify(eventProducer).produce(any());
+        inOrder.verify(eventProducer).flush();
+
+        verify(eventProducer).produce(ScheduleEvent.builder()
+                .type(EventType.CREATE)
+                .priority(EventPriority.NORMAL)
+                .scheduleId(knownSchedule.getId().toString())
+                .entity(knownSchedule)
+                .build());
+
+        verify(refreshRepository, times(2)).save(refreshCaptor.capture());
+        assertThat(refreshCaptor.getAllValues())
+                .extracting(ScheduleRefresh::getScheduleId, ScheduleRefresh::getNextRefreshAt)
+                .containsExactly(
+                        tuple(schedules.get(1).getId(), NOW.plus(Duration.ofHours(1))),
+                        tuple(schedules.get(2).getId(), NOW.plus(Duration.ofHours(1)))
+                );
+    }
+
+    @Test
+    void GivenScheduleNoLongerDueWhenLeased_WhenHandle_ThenItIsNotPublished() {
+        // Given
+        RefreshDueSchedulesCommand command = new RefreshDueSchedulesCommand(NOW, 2);
+
+        Schedule schedule = createSchedules(1).get(0);
+        ScheduleRefresh refresh = ScheduleRefresh.builder()
+                .scheduleId(schedule.getId())
+                .refreshInterval(Duration.ofHours(6))
+                .nextRefreshAt(NOW.minusSeconds(60))
+                .build();
+
+        when(scheduleRepository.findDueForRefresh(NOW, 2))
+                .thenReturn(List.of(schedule));
+        when(refreshRepository.findByScheduleIds(any()))
+                .thenReturn(List.of(refresh));
+        // a fetch recorded in the meantime has already planned its next refresh
+        when(refreshRepository.leaseIfDue(schedule.getId(), NOW, NOW.plus(Duration.ofHours(6))))
+                .thenReturn(false);
+
+        // When
+        underTest.handle(command);
+
+        // Then
+        verify(eventProducer, never()).produce(any());
+        verify(refreshRepository, never()).save(any());
+    }
+
+    private static List<Schedule> createSchedules(int count) {
+        return IntStream.range(0, count).mapToObj(i -> Schedule.builder()
+                .id(UUID.randomUUID())
+                .major("major-" + i)
+                .semester(1)
+                .groupNumber(i)
+                .planPolslData(PlanPolslData.builder()
+                        .id(i)
+                        .type(0)
+                        .weekDays(0)
+                        .build())
+                .build()
+        ).toList();
+    }
+
+}
@@ -4,6 +4,7 @@ import com.github.karixdev.scheduleservice.application.command.CreateScheduleCom
 import com.github.karixdev.scheduleservice.application.command.UpdateScheduleByIdCommand;
 import com.github.karixdev.scheduleservice.application.dal.TransactionCallback;
 import com.github.karixdev.scheduleservice.application.dal.TransactionManager;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.application.event.producer.EventProducer;
@@ -205,6 +206,7 @@ class UpdateScheduleByIdCommandHandlerTest {
         ScheduleEvent expectedEvent = ScheduleEvent.builder()
                 .scheduleId(schedule.getId().toString())
                 .type(EventType.UPDATE)
+                .priority(EventPriority.HIGH)
                 .entity(updatedSchedule)
                 .build();
 
@@ -270,6 +272,7 @@ class UpdateScheduleByIdCommandHandlerTest {
         ScheduleEvent expectedEvent = ScheduleEvent.builder()
                 .scheduleId(schedule.getId().toString())
                 .type(EventType.UPDATE)
+                .priority(EventPriority.HIGH)
                 .entity(updatedSchedule)
                 .build();
 
@@ -287,6 +290,45 @@ class UpdateScheduleByIdCommandHandlerTest {
         verify(repository).save(scheduleWholeEntityEq(updatedSchedule));
 
         verify(producer).produce(expectedEvent);
+        verify(producer).flush();
+    }
+
+    @Test
+    void GivenEventThatCouldNotBeProduced_WhenHandle_ThenThrowsProducerException() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        UpdateScheduleByIdCommand command = UpdateScheduleByIdCommand.builder()
+                .id(id)
+                .semester(1)
+                .major("major")
+                .groupNumber(2)
+                .planPolslId(4)
+                .type(2)
+                .weekDays(3)
+                .build();
+
+        Schedule schedule = Schedule.builder()
+                .id(id)
+                .planPolslData(
+                        PlanPolslData.builder()
+                                .id(1)
+                                .type(2)
+                                .weekDays(3)
+                                .build()
+                )
+                .build();
+
+        when(repository.findById(id))
+                .thenReturn(Optional.of(schedule));
+
+        RuntimeException exception = new RuntimeException("send failed");
+        doThrow(exception).when(producer).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.handle(command))
+                .isSameAs(exception);
+        verify(producer).produce(any());
     }
 
     private static Stream<Arguments> newPlanPolslDataProperties() {
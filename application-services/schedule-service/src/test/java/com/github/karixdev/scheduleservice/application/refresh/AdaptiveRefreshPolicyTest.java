@@ -0,0 +1,97 @@
+package com.github.karixdev.scheduleservice.application.refresh;
+
+import com.github.karixdev.scheduleservice.domain.entity.ScheduleRefresh;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveRefreshPolicyTest {
+
+    AdaptiveRefreshPolicy underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new AdaptiveRefreshPolicy(
+                Duration.ofHours(1),
+                Duration.ofMinutes(30),
+                Duration.ofHours(12),
+                0.25,
+                1.5,
+                0.0
+        );
+    }
+
+    @Test
+    void GivenNoPreviousRefresh_WhenNextInterval_ThenReturnsInitialInterval() {
+        // Given
+        Optional<ScheduleRefresh> previous = Optional.empty();
+
+        // When
+        Duration result = underTest.nextInterval(previous, true);
+
+        // Then
+        assertThat(result).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void GivenUnchangedPage_WhenNextInterval_ThenGrowsIntervalUpToMax() {
+        // Given
+        Optional<ScheduleRefresh> previous = refreshWithInterval(Duration.ofHours(2));
+        Optional<ScheduleRefresh> previousNearMax = refreshWithInterval(Duration.ofHours(10));
+
+        // When
+        Duration result = underTest.nextInterval(previous, false);
+        Duration resultNearMax = underTest.nextInterval(previousNearMax, false);
+
+        // Then
+        assertThat(result).isEqualTo(Duration.ofHours(3));
+        assertThat(resultNearMax).isEqualTo(Duration.ofHours(12));
+    }
+
+    @Test
+    void GivenChangedPage_WhenNextInterval_ThenShrinksIntervalDownToMin() {
+        // Given
+        Optional<ScheduleRefresh> previous = refreshWithInterval(Duration.ofHours(8));
+        Optional<ScheduleRefresh> previousNearMin = refreshWithInterval(Duration.ofHours(1));
+
+        // When
+        Duration result = underTest.nextInterval(previous, true);
+        Duration resultNearMin = underTest.nextInterval(previousNearMin, true);
+
+        // Then
+        assertThat(result).isEqualTo(Duration.ofHours(2));
+        assertThat(resultNearMin).isEqualTo(Duration.ofMinutes(30));
+    }
+
+    @Test
+    void GivenJitter_WhenNextRefreshAt_ThenStaysWithinJitterOfInterval() {
+        // Given
+        underTest = new AdaptiveRefreshPolicy(
+                Duration.ofHours(1),
+                Duration.ofMinutes(30),
+                Duration.ofHours(12),
+                0.25,
+                1.5,
+                0.1
+        );
+        Instant from = Instant.parse("2023-10-01T12:00:00Z");
+
+        // When
+        Instant result = underTest.nextRefreshAt(from, Duration.ofHours(1));
+
+        // Then
+        assertThat(result).isBetween(from.plus(Duration.ofMinutes(54)), from.plus(Duration.ofMinutes(66)));
+    }
+
+    private static Optional<ScheduleRefresh> refreshWithInterval(Duration interval) {
+        return Optional.of(ScheduleRefresh.builder()
+                .refreshInterval(interval)
+                .build());
+    }
+
+}
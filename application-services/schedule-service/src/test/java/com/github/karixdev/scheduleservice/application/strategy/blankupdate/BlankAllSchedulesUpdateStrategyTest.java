@@ -86,6 +86,7 @@ class BlankAllSchedulesUpdateStrategyTest {
         // Then
         ArgumentCaptor<ScheduleEvent> captor = ArgumentCaptor.forClass(ScheduleEvent.class);
         verify(eventProducer, times(13)).produce(captor.capture());
+        verify(eventProducer, times(2)).flush();
 
         List<String> stringIds = Stream.concat(firstPage.content().stream(), secondPage.content().stream())
                 .map(schedule -> schedule.getId().toString())
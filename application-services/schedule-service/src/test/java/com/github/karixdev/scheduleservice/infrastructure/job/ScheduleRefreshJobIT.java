@@ -4,6 +4,8 @@ import com.github.karixdev.scheduleservice.ContainersEnvironment;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.domain.repository.ScheduleRepository;
 import com.github.karixdev.scheduleservice.infrastructure.dal.entity.ScheduleEntity;
+import com.github.karixdev.scheduleservice.infrastructure.dal.entity.ScheduleRefreshEntity;
+import com.github.karixdev.scheduleservice.infrastructure.dal.repository.JpaScheduleRefreshRepository;
 import com.github.karixdev.scheduleservice.infrastructure.dal.repository.JpaScheduleRepository;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -32,11 +34,14 @@ import static org.springframework.boot.test.context.SpringBootTest.WebEnvironmen
 
 @SpringBootTest(webEnvironment = RANDOM_PORT)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
-class BlankScheduleUpdateJobIT extends ContainersEnvironment {
+class ScheduleRefreshJobIT extends ContainersEnvironment {
 
     @Autowired
     JpaScheduleRepository jpaScheduleRepository;
 
+    @Autowired
+    JpaScheduleRefreshRepository jpaScheduleRefreshRepository;
+
     @Autowired
     ScheduleRepository scheduleRepository;
 
@@ -44,10 +49,16 @@ class BlankScheduleUpdateJobIT extends ContainersEnvironment {
     private static final String SCHEDULE_EVENT_TOPIC = "schedule.event";
 
     @DynamicPropertySource
-    static void overrideScheduleJobCron(DynamicPropertyRegistry registry) {
+    static void overrideScheduleRefreshDispatchInterval(DynamicPropertyRegistry registry) {
+        registry.add(
+                "schedule.refresh.initial-delay",
+                () -> "1s");
         registry.add(
-                "schedule.job.cron",
-                () -> "*/5 * * * * *");
+                "schedule.refresh.dispatch-interval",
+                () -> "1s");
+        registry.add(
+                "schedule.refresh.batch-size",
+                () -> "10");
     }
 
     @BeforeEach
@@ -69,12 +80,13 @@ class BlankScheduleUpdateJobIT extends ContainersEnvironment {
 
     @AfterEach
     void tearDown() {
+        jpaScheduleRefreshRepository.deleteAll();
         jpaScheduleRepository.deleteAll();
         scheduleEventConsumer.close();
     }
 
     @Test
-    void shouldProduceEvents() {
+    void shouldProduceEventsOnceForSchedulesNeverFetched() {
         List<ScheduleEntity> schedules = IntStream.range(0, 15).mapToObj(i ->
                 ScheduleEntity.builder()
                         .id(UUID.randomUUID())
@@ -101,7 +113,15 @@ class BlankScheduleUpdateJobIT extends ContainersEnvironment {
             eventsSchedulesIds.add(iterator.next().value().scheduleId());
         }
 
-        assertThat(eventsSchedulesIds).isEqualTo(ids);
+        assertThat(eventsSchedulesIds).containsExactlyInAnyOrderElementsOf(ids);
+
+        // leased until the initial interval passes, a schedule is not dispatched again on the next runs
+        ConsumerRecords<String, ScheduleEvent> nextEvents = KafkaTestUtils.getRecords(scheduleEventConsumer, Duration.ofSeconds(3));
+        assertThat(nextEvents.isEmpty()).isTrue();
+
+        assertThat(jpaScheduleRefreshRepository.findAll())
+                .extracting(ScheduleRefreshEntity::getScheduleId)
+                .containsExactlyInAnyOrderElementsOf(schedules.stream().map(ScheduleEntity::getId).toList());
     }
 
 }
\ No newline at end of file
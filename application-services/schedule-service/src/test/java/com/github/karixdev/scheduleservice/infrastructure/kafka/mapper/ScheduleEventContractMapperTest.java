@@ -0,0 +1,103 @@
+package com.github.karixdev.scheduleservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.contracts.codec.ContractCodec;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
+import com.github.karixdev.scheduleservice.application.event.EventType;
+import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
+import com.github.karixdev.scheduleservice.domain.entity.PlanPolslData;
+import com.github.karixdev.scheduleservice.domain.entity.Schedule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleEventContractMapperTest {
+
+    static final String TOPIC = "schedule.event";
+
+    ScheduleEventContractMapper underTest;
+
+    ContractSerializer<ScheduleEvent, com.github.karixdev.contracts.schedule.ScheduleEvent> serializer;
+
+    ContractCodec<com.github.karixdev.contracts.schedule.ScheduleEvent> codec;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ScheduleEventContractMapper();
+        serializer = new ContractSerializer<>(
+                com.github.karixdev.contracts.schedule.ScheduleEvent.class,
+                underTest::toContract
+        );
+        codec = new ContractCodec<>(com.github.karixdev.contracts.schedule.ScheduleEvent.class);
+    }
+
+    @Test
+    void GivenScheduleEvent_WhenSerializedAsContract_ThenEveryFieldIsWritten() {
+        // Given
+        ScheduleEvent event = scheduleEvent();
+
+        // When
+        com.github.karixdev.contracts.schedule.ScheduleEvent result = codec.decode(serializer.serialize(TOPIC, event));
+
+        // Then
+        assertThat(result).isEqualTo(com.github.karixdev.contracts.schedule.ScheduleEvent.newBuilder()
+                .setScheduleId(event.scheduleId())
+                .setType(com.github.karixdev.contracts.schedule.EventType.UPDATE)
+                .setPriority(com.github.karixdev.contracts.schedule.EventPriority.HIGH)
+                .setEntity(com.github.karixdev.contracts.schedule.Schedule.newBuilder()
+                        .setId(event.scheduleId())
+                        .setMajor("Informatyka")
+                        .setSemester(2)
+                        .setGroupNumber(1)
+                        .setPlanPolslData(com.github.karixdev.contracts.schedule.PlanPolslData.newBuilder()
+                                .setId(1999)
+                                .setType(0)
+                                .setWeekDays(4)
+                                .build())
+                        .build())
+                .build());
+    }
+
+    @Test
+    void GivenDeleteEventWithoutSchedule_WhenSerializedAsContract_ThenEntityIsNull() {
+        // Given
+        ScheduleEvent event = ScheduleEvent.builder()
+                .type(EventType.DELETE)
+                .priority(EventPriority.NORMAL)
+                .scheduleId(UUID.randomUUID().toString())
+                .build();
+
+        // When
+        com.github.karixdev.contracts.schedule.ScheduleEvent result = codec.decode(serializer.serialize(TOPIC, event));
+
+        // Then
+        assertThat(result.getScheduleId()).isEqualTo(event.scheduleId());
+        assertThat(result.getType()).isEqualTo(com.github.karixdev.contracts.schedule.EventType.DELETE);
+        assertThat(result.getEntity()).isNull();
+    }
+
+    private static ScheduleEvent scheduleEvent() {
+        UUID id = UUID.randomUUID();
+
+        return ScheduleEvent.builder()
+                .type(EventType.UPDATE)
+                .priority(EventPriority.HIGH)
+                .scheduleId(id.toString())
+                .entity(Schedule.builder()
+                        .id(id)
+                        .major("Informatyka")
+                        .semester(2)
+                        .groupNumber(1)
+                        .planPolslData(PlanPolslData.builder()
+                                .id(1999)
+                                .type(0)
+                                .weekDays(4)
+                                .build())
+                        .build())
+                .build();
+    }
+
+}
@@ -1,6 +1,7 @@
 package com.github.karixdev.scheduleservice.infrastructure.rest.controller.admin;
 
 import com.github.karixdev.scheduleservice.ContainersEnvironment;
+import com.github.karixdev.scheduleservice.application.event.EventPriority;
 import com.github.karixdev.scheduleservice.application.event.EventType;
 import com.github.karixdev.scheduleservice.application.event.ScheduleEvent;
 import com.github.karixdev.scheduleservice.domain.entity.PlanPolslData;
@@ -49,6 +50,7 @@ class ScheduleAdminControllerIT extends ContainersEnvironment {
 
     Consumer<String, ScheduleEvent> scheduleEventConsumer;
     private static final String SCHEDULE_EVENT_TOPIC = "schedule.event";
+    private static final String PRIORITY_SCHEDULE_EVENT_TOPIC = "schedule.event.priority";
 
     @BeforeEach
     void setUp() {
@@ -65,7 +67,7 @@ class ScheduleAdminControllerIT extends ContainersEnvironment {
         );
         scheduleEventConsumer = consumerFactory.createConsumer();
 
-        scheduleEventConsumer.subscribe(List.of(SCHEDULE_EVENT_TOPIC));
+        scheduleEventConsumer.subscribe(List.of(SCHEDULE_EVENT_TOPIC, PRIORITY_SCHEDULE_EVENT_TOPIC));
     }
 
     @AfterEach
@@ -163,7 +165,7 @@ class ScheduleAdminControllerIT extends ContainersEnvironment {
 
         List<Schedule> schedules = scheduleRepository.findAll();
         ConsumerRecord<String, ScheduleEvent> consumerRecord =
-                KafkaTestUtils.getSingleRecord(scheduleEventConsumer, SCHEDULE_EVENT_TOPIC, Duration.ofSeconds(20));
+                KafkaTestUtils.getSingleRecord(scheduleEventConsumer, PRIORITY_SCHEDULE_EVENT_TOPIC, Duration.ofSeconds(20));
 
         assertThat(schedules)
                 .hasSize(1);
@@ -187,6 +189,7 @@ class ScheduleAdminControllerIT extends ContainersEnvironment {
 
         ScheduleEvent expectedEvent = ScheduleEvent.builder()
                 .type(EventType.CREATE)
+                .priority(EventPriority.HIGH)
                 .scheduleId(schedule.getId().toString())
                 .entity(schedule)
                 .build();
@@ -492,7 +495,7 @@ class ScheduleAdminControllerIT extends ContainersEnvironment {
         Optional<Schedule> optionalOtherNotUpdatedSchedule = scheduleRepository.findById(otherSchedule.getId());
 
         ConsumerRecord<String, ScheduleEvent> consumerRecord =
-                KafkaTestUtils.getSingleRecord(scheduleEventConsumer, SCHEDULE_EVENT_TOPIC, Duration.ofSeconds(20));
+                KafkaTestUtils.getSingleRecord(scheduleEventConsumer, PRIORITY_SCHEDULE_EVENT_TOPIC, Duration.ofSeconds(20));
         ScheduleEvent event = consumerRecord.value();
 
         assertThat(optionalUpdatedSchedule).isPresent();
@@ -5,4 +5,11 @@ import com.github.karixdev.webscraperservice.application.payload.PlanPolslRespon
 public interface PlanPolslClient {
     PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH);
 
+    /**
+     * Conditional variant of {@link #getSchedule(int, int, int, int, int)}. Passed validators are sent as
+     * {@code If-None-Match} and {@code If-Modified-Since}, {@code null} ones are omitted. When upstream responds with
+     * 304 the returned response has no content and {@link PlanPolslResponse#notModified()} set.
+     */
+    PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified);
+
 }
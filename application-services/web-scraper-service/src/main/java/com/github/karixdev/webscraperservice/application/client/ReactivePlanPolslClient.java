@@ -0,0 +1,14 @@
+package com.github.karixdev.webscraperservice.application.client;
+
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePlanPolslClient {
+
+    /**
+     * Non-blocking counterpart of {@link PlanPolslClient#getSchedule(int, int, int, int, int, String, String)}.
+     * Nothing is sent until the returned {@link Mono} is subscribed.
+     */
+    Mono<PlanPolslResponse> getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified);
+
+}
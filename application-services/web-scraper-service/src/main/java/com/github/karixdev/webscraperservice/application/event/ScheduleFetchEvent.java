@@ -0,0 +1,16 @@
+package com.github.karixdev.webscraperservice.application.event;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Outcome of fetching the plan.polsl.pl page of a schedule, fed back to schedule-service to plan its next refresh.
+ */
+@Builder
+public record ScheduleFetchEvent(
+        String scheduleId,
+        boolean changed,
+        Instant fetchedAt,
+        long fetchLatencyMillis
+) {}
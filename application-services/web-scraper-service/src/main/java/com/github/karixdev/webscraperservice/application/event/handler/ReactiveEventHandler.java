@@ -0,0 +1,7 @@
+package com.github.karixdev.webscraperservice.application.event.handler;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEventHandler<T> {
+    Mono<Void> handle(T event);
+}
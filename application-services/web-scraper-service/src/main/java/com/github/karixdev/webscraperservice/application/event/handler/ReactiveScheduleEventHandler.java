@@ -0,0 +1,147 @@
+package com.github.karixdev.webscraperservice.application.event.handler;
+
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.application.event.producer.ReactiveEventProducer;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprint;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprintService;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.application.props.PlanPolslClientProperties;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScraper;
+import com.github.karixdev.webscraperservice.domain.PlanPolslData;
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+import com.github.karixdev.webscraperservice.domain.Schedule;
+import com.github.karixdev.webscraperservice.domain.exception.EmptyRawCourseSetException;
+import com.github.karixdev.webscraperservice.domain.exception.EmptyRawTimeIntervalSetException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link ScheduleEventHandler}. The fetch runs on the HTTP client event loop, hashing and
+ * scraping are moved onto the bounded parsing scheduler and the Kafka send is chained without waiting for it.
+ * Fingerprints are read and written and fetches are reported on the bounded elastic scheduler, as these block.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-event.mode", havingValue = "reactive")
+public class ReactiveScheduleEventHandler implements ReactiveEventHandler<ScheduleEvent> {
+
+    private final ReactivePlanPolslClient planPolslClient;
+    private final PlanPolslResponseScraper scraper;
+    private final ReactiveEventProducer<RawScheduleEvent> producer;
+    private final EventProducer<ScheduleFetchEvent> fetchProducer;
+    private final PageFingerprintService fingerprintService;
+    private final Scheduler parsingScheduler;
+    private final ScrapeMetrics scrapeMetrics;
+
+    private static final List<EventType> SUPPORTED_EVENT_TYPES = List.of(EventType.CREATE, EventType.UPDATE);
+
+    public ReactiveScheduleEventHandler(
+            ReactivePlanPolslClient planPolslClient,
+            PlanPolslResponseScraper scraper,
+            ReactiveEventProducer<RawScheduleEvent> producer,
+            EventProducer<ScheduleFetchEvent> fetchProducer,
+            PageFingerprintService fingerprintService,
+            Scheduler planPolslParsingScheduler,
+            ScrapeMetrics scrapeMetrics
+    ) {
+        this.planPolslClient = planPolslClient;
+        this.scraper = scraper;
+        this.producer = producer;
+        this.fetchProducer = fetchProducer;
+        this.fingerprintService = fingerprintService;
+        this.parsingScheduler = planPolslParsingScheduler;
+        this.scrapeMetrics = scrapeMetrics;
+    }
+
+    @Override
+    public Mono<Void> handle(ScheduleEvent event) {
+        if (!SUPPORTED_EVENT_TYPES.contains(event.type())) {
+            log.info("Ignoring event {} because it has unsupported event type", event);
+            return Mono.empty();
+        }
+
+        Schedule schedule = event.entity();
+        PlanPolslData planPolslData = schedule.planPolslData();
+
+        return Mono.fromCallable(() -> fingerprintService.find(event.scheduleId(), planPolslData))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(previousFingerprint -> scrapeMetrics.time(ScrapeMetrics.Stage.FETCH, planPolslClient.getSchedule(
+                                planPolslData.id(),
+                                planPolslData.type(),
+                                planPolslData.weekDays(),
+                                PlanPolslClientProperties.WIN_W,
+                                PlanPolslClientProperties.WIN_H,
+                                previousFingerprint.map(PageFingerprint::etag).orElse(null),
+                                previousFingerprint.map(PageFingerprint::lastModified).orElse(null)
+                        ))
+                        .doOnError(e -> scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.UPSTREAM_ERROR))
+                        .elapsed()
+                        .publishOn(parsingScheduler)
+                        .flatMap(fetched -> process(event, planPolslData, previousFingerprint, fetched.getT2(), fetched.getT1())));
+    }
+
+    private Mono<Void> process(
+            ScheduleEvent event,
+            PlanPolslData planPolslData,
+            Optional<PageFingerprint> previousFingerprint,
+            PlanPolslResponse planPolslResponse,
+            long fetchLatencyMillis
+    ) {
+        PageFingerprint fingerprint;
+        RawScheduleEvent rawScheduleEvent;
+        try {
+            fingerprint = fingerprintService.fingerprint(planPolslResponse, previousFingerprint);
+            if (fingerprintService.isUnchanged(previousFingerprint, fingerprint)) {
+                log.info("Skipping schedule {} because its plan.polsl.pl page has not changed", event.scheduleId());
+                scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.UNCHANGED);
+                return reportFetch(event, false, fetchLatencyMillis);
+            }
+
+            RawSchedule rawSchedule = scraper.scrapSchedule(planPolslResponse);
+            scrapeMetrics.recordSchedule(rawSchedule);
+
+            rawScheduleEvent = RawScheduleEvent.builder()
+                    .scheduleId(event.scheduleId())
+                    .entity(rawSchedule)
+                    .build();
+        } catch (EmptyRawCourseSetException | EmptyRawTimeIntervalSetException e) {
+            scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.EMPTY_SCHEDULE);
+            throw e;
+        } catch (RuntimeException e) {
+            scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.ERROR);
+            throw e;
+        }
+
+        return scrapeMetrics.time(ScrapeMetrics.Stage.SEND, producer.produce(rawScheduleEvent))
+                .then(Mono.fromRunnable(() -> fingerprintService.save(event.scheduleId(), planPolslData, fingerprint))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .doOnSuccess(ignored -> scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.SUCCESS))
+                .doOnError(e -> scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.ERROR))
+                .then(reportFetch(event, true, fetchLatencyMillis));
+    }
+
+    private Mono<Void> reportFetch(ScheduleEvent event, boolean changed, long fetchLatencyMillis) {
+        return Mono.<Void>fromRunnable(() -> fetchProducer.produce(ScheduleFetchEvent.builder()
+                        .scheduleId(event.scheduleId())
+                        .changed(changed)
+                        .fetchedAt(Instant.now())
+                        .fetchLatencyMillis(fetchLatencyMillis)
+                        .build()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
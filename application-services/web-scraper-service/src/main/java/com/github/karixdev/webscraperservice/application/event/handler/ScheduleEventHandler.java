@@ -4,18 +4,27 @@ import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
 import com.github.karixdev.webscraperservice.application.event.EventType;
 import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
 import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
 import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprint;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprintService;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
 import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
 import com.github.karixdev.webscraperservice.application.props.PlanPolslClientProperties;
-import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseContentScraper;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScraper;
 import com.github.karixdev.webscraperservice.domain.PlanPolslData;
 import com.github.karixdev.webscraperservice.domain.RawSchedule;
 import com.github.karixdev.webscraperservice.domain.Schedule;
+import com.github.karixdev.webscraperservice.domain.exception.EmptyRawCourseSetException;
+import com.github.karixdev.webscraperservice.domain.exception.EmptyRawTimeIntervalSetException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -23,8 +32,11 @@ import java.util.List;
 public class ScheduleEventHandler implements EventHandler<ScheduleEvent> {
 
     private final PlanPolslClient planPolslClient;
-    private final PlanPolslResponseContentScraper scraper;
+    private final PlanPolslResponseScraper scraper;
     private final EventProducer<RawScheduleEvent> producer;
+    private final EventProducer<ScheduleFetchEvent> fetchProducer;
+    private final PageFingerprintService fingerprintService;
+    private final ScrapeMetrics scrapeMetrics;
 
     private static final List<EventType> SUPPORTED_EVENT_TYPES = List.of(EventType.CREATE, EventType.UPDATE);
 
@@ -38,21 +50,68 @@ public class ScheduleEventHandler implements EventHandler<ScheduleEvent> {
         Schedule schedule = event.entity();
         PlanPolslData planPolslData = schedule.planPolslData();
 
-        PlanPolslResponse planPolslResponse = planPolslClient.getSchedule(
-                planPolslData.id(),
-                planPolslData.type(),
-                planPolslData.weekDays(),
-                PlanPolslClientProperties.WIN_W,
-                PlanPolslClientProperties.WIN_H
-        );
+        Optional<PageFingerprint> previousFingerprint = fingerprintService.find(event.scheduleId(), planPolslData);
 
-        RawSchedule rawSchedule = scraper.scrapSchedule(planPolslResponse);
+        long fetchStart = System.nanoTime();
+        PlanPolslResponse planPolslResponse;
+        try {
+            planPolslResponse = scrapeMetrics.time(ScrapeMetrics.Stage.FETCH, () -> planPolslClient.getSchedule(
+                    planPolslData.id(),
+                    planPolslData.type(),
+                    planPolslData.weekDays(),
+                    PlanPolslClientProperties.WIN_W,
+                    PlanPolslClientProperties.WIN_H,
+                    previousFingerprint.map(PageFingerprint::etag).orElse(null),
+                    previousFingerprint.map(PageFingerprint::lastModified).orElse(null)
+            ));
+        } catch (RuntimeException e) {
+            scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.UPSTREAM_ERROR);
+            throw e;
+        }
+        long fetchLatency = System.nanoTime() - fetchStart;
 
-        RawScheduleEvent rawScheduleEvent = RawScheduleEvent.builder()
-                .scheduleId(event.scheduleId())
-                .entity(rawSchedule)
-                .build();
+        try {
+            PageFingerprint fingerprint = fingerprintService.fingerprint(planPolslResponse, previousFingerprint);
+            if (fingerprintService.isUnchanged(previousFingerprint, fingerprint)) {
+                log.info("Skipping schedule {} because its plan.polsl.pl page has not changed", event.scheduleId());
+                scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.UNCHANGED);
+                reportFetch(event, false, fetchLatency);
+                return;
+            }
+
+            RawSchedule rawSchedule = scraper.scrapSchedule(planPolslResponse);
+            scrapeMetrics.recordSchedule(rawSchedule);
+
+            RawScheduleEvent rawScheduleEvent = RawScheduleEvent.builder()
+                    .scheduleId(event.scheduleId())
+                    .entity(rawSchedule)
+                    .build();
+
+            scrapeMetrics.time(ScrapeMetrics.Stage.SEND, () -> {
+                producer.produce(rawScheduleEvent);
+                producer.flush();
+            });
 
-        producer.produce(rawScheduleEvent);
+            // saved only once the raw schedule is acknowledged, a lost send would otherwise skip the page until it changes
+            fingerprintService.save(event.scheduleId(), planPolslData, fingerprint);
+        } catch (EmptyRawCourseSetException | EmptyRawTimeIntervalSetException e) {
+            scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.EMPTY_SCHEDULE);
+            throw e;
+        } catch (RuntimeException e) {
+            scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.ERROR);
+            throw e;
+        }
+
+        scrapeMetrics.recordOutcome(ScrapeMetrics.Outcome.SUCCESS);
+        reportFetch(event, true, fetchLatency);
+    }
+
+    private void reportFetch(ScheduleEvent event, boolean changed, long fetchLatencyNanos) {
+        fetchProducer.produce(ScheduleFetchEvent.builder()
+                .scheduleId(event.scheduleId())
+                .changed(changed)
+                .fetchedAt(Instant.now())
+                .fetchLatencyMillis(TimeUnit.NANOSECONDS.toMillis(fetchLatencyNanos))
+                .build());
     }
 }
@@ -2,4 +2,10 @@ package com.github.karixdev.webscraperservice.application.event.producer;
 
 public interface EventProducer<T> {
     void produce(T event);
+
+    /**
+     * Blocks until every event produced by the calling thread since its previous flush is acknowledged, fails when
+     * any of them could not be produced.
+     */
+    void flush();
 }
@@ -0,0 +1,7 @@
+package com.github.karixdev.webscraperservice.application.event.producer;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEventProducer<T> {
+    Mono<Void> produce(T event);
+}
@@ -0,0 +1,13 @@
+package com.github.karixdev.webscraperservice.application.fingerprint;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+public record PageFingerprint(
+        String contentHash,
+        String etag,
+        String lastModified,
+        Instant recordedAt
+) {}
@@ -0,0 +1,150 @@
+package com.github.karixdev.webscraperservice.application.fingerprint;
+
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.domain.PlanPolslData;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Remembers what was last published for every schedule page, so that unchanged plan.polsl.pl pages
+ * are not scraped and pushed down the pipeline again. Entries are keyed by schedule and its plan.polsl.pl
+ * parameters, because a freshly created schedule must be scraped even if it points to an already known page.
+ */
+@Component
+public class PageFingerprintService {
+
+    private static final String METRIC_NAME = "web_scraper.page_fingerprint.lookups";
+
+    private final PageFingerprintStore store;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    private final Counter notModifiedHits;
+    private final Counter contentHits;
+    private final Counter misses;
+
+    @Autowired
+    public PageFingerprintService(
+            PageFingerprintStore store,
+            MeterRegistry meterRegistry,
+            @Value("${plan-polsl.fingerprint.enabled}") boolean enabled,
+            @Value("${plan-polsl.fingerprint.max-age}") Duration maxAge
+    ) {
+        this(store, meterRegistry, enabled, maxAge, Clock.systemUTC());
+    }
+
+    PageFingerprintService(
+            PageFingerprintStore store,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            Duration maxAge,
+            Clock clock
+    ) {
+        this.store = store;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.clock = clock;
+
+        this.notModifiedHits = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .tag("source", "not-modified")
+                .register(meterRegistry);
+        this.contentHits = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .tag("source", "content-hash")
+                .register(meterRegistry);
+        this.misses = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .tag("source", "none")
+                .register(meterRegistry);
+    }
+
+    public Optional<PageFingerprint> find(String scheduleId, PlanPolslData planPolslData) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Instant oldestAccepted = clock.instant().minus(maxAge);
+
+        return store.find(key(scheduleId, planPolslData))
+                .filter(fingerprint -> fingerprint.recordedAt().isAfter(oldestAccepted));
+    }
+
+    public PageFingerprint fingerprint(PlanPolslResponse response, Optional<PageFingerprint> previous) {
+        if (response.notModified() && previous.isPresent()) {
+            return previous.get();
+        }
+
+        return PageFingerprint.builder()
+                .contentHash(enabled ? hash(response.content()) : null)
+                .etag(response.etag())
+                .lastModified(response.lastModified())
+                .recordedAt(clock.instant())
+                .build();
+    }
+
+    public boolean isUnchanged(Optional<PageFingerprint> previous, PageFingerprint current) {
+        if (!enabled) {
+            return false;
+        }
+
+        if (previous.isEmpty()) {
+            misses.increment();
+            return false;
+        }
+
+        if (previous.get() == current) {
+            notModifiedHits.increment();
+            return true;
+        }
+
+        if (Objects.equals(previous.get().contentHash(), current.contentHash())) {
+            contentHits.increment();
+            return true;
+        }
+
+        misses.increment();
+        return false;
+    }
+
+    public void save(String scheduleId, PlanPolslData planPolslData, PageFingerprint fingerprint) {
+        if (!enabled) {
+            return;
+        }
+
+        store.save(key(scheduleId, planPolslData), fingerprint);
+    }
+
+    private static String key(String scheduleId, PlanPolslData planPolslData) {
+        return "%s_%d_%d_%d".formatted(
+                scheduleId,
+                planPolslData.id(),
+                planPolslData.type(),
+                planPolslData.weekDays()
+        );
+    }
+
+    private static String hash(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
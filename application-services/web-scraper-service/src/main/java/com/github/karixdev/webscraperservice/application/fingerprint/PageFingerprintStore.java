@@ -0,0 +1,8 @@
+package com.github.karixdev.webscraperservice.application.fingerprint;
+
+import java.util.Optional;
+
+public interface PageFingerprintStore {
+    Optional<PageFingerprint> find(String key);
+    void save(String key, PageFingerprint fingerprint);
+}
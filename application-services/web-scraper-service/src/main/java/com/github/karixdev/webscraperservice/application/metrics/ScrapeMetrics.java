@@ -0,0 +1,135 @@
+package com.github.karixdev.webscraperservice.application.metrics;
+
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Meters of a single schedule refresh. Every stage of the refresh is timed separately and every refresh is counted
+ * by its outcome, all tags have a fixed set of values.
+ */
+@Component
+public class ScrapeMetrics {
+
+    private static final String METRIC_PREFIX = "web_scraper.scrape";
+
+    public enum Stage {
+        /**
+         * Obtaining the page from the client, including pacing and decoding.
+         */
+        FETCH,
+        /**
+         * Decoding response body bytes into characters.
+         */
+        DECODE,
+        /**
+         * Tokenizing the page, or building its DOM.
+         */
+        PARSE,
+        /**
+         * Extracting time intervals and courses out of the parsed page.
+         */
+        EXTRACT,
+        /**
+         * Handing raw schedule over to Kafka.
+         */
+        SEND
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        UNCHANGED,
+        EMPTY_SCHEDULE,
+        UPSTREAM_ERROR,
+        ERROR
+    }
+
+    private final Map<Stage, Timer> stageTimers = new EnumMap<>(Stage.class);
+    private final Map<Outcome, Counter> outcomeCounters = new EnumMap<>(Outcome.class);
+
+    private final DistributionSummary responseBytes;
+    private final DistributionSummary courses;
+    private final DistributionSummary timeIntervals;
+
+    public ScrapeMetrics(MeterRegistry meterRegistry) {
+        for (Stage stage : Stage.values()) {
+            stageTimers.put(stage, Timer.builder(METRIC_PREFIX + ".stage")
+                    .tag("stage", tagValue(stage))
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+        for (Outcome outcome : Outcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder(METRIC_PREFIX + ".outcome")
+                    .tag("outcome", tagValue(outcome))
+                    .register(meterRegistry));
+        }
+
+        this.responseBytes = DistributionSummary.builder(METRIC_PREFIX + ".response.size")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.courses = DistributionSummary.builder(METRIC_PREFIX + ".courses")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.timeIntervals = DistributionSummary.builder(METRIC_PREFIX + ".time_intervals")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public <T> T time(Stage stage, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(stage, System.nanoTime() - start);
+        }
+    }
+
+    public void time(Stage stage, Runnable action) {
+        time(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Times the given publisher from subscription until it terminates or is cancelled.
+     */
+    public <T> Mono<T> time(Stage stage, Mono<T> action) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return action.doFinally(signal -> record(stage, System.nanoTime() - start));
+        });
+    }
+
+    public void record(Stage stage, long nanos) {
+        stageTimers.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordResponseSize(long bytes) {
+        responseBytes.record(bytes);
+    }
+
+    public void recordSchedule(RawSchedule rawSchedule) {
+        courses.record(rawSchedule.courses().size());
+        timeIntervals.record(rawSchedule.timeIntervals().size());
+    }
+
+    public void recordOutcome(Outcome outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase();
+    }
+
+}
@@ -1,8 +1,12 @@
 package com.github.karixdev.webscraperservice.application.payload;
 
 import lombok.Builder;
-import org.jsoup.nodes.Document;
 
 @Builder
-public record PlanPolslResponse(Document content) {
+public record PlanPolslResponse(
+        String content,
+        String etag,
+        String lastModified,
+        boolean notModified
+) {
 }
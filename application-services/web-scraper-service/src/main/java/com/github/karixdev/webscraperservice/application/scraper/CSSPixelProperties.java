@@ -0,0 +1,3 @@
+package com.github.karixdev.webscraperservice.application.scraper;
+
+public record CSSPixelProperties(int top, int left, int width, int height) {}
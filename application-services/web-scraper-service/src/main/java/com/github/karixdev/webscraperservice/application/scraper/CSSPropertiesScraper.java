@@ -5,68 +5,118 @@ import lombok.RequiredArgsConstructor;
 import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
-import java.util.*;
-
+/**
+ * Reads pixel sized properties from inline {@code style} attribute. Declarations are scanned in place by index,
+ * without splitting the attribute or building intermediate maps. Missing or non-numeric values are read as 0.
+ */
 @Component
 @RequiredArgsConstructor(access = AccessLevel.MODULE)
 public class CSSPropertiesScraper {
 
-    private Map<String, String> getProperties(Element element) {
-        Map<String, String> map = new HashMap<>();
+    private static final String TOP = "top";
+    private static final String LEFT = "left";
+    private static final String WIDTH = "width";
+    private static final String HEIGHT = "height";
 
-        if (!element.hasAttr("style")) {
-            return map;
-        }
+    public CSSPixelProperties getPixelProperties(Element element) {
+        return getPixelProperties(element.attr("style"));
+    }
 
-        String styleStr = element.attr("style");
-        String[] keys = styleStr.split(":");
+    public CSSPixelProperties getPixelProperties(String style) {
+        int top = 0;
+        int left = 0;
+        int width = 0;
+        int height = 0;
 
-        if (keys.length < 2) {
-            return map;
+        if (style == null) {
+            return new CSSPixelProperties(top, left, width, height);
         }
 
-        for (int i = 0; i < keys.length - 1; i++) {
-            String[] split = keys[i].split(";");
+        int length = style.length();
+        int pos = 0;
 
-            String propertyName;
-            String propertyValue = keys[i + 1].split(";")[0].trim();
+        while (pos < length) {
+            int nameStart = skipWhitespace(style, pos, length);
+            int colon = style.indexOf(':', nameStart);
+            int semicolon = style.indexOf(';', nameStart);
+            int declarationEnd = semicolon < 0 ? length : semicolon;
 
-            if (i % 2 != 0) {
-                if (split.length == 1) {
-                    break;
-                }
+            if (colon < 0 || colon > declarationEnd) {
+                pos = declarationEnd + 1;
+                continue;
+            }
+
+            int nameEnd = trimEnd(style, nameStart, colon);
 
-                propertyName = split[1].trim();
-            } else {
-                propertyName = split[split.length - 1].trim();
+            if (nameIs(style, nameStart, nameEnd, TOP)) {
+                top = parsePixels(style, colon + 1, declarationEnd);
+            } else if (nameIs(style, nameStart, nameEnd, LEFT)) {
+                left = parsePixels(style, colon + 1, declarationEnd);
+            } else if (nameIs(style, nameStart, nameEnd, WIDTH)) {
+                width = parsePixels(style, colon + 1, declarationEnd);
+            } else if (nameIs(style, nameStart, nameEnd, HEIGHT)) {
+                height = parsePixels(style, colon + 1, declarationEnd);
             }
 
-            map.put(propertyName, propertyValue);
+            pos = declarationEnd + 1;
         }
 
-        return Collections.unmodifiableMap(map);
+        return new CSSPixelProperties(top, left, width, height);
     }
 
-    public int getTop(Element element) {
+    private static int parsePixels(String style, int from, int to) {
+        int pos = skipWhitespace(style, from, to);
+        int end = trimEnd(style, pos, to);
 
-        return getSizeProperty(getProperties(element), "top");
-    }
+        boolean negative = false;
+        if (pos < end && (style.charAt(pos) == '-' || style.charAt(pos) == '+')) {
+            negative = style.charAt(pos) == '-';
+            pos++;
+        }
 
-    public int getLeft(Element element) {
-        return getSizeProperty(getProperties(element), "left");
-    }
+        int digitsStart = pos;
+        long value = 0;
+        while (pos < end && Character.isDigit(style.charAt(pos))) {
+            value = value * 10 + (style.charAt(pos) - '0');
+            if (value > Integer.MAX_VALUE) {
+                return 0;
+            }
+            pos++;
+        }
 
+        if (pos == digitsStart) {
+            return 0;
+        }
 
+        if (end - pos == 2 && style.regionMatches(true, pos, "px", 0, 2)) {
+            pos += 2;
+        }
 
-    private int getSizeProperty(Map<String, String> properties, String propertyName) {
-        if (properties.get(propertyName) == null) {
+        if (pos != end) {
             return 0;
         }
 
-        return Integer.parseInt(
-                properties.get(propertyName)
-                        .split("px")[0]
-        );
+        return (int) (negative ? -value : value);
+    }
+
+    private static boolean nameIs(String style, int start, int end, String name) {
+        return end - start == name.length() && style.regionMatches(true, start, name, 0, name.length());
+    }
+
+    private static int skipWhitespace(String style, int from, int to) {
+        int pos = from;
+        while (pos < to && Character.isWhitespace(style.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int trimEnd(String style, int from, int to) {
+        int end = to;
+        while (end > from && Character.isWhitespace(style.charAt(end - 1))) {
+            end--;
+        }
+        return end;
     }
 
 }
@@ -18,8 +18,12 @@ public class ElementAttributesScraper {
     }
 
     private int getSizeAttr(Element element, String attrName) {
+        return parseSizeAttr(element.attr(attrName));
+    }
+
+    public int parseSizeAttr(String value) {
         try {
-            return Integer.parseInt(element.attr(attrName));
+            return Integer.parseInt(value);
         } catch (NumberFormatException e) {
             return 0;
         }
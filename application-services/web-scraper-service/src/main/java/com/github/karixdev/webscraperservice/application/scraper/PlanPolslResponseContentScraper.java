@@ -5,38 +5,46 @@ import com.github.karixdev.webscraperservice.domain.RawAnchor;
 import com.github.karixdev.webscraperservice.domain.RawCourse;
 import com.github.karixdev.webscraperservice.domain.RawSchedule;
 import com.github.karixdev.webscraperservice.domain.RawTimeInterval;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
 import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.nodes.Node;
 import org.jsoup.select.Elements;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
+@ConditionalOnProperty(name = "plan-polsl.scraper.engine", havingValue = "jsoup", matchIfMissing = true)
 @RequiredArgsConstructor(access = AccessLevel.MODULE)
-public class PlanPolslResponseContentScraper {
+public class PlanPolslResponseContentScraper implements PlanPolslResponseScraper {
 
     private final ElementAttributesScraper attributesScraper;
     private final CSSPropertiesScraper cssPropertiesScraper;
+    private final ScrapeMetrics scrapeMetrics;
 
+    @Override
     public RawSchedule scrapSchedule(PlanPolslResponse planPolslResponse) {
-        Document content = planPolslResponse.content();
+        Document content = scrapeMetrics.time(ScrapeMetrics.Stage.PARSE, () -> Jsoup.parse(planPolslResponse.content()));
 
-        Set<Element> timeIntervalCells = getRawTimeIntervalCells(content);
-        Set<Element> courseCells = getCourseCells(content);
+        return scrapeMetrics.time(ScrapeMetrics.Stage.EXTRACT, () -> {
+            Set<Element> timeIntervalCells = getRawTimeIntervalCells(content);
+            Set<Element> courseCells = getCourseCells(content);
 
-        Set<RawTimeInterval> timeIntervals = getRawTimeIntervals(timeIntervalCells);
-        Set<RawCourse> courses = getRawCourses(courseCells);
+            Set<RawTimeInterval> timeIntervals = getRawTimeIntervals(timeIntervalCells);
+            Set<RawCourse> courses = getRawCourses(courseCells);
 
-        return RawSchedule.builder()
-                .timeIntervals(timeIntervals)
-                .courses(courses)
-                .build();
+            return RawSchedule.builder()
+                    .timeIntervals(timeIntervals)
+                    .courses(courses)
+                    .build();
+        });
     }
 
     private Set<Element> getRawTimeIntervalCells(Document content) {
@@ -71,8 +79,7 @@ public class PlanPolslResponseContentScraper {
         int cw = attributesScraper.getCW(courseCell);
         int ch = attributesScraper.getCH(courseCell);
 
-        int left = cssPropertiesScraper.getLeft(courseCell);
-        int top = cssPropertiesScraper.getTop(courseCell);
+        CSSPixelProperties pixelProperties = cssPropertiesScraper.getPixelProperties(courseCell);
 
         Set<RawAnchor> anchors = getRawCourseRawAnchors(courseCell);
         String text = getRawCourseText(courseCell);
@@ -82,8 +89,8 @@ public class PlanPolslResponseContentScraper {
                 .anchors(anchors)
                 .height(ch)
                 .width(cw)
-                .left(left)
-                .top(top)
+                .left(pixelProperties.left())
+                .top(pixelProperties.top())
                 .build();
     }
 
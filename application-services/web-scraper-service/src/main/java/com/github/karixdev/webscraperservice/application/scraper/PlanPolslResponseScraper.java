@@ -0,0 +1,8 @@
+package com.github.karixdev.webscraperservice.application.scraper;
+
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+
+public interface PlanPolslResponseScraper {
+    RawSchedule scrapSchedule(PlanPolslResponse planPolslResponse);
+}
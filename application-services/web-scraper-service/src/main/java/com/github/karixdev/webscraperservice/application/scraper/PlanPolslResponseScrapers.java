@@ -0,0 +1,24 @@
+package com.github.karixdev.webscraperservice.application.scraper;
+
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+
+/**
+ * Scrapers wired the way the service wires them, for use outside of its Spring context.
+ */
+public final class PlanPolslResponseScrapers {
+
+    private PlanPolslResponseScrapers() {}
+
+    public static PlanPolslResponseContentScraper content(ScrapeMetrics scrapeMetrics) {
+        return new PlanPolslResponseContentScraper(new ElementAttributesScraper(), cssProperties(), scrapeMetrics);
+    }
+
+    public static PlanPolslResponseStreamingScraper streaming(ScrapeMetrics scrapeMetrics) {
+        return new PlanPolslResponseStreamingScraper(new ElementAttributesScraper(), cssProperties(), scrapeMetrics);
+    }
+
+    public static CSSPropertiesScraper cssProperties() {
+        return new CSSPropertiesScraper();
+    }
+
+}
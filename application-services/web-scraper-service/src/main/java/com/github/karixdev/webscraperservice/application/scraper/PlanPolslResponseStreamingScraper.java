@@ -0,0 +1,515 @@
+package com.github.karixdev.webscraperservice.application.scraper;
+
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.application.props.PlanPolslScrapperProperties;
+import com.github.karixdev.webscraperservice.domain.RawAnchor;
+import com.github.karixdev.webscraperservice.domain.RawCourse;
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+import com.github.karixdev.webscraperservice.domain.RawTimeInterval;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.jsoup.parser.Parser;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Scrapes plan.polsl.pl response in a single forward pass over its content without building a DOM.
+ * Only {@code coursediv} and {@code CD} cells are tokenized, everything outside of them is skipped.
+ * Produces the same {@link RawSchedule} as {@link PlanPolslResponseContentScraper}.
+ */
+@Component
+@ConditionalOnProperty(name = "plan-polsl.scraper.engine", havingValue = "streaming")
+@RequiredArgsConstructor(access = AccessLevel.MODULE)
+public class PlanPolslResponseStreamingScraper implements PlanPolslResponseScraper {
+
+    private final ElementAttributesScraper attributesScraper;
+    private final CSSPropertiesScraper cssPropertiesScraper;
+    private final ScrapeMetrics scrapeMetrics;
+
+    @Override
+    public RawSchedule scrapSchedule(PlanPolslResponse planPolslResponse) {
+        // tokenizing and extraction happen in the same pass, it is recorded as parsing only
+        Scan scan = new Scan(planPolslResponse.content());
+        scrapeMetrics.time(ScrapeMetrics.Stage.PARSE, scan::run);
+
+        return RawSchedule.builder()
+                .timeIntervals(scan.timeIntervals)
+                .courses(scan.courses)
+                .build();
+    }
+
+    private RawCourse getRawCourse(CourseCell cell) {
+        CSSPixelProperties pixelProperties = cssPropertiesScraper.getPixelProperties(cell.style);
+
+        return RawCourse.builder()
+                .text(cell.text.toString().trim())
+                .anchors(cell.anchors)
+                .height(attributesScraper.parseSizeAttr(cell.ch))
+                .width(attributesScraper.parseSizeAttr(cell.cw))
+                .left(pixelProperties.left())
+                .top(pixelProperties.top())
+                .build();
+    }
+
+    private static RawTimeInterval getRawTimeInterval(String text) {
+        int separator = text.indexOf('-');
+        return new RawTimeInterval(text.substring(0, separator), text.substring(separator + 1));
+    }
+
+    private abstract static class Cell {
+        final String tagName;
+        int depth = 1;
+
+        Cell(String tagName) {
+            this.tagName = tagName;
+        }
+    }
+
+    private static class TimeCell extends Cell {
+        final StringBuilder text = new StringBuilder();
+
+        TimeCell(String tagName) {
+            super(tagName);
+        }
+    }
+
+    private static class CourseCell extends Cell {
+        final String cw;
+        final String ch;
+        final String style;
+        final StringBuilder text = new StringBuilder();
+        final Set<RawAnchor> anchors = new HashSet<>();
+
+        String anchorAddress;
+        StringBuilder anchorText;
+
+        CourseCell(String tagName, String cw, String ch, String style) {
+            super(tagName);
+            this.cw = cw;
+            this.ch = ch;
+            this.style = style;
+        }
+
+        void openAnchor(String address) {
+            closeAnchor();
+            anchorAddress = address;
+            anchorText = new StringBuilder();
+        }
+
+        void closeAnchor() {
+            if (anchorText == null) {
+                return;
+            }
+
+            anchors.add(RawAnchor.builder()
+                    .address(anchorAddress)
+                    .text(anchorText.toString().trim())
+                    .build());
+
+            anchorAddress = null;
+            anchorText = null;
+        }
+    }
+
+    private class Scan {
+        private final String html;
+        private final int length;
+        private final Deque<Cell> cells = new ArrayDeque<>();
+
+        private final Set<RawTimeInterval> timeIntervals = new HashSet<>();
+        private final Set<RawCourse> courses = new HashSet<>();
+
+        private int pos;
+        private int attrValueEnd;
+
+        Scan(String html) {
+            this.html = html;
+            this.length = html.length();
+        }
+
+        void run() {
+            while (pos < length) {
+                int lt = html.indexOf('<', pos);
+                if (lt < 0) {
+                    text(pos, length);
+                    break;
+                }
+
+                text(pos, lt);
+                pos = lt;
+
+                char next = lt + 1 < length ? html.charAt(lt + 1) : 0;
+
+                if (html.startsWith("<!--", lt)) {
+                    pos = skipPast("-->", lt + 4);
+                } else if (next == '/') {
+                    endTag();
+                } else if (isAsciiLetter(next)) {
+                    startTag();
+                } else if (next == '!' || next == '?') {
+                    pos = skipPast(">", lt + 2);
+                } else {
+                    text(lt, lt + 1);
+                    pos = lt + 1;
+                }
+            }
+
+            while (!cells.isEmpty()) {
+                closeCell();
+            }
+        }
+
+        private void startTag() {
+            int nameStart = pos + 1;
+            int nameEnd = tagNameEnd(nameStart);
+            int tagEnd = tagEnd(nameEnd);
+            pos = tagEnd < length ? tagEnd + 1 : length;
+
+            boolean selfClosing = tagEnd > nameEnd && html.charAt(tagEnd - 1) == '/';
+            boolean isVoid = selfClosing || isVoidElement(nameStart, nameEnd);
+
+            if (isTableCell(nameStart, nameEnd) || nameIs(nameStart, nameEnd, "tr")) {
+                closeImplicitlyEndedTableCell();
+            }
+
+            Cell current = cells.peek();
+            if (current != null) {
+                childStartTag(current, nameStart, nameEnd, tagEnd);
+            }
+
+            Cell opened = isVoid ? null : openedCell(nameStart, nameEnd, tagEnd);
+            if (opened != null) {
+                cells.push(opened);
+            } else if (current != null && !isVoid && nameIs(nameStart, nameEnd, current.tagName)) {
+                current.depth++;
+            }
+
+            if (nameIs(nameStart, nameEnd, "script") || nameIs(nameStart, nameEnd, "style")) {
+                skipRawText(nameStart, nameEnd);
+            }
+        }
+
+        private void childStartTag(Cell cell, int nameStart, int nameEnd, int tagEnd) {
+            boolean isBr = nameIs(nameStart, nameEnd, "br");
+
+            if (cell instanceof TimeCell timeCell) {
+                if (isBr || isBlockElement(nameStart, nameEnd)) {
+                    appendNormalised(timeCell.text, " ");
+                }
+                return;
+            }
+
+            CourseCell courseCell = (CourseCell) cell;
+            if (nameIs(nameStart, nameEnd, "a")) {
+                String href = attr(nameEnd, tagEnd, "href");
+                courseCell.openAnchor(href == null ? "" : decode(href, true));
+            } else if (isBr) {
+                if (courseCell.anchorText != null) {
+                    appendNormalised(courseCell.anchorText, " ");
+                } else {
+                    courseCell.text.append('\n');
+                }
+            }
+        }
+
+        private Cell openedCell(int nameStart, int nameEnd, int tagEnd) {
+            String classes = attr(nameEnd, tagEnd, "class");
+            if (classes == null) {
+                return null;
+            }
+
+            if (hasClass(classes, PlanPolslScrapperProperties.COURSE_CELL_CLASS)) {
+                return new CourseCell(
+                        html.substring(nameStart, nameEnd).toLowerCase(),
+                        decodedAttr(nameEnd, tagEnd, "cw"),
+                        decodedAttr(nameEnd, tagEnd, "ch"),
+                        decodedAttr(nameEnd, tagEnd, "style")
+                );
+            }
+
+            if (hasClass(classes, PlanPolslScrapperProperties.TIME_CELL_CLASS)) {
+                return new TimeCell(html.substring(nameStart, nameEnd).toLowerCase());
+            }
+
+            return null;
+        }
+
+        private void endTag() {
+            int nameStart = pos + 2;
+            int nameEnd = tagNameEnd(nameStart);
+            int tagEnd = html.indexOf('>', nameEnd);
+            pos = tagEnd < 0 ? length : tagEnd + 1;
+
+            Cell current = cells.peek();
+            if (current == null) {
+                return;
+            }
+
+            if (current instanceof CourseCell courseCell && nameIs(nameStart, nameEnd, "a")) {
+                courseCell.closeAnchor();
+                return;
+            }
+
+            if (nameIs(nameStart, nameEnd, "tr")
+                    || nameIs(nameStart, nameEnd, "tbody")
+                    || nameIs(nameStart, nameEnd, "table")) {
+                closeImplicitlyEndedTableCell();
+                return;
+            }
+
+            if (nameIs(nameStart, nameEnd, current.tagName) && --current.depth == 0) {
+                closeCell();
+            }
+        }
+
+        private void closeImplicitlyEndedTableCell() {
+            Cell current = cells.peek();
+            if (current != null && current.depth == 1 && (current.tagName.equals("td") || current.tagName.equals("th"))) {
+                closeCell();
+            }
+        }
+
+        private void closeCell() {
+            Cell cell = cells.pop();
+
+            if (cell instanceof TimeCell timeCell) {
+                String text = timeCell.text.toString().trim();
+                if (PlanPolslScrapperProperties.TIME_CELL_TEXT_PATTERN.matcher(text).matches()) {
+                    timeIntervals.add(getRawTimeInterval(text));
+                }
+            } else {
+                CourseCell courseCell = (CourseCell) cell;
+                courseCell.closeAnchor();
+                courses.add(getRawCourse(courseCell));
+            }
+        }
+
+        private void text(int start, int end) {
+            Cell cell = cells.peek();
+            if (cell == null || start >= end) {
+                return;
+            }
+
+            String text = decode(html.substring(start, end), false);
+
+            if (cell instanceof TimeCell timeCell) {
+                appendNormalised(timeCell.text, text);
+                return;
+            }
+
+            CourseCell courseCell = (CourseCell) cell;
+            if (courseCell.anchorText != null) {
+                appendNormalised(courseCell.anchorText, text);
+            } else {
+                courseCell.text.append(text);
+            }
+        }
+
+        private void skipRawText(int nameStart, int nameEnd) {
+            String closing = "</" + html.substring(nameStart, nameEnd);
+            int end = indexOfIgnoreCase(closing, pos);
+            pos = end < 0 ? length : end;
+        }
+
+        private int skipPast(String terminator, int from) {
+            int end = html.indexOf(terminator, from);
+            return end < 0 ? length : end + terminator.length();
+        }
+
+        private int tagNameEnd(int from) {
+            int i = from;
+            while (i < length) {
+                char c = html.charAt(i);
+                if (c == '>' || c == '/' || Character.isWhitespace(c)) {
+                    break;
+                }
+                i++;
+            }
+            return i;
+        }
+
+        private int tagEnd(int from) {
+            char quote = 0;
+            for (int i = from; i < length; i++) {
+                char c = html.charAt(i);
+                if (quote != 0) {
+                    if (c == quote) {
+                        quote = 0;
+                    }
+                } else if (c == '"' || c == '\'') {
+                    quote = c;
+                } else if (c == '>') {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        private String decodedAttr(int from, int to, String name) {
+            String value = attr(from, to, name);
+            return value == null ? "" : decode(value, true);
+        }
+
+        private String attr(int from, int to, String name) {
+            int valueStart = findAttr(from, to, name);
+            return valueStart < 0 ? null : html.substring(valueStart, attrValueEnd);
+        }
+
+        private int findAttr(int from, int to, String name) {
+            int i = from;
+            while (i < to) {
+                char c = html.charAt(i);
+                if (Character.isWhitespace(c) || c == '/') {
+                    i++;
+                    continue;
+                }
+
+                int nameStart = i;
+                while (i < to) {
+                    c = html.charAt(i);
+                    if (c == '=' || c == '/' || Character.isWhitespace(c)) {
+                        break;
+                    }
+                    i++;
+                }
+                boolean matches = nameIs(nameStart, i, name);
+
+                while (i < to && Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+
+                if (i >= to || html.charAt(i) != '=') {
+                    if (matches) {
+                        attrValueEnd = nameStart;
+                        return nameStart;
+                    }
+                    continue;
+                }
+
+                i++;
+                while (i < to && Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+
+                int valueStart;
+                int valueEnd;
+                if (i < to && (html.charAt(i) == '"' || html.charAt(i) == '\'')) {
+                    char quote = html.charAt(i);
+                    valueStart = i + 1;
+                    valueEnd = html.indexOf(quote, valueStart);
+                    if (valueEnd < 0 || valueEnd > to) {
+                        valueEnd = to;
+                    }
+                    i = valueEnd + 1;
+                } else {
+                    valueStart = i;
+                    while (i < to && !Character.isWhitespace(html.charAt(i))) {
+                        i++;
+                    }
+                    valueEnd = i;
+                }
+
+                if (matches) {
+                    attrValueEnd = valueEnd;
+                    return valueStart;
+                }
+            }
+            return -1;
+        }
+
+        private boolean nameIs(int start, int end, String name) {
+            return end - start == name.length() && html.regionMatches(true, start, name, 0, name.length());
+        }
+
+        private boolean isTableCell(int start, int end) {
+            return nameIs(start, end, "td") || nameIs(start, end, "th");
+        }
+
+        private boolean isVoidElement(int start, int end) {
+            for (String name : VOID_ELEMENTS) {
+                if (nameIs(start, end, name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean isBlockElement(int start, int end) {
+            for (String name : BLOCK_ELEMENTS) {
+                if (nameIs(start, end, name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int indexOfIgnoreCase(String str, int from) {
+            for (int i = from; i <= length - str.length(); i++) {
+                if (html.regionMatches(true, i, str, 0, str.length())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final String[] VOID_ELEMENTS = {
+            "br", "img", "hr", "meta", "link", "input", "col", "area", "base", "wbr", "param", "source", "track", "embed"
+    };
+
+    private static final String[] BLOCK_ELEMENTS = {
+            "div", "p", "td", "th", "tr", "li", "ul", "ol", "table", "tbody", "thead"
+    };
+
+    private static boolean hasClass(String classes, String className) {
+        int length = classes.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && Character.isWhitespace(classes.charAt(i))) {
+                i++;
+            }
+
+            int start = i;
+            while (i < length && !Character.isWhitespace(classes.charAt(i))) {
+                i++;
+            }
+
+            if (i - start == className.length() && classes.regionMatches(true, start, className, 0, className.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String decode(String value, boolean inAttribute) {
+        return value.indexOf('&') < 0 ? value : Parser.unescapeEntities(value, inAttribute);
+    }
+
+    private static void appendNormalised(StringBuilder accum, CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (isActuallyWhitespace(c)) {
+                if (!accum.isEmpty() && accum.charAt(accum.length() - 1) != ' ') {
+                    accum.append(' ');
+                }
+            } else {
+                accum.append(c);
+            }
+        }
+    }
+
+    private static boolean isActuallyWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r' || c == 160;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves plan.polsl.pl pages from {@link PlanPolslPageArchive} instead of the network. The latest archived fetch of
+ * a page is returned, validators are ignored so every call yields full content.
+ */
+@RequiredArgsConstructor
+public class ArchiveReplayPlanPolslClient implements PlanPolslClient {
+
+    private final PlanPolslPageArchive archive;
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH) {
+        ArchivedPageEntry entry = archive.findLatest(id, type, wd)
+                .orElseThrow(() -> new ArchivedPageNotFoundException(id, type, wd));
+
+        return PlanPolslResponse.builder()
+                .content(archive.readContent(entry))
+                .build();
+    }
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return getSchedule(id, type, wd, winW, winH);
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ArchiveReplayReactivePlanPolslClient implements ReactivePlanPolslClient {
+
+    private final PlanPolslClient replayClient;
+
+    @Override
+    public Mono<PlanPolslResponse> getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return Mono.fromCallable(() -> replayClient.getSchedule(id, type, wd, winW, winH, etag, lastModified));
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+import lombok.Builder;
+
+import java.time.Instant;
+
+/**
+ * Index record of one archived fetch. Entries of identical pages share the same compressed body.
+ */
+@Builder
+public record ArchivedPageEntry(
+        int planPolslId,
+        int type,
+        int weekDays,
+        Instant fetchedAt,
+        String contentHash,
+        long bodyOffset,
+        int compressedLength,
+        int contentLength
+) {}
@@ -0,0 +1,9 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+public class ArchivedPageNotFoundException extends RuntimeException {
+
+    public ArchivedPageNotFoundException(int planPolslId, int type, int weekDays) {
+        super("plan.polsl.pl page id=%d type=%d wd=%d is not archived".formatted(planPolslId, type, weekDays));
+    }
+
+}
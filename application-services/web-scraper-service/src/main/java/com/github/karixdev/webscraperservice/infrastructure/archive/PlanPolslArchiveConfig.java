@@ -0,0 +1,23 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+import java.time.Clock;
+
+@Configuration
+public class PlanPolslArchiveConfig {
+
+    public static final String MODE_RECORD = "record";
+    public static final String MODE_REPLAY = "replay";
+
+    @Bean
+    @ConditionalOnExpression("'${plan-polsl.archive.mode}' != 'off'")
+    PlanPolslPageArchive planPolslPageArchive(@Value("${plan-polsl.archive.directory}") Path directory) {
+        return new PlanPolslPageArchive(directory, Clock.systemUTC());
+    }
+
+}
@@ -0,0 +1,324 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Append-only archive of fetched plan.polsl.pl pages. It consists of two files:
+ * <ul>
+ *     <li>{@code pages.dat} - Deflate compressed page bodies, every distinct content is stored once,</li>
+ *     <li>{@code pages.idx} - fixed size index records, one per archived fetch, pointing into {@code pages.dat}.</li>
+ * </ul>
+ * Bodies are always written before their index record, so a crash can leave at most a torn index record at the end
+ * of the file, which is dropped on open. Both files are read through memory mapping, the index once on open and the
+ * bodies on every read. A single archive holds up to 2GB of compressed bodies.
+ */
+@Slf4j
+public class PlanPolslPageArchive implements Closeable {
+
+    static final String DATA_FILE = "pages.dat";
+    static final String INDEX_FILE = "pages.idx";
+
+    // id, type, wd, fetchedAt, sha-256, body offset, compressed length, content length
+    static final int INDEX_RECORD_SIZE = 4 + 4 + 4 + 8 + 32 + 8 + 4 + 4;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final FileChannel dataChannel;
+    private final FileChannel indexChannel;
+    private final Clock clock;
+
+    private final Map<PageKey, List<ArchivedPageEntry>> entriesByPage = new HashMap<>();
+    private final Map<String, ArchivedPageEntry> entriesByHash = new HashMap<>();
+
+    private volatile MappedByteBuffer mappedData;
+
+    public PlanPolslPageArchive(Path directory, Clock clock) {
+        this.clock = clock;
+
+        try {
+            Files.createDirectories(directory);
+
+            this.dataChannel = FileChannel.open(
+                    directory.resolve(DATA_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+            );
+            this.indexChannel = FileChannel.open(
+                    directory.resolve(INDEX_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+            );
+
+            loadIndex();
+            this.mappedData = map();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized ArchivedPageEntry append(int planPolslId, int type, int weekDays, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        String contentHash = sha256(bytes);
+
+        try {
+            ArchivedPageEntry body = entriesByHash.get(contentHash);
+            long bodyOffset;
+            int compressedLength;
+
+            if (body != null) {
+                bodyOffset = body.bodyOffset();
+                compressedLength = body.compressedLength();
+            } else {
+                ByteBuffer compressed = compress(bytes);
+                bodyOffset = dataChannel.size();
+                compressedLength = compressed.remaining();
+                writeFully(dataChannel, compressed, bodyOffset);
+            }
+
+            ArchivedPageEntry entry = ArchivedPageEntry.builder()
+                    .planPolslId(planPolslId)
+                    .type(type)
+                    .weekDays(weekDays)
+                    .fetchedAt(clock.instant())
+                    .contentHash(contentHash)
+                    .bodyOffset(bodyOffset)
+                    .compressedLength(compressedLength)
+                    .contentLength(bytes.length)
+                    .build();
+
+            writeFully(indexChannel, encode(entry), indexChannel.size());
+            register(entry);
+
+            return entry;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized Optional<ArchivedPageEntry> findLatest(int planPolslId, int type, int weekDays) {
+        List<ArchivedPageEntry> entries = entriesByPage.get(new PageKey(planPolslId, type, weekDays));
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(entries.get(entries.size() - 1));
+    }
+
+    public synchronized Optional<ArchivedPageEntry> findLatestAt(int planPolslId, int type, int weekDays, Instant at) {
+        List<ArchivedPageEntry> entries = entriesByPage.getOrDefault(new PageKey(planPolslId, type, weekDays), List.of());
+
+        ArchivedPageEntry latest = null;
+        for (ArchivedPageEntry entry : entries) {
+            if (entry.fetchedAt().isAfter(at)) {
+                break;
+            }
+            latest = entry;
+        }
+
+        return Optional.ofNullable(latest);
+    }
+
+    public synchronized Optional<ArchivedPageEntry> findByContentHash(String contentHash) {
+        return Optional.ofNullable(entriesByHash.get(contentHash));
+    }
+
+    /**
+     * @return archived fetches of the page in fetch time order
+     */
+    public synchronized List<ArchivedPageEntry> history(int planPolslId, int type, int weekDays) {
+        return List.copyOf(entriesByPage.getOrDefault(new PageKey(planPolslId, type, weekDays), List.of()));
+    }
+
+    public String readContent(ArchivedPageEntry entry) {
+        long end = entry.bodyOffset() + entry.compressedLength();
+
+        MappedByteBuffer data = mappedData;
+        if (data.capacity() < end) {
+            data = remap(end);
+        }
+
+        ByteBuffer compressed = data.slice((int) entry.bodyOffset(), entry.compressedLength());
+
+        return new String(decompress(compressed, entry.contentLength()), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try (dataChannel; indexChannel) {
+            dataChannel.force(true);
+            indexChannel.force(true);
+        }
+    }
+
+    private void loadIndex() throws IOException {
+        long indexSize = indexChannel.size();
+        long validSize = indexSize - indexSize % INDEX_RECORD_SIZE;
+        long dataSize = dataChannel.size();
+
+        if (validSize > 0) {
+            MappedByteBuffer index = indexChannel.map(FileChannel.MapMode.READ_ONLY, 0, validSize);
+            while (index.remaining() >= INDEX_RECORD_SIZE) {
+                ArchivedPageEntry entry = decode(index);
+                if (entry.bodyOffset() + entry.compressedLength() > dataSize) {
+                    validSize = index.position() - INDEX_RECORD_SIZE;
+                    break;
+                }
+                register(entry);
+            }
+        }
+
+        if (validSize < indexSize) {
+            log.warn("Dropping {} bytes of torn plan.polsl.pl archive index records", indexSize - validSize);
+            indexChannel.truncate(validSize);
+        }
+    }
+
+    private void register(ArchivedPageEntry entry) {
+        entriesByPage.computeIfAbsent(
+                new PageKey(entry.planPolslId(), entry.type(), entry.weekDays()),
+                key -> new ArrayList<>()
+        ).add(entry);
+        entriesByHash.putIfAbsent(entry.contentHash(), entry);
+    }
+
+    private synchronized MappedByteBuffer remap(long requiredSize) {
+        if (mappedData.capacity() < requiredSize) {
+            mappedData = map();
+        }
+
+        return mappedData;
+    }
+
+    private MappedByteBuffer map() {
+        try {
+            long size = dataChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("plan.polsl.pl archive exceeds 2GB, start a new archive directory");
+            }
+
+            return dataChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ByteBuffer encode(ArchivedPageEntry entry) {
+        ByteBuffer buffer = ByteBuffer.allocate(INDEX_RECORD_SIZE);
+        buffer.putInt(entry.planPolslId());
+        buffer.putInt(entry.type());
+        buffer.putInt(entry.weekDays());
+        buffer.putLong(entry.fetchedAt().toEpochMilli());
+        buffer.put(HEX.parseHex(entry.contentHash()));
+        buffer.putLong(entry.bodyOffset());
+        buffer.putInt(entry.compressedLength());
+        buffer.putInt(entry.contentLength());
+
+        return buffer.flip();
+    }
+
+    private static ArchivedPageEntry decode(ByteBuffer buffer) {
+        int planPolslId = buffer.getInt();
+        int type = buffer.getInt();
+        int weekDays = buffer.getInt();
+        Instant fetchedAt = Instant.ofEpochMilli(buffer.getLong());
+        byte[] hash = new byte[32];
+        buffer.get(hash);
+
+        return ArchivedPageEntry.builder()
+                .planPolslId(planPolslId)
+                .type(type)
+                .weekDays(weekDays)
+                .fetchedAt(fetchedAt)
+                .contentHash(HEX.formatHex(hash))
+                .bodyOffset(buffer.getLong())
+                .compressedLength(buffer.getInt())
+                .contentLength(buffer.getInt())
+                .build();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static ByteBuffer compress(byte[] bytes) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+
+            ByteBuffer out = ByteBuffer.allocate(Math.max(64, bytes.length / 4));
+            while (!deflater.finished()) {
+                if (!out.hasRemaining()) {
+                    out = ByteBuffer.allocate(out.capacity() * 2).put(out.flip());
+                }
+                deflater.deflate(out);
+            }
+
+            return out.flip();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(ByteBuffer compressed, int contentLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+
+            byte[] content = new byte[contentLength];
+            int read = 0;
+            while (read < contentLength && !inflater.finished()) {
+                int inflated = inflater.inflate(content, read, contentLength - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+
+            if (read != contentLength) {
+                throw new IllegalStateException("Archived plan.polsl.pl page body is corrupted");
+            }
+
+            return content;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Archived plan.polsl.pl page body is corrupted", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record PageKey(int planPolslId, int type, int weekDays) {}
+
+}
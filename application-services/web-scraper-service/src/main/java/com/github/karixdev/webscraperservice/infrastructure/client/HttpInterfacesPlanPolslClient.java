@@ -1,20 +1,27 @@
 package com.github.karixdev.webscraperservice.infrastructure.client;
 
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @HttpExchange
 public interface HttpInterfacesPlanPolslClient {
 
     @GetExchange("/plan.php")
-    ByteArrayResource getSchedule(
+    Mono<ResponseEntity<Flux<DataBuffer>>> getSchedule(
             @RequestParam(name = "id") int id,
             @RequestParam(name = "type") int type,
             @RequestParam(name = "wd") int wd,
             @RequestParam(name = "winW") int winW,
-            @RequestParam(name = "winH") int winH
+            @RequestParam(name = "winH") int winH,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(name = HttpHeaders.IF_MODIFIED_SINCE, required = false) String ifModifiedSince
     );
 
 }
@@ -1,25 +1,58 @@
 package com.github.karixdev.webscraperservice.infrastructure.client;
 
 import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.infrastructure.archive.ArchiveReplayPlanPolslClient;
+import com.github.karixdev.webscraperservice.infrastructure.archive.ArchiveReplayReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.infrastructure.archive.PlanPolslArchiveConfig;
+import com.github.karixdev.webscraperservice.infrastructure.archive.PlanPolslPageArchive;
+import com.github.karixdev.webscraperservice.infrastructure.client.breaker.PlanPolslCircuitBreaker;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.PlanPolslClientArchivingDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.PlanPolslClientCircuitBreakerDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.PlanPolslClientFetchSchedulerDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.PlanPolslClientSingleFlightDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.ReactivePlanPolslClientArchivingDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.ReactivePlanPolslClientCircuitBreakerDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.ReactivePlanPolslClientFetchSchedulerDecorator;
+import com.github.karixdev.webscraperservice.infrastructure.client.decorator.ReactivePlanPolslClientSingleFlightDecorator;
 import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import com.github.karixdev.webscraperservice.infrastructure.client.scheduler.PlanPolslFetchScheduler;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 @Configuration
 public class PlanPolslClientConfig {
 
     WebClient webClient(
             String planPolslUrl,
+            HttpClient httpClient,
             ObservationRegistry observationRegistry
     ) {
         return WebClient.builder()
                 .baseUrl(planPolslUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultStatusHandler(HttpStatusCode::isError, response -> {
                     int statusCode = response.statusCode().value();
                     throw new PlanPolslUnavailableException(statusCode);
@@ -37,15 +70,163 @@ public class PlanPolslClientConfig {
         return factory.createClient(HttpInterfacesPlanPolslClient.class);
     }
 
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider planPolslConnectionProvider(
+            @Value("${plan-polsl.client.pool.max-connections}") int maxConnections,
+            @Value("${plan-polsl.client.pool.pending-acquire-max-count}") int pendingAcquireMaxCount,
+            @Value("${plan-polsl.client.pool.pending-acquire-timeout}") Duration pendingAcquireTimeout,
+            @Value("${plan-polsl.client.pool.max-idle-time}") Duration maxIdleTime,
+            @Value("${plan-polsl.client.pool.max-life-time}") Duration maxLifeTime,
+            @Value("${plan-polsl.client.pool.eviction-interval}") Duration evictionInterval
+    ) {
+        // metrics(true) publishes active, idle and pending acquire gauges tagged with the pool name to the global
+        // registry, which Spring Boot binds to its own registries
+        return ConnectionProvider.builder("plan-polsl")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictionInterval)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    HttpClient planPolslHttpClient(
+            ConnectionProvider planPolslConnectionProvider,
+            @Value("${plan-polsl.client.connect-timeout}") Duration connectTimeout,
+            @Value("${plan-polsl.client.response-timeout}") Duration responseTimeout,
+            @Value("${plan-polsl.client.compression}") boolean compression
+    ) {
+        return HttpClient.create(planPolslConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .compress(compression)
+                .responseTimeout(responseTimeout);
+    }
+
+    @Bean
+    PlanPolslFetchScheduler planPolslFetchScheduler(
+            @Value("${plan-polsl.fetch.requests-per-second}") double requestsPerSecond,
+            @Value("${plan-polsl.fetch.burst}") int burst,
+            @Value("${plan-polsl.fetch.max-in-flight}") int maxInFlight,
+            @Value("${plan-polsl.fetch.max-queued}") int maxQueued,
+            @Value("${plan-polsl.fetch.max-wait}") Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        return new PlanPolslFetchScheduler(
+                requestsPerSecond,
+                burst,
+                maxInFlight,
+                maxQueued,
+                maxWait,
+                meterRegistry
+        );
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    ScheduledExecutorService planPolslCircuitBreakerScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("plan-polsl-circuit-breaker-"));
+    }
+
+    @Bean
+    PlanPolslCircuitBreaker planPolslCircuitBreaker(
+            @Value("${plan-polsl.circuit-breaker.failure-threshold}") int failureThreshold,
+            @Value("${plan-polsl.circuit-breaker.open-duration}") Duration openDuration,
+            @Value("${plan-polsl.circuit-breaker.half-open-probes}") int halfOpenProbes,
+            ScheduledExecutorService planPolslCircuitBreakerScheduler,
+            MeterRegistry meterRegistry
+    ) {
+        return new PlanPolslCircuitBreaker(
+                failureThreshold,
+                openDuration,
+                halfOpenProbes,
+                planPolslCircuitBreakerScheduler,
+                meterRegistry
+        );
+    }
+
+    @Bean
+    PlanPolslSingleFlight planPolslSingleFlight(MeterRegistry meterRegistry) {
+        return new PlanPolslSingleFlight(meterRegistry);
+    }
+
+    @Bean
+    PlanPolslResponseDecoder planPolslResponseDecoder(
+            @Value("${plan-polsl.client.max-body-size}") DataSize maxBodySize,
+            ScrapeMetrics scrapeMetrics
+    ) {
+        return new PlanPolslResponseDecoder(maxBodySize.toBytes(), scrapeMetrics);
+    }
+
     @Bean
     PlanPolslClient planPolslClient(
             @Value("${plan-polsl-url}") String planPolslUrl,
-            ObservationRegistry observationRegistry
+            HttpClient planPolslHttpClient,
+            ObservationRegistry observationRegistry,
+            PlanPolslFetchScheduler fetchScheduler,
+            PlanPolslCircuitBreaker circuitBreaker,
+            PlanPolslSingleFlight singleFlight,
+            PlanPolslResponseDecoder responseDecoder,
+            @Value("${plan-polsl.archive.mode}") String archiveMode,
+            ObjectProvider<PlanPolslPageArchive> pageArchive
+    ) {
+        if (PlanPolslArchiveConfig.MODE_REPLAY.equals(archiveMode)) {
+            return new ArchiveReplayPlanPolslClient(pageArchive.getObject());
+        }
+
+        WebClient webClient = webClient(planPolslUrl, planPolslHttpClient, observationRegistry);
+        HttpInterfacesPlanPolslClient httpInterfacesClient = httpInterfacesPlanPolslClient(webClient);
+
+        PlanPolslClient client = new PlanPolslClientAdapter(httpInterfacesClient, responseDecoder);
+        client = new PlanPolslClientFetchSchedulerDecorator(client, fetchScheduler);
+
+        if (PlanPolslArchiveConfig.MODE_RECORD.equals(archiveMode)) {
+            client = new PlanPolslClientArchivingDecorator(client, pageArchive.getObject());
+        }
+
+        client = new PlanPolslClientCircuitBreakerDecorator(client, circuitBreaker);
+
+        // outermost, so that a coalesced fetch counts once towards both the circuit breaker and the fetch budget
+        return new PlanPolslClientSingleFlightDecorator(client, singleFlight);
+    }
+
+    @Bean
+    ReactivePlanPolslClient reactivePlanPolslClient(
+            @Value("${plan-polsl-url}") String planPolslUrl,
+            HttpClient planPolslHttpClient,
+            ObservationRegistry observationRegistry,
+            PlanPolslFetchScheduler fetchScheduler,
+            PlanPolslCircuitBreaker circuitBreaker,
+            PlanPolslSingleFlight singleFlight,
+            PlanPolslResponseDecoder responseDecoder,
+            @Value("${plan-polsl.archive.mode}") String archiveMode,
+            ObjectProvider<PlanPolslPageArchive> pageArchive
     ) {
-        WebClient webClient = webClient(planPolslUrl, observationRegistry);
+        if (PlanPolslArchiveConfig.MODE_REPLAY.equals(archiveMode)) {
+            return new ArchiveReplayReactivePlanPolslClient(new ArchiveReplayPlanPolslClient(pageArchive.getObject()));
+        }
+
+        WebClient webClient = webClient(planPolslUrl, planPolslHttpClient, observationRegistry);
         HttpInterfacesPlanPolslClient httpInterfacesClient = httpInterfacesPlanPolslClient(webClient);
 
-        return new PlanPolslClientAdapter(httpInterfacesClient);
+        ReactivePlanPolslClient client = new ReactivePlanPolslClientAdapter(httpInterfacesClient, responseDecoder);
+        client = new ReactivePlanPolslClientFetchSchedulerDecorator(client, fetchScheduler);
+
+        if (PlanPolslArchiveConfig.MODE_RECORD.equals(archiveMode)) {
+            client = new ReactivePlanPolslClientArchivingDecorator(client, pageArchive.getObject());
+        }
+
+        client = new ReactivePlanPolslClientCircuitBreakerDecorator(client, circuitBreaker);
+
+        return new ReactivePlanPolslClientSingleFlightDecorator(client, singleFlight);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    Scheduler planPolslParsingScheduler(@Value("${plan-polsl.scraper.parallelism}") int parallelism) {
+        return Schedulers.newParallel("plan-polsl-parser", parallelism);
     }
 
 }
@@ -0,0 +1,151 @@
+package com.github.karixdev.webscraperservice.infrastructure.client;
+
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslResponseTooLargeException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes plan.polsl.pl response bodies chunk by chunk as they arrive. Every {@link DataBuffer} is decoded straight
+ * into one char buffer and released right away, so the raw body is never held in memory as a whole. A body larger
+ * than {@code maxBodySize} aborts the response, as soon as its {@code Content-Length} or the bytes read so far
+ * exceed the limit.
+ */
+public class PlanPolslResponseDecoder {
+
+    private static final Charset CHARSET = Charset.forName("ISO-8859-2");
+    private static final int DEFAULT_INITIAL_CAPACITY = 16 * 1024;
+
+    private final long maxBodySize;
+    private final ScrapeMetrics scrapeMetrics;
+
+    public PlanPolslResponseDecoder(long maxBodySize, ScrapeMetrics scrapeMetrics) {
+        this.maxBodySize = maxBodySize;
+        this.scrapeMetrics = scrapeMetrics;
+    }
+
+    public Mono<PlanPolslResponse> decode(ResponseEntity<Flux<DataBuffer>> response, String etag, String lastModified) {
+        Flux<DataBuffer> body = response.getBody() == null ? Flux.empty() : response.getBody();
+
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return body.doOnNext(DataBufferUtils::release)
+                    .then(Mono.just(PlanPolslResponse.builder()
+                            .etag(etag)
+                            .lastModified(lastModified)
+                            .notModified(true)
+                            .build()));
+        }
+
+        HttpHeaders headers = response.getHeaders();
+
+        return decodeBody(body, headers.getContentLength())
+                .map(content -> PlanPolslResponse.builder()
+                        .content(content)
+                        .etag(headers.getETag())
+                        .lastModified(headers.getFirst(HttpHeaders.LAST_MODIFIED))
+                        .build());
+    }
+
+    Mono<String> decodeBody(Flux<DataBuffer> body, long contentLength) {
+        return Mono.defer(() -> {
+            if (contentLength > maxBodySize) {
+                return body.next()
+                        .doOnNext(DataBufferUtils::release)
+                        .then(Mono.error(new PlanPolslResponseTooLargeException(maxBodySize)));
+            }
+
+            int initialCapacity = contentLength >= 0 ? (int) contentLength : DEFAULT_INITIAL_CAPACITY;
+            BodyDecoder decoder = new BodyDecoder(initialCapacity);
+
+            return body.doOnNext(decoder::decode)
+                    .then(Mono.fromCallable(decoder::finish));
+        });
+    }
+
+    private class BodyDecoder {
+
+        private final CharsetDecoder charsetDecoder = CHARSET.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        private CharBuffer chars;
+        private long bytesRead;
+        private long decodeNanos;
+
+        BodyDecoder(int initialCapacity) {
+            this.chars = CharBuffer.allocate(initialCapacity);
+        }
+
+        void decode(DataBuffer dataBuffer) {
+            long start = System.nanoTime();
+            try {
+                bytesRead += dataBuffer.readableByteCount();
+                if (bytesRead > maxBodySize) {
+                    throw new PlanPolslResponseTooLargeException(maxBodySize);
+                }
+
+                try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+                    while (iterator.hasNext()) {
+                        decode(iterator.next(), false);
+                    }
+                }
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+                decodeNanos += System.nanoTime() - start;
+            }
+        }
+
+        String finish() {
+            long start = System.nanoTime();
+
+            decode(ByteBuffer.allocate(0), true);
+            charsetDecoder.flush(chars);
+            chars.flip();
+            String content = chars.toString();
+
+            // chunks are decoded as they arrive, so only the time spent decoding them is recorded, not the waiting
+            scrapeMetrics.record(ScrapeMetrics.Stage.DECODE, decodeNanos + System.nanoTime() - start);
+            scrapeMetrics.recordResponseSize(bytesRead);
+
+            return content;
+        }
+
+        // ISO-8859-2 maps every byte to exactly one char, so input is always consumed completely and nothing has to be
+        // carried over to the next buffer
+        private void decode(ByteBuffer bytes, boolean endOfInput) {
+            ensureRemaining((int) Math.ceil(bytes.remaining() * charsetDecoder.maxCharsPerByte()));
+
+            CoderResult result = charsetDecoder.decode(bytes, chars, endOfInput);
+            if (result.isOverflow() || bytes.hasRemaining()) {
+                throw new IllegalStateException("Could not decode plan.polsl.pl response body");
+            }
+        }
+
+        private void ensureRemaining(int required) {
+            if (chars.remaining() >= required) {
+                return;
+            }
+
+            int capacity = Math.max(chars.capacity() * 2, chars.position() + required);
+            CharBuffer grown = CharBuffer.allocate(capacity);
+            chars.flip();
+            grown.put(chars);
+            chars = grown;
+        }
+
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.github.karixdev.webscraperservice.infrastructure.client;
+
+import io.netty.channel.ConnectTimeoutException;
+import io.netty.handler.timeout.TimeoutException;
+
+/**
+ * Recognizes the connect and response timeouts raised by the plan.polsl.pl {@code HttpClient}. They can surface
+ * either wrapped by {@code WebClient} or straight from the body stream, so the whole cause chain is checked.
+ */
+final class PlanPolslTimeouts {
+
+    private PlanPolslTimeouts() {
+    }
+
+    static boolean isTimeout(Throwable ex) {
+        for (Throwable current = ex; current != null; current = current.getCause()) {
+            if (current instanceof TimeoutException || current instanceof ConnectTimeoutException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
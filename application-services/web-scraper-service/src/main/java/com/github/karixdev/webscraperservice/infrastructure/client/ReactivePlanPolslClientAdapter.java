@@ -0,0 +1,22 @@
+package com.github.karixdev.webscraperservice.infrastructure.client;
+
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslTimeoutException;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactivePlanPolslClientAdapter implements ReactivePlanPolslClient {
+
+    private final HttpInterfacesPlanPolslClient client;
+    private final PlanPolslResponseDecoder decoder;
+
+    @Override
+    public Mono<PlanPolslResponse> getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return client.getSchedule(id, type, wd, winW, winH, etag, lastModified)
+                .flatMap(response -> decoder.decode(response, etag, lastModified))
+                .onErrorMap(PlanPolslTimeouts::isTimeout, PlanPolslTimeoutException::new);
+    }
+
+}
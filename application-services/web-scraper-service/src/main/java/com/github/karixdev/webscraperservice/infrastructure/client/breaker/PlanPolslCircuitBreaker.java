@@ -0,0 +1,193 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.breaker;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslFetchRejectedException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Stops calling plan.polsl.pl once it is down. After {@code failureThreshold} consecutive upstream failures the
+ * breaker opens and rejects fetches with {@link PlanPolslCircuitOpenException}. After {@code openDuration} it turns
+ * half-open and lets up to {@code halfOpenProbes} fetches through: a successful one closes the breaker, a failed one
+ * opens it again. Fetches rejected locally by the fetch scheduler are not upstream failures and are not counted.
+ */
+@Slf4j
+public class PlanPolslCircuitBreaker {
+
+    private static final String METRIC_PREFIX = "web_scraper.plan_polsl.circuit_breaker";
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final int halfOpenProbes;
+    private final ScheduledExecutorService scheduler;
+
+    private final List<Consumer<State>> listeners = new CopyOnWriteArrayList<>();
+
+    private final Counter rejectedCounter;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private int probesInFlight;
+
+    public PlanPolslCircuitBreaker(
+            int failureThreshold,
+            Duration openDuration,
+            int halfOpenProbes,
+            ScheduledExecutorService scheduler,
+            MeterRegistry meterRegistry
+    ) {
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.halfOpenProbes = halfOpenProbes;
+        this.scheduler = scheduler;
+
+        Gauge.builder(METRIC_PREFIX + ".state", this, breaker -> breaker.getState().ordinal())
+                .description("0 - closed, 1 - open, 2 - half-open")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers listener notified with the new state on every transition.
+     */
+    public void addListener(Consumer<State> listener) {
+        listeners.add(listener);
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public <T> T execute(Supplier<T> fetch) {
+        boolean probe = acquirePermission();
+
+        T result;
+        try {
+            result = fetch.get();
+        } catch (RuntimeException e) {
+            onError(e, probe);
+            throw e;
+        }
+
+        onSuccess(probe);
+        return result;
+    }
+
+    public <T> Mono<T> executeMono(Supplier<Mono<T>> fetch) {
+        return Mono.defer(() -> {
+            boolean probe = acquirePermission();
+
+            return fetch.get()
+                    .doOnSuccess(result -> onSuccess(probe))
+                    .doOnError(e -> onError(e, probe))
+                    .doOnCancel(() -> releaseProbe(probe));
+        });
+    }
+
+    /**
+     * @return whether the permitted fetch is a half-open probe
+     */
+    private boolean acquirePermission() {
+        synchronized (this) {
+            if (state == State.CLOSED) {
+                return false;
+            }
+            if (state == State.HALF_OPEN && probesInFlight < halfOpenProbes) {
+                probesInFlight++;
+                return true;
+            }
+        }
+
+        rejectedCounter.increment();
+        throw new PlanPolslCircuitOpenException();
+    }
+
+    private void onSuccess(boolean probe) {
+        synchronized (this) {
+            consecutiveFailures = 0;
+            if (!probe) {
+                return;
+            }
+            probesInFlight--;
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            state = State.CLOSED;
+        }
+
+        log.info("plan.polsl.pl responded to probe, closing circuit breaker");
+        notifyListeners(State.CLOSED);
+    }
+
+    private void onError(Throwable e, boolean probe) {
+        if (!isUpstreamFailure(e)) {
+            // the fetch did not tell anything about plan.polsl.pl
+            releaseProbe(probe);
+            return;
+        }
+
+        synchronized (this) {
+            if (probe) {
+                probesInFlight--;
+            }
+            consecutiveFailures++;
+            boolean shouldOpen = state == State.HALF_OPEN
+                    || (state == State.CLOSED && consecutiveFailures >= failureThreshold);
+            if (!shouldOpen) {
+                return;
+            }
+            state = State.OPEN;
+        }
+
+        log.warn("plan.polsl.pl is unavailable, opening circuit breaker for {}", openDuration);
+        scheduler.schedule(this::halfOpen, openDuration.toMillis(), TimeUnit.MILLISECONDS);
+        notifyListeners(State.OPEN);
+    }
+
+    private void halfOpen() {
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+
+        log.info("Probing plan.polsl.pl, circuit breaker is half-open");
+        notifyListeners(State.HALF_OPEN);
+    }
+
+    private synchronized void releaseProbe(boolean probe) {
+        if (probe) {
+            probesInFlight--;
+        }
+    }
+
+    private void notifyListeners(State newState) {
+        listeners.forEach(listener -> listener.accept(newState));
+    }
+
+    private static boolean isUpstreamFailure(Throwable e) {
+        return (e instanceof PlanPolslUnavailableException && !(e instanceof PlanPolslFetchRejectedException))
+                || e instanceof WebClientRequestException;
+    }
+
+}
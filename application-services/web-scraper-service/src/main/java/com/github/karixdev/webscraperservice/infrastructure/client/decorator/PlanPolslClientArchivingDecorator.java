@@ -0,0 +1,40 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.decorator;
+
+import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.archive.PlanPolslPageArchive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RequiredArgsConstructor
+public class PlanPolslClientArchivingDecorator implements PlanPolslClient {
+
+    private final PlanPolslClient client;
+    private final PlanPolslPageArchive archive;
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH) {
+        return archived(id, type, wd, client.getSchedule(id, type, wd, winW, winH));
+    }
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return archived(id, type, wd, client.getSchedule(id, type, wd, winW, winH, etag, lastModified));
+    }
+
+    private PlanPolslResponse archived(int id, int type, int wd, PlanPolslResponse response) {
+        if (response.notModified() || response.content() == null) {
+            return response;
+        }
+
+        try {
+            archive.append(id, type, wd, response.content());
+        } catch (RuntimeException e) {
+            log.warn("Could not archive plan.polsl.pl page id={} type={} wd={}", id, type, wd, e);
+        }
+
+        return response;
+    }
+
+}
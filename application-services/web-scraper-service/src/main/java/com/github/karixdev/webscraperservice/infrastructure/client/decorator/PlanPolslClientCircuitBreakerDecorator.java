@@ -0,0 +1,24 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.decorator;
+
+import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.breaker.PlanPolslCircuitBreaker;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PlanPolslClientCircuitBreakerDecorator implements PlanPolslClient {
+
+    private final PlanPolslClient client;
+    private final PlanPolslCircuitBreaker circuitBreaker;
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH) {
+        return circuitBreaker.execute(() -> client.getSchedule(id, type, wd, winW, winH));
+    }
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return circuitBreaker.execute(() -> client.getSchedule(id, type, wd, winW, winH, etag, lastModified));
+    }
+
+}
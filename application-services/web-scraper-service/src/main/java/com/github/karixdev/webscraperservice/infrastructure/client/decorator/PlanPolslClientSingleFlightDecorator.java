@@ -0,0 +1,27 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.decorator;
+
+import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight.FetchKey;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PlanPolslClientSingleFlightDecorator implements PlanPolslClient {
+
+    private final PlanPolslClient client;
+    private final PlanPolslSingleFlight singleFlight;
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH) {
+        return getSchedule(id, type, wd, winW, winH, null, null);
+    }
+
+    @Override
+    public PlanPolslResponse getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        FetchKey key = new FetchKey(id, type, wd, winW, winH, etag, lastModified);
+
+        return singleFlight.execute(key, () -> client.getSchedule(id, type, wd, winW, winH, etag, lastModified));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.decorator;
+
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.archive.PlanPolslPageArchive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReactivePlanPolslClientArchivingDecorator implements ReactivePlanPolslClient {
+
+    private final ReactivePlanPolslClient client;
+    private final PlanPolslPageArchive archive;
+
+    @Override
+    public Mono<PlanPolslResponse> getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return client.getSchedule(id, type, wd, winW, winH, etag, lastModified)
+                .flatMap(response -> {
+                    if (response.notModified() || response.content() == null) {
+                        return Mono.just(response);
+                    }
+
+                    return Mono.fromRunnable(() -> archive.append(id, type, wd, response.content()))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .doOnError(e -> log.warn("Could not archive plan.polsl.pl page id={} type={} wd={}", id, type, wd, e))
+                            .onErrorResume(e -> Mono.empty())
+                            .thenReturn(response);
+                });
+    }
+
+}
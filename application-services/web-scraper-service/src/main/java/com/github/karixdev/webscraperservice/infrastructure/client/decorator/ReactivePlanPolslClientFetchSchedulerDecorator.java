@@ -0,0 +1,20 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.decorator;
+
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.scheduler.PlanPolslFetchScheduler;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactivePlanPolslClientFetchSchedulerDecorator implements ReactivePlanPolslClient {
+
+    private final ReactivePlanPolslClient client;
+    private final PlanPolslFetchScheduler scheduler;
+
+    @Override
+    public Mono<PlanPolslResponse> getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        return scheduler.schedule(() -> client.getSchedule(id, type, wd, winW, winH, etag, lastModified));
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.decorator;
+
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight.FetchKey;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+public class ReactivePlanPolslClientSingleFlightDecorator implements ReactivePlanPolslClient {
+
+    private final ReactivePlanPolslClient client;
+    private final PlanPolslSingleFlight singleFlight;
+
+    @Override
+    public Mono<PlanPolslResponse> getSchedule(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {
+        FetchKey key = new FetchKey(id, type, wd, winW, winH, etag, lastModified);
+
+        return singleFlight.schedule(key, () -> client.getSchedule(id, type, wd, winW, winH, etag, lastModified));
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.exception;
+
+public class PlanPolslCircuitOpenException extends RuntimeException {
+
+    public PlanPolslCircuitOpenException() {
+        super("plan.polsl.pl circuit breaker is open");
+    }
+
+}
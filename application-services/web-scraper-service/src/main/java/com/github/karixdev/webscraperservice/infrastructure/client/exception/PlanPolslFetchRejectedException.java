@@ -0,0 +1,9 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.exception;
+
+public class PlanPolslFetchRejectedException extends PlanPolslUnavailableException {
+
+    public PlanPolslFetchRejectedException(String reason) {
+        super("plan.polsl.pl fetch was rejected: %s".formatted(reason));
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.exception;
+
+public class PlanPolslResponseTooLargeException extends RuntimeException {
+
+    public PlanPolslResponseTooLargeException(long maxBodySize) {
+        super("plan.polsl.pl response exceeded maximum body size of %d bytes".formatted(maxBodySize));
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.exception;
+
+public class PlanPolslTimeoutException extends PlanPolslUnavailableException {
+
+    public PlanPolslTimeoutException(Throwable cause) {
+        super("plan.polsl.pl did not respond in time");
+        initCause(cause);
+    }
+
+}
@@ -9,4 +9,8 @@ public class PlanPolslUnavailableException extends RuntimeException {
         super("plan.polsl.pl responded with error status code %d".formatted(statusCode));
     }
 
-}
\ No newline at end of file
+    protected PlanPolslUnavailableException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,189 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.scheduler;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslFetchRejectedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Paces requests sent to plan.polsl.pl. A fetch waits for a free in-flight slot and then for a token of
+ * the requests-per-second budget. At most {@code maxQueued} callers may wait at once and none of them longer than
+ * {@code maxWait}, otherwise {@link PlanPolslFetchRejectedException} is thrown.
+ */
+public class PlanPolslFetchScheduler {
+
+    private static final String METRIC_PREFIX = "web_scraper.plan_polsl.fetch";
+    private static final Duration SLOT_POLL_INTERVAL = Duration.ofMillis(10);
+
+    private final TokenBucket tokenBucket;
+    private final Semaphore inFlightSlots;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    public PlanPolslFetchScheduler(
+            double requestsPerSecond,
+            int burst,
+            int maxInFlight,
+            int maxQueued,
+            Duration maxWait,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenBucket = new TokenBucket(requestsPerSecond, burst, System::nanoTime);
+        this.inFlightSlots = new Semaphore(maxInFlight, true);
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+
+        Gauge.builder(METRIC_PREFIX + ".queued", queued, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".in_flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> fetch) {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            throw new PlanPolslFetchRejectedException("wait queue is full");
+        }
+
+        long start = System.nanoTime();
+        try {
+            acquire(start);
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        inFlight.incrementAndGet();
+        try {
+            return fetch.get();
+        } finally {
+            inFlight.decrementAndGet();
+            inFlightSlots.release();
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #execute(Supplier)}. In-flight slots, the requests-per-second budget and
+     * the wait queue are shared with blocking callers. Waiting for a slot polls it and waiting for a token is a timer,
+     * neither of them parks the calling thread.
+     */
+    public <T> Mono<T> schedule(Supplier<Mono<T>> fetch) {
+        return Mono.defer(() -> {
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+                return Mono.error(new PlanPolslFetchRejectedException("wait queue is full"));
+            }
+
+            long start = System.nanoTime();
+            AtomicBoolean holdsSlot = new AtomicBoolean();
+
+            Runnable leaveQueue = () -> {
+                queued.decrementAndGet();
+                waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            };
+
+            return acquireSlot(holdsSlot)
+                    .then(Mono.defer(() -> {
+                        long remainingNanos = maxWaitNanos - (System.nanoTime() - start);
+                        long waitNanos = tokenBucket.reserve(Math.max(0, remainingNanos));
+
+                        if (waitNanos < 0) {
+                            return Mono.<Long>error(
+                                    new PlanPolslFetchRejectedException("requests per second budget exhausted")
+                            );
+                        }
+
+                        return Mono.delay(Duration.ofNanos(waitNanos));
+                    }))
+                    .doOnTerminate(leaveQueue)
+                    .doOnCancel(leaveQueue)
+                    .then(Mono.defer(() -> {
+                        inFlight.incrementAndGet();
+                        return fetch.get().doFinally(signal -> inFlight.decrementAndGet());
+                    }))
+                    .doFinally(signal -> {
+                        if (holdsSlot.getAndSet(false)) {
+                            inFlightSlots.release();
+                        }
+                    });
+        });
+    }
+
+    /**
+     * Takes an in-flight slot as soon as one is free, without waiting on the semaphore. {@code holdsSlot} is set
+     * together with taking it, so that a caller cancelled right after still gives it back.
+     */
+    private Mono<Void> acquireSlot(AtomicBoolean holdsSlot) {
+        return Mono.fromSupplier(() -> {
+                    boolean acquired = inFlightSlots.tryAcquire();
+                    holdsSlot.set(acquired);
+                    return acquired;
+                })
+                .filter(Boolean::booleanValue)
+                .repeatWhenEmpty(attempts -> attempts.delayElements(SLOT_POLL_INTERVAL))
+                .timeout(
+                        Duration.ofNanos(maxWaitNanos),
+                        Mono.error(new PlanPolslFetchRejectedException("no in-flight slot freed up in time"))
+                )
+                .then();
+    }
+
+    private void acquire(long start) {
+        try {
+            if (!inFlightSlots.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                throw new PlanPolslFetchRejectedException("no in-flight slot freed up in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PlanPolslFetchRejectedException("interrupted while waiting for in-flight slot");
+        }
+
+        long remainingNanos = maxWaitNanos - (System.nanoTime() - start);
+        long waitNanos = tokenBucket.reserve(Math.max(0, remainingNanos));
+        if (waitNanos < 0) {
+            inFlightSlots.release();
+            throw new PlanPolslFetchRejectedException("requests per second budget exhausted");
+        }
+
+        if (!sleep(waitNanos)) {
+            inFlightSlots.release();
+            throw new PlanPolslFetchRejectedException("interrupted while waiting for requests per second budget");
+        }
+    }
+
+    /**
+     * @return false when the thread was interrupted while sleeping, its interrupt status is restored
+     */
+    private static boolean sleep(long nanos) {
+        long deadline = System.nanoTime() + nanos;
+        long remaining = nanos;
+        while (remaining > 0) {
+            LockSupport.parkNanos(remaining);
+            // parkNanos returns right away while the thread is interrupted, looping on would spin until the deadline
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            remaining = deadline - System.nanoTime();
+        }
+        return true;
+    }
+
+}
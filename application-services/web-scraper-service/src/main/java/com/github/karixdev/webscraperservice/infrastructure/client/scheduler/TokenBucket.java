@@ -0,0 +1,53 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.scheduler;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Reservation based token bucket. Instead of failing when no token is available, a caller reserves the next free
+ * slot and is told how long to wait for it, so callers are served in order of arrival at a steady rate.
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double nanosPerToken;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(double tokensPerSecond, double capacity, LongSupplier nanoClock) {
+        if (tokensPerSecond <= 0) {
+            throw new IllegalArgumentException("tokensPerSecond must be positive");
+        }
+
+        this.capacity = Math.max(1, capacity);
+        this.nanosPerToken = 1_000_000_000d / tokensPerSecond;
+        this.nanoClock = nanoClock;
+        this.tokens = this.capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    /**
+     * Reserves one token if it becomes available within {@code maxWaitNanos}.
+     *
+     * @return nanos the caller has to wait before using the token, or -1 when nothing was reserved
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        long now = nanoClock.getAsLong();
+        refill(now);
+
+        long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerToken);
+        if (waitNanos > maxWaitNanos) {
+            return -1;
+        }
+
+        tokens -= 1;
+        return waitNanos;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) / nanosPerToken);
+        lastRefill = now;
+    }
+
+}
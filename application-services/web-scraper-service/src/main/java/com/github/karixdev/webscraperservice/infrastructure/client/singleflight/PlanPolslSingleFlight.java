@@ -0,0 +1,104 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent fetches of the same plan.polsl.pl page. The first caller of a key performs the fetch, every
+ * caller arriving while it is in flight waits for and shares its result or exception. Nothing is cached: once the
+ * fetch completes the next caller fetches again.
+ */
+public class PlanPolslSingleFlight {
+
+    public static final String SAVED_FETCHES_METRIC = "web_scraper.plan_polsl.fetch.saved";
+
+    private final ConcurrentMap<FetchKey, CompletableFuture<Object>> inFlightFetches = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+
+    public PlanPolslSingleFlight(MeterRegistry meterRegistry) {
+        this.coalescedCounter = Counter.builder(SAVED_FETCHES_METRIC)
+                .tag("reason", "coalesced")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(FetchKey key, Supplier<T> fetch) {
+        CompletableFuture<Object> own = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightFetches.putIfAbsent(key, own);
+
+        if (inFlight != null) {
+            coalescedCounter.increment();
+            return (T) join(inFlight);
+        }
+
+        try {
+            T result = fetch.get();
+            own.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // an error has to release the waiting callers too, they would otherwise wait forever
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightFetches.remove(key, own);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> schedule(FetchKey key, Supplier<Mono<T>> fetch) {
+        return Mono.defer(() -> {
+            CompletableFuture<Object> own = new CompletableFuture<>();
+            CompletableFuture<Object> inFlight = inFlightFetches.putIfAbsent(key, own);
+
+            if (inFlight != null) {
+                coalescedCounter.increment();
+                // a waiting caller going away must not cancel the fetch the others wait for
+                return Mono.fromFuture(inFlight, true).map(result -> (T) result);
+            }
+
+            return fetch.get()
+                    .doOnSuccess(result -> {
+                        inFlightFetches.remove(key, own);
+                        own.complete(result);
+                    })
+                    .doOnError(e -> {
+                        inFlightFetches.remove(key, own);
+                        own.completeExceptionally(e);
+                    })
+                    .doOnCancel(() -> {
+                        inFlightFetches.remove(key, own);
+                        own.completeExceptionally(new CancellationException("plan.polsl.pl fetch was cancelled"));
+                    });
+        });
+    }
+
+    private static Object join(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Identifies a fetch. The validators are part of the key, because a not modified response only makes sense to
+     * callers that sent the same validators.
+     */
+    public record FetchKey(int id, int type, int wd, int winW, int winH, String etag, String lastModified) {}
+
+}
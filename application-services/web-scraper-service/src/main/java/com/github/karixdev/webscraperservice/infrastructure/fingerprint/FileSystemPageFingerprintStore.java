@@ -0,0 +1,97 @@
+package com.github.karixdev.webscraperservice.infrastructure.fingerprint;
+
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprint;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprintStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Properties;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "plan-polsl.fingerprint.store", havingValue = "file")
+public class FileSystemPageFingerprintStore implements PageFingerprintStore {
+
+    private static final String CONTENT_HASH = "content-hash";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+    private static final String RECORDED_AT = "recorded-at";
+
+    private final Path directory;
+
+    public FileSystemPageFingerprintStore(@Value("${plan-polsl.fingerprint.directory}") Path directory) {
+        this.directory = directory;
+
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<PageFingerprint> find(String key) {
+        Path file = directory.resolve(key);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.warn("Could not read page fingerprint {}", file, e);
+            return Optional.empty();
+        }
+
+        String recordedAt = properties.getProperty(RECORDED_AT);
+        if (recordedAt == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(PageFingerprint.builder()
+                .contentHash(properties.getProperty(CONTENT_HASH))
+                .etag(properties.getProperty(ETAG))
+                .lastModified(properties.getProperty(LAST_MODIFIED))
+                .recordedAt(Instant.parse(recordedAt))
+                .build());
+    }
+
+    @Override
+    public void save(String key, PageFingerprint fingerprint) {
+        Properties properties = new Properties();
+        putIfNotNull(properties, CONTENT_HASH, fingerprint.contentHash());
+        putIfNotNull(properties, ETAG, fingerprint.etag());
+        putIfNotNull(properties, LAST_MODIFIED, fingerprint.lastModified());
+        properties.setProperty(RECORDED_AT, fingerprint.recordedAt().toString());
+
+        try {
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                properties.store(writer, null);
+            }
+            Files.move(tmp, directory.resolve(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not save page fingerprint {}", key, e);
+        }
+    }
+
+    private static void putIfNotNull(Properties properties, String name, String value) {
+        if (value != null) {
+            properties.setProperty(name, value);
+        }
+    }
+
+}
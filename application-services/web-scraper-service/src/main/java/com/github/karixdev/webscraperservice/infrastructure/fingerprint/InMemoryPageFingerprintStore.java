@@ -0,0 +1,28 @@
+package com.github.karixdev.webscraperservice.infrastructure.fingerprint;
+
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprint;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprintStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "plan-polsl.fingerprint.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPageFingerprintStore implements PageFingerprintStore {
+
+    private final Map<String, PageFingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<PageFingerprint> find(String key) {
+        return Optional.ofNullable(fingerprints.get(key));
+    }
+
+    @Override
+    public void save(String key, PageFingerprint fingerprint) {
+        fingerprints.put(key, fingerprint);
+    }
+
+}
@@ -1,25 +1,53 @@
 package com.github.karixdev.webscraperservice.infrastructure.kafka;
 
+import com.github.karixdev.contracts.codec.ContractDeserializer;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.contracts.codec.EventEncoding;
+import com.github.karixdev.kafkasupport.producer.BoundedKafkaSender;
 import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
 import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
-import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.kafka.consumer.ScheduleEventRetryNotDueException;
+import com.github.karixdev.webscraperservice.infrastructure.kafka.mapper.RawScheduleEventContractMapper;
+import com.github.karixdev.webscraperservice.infrastructure.kafka.mapper.ScheduleEventContractMapper;
+import com.github.karixdev.webscraperservice.infrastructure.kafka.mapper.ScheduleFetchEventContractMapper;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.common.TopicPartition;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BackOffHandler;
+import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
 import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.backoff.BackOff;
 import org.springframework.util.backoff.ExponentialBackOff;
 import org.springframework.util.backoff.FixedBackOff;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
 @Slf4j
 @Configuration
 public class KafkaConfig {
@@ -27,12 +55,18 @@ public class KafkaConfig {
 	@Bean
 	ConsumerFactory<String, ScheduleEvent> scheduleEventConsumerFactory(
 			KafkaProperties kafkaProperties,
-			MeterRegistry meterRegistry
+			MeterRegistry meterRegistry,
+			ScheduleEventContractMapper mapper
 	) {
+		// retry topics and the DLT are written as JSON by the recoverer, the fallback reads them
 		ConsumerFactory<String, ScheduleEvent> factory = new DefaultKafkaConsumerFactory<>(
 				kafkaProperties.buildConsumerProperties(),
 				new StringDeserializer(),
-				new JsonDeserializer<>(ScheduleEvent.class, false)
+				new ContractDeserializer<>(
+						com.github.karixdev.contracts.schedule.ScheduleEvent.class,
+						mapper::toEvent,
+						new JsonDeserializer<>(ScheduleEvent.class, false)
+				)
 		);
 		factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
 
@@ -42,13 +76,13 @@ public class KafkaConfig {
 	@Bean
 	ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> scheduleEventConcurrentKafkaListenerContainerFactory(
 			ConsumerFactory<String, ScheduleEvent> consumerFactory,
-			DefaultErrorHandler errorHandler,
+			DefaultErrorHandler scheduleEventErrorHandler,
 			@Value("${kafka.observation.consumer.enabled}") Boolean isObservationEnabled
 	) {
 		ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> factory =
 				new ConcurrentKafkaListenerContainerFactory<>();
 		factory.setConsumerFactory(consumerFactory);
-		factory.setCommonErrorHandler(errorHandler);
+		factory.setCommonErrorHandler(scheduleEventErrorHandler);
 		factory.getContainerProperties().setObservationEnabled(isObservationEnabled);
 
 		return factory;
@@ -77,25 +111,118 @@ public class KafkaConfig {
 	}
 
 	@Bean
-	DefaultErrorHandler scheduleEventErrorHandler(
-			@Value("${kafka.topics.dlt}") String topicDLT,
+	ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> scheduleEventBatchConcurrentKafkaListenerContainerFactory(
+			ConsumerFactory<String, ScheduleEvent> consumerFactory,
+			DefaultErrorHandler scheduleEventErrorHandler,
+			@Value("${kafka.observation.consumer.enabled}") Boolean isObservationEnabled
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> factory =
+				new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		factory.setCommonErrorHandler(scheduleEventErrorHandler);
+		factory.setBatchListener(true);
+		factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+		factory.getContainerProperties().setObservationEnabled(isObservationEnabled);
+
+		return factory;
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "kafka.consumer.schedule-event.mode", havingValue = "batch")
+	ExecutorService scheduleEventWorkers(@Value("${kafka.consumer.schedule-event.batch.workers}") int workers) {
+		return Executors.newFixedThreadPool(workers, new CustomizableThreadFactory("schedule-event-worker-"));
+	}
+
+	@Bean
+	ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> scheduleEventPriorityConcurrentKafkaListenerContainerFactory(
+			ConsumerFactory<String, ScheduleEvent> consumerFactory,
+			DefaultErrorHandler scheduleEventErrorHandler,
+			@Value("${kafka.consumer.schedule-event.priority.concurrency}") int concurrency,
+			@Value("${kafka.observation.consumer.enabled}") Boolean isObservationEnabled
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> factory =
+				new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		factory.setCommonErrorHandler(scheduleEventErrorHandler);
+		factory.setConcurrency(concurrency);
+		factory.getContainerProperties().setObservationEnabled(isObservationEnabled);
+
+		return factory;
+	}
+
+	@Bean
+	ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> scheduleEventRetryConcurrentKafkaListenerContainerFactory(
+			ConsumerFactory<String, ScheduleEvent> consumerFactory,
+			DefaultErrorHandler scheduleEventRetryErrorHandler,
+			@Value("${kafka.observation.consumer.enabled}") Boolean isObservationEnabled
+	) {
+		ConcurrentKafkaListenerContainerFactory<String, ScheduleEvent> factory =
+				new ConcurrentKafkaListenerContainerFactory<>();
+		factory.setConsumerFactory(consumerFactory);
+		factory.setCommonErrorHandler(scheduleEventRetryErrorHandler);
+		factory.getContainerProperties().setObservationEnabled(isObservationEnabled);
+
+		return factory;
+	}
+
+	@Bean
+	ScheduleEventRetryTopics scheduleEventRetryTopics(
+			@Value("${kafka.topics.schedule-event-retry}") String retryTopicPrefix,
+			@Value("${kafka.consumer.schedule-event.retry.delays}") List<Duration> delays,
+			@Value("${kafka.topics.dlt}") String topicDLT
+	) {
+		return new ScheduleEventRetryTopics(retryTopicPrefix, delays, topicDLT, Clock.systemUTC());
+	}
+
+	@Bean
+	DeadLetterPublishingRecoverer scheduleEventDeadLetterPublishingRecoverer(
+			ScheduleEventRetryTopics retryTopics,
+			KafkaTemplate<String, ScheduleEvent> kafkaTemplate
+	) {
+		DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate, retryTopics::destination);
+		recoverer.setHeadersFunction(retryTopics::headers);
+
+		return recoverer;
+	}
+
+	@Bean(destroyMethod = "shutdown")
+	ThreadPoolTaskScheduler scheduleEventRetryTaskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setThreadNamePrefix("schedule-event-retry-");
+		scheduler.initialize();
+
+		return scheduler;
+	}
+
+	@Bean
+	BackOff scheduleEventBackOff(
 			@Value("${kafka.config.back-off.max-retries}") int maxRetries,
 			@Value("${kafka.config.back-off.multiplier}") double multiplier,
 			@Value("${kafka.config.back-off.interval.initial}") long initialInterval,
-			@Value("${kafka.config.back-off.interval.max}") long maxInterval,
-			KafkaTemplate<String, ScheduleEvent> kafkaTemplate
+			@Value("${kafka.config.back-off.interval.max}") long maxInterval
 	) {
-		DeadLetterPublishingRecoverer recover =
-				new DeadLetterPublishingRecoverer(kafkaTemplate, (cr, e) -> new TopicPartition(topicDLT, cr.partition()));
+		ExponentialBackOff bo = new ExponentialBackOffWithMaxRetries(maxRetries);
+		bo.setInitialInterval(initialInterval);
+		bo.setMultiplier(multiplier);
+		bo.setMaxInterval(maxInterval);
+
+		return bo;
+	}
 
+	@Bean
+	DefaultErrorHandler scheduleEventErrorHandler(
+			DeadLetterPublishingRecoverer recover,
+			@Value("${kafka.consumer.schedule-event.circuit-open-retry-interval}") Duration circuitOpenRetryInterval
+	) {
 		DefaultErrorHandler handler = new DefaultErrorHandler(recover);
 		handler.setBackOffFunction((cr, ex) -> {
-			if (ex instanceof PlanPolslUnavailableException) {
-				ExponentialBackOff bo = new ExponentialBackOffWithMaxRetries(maxRetries);
-				bo.setInitialInterval(initialInterval);
-				bo.setMultiplier(multiplier);
-				bo.setMaxInterval(maxInterval);
+			if (isCausedBy(ex, PlanPolslCircuitOpenException.class)) {
+				// the listener container is paused until the breaker lets fetches through again, the record must
+				// wait for it instead of ending up in the DLT
+				return new FixedBackOff(circuitOpenRetryInterval.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS);
 			}
+			// anything else, an unavailable plan.polsl.pl included, is recovered right away: either to a retry topic or
+			// to the DLT, so that the partition keeps flowing
 			return new FixedBackOff(0L, 0L);
 		});
 		handler.setRetryListeners((cr, e, v) -> log.info("Consuming attempt {} after exception: {}", v, e.getClass().getName()));
@@ -103,16 +230,67 @@ public class KafkaConfig {
 		return handler;
 	}
 
+	@Bean
+	DefaultErrorHandler scheduleEventRetryErrorHandler(
+			DeadLetterPublishingRecoverer recover,
+			KafkaListenerEndpointRegistry registry,
+			ThreadPoolTaskScheduler scheduleEventRetryTaskScheduler,
+			@Value("${kafka.consumer.schedule-event.circuit-open-retry-interval}") Duration circuitOpenRetryInterval
+	) {
+		// back-offs pause the partition instead of sleeping on the consumer thread, which keeps polling meanwhile
+		BackOffHandler backOffHandler = new ContainerPausingBackOffHandler(
+				new ListenerContainerPauseService(registry, scheduleEventRetryTaskScheduler)
+		);
+
+		// a default back-off without retries would skip the back-off function below and recover every failure
+		DefaultErrorHandler handler = new DefaultErrorHandler(
+				recover,
+				new FixedBackOff(0L, FixedBackOff.UNLIMITED_ATTEMPTS),
+				backOffHandler
+		);
+		handler.setResetStateOnExceptionChange(true);
+		handler.setBackOffFunction((cr, ex) -> {
+			ScheduleEventRetryNotDueException notDue = findCause(ex, ScheduleEventRetryNotDueException.class);
+			if (notDue != null) {
+				return new FixedBackOff(notDue.getRemainingDelay(), FixedBackOff.UNLIMITED_ATTEMPTS);
+			}
+			if (isCausedBy(ex, PlanPolslCircuitOpenException.class)) {
+				return new FixedBackOff(circuitOpenRetryInterval.toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS);
+			}
+			return new FixedBackOff(0L, 0L);
+		});
+
+		return handler;
+	}
+
+	static boolean isCausedBy(Throwable ex, Class<? extends Throwable> type) {
+		return findCause(ex, type) != null;
+	}
+
+	private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (type.isInstance(cause)) {
+				return type.cast(cause);
+			}
+		}
+		return null;
+	}
+
 	@Bean
 	ProducerFactory<String, RawScheduleEvent> rawScheduleProducerFactory(
 			KafkaProperties kafkaProperties,
-			MeterRegistry meterRegistry
+			MeterRegistry meterRegistry,
+			RawScheduleEventContractMapper mapper,
+			@Value("${kafka.producer.encoding}") EventEncoding encoding
 	) {
-		DefaultKafkaProducerFactory<String, RawScheduleEvent> factory =
-				new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties());
+		DefaultKafkaProducerFactory<String, RawScheduleEvent> factory = new DefaultKafkaProducerFactory<>(
+				kafkaProperties.buildProducerProperties(),
+				new StringSerializer(),
+				valueSerializer(encoding, com.github.karixdev.contracts.raw.RawScheduleEvent.class, mapper::toContract)
+		);
 		factory.addListener(new MicrometerProducerListener<>(meterRegistry));
 
-		return new DefaultKafkaProducerFactory<>(kafkaProperties.buildProducerProperties());
+		return factory;
 	}
 
 	@Bean
@@ -126,4 +304,54 @@ public class KafkaConfig {
 		return template;
 	}
 
+	@Bean
+	BoundedKafkaSender<RawScheduleEvent> rawScheduleEventSender(
+			KafkaTemplate<String, RawScheduleEvent> kafkaTemplate,
+			@Value("${kafka.topics.course-raw}") String topic,
+			@Value("${kafka.producer.max-in-flight}") int maxInFlight,
+			@Value("${kafka.producer.send-timeout}") Duration sendTimeout,
+			MeterRegistry meterRegistry
+	) {
+		return new BoundedKafkaSender<>(kafkaTemplate, topic, maxInFlight, sendTimeout, meterRegistry);
+	}
+
+	@Bean
+	ProducerFactory<String, ScheduleFetchEvent> scheduleFetchProducerFactory(
+			KafkaProperties kafkaProperties,
+			MeterRegistry meterRegistry,
+			ScheduleFetchEventContractMapper mapper,
+			@Value("${kafka.producer.encoding}") EventEncoding encoding
+	) {
+		DefaultKafkaProducerFactory<String, ScheduleFetchEvent> factory = new DefaultKafkaProducerFactory<>(
+				kafkaProperties.buildProducerProperties(),
+				new StringSerializer(),
+				valueSerializer(encoding, com.github.karixdev.contracts.schedule.ScheduleFetchEvent.class, mapper::toContract)
+		);
+		factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+
+		return factory;
+	}
+
+	@Bean
+	KafkaTemplate<String, ScheduleFetchEvent> scheduleFetchKafkaTemplate(
+			ProducerFactory<String, ScheduleFetchEvent> producerFactory,
+			@Value("${kafka.observation.producer.enabled}") Boolean isObservationEnabled
+	) {
+		KafkaTemplate<String, ScheduleFetchEvent> template = new KafkaTemplate<>(producerFactory);
+		template.setObservationEnabled(isObservationEnabled);
+
+		return template;
+	}
+
+	private static <T, R extends SpecificRecord> Serializer<T> valueSerializer(
+			EventEncoding encoding,
+			Class<R> contractType,
+			Function<T, R> toContract
+	) {
+		return switch (encoding) {
+			case AVRO -> new ContractSerializer<>(contractType, toContract);
+			case JSON -> new JsonSerializer<>();
+		};
+	}
+
 }
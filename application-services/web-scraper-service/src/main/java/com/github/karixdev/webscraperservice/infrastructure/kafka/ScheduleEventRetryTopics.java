@@ -0,0 +1,100 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Chain of delayed retry topics for schedule events that failed because plan.polsl.pl was unavailable. A failed
+ * event is published to the retry topic of its next attempt, carrying the attempt number and the time it is due at.
+ * Once all retry topics are used up, or for any other failure, it ends up in the DLT.
+ * <p>
+ * Attempts are counted from 1, which is the delivery from the schedule event topic. Retry topic {@code n} holds the
+ * attempt {@code n + 1}.
+ */
+public class ScheduleEventRetryTopics {
+
+    public static final String ATTEMPT_HEADER = "web-scraper-service.retry.attempt";
+    public static final String DUE_AT_HEADER = "web-scraper-service.retry.due-at";
+
+    private final String topicPrefix;
+    private final List<Duration> delays;
+    private final String dlt;
+    private final Clock clock;
+
+    public ScheduleEventRetryTopics(String topicPrefix, List<Duration> delays, String dlt, Clock clock) {
+        this.topicPrefix = topicPrefix;
+        this.delays = List.copyOf(delays);
+        this.dlt = dlt;
+        this.clock = clock;
+    }
+
+    public List<String> topics() {
+        return IntStream.rangeClosed(1, delays.size())
+                .mapToObj(this::topic)
+                .toList();
+    }
+
+    public int attempt(ConsumerRecord<?, ?> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(ATTEMPT_HEADER);
+
+        return header == null ? 1 : Integer.parseInt(new String(header.value(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return milliseconds left until the record is due, zero or less when it can be handled right away
+     */
+    public long remainingDelay(ConsumerRecord<?, ?> consumerRecord) {
+        Header header = consumerRecord.headers().lastHeader(DUE_AT_HEADER);
+        if (header == null) {
+            return 0;
+        }
+
+        return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8)) - clock.millis();
+    }
+
+    TopicPartition destination(ConsumerRecord<?, ?> consumerRecord, Exception ex) {
+        if (!isRetried(consumerRecord, ex)) {
+            return new TopicPartition(dlt, consumerRecord.partition());
+        }
+
+        // retry topics may have fewer partitions than the schedule event topic, the producer picks one by key
+        return new TopicPartition(topic(attempt(consumerRecord)), -1);
+    }
+
+    Headers headers(ConsumerRecord<?, ?> consumerRecord, Exception ex) {
+        RecordHeaders headers = new RecordHeaders();
+        if (!isRetried(consumerRecord, ex)) {
+            return headers;
+        }
+
+        int attempt = attempt(consumerRecord);
+        long dueAt = clock.millis() + delays.get(attempt - 1).toMillis();
+
+        headers.add(ATTEMPT_HEADER, String.valueOf(attempt + 1).getBytes(StandardCharsets.UTF_8));
+        headers.add(DUE_AT_HEADER, String.valueOf(dueAt).getBytes(StandardCharsets.UTF_8));
+
+        return headers;
+    }
+
+    private boolean isRetried(ConsumerRecord<?, ?> consumerRecord, Exception ex) {
+        return attempt(consumerRecord) <= delays.size()
+                && KafkaConfig.isCausedBy(ex, PlanPolslUnavailableException.class)
+                && !KafkaConfig.isCausedBy(ex, PlanPolslCircuitOpenException.class);
+    }
+
+    private String topic(int retry) {
+        return "%s-%d".formatted(topicPrefix, retry);
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts outcomes of schedule event handling per delivery attempt, so that the success rate of the schedule event
+ * topic and of every retry topic can be told apart. Records rejected by the open circuit breaker are not attempts.
+ */
+@Component
+public class ScheduleEventAttemptMetrics {
+
+    private static final String METRIC = "web_scraper.schedule_event.attempts";
+
+    private final MeterRegistry meterRegistry;
+
+    public ScheduleEventAttemptMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void recordSuccess(int attempt) {
+        counter(attempt, "success").increment();
+    }
+
+    public void recordFailure(int attempt) {
+        counter(attempt, "failure").increment();
+    }
+
+    private Counter counter(int attempt, String outcome) {
+        return Counter.builder(METRIC)
+                .tag("attempt", String.valueOf(attempt))
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+}
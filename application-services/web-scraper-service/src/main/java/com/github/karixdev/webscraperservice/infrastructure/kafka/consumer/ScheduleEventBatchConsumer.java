@@ -0,0 +1,137 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.kafkasupport.consumer.KeyedBatch;
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.EventHandler;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Batch mode counterpart of {@link ScheduleEventConsumer}. Records of a polled batch are handled concurrently by
+ * worker threads, records with the same key stay in order on one worker. Create and update events of a schedule
+ * superseded by the next event in the batch are skipped. The listener returns, and the batch offsets
+ * are committed, only once every record was either handled or published to the DLT, and each worker has flushed the
+ * raw schedules it produced for the batch. Records rejected by the open
+ * circuit breaker fail the batch from the first of them on, so that they are consumed again after the outage.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-event.mode", havingValue = "batch")
+public class ScheduleEventBatchConsumer {
+
+    private final EventHandler<ScheduleEvent> eventHandler;
+    private final EventProducer<RawScheduleEvent> producer;
+    private final ExecutorService workers;
+    private final ScheduleEventPriorityGate priorityGate;
+    private final ConsumerRecordRecoverer recoverer;
+    private final BackOff backOff;
+    private final ScheduleEventAttemptMetrics attemptMetrics;
+    private final Counter supersededCounter;
+
+    public ScheduleEventBatchConsumer(
+            EventHandler<ScheduleEvent> eventHandler,
+            EventProducer<RawScheduleEvent> producer,
+            ExecutorService scheduleEventWorkers,
+            ScheduleEventPriorityGate priorityGate,
+            ConsumerRecordRecoverer scheduleEventDeadLetterPublishingRecoverer,
+            BackOff scheduleEventBackOff,
+            ScheduleEventAttemptMetrics attemptMetrics,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventHandler = eventHandler;
+        this.producer = producer;
+        this.workers = scheduleEventWorkers;
+        this.priorityGate = priorityGate;
+        this.recoverer = scheduleEventDeadLetterPublishingRecoverer;
+        this.backOff = scheduleEventBackOff;
+        this.attemptMetrics = attemptMetrics;
+        this.supersededCounter = ScheduleEventRecords.supersededCounter(meterRegistry);
+    }
+
+    @KafkaListener(id = ScheduleEventConsumerCircuitBreakerListener.LISTENER_ID, idIsGroup = false, topics = "${kafka.topics.schedule-event}", groupId = "${spring.application.name}", containerFactory = "scheduleEventBatchConcurrentKafkaListenerContainerFactory")
+    public void consumeScheduleEvents(List<ConsumerRecord<String, ScheduleEvent>> consumerRecords) {
+        Set<ConsumerRecord<String, ScheduleEvent>> rejected = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<?>[] tasks = KeyedBatch.groupByKey(consumerRecords).stream()
+                .map(records -> ScheduleEventRecords.dropSuperseded(records, supersededCounter))
+                .map(records -> CompletableFuture.runAsync(() -> processInOrder(records, rejected), workers))
+                .toArray(CompletableFuture[]::new);
+
+        KeyedBatch.awaitAll(tasks);
+
+        ScheduleEventRecords.throwIfRejected(consumerRecords, rejected);
+    }
+
+    private void processInOrder(
+            List<ConsumerRecord<String, ScheduleEvent>> records,
+            Set<ConsumerRecord<String, ScheduleEvent>> rejected
+    ) {
+        for (ConsumerRecord<String, ScheduleEvent> consumerRecord : records) {
+            if (!process(consumerRecord)) {
+                // later events of the schedule are redelivered together with the rejected one
+                rejected.add(consumerRecord);
+                break;
+            }
+        }
+
+        // the producer flushes the sends of the calling thread, i.e. of this worker
+        producer.flush();
+    }
+
+    /**
+     * @return false when the record was rejected by the open circuit breaker and has to be consumed again
+     */
+    private boolean process(ConsumerRecord<String, ScheduleEvent> consumerRecord) {
+        priorityGate.awaitIdle();
+
+        BackOffExecution backOffExecution = backOff.start();
+
+        while (true) {
+            try {
+                eventHandler.handle(consumerRecord.value());
+                attemptMetrics.recordSuccess(1);
+                return true;
+            } catch (PlanPolslCircuitOpenException e) {
+                return false;
+            } catch (RuntimeException e) {
+                long interval = ScheduleEventRecords.nextBackOff(backOffExecution, e);
+
+                if (interval == BackOffExecution.STOP) {
+                    attemptMetrics.recordFailure(1);
+                    recoverer.accept(consumerRecord, e);
+                    return true;
+                }
+
+                log.info("Consuming attempt of {} after exception: {}", consumerRecord.key(), e.getClass().getName());
+                sleep(interval);
+            }
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while backing off", e);
+        }
+    }
+
+}
@@ -1,21 +1,45 @@
 package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
 
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
 import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
 import com.github.karixdev.webscraperservice.application.event.handler.EventHandler;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+/**
+ * Consumes schedule events one by one. Every record is a batch of its own: the raw schedule produced for it is flushed
+ * before the next record, so that an offset is never committed ahead of the output of its record.
+ */
 @Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-event.mode", havingValue = "record", matchIfMissing = true)
 @RequiredArgsConstructor
 public class ScheduleEventConsumer {
 
     private final EventHandler<ScheduleEvent> eventHandler;
+    private final EventProducer<RawScheduleEvent> producer;
+    private final ScheduleEventPriorityGate priorityGate;
+    private final ScheduleEventAttemptMetrics attemptMetrics;
 
-    @KafkaListener(topics = "${kafka.topics.schedule-event}", groupId = "${spring.application.name}", containerFactory = "scheduleEventConcurrentKafkaListenerContainerFactory")
+    @KafkaListener(id = ScheduleEventConsumerCircuitBreakerListener.LISTENER_ID, idIsGroup = false, topics = "${kafka.topics.schedule-event}", groupId = "${spring.application.name}", containerFactory = "scheduleEventConcurrentKafkaListenerContainerFactory")
     public void consumeScheduleEvent(ConsumerRecord<String, ScheduleEvent> consumerRecord) {
-        eventHandler.handle(consumerRecord.value());
+        priorityGate.awaitIdle();
+
+        try {
+            eventHandler.handle(consumerRecord.value());
+            producer.flush();
+        } catch (PlanPolslCircuitOpenException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            attemptMetrics.recordFailure(1);
+            throw e;
+        }
+
+        attemptMetrics.recordSuccess(1);
     }
 
 }
@@ -0,0 +1,51 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.breaker.PlanPolslCircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pauses the schedule event, priority and retry listener containers while plan.polsl.pl circuit breaker is open, so
+ * that records wait in their topics instead of being consumed only to fail. The containers are resumed once the
+ * breaker turns half-open, the next record is then the probe.
+ */
+@Slf4j
+@Component
+public class ScheduleEventConsumerCircuitBreakerListener {
+
+    static final String LISTENER_ID = "schedule-event-listener";
+
+    private final KafkaListenerEndpointRegistry registry;
+
+    public ScheduleEventConsumerCircuitBreakerListener(
+            KafkaListenerEndpointRegistry registry,
+            PlanPolslCircuitBreaker circuitBreaker
+    ) {
+        this.registry = registry;
+        circuitBreaker.addListener(this::onStateChange);
+    }
+
+    private void onStateChange(PlanPolslCircuitBreaker.State state) {
+        onStateChange(state, LISTENER_ID);
+        onStateChange(state, ScheduleEventPriorityConsumer.LISTENER_ID);
+        onStateChange(state, ScheduleEventRetryConsumer.LISTENER_ID);
+    }
+
+    private void onStateChange(PlanPolslCircuitBreaker.State state, String listenerId) {
+        MessageListenerContainer container = registry.getListenerContainer(listenerId);
+        if (container == null) {
+            return;
+        }
+
+        if (state == PlanPolslCircuitBreaker.State.OPEN) {
+            log.info("Pausing consumption of {}", listenerId);
+            container.pause();
+        } else if (container.isPauseRequested()) {
+            log.info("Resuming consumption of {}", listenerId);
+            container.resume();
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.EventHandler;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes interactive schedule events, e.g. a schedule just created by an admin, one by one whatever mode the bulk
+ * schedule event topic is consumed in. It has its own listener threads, and bulk consumers hold back while it
+ * handles a record, see {@link ScheduleEventPriorityGate}. Failures take the same path as in the bulk lane.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleEventPriorityConsumer {
+
+    static final String LISTENER_ID = "schedule-event-priority-listener";
+
+    private final EventHandler<ScheduleEvent> eventHandler;
+    private final EventProducer<RawScheduleEvent> producer;
+    private final ScheduleEventPriorityGate priorityGate;
+    private final ScheduleEventAttemptMetrics attemptMetrics;
+
+    @KafkaListener(id = LISTENER_ID, idIsGroup = false, topics = "${kafka.topics.schedule-event-priority}", groupId = "${spring.application.name}", containerFactory = "scheduleEventPriorityConcurrentKafkaListenerContainerFactory")
+    public void consumePriorityScheduleEvent(ConsumerRecord<String, ScheduleEvent> consumerRecord) {
+        priorityGate.enter();
+        try {
+            eventHandler.handle(consumerRecord.value());
+            producer.flush();
+        } catch (PlanPolslCircuitOpenException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            attemptMetrics.recordFailure(1);
+            throw e;
+        } finally {
+            priorityGate.exit();
+        }
+
+        attemptMetrics.recordSuccess(1);
+    }
+
+}
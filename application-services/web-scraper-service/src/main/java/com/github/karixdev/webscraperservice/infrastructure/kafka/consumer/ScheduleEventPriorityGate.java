@@ -0,0 +1,82 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets priority schedule events go first. While any of them is being handled, bulk consumers wait before handling
+ * their next record, so that bulk fetches do not queue up in front of the priority ones. A bulk consumer waits at
+ * most {@code holdTimeout}, a steady stream of priority events must not stall the bulk lane for good.
+ */
+@Component
+public class ScheduleEventPriorityGate {
+
+    static final String HOLD_METRIC = "web_scraper.schedule_event.bulk.hold";
+
+    private final long holdTimeoutNanos;
+    private final Timer holdTimer;
+
+    private int inFlight;
+
+    public ScheduleEventPriorityGate(
+            @Value("${kafka.consumer.schedule-event.priority.bulk-hold-timeout}") Duration holdTimeout,
+            MeterRegistry meterRegistry
+    ) {
+        this.holdTimeoutNanos = holdTimeout.toNanos();
+        this.holdTimer = Timer.builder(HOLD_METRIC)
+                .register(meterRegistry);
+    }
+
+    public synchronized void enter() {
+        inFlight++;
+    }
+
+    public synchronized void exit() {
+        inFlight--;
+        if (inFlight == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Blocks while priority events are being handled, at most for the hold timeout.
+     */
+    public synchronized void awaitIdle() {
+        if (inFlight == 0) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + holdTimeoutNanos;
+        try {
+            for (long remaining = holdTimeoutNanos; inFlight > 0 && remaining > 0; remaining = deadline - System.nanoTime()) {
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            holdTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Non-blocking counterpart of {@link #awaitIdle()}, the wait happens on the bounded elastic scheduler.
+     */
+    public Mono<Void> idle() {
+        return Mono.defer(() -> isBusy()
+                ? Mono.<Void>fromRunnable(this::awaitIdle).subscribeOn(Schedulers.boundedElastic())
+                : Mono.empty());
+    }
+
+    private synchronized boolean isBusy() {
+        return inFlight > 0;
+    }
+
+}
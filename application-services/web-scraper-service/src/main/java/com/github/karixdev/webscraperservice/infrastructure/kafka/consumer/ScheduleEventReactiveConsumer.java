@@ -0,0 +1,116 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.kafkasupport.consumer.KeyedBatch;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.ReactiveEventHandler;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOff;
+import org.springframework.util.backoff.BackOffExecution;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reactive counterpart of {@link ScheduleEventBatchConsumer}. The whole batch is handled as one pipeline with up to
+ * {@code concurrency} records in flight, so a single listener thread keeps many upstream fetches going. Superseded
+ * create and update events are skipped the same way. The listener
+ * thread waits for the pipeline, so the batch offsets are committed only once every record was either handled or
+ * published to the DLT. Records rejected by the open circuit breaker fail the batch from the first of them on, so
+ * that they are consumed again after the outage.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-event.mode", havingValue = "reactive")
+public class ScheduleEventReactiveConsumer {
+
+    private final ReactiveEventHandler<ScheduleEvent> eventHandler;
+    private final ConsumerRecordRecoverer recoverer;
+    private final BackOff backOff;
+    private final int concurrency;
+    private final ScheduleEventPriorityGate priorityGate;
+    private final ScheduleEventAttemptMetrics attemptMetrics;
+    private final Counter supersededCounter;
+
+    public ScheduleEventReactiveConsumer(
+            ReactiveEventHandler<ScheduleEvent> eventHandler,
+            ConsumerRecordRecoverer scheduleEventDeadLetterPublishingRecoverer,
+            BackOff scheduleEventBackOff,
+            @Value("${kafka.consumer.schedule-event.reactive.concurrency}") int concurrency,
+            ScheduleEventPriorityGate priorityGate,
+            ScheduleEventAttemptMetrics attemptMetrics,
+            MeterRegistry meterRegistry
+    ) {
+        this.eventHandler = eventHandler;
+        this.recoverer = scheduleEventDeadLetterPublishingRecoverer;
+        this.backOff = scheduleEventBackOff;
+        this.concurrency = concurrency;
+        this.priorityGate = priorityGate;
+        this.attemptMetrics = attemptMetrics;
+        this.supersededCounter = ScheduleEventRecords.supersededCounter(meterRegistry);
+    }
+
+    @KafkaListener(id = ScheduleEventConsumerCircuitBreakerListener.LISTENER_ID, idIsGroup = false, topics = "${kafka.topics.schedule-event}", groupId = "${spring.application.name}", containerFactory = "scheduleEventBatchConcurrentKafkaListenerContainerFactory")
+    public void consumeScheduleEvents(List<ConsumerRecord<String, ScheduleEvent>> consumerRecords) {
+        Set<ConsumerRecord<String, ScheduleEvent>> rejected = ConcurrentHashMap.newKeySet();
+
+        Flux.fromIterable(KeyedBatch.groupByKey(consumerRecords))
+                .map(records -> ScheduleEventRecords.dropSuperseded(records, supersededCounter))
+                .flatMap(records -> Flux.fromIterable(records)
+                        .concatMap(consumerRecord -> process(consumerRecord, rejected))
+                        // later events of the schedule are redelivered together with the rejected one
+                        .onErrorResume(PlanPolslCircuitOpenException.class, e -> Mono.empty()), concurrency)
+                .then()
+                .block();
+
+        ScheduleEventRecords.throwIfRejected(consumerRecords, rejected);
+    }
+
+    private Mono<Void> process(
+            ConsumerRecord<String, ScheduleEvent> consumerRecord,
+            Set<ConsumerRecord<String, ScheduleEvent>> rejected
+    ) {
+        return priorityGate.idle()
+                .then(Mono.defer(() -> eventHandler.handle(consumerRecord.value()))
+                        .retryWhen(retry(consumerRecord)))
+                .doOnSuccess(v -> attemptMetrics.recordSuccess(1))
+                .doOnError(PlanPolslCircuitOpenException.class, e -> rejected.add(consumerRecord))
+                .doOnError(e -> !(e instanceof PlanPolslCircuitOpenException), e -> attemptMetrics.recordFailure(1))
+                .onErrorResume(
+                        e -> e instanceof Exception && !(e instanceof PlanPolslCircuitOpenException),
+                        e -> Mono.<Void>fromRunnable(() -> recoverer.accept(consumerRecord, (Exception) e))
+                                .subscribeOn(Schedulers.boundedElastic())
+                );
+    }
+
+    private Retry retry(ConsumerRecord<String, ScheduleEvent> consumerRecord) {
+        return Retry.from(signals -> {
+            BackOffExecution backOffExecution = backOff.start();
+
+            return signals.concatMap(signal -> {
+                long interval = ScheduleEventRecords.nextBackOff(backOffExecution, signal.failure());
+                if (interval == BackOffExecution.STOP) {
+                    return Mono.error(signal.failure());
+                }
+
+                log.info("Consuming attempt of {} after exception: {}", consumerRecord.key(), signal.failure().getClass().getName());
+                return Mono.delay(Duration.ofMillis(interval));
+            });
+        });
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.util.backoff.BackOffExecution;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+final class ScheduleEventRecords {
+
+    private static final Set<EventType> SCRAPE_EVENT_TYPES = EnumSet.of(EventType.CREATE, EventType.UPDATE);
+
+    private ScheduleEventRecords() {}
+
+    /**
+     * Drops create and update events of a schedule that are directly followed by another create or update event of
+     * the same schedule in the batch. Each of them makes the schedule be scraped again from scratch, so only the
+     * latest one has to run. Any other event in between keeps the events around it.
+     *
+     * @param records records of one key in offset order
+     */
+    static List<ConsumerRecord<String, ScheduleEvent>> dropSuperseded(
+            List<ConsumerRecord<String, ScheduleEvent>> records,
+            Counter supersededCounter
+    ) {
+        List<ConsumerRecord<String, ScheduleEvent>> latest = new ArrayList<>(records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, ScheduleEvent> consumerRecord = records.get(i);
+            boolean superseded = i + 1 < records.size()
+                    && isScrape(consumerRecord)
+                    && isScrape(records.get(i + 1));
+
+            if (superseded) {
+                supersededCounter.increment();
+            } else {
+                latest.add(consumerRecord);
+            }
+        }
+
+        return latest;
+    }
+
+    static Counter supersededCounter(MeterRegistry meterRegistry) {
+        return Counter.builder(PlanPolslSingleFlight.SAVED_FETCHES_METRIC)
+                .tag("reason", "superseded")
+                .register(meterRegistry);
+    }
+
+    private static boolean isScrape(ConsumerRecord<String, ScheduleEvent> consumerRecord) {
+        return consumerRecord.value() != null && SCRAPE_EVENT_TYPES.contains(consumerRecord.value().type());
+    }
+
+    /**
+     * Mirrors the retry policy of the record listener error handler: only an unavailable plan.polsl.pl is retried.
+     */
+    static long nextBackOff(BackOffExecution backOffExecution, Throwable ex) {
+        return ex instanceof PlanPolslUnavailableException
+                ? backOffExecution.nextBackOff()
+                : BackOffExecution.STOP;
+    }
+
+    /**
+     * Fails the batch at the first record rejected by the open circuit breaker. Offsets of the preceding records are
+     * committed and the rest of the batch is polled again once the breaker lets fetches through.
+     */
+    static void throwIfRejected(
+            List<ConsumerRecord<String, ScheduleEvent>> consumerRecords,
+            Set<ConsumerRecord<String, ScheduleEvent>> rejected
+    ) {
+        if (rejected.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < consumerRecords.size(); i++) {
+            if (rejected.contains(consumerRecords.get(i))) {
+                throw new BatchListenerFailedException(
+                        "Rejected by plan.polsl.pl circuit breaker",
+                        new PlanPolslCircuitOpenException(),
+                        i
+                );
+            }
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.EventHandler;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.kafka.ScheduleEventRetryTopics;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumes schedule events from the retry topics, whatever mode the schedule event topic is consumed in. A record
+ * consumed before it is due is not handled, its partition is paused for the remaining delay instead. Records of
+ * one retry topic are all delayed by the same amount, so the head of a partition is always the one due first.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduleEventRetryConsumer {
+
+    static final String LISTENER_ID = "schedule-event-retry-listener";
+
+    private final EventHandler<ScheduleEvent> eventHandler;
+    private final EventProducer<RawScheduleEvent> producer;
+    private final ScheduleEventRetryTopics retryTopics;
+    private final ScheduleEventAttemptMetrics attemptMetrics;
+
+    @KafkaListener(id = LISTENER_ID, idIsGroup = false, topics = "#{@scheduleEventRetryTopics.topics()}", groupId = "${spring.application.name}", containerFactory = "scheduleEventRetryConcurrentKafkaListenerContainerFactory")
+    public void consumeRetriedScheduleEvent(ConsumerRecord<String, ScheduleEvent> consumerRecord) {
+        long remainingDelay = retryTopics.remainingDelay(consumerRecord);
+        if (remainingDelay > 0) {
+            throw new ScheduleEventRetryNotDueException(remainingDelay);
+        }
+
+        int attempt = retryTopics.attempt(consumerRecord);
+        try {
+            eventHandler.handle(consumerRecord.value());
+            producer.flush();
+        } catch (PlanPolslCircuitOpenException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            attemptMetrics.recordFailure(attempt);
+            throw e;
+        }
+
+        attemptMetrics.recordSuccess(attempt);
+    }
+
+}
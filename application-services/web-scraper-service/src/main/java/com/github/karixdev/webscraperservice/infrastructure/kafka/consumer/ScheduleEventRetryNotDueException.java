@@ -0,0 +1,19 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import lombok.Getter;
+
+/**
+ * Thrown for a record consumed from a retry topic before it is due. The retry listener container pauses the
+ * partition for the remaining delay and consumes the record again afterwards.
+ */
+@Getter
+public class ScheduleEventRetryNotDueException extends RuntimeException {
+
+    private final long remainingDelay;
+
+    public ScheduleEventRetryNotDueException(long remainingDelay) {
+        super("Schedule event retry is due in %d ms".formatted(remainingDelay));
+        this.remainingDelay = remainingDelay;
+    }
+
+}
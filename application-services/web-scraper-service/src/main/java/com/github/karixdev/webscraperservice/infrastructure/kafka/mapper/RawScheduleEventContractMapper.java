@@ -0,0 +1,55 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.domain.RawAnchor;
+import com.github.karixdev.webscraperservice.domain.RawCourse;
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+@Component
+public class RawScheduleEventContractMapper {
+
+    public com.github.karixdev.contracts.raw.RawScheduleEvent toContract(RawScheduleEvent event) {
+        RawSchedule schedule = event.entity();
+
+        return com.github.karixdev.contracts.raw.RawScheduleEvent.newBuilder()
+                .setScheduleId(event.scheduleId())
+                .setEntity(new com.github.karixdev.contracts.raw.RawSchedule(
+                        schedule.timeIntervals().stream()
+                                .map(timeInterval -> new com.github.karixdev.contracts.raw.RawTimeInterval(
+                                        timeInterval.start(),
+                                        timeInterval.end()
+                                ))
+                                .toList(),
+                        schedule.courses().stream()
+                                .map(this::toContract)
+                                .toList()
+                ))
+                .build();
+    }
+
+    private com.github.karixdev.contracts.raw.RawCourse toContract(RawCourse course) {
+        return com.github.karixdev.contracts.raw.RawCourse.newBuilder()
+                .setText(course.text())
+                .setHeight(course.height())
+                .setWidth(course.width())
+                .setLeft(course.left())
+                .setTop(course.top())
+                .setAnchors(toContract(course.anchors()))
+                .build();
+    }
+
+    private List<com.github.karixdev.contracts.raw.RawAnchor> toContract(Set<RawAnchor> anchors) {
+        if (anchors == null) {
+            return null;
+        }
+
+        return anchors.stream()
+                .map(anchor -> new com.github.karixdev.contracts.raw.RawAnchor(anchor.address(), anchor.text()))
+                .toList();
+    }
+
+}
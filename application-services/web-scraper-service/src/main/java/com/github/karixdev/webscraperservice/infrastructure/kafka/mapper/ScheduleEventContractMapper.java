@@ -0,0 +1,37 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.domain.PlanPolslData;
+import com.github.karixdev.webscraperservice.domain.Schedule;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps schedule events of schedule-service, whose priority and schedule details other than its plan.polsl.pl data
+ * are of no use here.
+ */
+@Component
+public class ScheduleEventContractMapper {
+
+    public ScheduleEvent toEvent(com.github.karixdev.contracts.schedule.ScheduleEvent contract) {
+        return ScheduleEvent.builder()
+                .scheduleId(contract.getScheduleId())
+                .type(EventType.valueOf(contract.getType().name()))
+                .entity(contract.getEntity() == null ? null : toSchedule(contract.getEntity()))
+                .build();
+    }
+
+    private Schedule toSchedule(com.github.karixdev.contracts.schedule.Schedule contract) {
+        com.github.karixdev.contracts.schedule.PlanPolslData planPolslData = contract.getPlanPolslData();
+
+        return Schedule.builder()
+                .id(contract.getId())
+                .planPolslData(planPolslData == null ? null : PlanPolslData.builder()
+                        .id(planPolslData.getId())
+                        .type(planPolslData.getType())
+                        .weekDays(planPolslData.getWeekDays())
+                        .build())
+                .build();
+    }
+
+}
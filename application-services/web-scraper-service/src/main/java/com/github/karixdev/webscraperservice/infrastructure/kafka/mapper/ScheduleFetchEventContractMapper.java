@@ -0,0 +1,18 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ScheduleFetchEventContractMapper {
+
+    public com.github.karixdev.contracts.schedule.ScheduleFetchEvent toContract(ScheduleFetchEvent event) {
+        return com.github.karixdev.contracts.schedule.ScheduleFetchEvent.newBuilder()
+                .setScheduleId(event.scheduleId())
+                .setChanged(event.changed())
+                .setFetchedAt(event.fetchedAt())
+                .setFetchLatencyMillis(event.fetchLatencyMillis())
+                .build();
+    }
+
+}
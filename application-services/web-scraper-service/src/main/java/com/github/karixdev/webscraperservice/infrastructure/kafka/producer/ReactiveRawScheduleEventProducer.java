@@ -0,0 +1,31 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.producer;
+
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.producer.ReactiveEventProducer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+@Component
+@ConditionalOnProperty(name = "kafka.consumer.schedule-event.mode", havingValue = "reactive")
+public class ReactiveRawScheduleEventProducer implements ReactiveEventProducer<RawScheduleEvent> {
+
+    private final KafkaTemplate<String, RawScheduleEvent> kafkaTemplate;
+    private final String topic;
+
+    public ReactiveRawScheduleEventProducer(
+            @Value("${kafka.topics.course-raw}") String topic,
+            KafkaTemplate<String, RawScheduleEvent> kafkaTemplate
+    ) {
+        this.topic = topic;
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    @Override
+    public Mono<Void> produce(RawScheduleEvent event) {
+        return Mono.fromFuture(() -> kafkaTemplate.send(topic, event.scheduleId(), event)).then();
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.producer;
+
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends fetch outcomes without waiting for them. They are best effort: schedule-service refreshes a schedule whose
+ * outcome got lost once the refresh it dispatched times out, so a failed send is only logged.
+ */
+@Slf4j
+@Component
+public class ScheduleFetchEventProducer implements EventProducer<ScheduleFetchEvent> {
+
+    private final KafkaTemplate<String, ScheduleFetchEvent> kafkaTemplate;
+    private final String topic;
+
+    public ScheduleFetchEventProducer(
+            @Value("${kafka.topics.schedule-fetch}") String topic,
+            KafkaTemplate<String, ScheduleFetchEvent> kafkaTemplate
+    ) {
+        this.topic = topic;
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    @Override
+    public void produce(ScheduleFetchEvent event) {
+        try {
+            kafkaTemplate.send(topic, event.scheduleId(), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to send fetch outcome of schedule {}", event.scheduleId(), ex);
+                        }
+                    });
+        } catch (RuntimeException e) {
+            log.warn("Failed to send fetch outcome of schedule {}", event.scheduleId(), e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+}
@@ -81,7 +81,11 @@ class WebScraperServiceApplicationIntegrationIntegrationTest {
         Map<String, Object> rawScheduleConsumerProps = KafkaTestUtils.consumerProps(kafkaContainer.getBootstrapServers(), "raw-schedule-test-group", "false");
         addCommonConsumerProps(rawScheduleConsumerProps);
 
-        ConsumerFactory<String, RawScheduleEvent> rawCourseConsumerFactory = new DefaultKafkaConsumerFactory<>(rawScheduleConsumerProps);
+        ConsumerFactory<String, RawScheduleEvent> rawCourseConsumerFactory = new DefaultKafkaConsumerFactory<>(
+                rawScheduleConsumerProps,
+                new StringDeserializer(),
+                new JsonDeserializer<>(RawScheduleEvent.class, false)
+        );
         rawScheduleConsumer = rawCourseConsumerFactory.createConsumer();
         rawScheduleConsumer.subscribe(List.of(RAW_TOPIC));
 
@@ -0,0 +1,269 @@
+package com.github.karixdev.webscraperservice.application.event.handler;
+
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.application.event.producer.ReactiveEventProducer;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprint;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprintService;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.application.props.PlanPolslClientProperties;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScraper;
+import com.github.karixdev.webscraperservice.domain.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveScheduleEventHandlerTest {
+
+    ReactiveScheduleEventHandler underTest;
+
+    @Mock
+    ReactivePlanPolslClient planPolslClient;
+
+    @Mock
+    PlanPolslResponseScraper scraper;
+
+    @Mock
+    ReactiveEventProducer<RawScheduleEvent> producer;
+
+    @Mock
+    EventProducer<ScheduleFetchEvent> fetchProducer;
+
+    @Mock
+    PageFingerprintService fingerprintService;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ReactiveScheduleEventHandler(
+                planPolslClient,
+                scraper,
+                producer,
+                fetchProducer,
+                fingerprintService,
+                Schedulers.immediate(),
+                new ScrapeMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    @Test
+    void GivenScheduleEventWithNotSupportedType_WhenHandle_ThenEventIsIgnored() {
+        // Given
+        ScheduleEvent event = ScheduleEvent.builder()
+                .type(EventType.DELETE)
+                .build();
+
+        // When
+        underTest.handle(event).block();
+
+        // Then
+        verify(planPolslClient, never()).getSchedule(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any(), any());
+        verify(scraper, never()).scrapSchedule(any());
+        verify(producer, never()).produce(any());
+    }
+
+    @Test
+    void GivenScheduleEventWithSupportedType_WhenHandle_ThenRawScheduleEventIsProducedBeforeFingerprintIsSaved() {
+        // Given
+        Schedule schedule = schedule();
+
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(schedule.id())
+                .entity(schedule)
+                .type(EventType.CREATE)
+                .build();
+
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .content("")
+                .build();
+
+        PlanPolslData planPolslData = schedule.planPolslData();
+        when(planPolslClient.getSchedule(
+                planPolslData.id(),
+                planPolslData.type(),
+                planPolslData.weekDays(),
+                PlanPolslClientProperties.WIN_W,
+                PlanPolslClientProperties.WIN_H,
+                null,
+                null
+        )).thenReturn(Mono.just(planPolslResponse));
+
+        PageFingerprint fingerprint = PageFingerprint.builder()
+                .contentHash("hash")
+                .build();
+        when(fingerprintService.fingerprint(planPolslResponse, Optional.empty())).thenReturn(fingerprint);
+
+        RawCourse rawCourse = RawCourse.builder()
+                .top(10)
+                .left(20)
+                .height(30)
+                .width(40)
+                .text("text")
+                .build();
+
+        RawTimeInterval rawTimeInterval = RawTimeInterval.builder()
+                .start("07:00")
+                .end("08:00")
+                .build();
+
+        RawSchedule rawSchedule = RawSchedule.builder()
+                .courses(Set.of(rawCourse))
+                .timeIntervals(Set.of(rawTimeInterval))
+                .build();
+        when(scraper.scrapSchedule(planPolslResponse)).thenReturn(rawSchedule);
+
+        RawScheduleEvent expectedEvent = RawScheduleEvent.builder()
+                .scheduleId(schedule.id())
+                .entity(rawSchedule)
+                .build();
+
+        AtomicBoolean produced = new AtomicBoolean();
+        when(producer.produce(expectedEvent)).thenReturn(Mono.fromRunnable(() -> produced.set(true)));
+
+        // When
+        Mono<Void> result = underTest.handle(event);
+
+        // Then
+        verify(producer, never()).produce(any());
+        verify(fingerprintService, never()).save(any(), any(), any());
+
+        result.block();
+
+        assertThat(produced).isTrue();
+        verify(fingerprintService).save(schedule.id(), planPolslData, fingerprint);
+        verify(fetchProducer).produce(argThat(fetch -> fetch.scheduleId().equals(schedule.id()) && fetch.changed()));
+    }
+
+    @Test
+    void GivenScheduleEventForUnchangedPage_WhenHandle_ThenScrapingAndProducingIsSkipped() {
+        // Given
+        Schedule schedule = schedule();
+
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(schedule.id())
+                .entity(schedule)
+                .type(EventType.UPDATE)
+                .build();
+
+        PageFingerprint previousFingerprint = PageFingerprint.builder()
+                .contentHash("hash")
+                .etag("\"etag\"")
+                .build();
+
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .notModified(true)
+                .build();
+
+        PlanPolslData planPolslData = schedule.planPolslData();
+        when(fingerprintService.find(schedule.id(), planPolslData))
+                .thenReturn(Optional.of(previousFingerprint));
+        when(planPolslClient.getSchedule(
+                planPolslData.id(),
+                planPolslData.type(),
+                planPolslData.weekDays(),
+                PlanPolslClientProperties.WIN_W,
+                PlanPolslClientProperties.WIN_H,
+                "\"etag\"",
+                null
+        )).thenReturn(Mono.just(planPolslResponse));
+        when(fingerprintService.fingerprint(planPolslResponse, Optional.of(previousFingerprint)))
+                .thenReturn(previousFingerprint);
+        when(fingerprintService.isUnchanged(Optional.of(previousFingerprint), previousFingerprint))
+                .thenReturn(true);
+
+        // When
+        underTest.handle(event).block();
+
+        // Then
+        verify(scraper, never()).scrapSchedule(any());
+        verify(producer, never()).produce(any());
+        verify(fingerprintService, never()).save(any(), any(), any());
+        verify(fetchProducer).produce(argThat(fetch -> fetch.scheduleId().equals(schedule.id()) && !fetch.changed()));
+    }
+
+    @Test
+    void GivenScheduleEvent_WhenHandle_ThenFingerprintIsReadAndSavedAndFetchIsReportedOnBoundedElasticScheduler() {
+        // Given
+        Schedule schedule = schedule();
+
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(schedule.id())
+                .entity(schedule)
+                .type(EventType.CREATE)
+                .build();
+
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .content("")
+                .build();
+
+        PageFingerprint fingerprint = PageFingerprint.builder()
+                .contentHash("hash")
+                .build();
+
+        RawSchedule rawSchedule = RawSchedule.builder()
+                .courses(Set.of(RawCourse.builder().text("text").build()))
+                .timeIntervals(Set.of(RawTimeInterval.builder().start("07:00").end("08:00").build()))
+                .build();
+
+        Map<String, String> threads = new ConcurrentHashMap<>();
+
+        PlanPolslData planPolslData = schedule.planPolslData();
+        when(fingerprintService.find(schedule.id(), planPolslData)).thenAnswer(invocation -> {
+            threads.put("find", Thread.currentThread().getName());
+            return Optional.empty();
+        });
+        when(planPolslClient.getSchedule(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(Mono.just(planPolslResponse));
+        when(fingerprintService.fingerprint(planPolslResponse, Optional.empty())).thenReturn(fingerprint);
+        when(scraper.scrapSchedule(planPolslResponse)).thenReturn(rawSchedule);
+        when(producer.produce(any())).thenReturn(Mono.empty());
+        doAnswer(invocation -> threads.put("save", Thread.currentThread().getName()))
+                .when(fingerprintService).save(schedule.id(), planPolslData, fingerprint);
+        doAnswer(invocation -> threads.put("report", Thread.currentThread().getName()))
+                .when(fetchProducer).produce(any());
+
+        // When
+        underTest.handle(event).block();
+
+        // Then
+        assertThat(threads).containsOnlyKeys("find", "save", "report");
+        assertThat(threads.values()).allSatisfy(thread -> assertThat(thread).startsWith("boundedElastic"));
+    }
+
+    private static Schedule schedule() {
+        PlanPolslData planPolslData = PlanPolslData.builder()
+                .id(1)
+                .type(2)
+                .weekDays(3)
+                .build();
+
+        return Schedule.builder()
+                .planPolslData(planPolslData)
+                .id(UUID.randomUUID().toString())
+                .build();
+    }
+
+}
@@ -4,44 +4,79 @@ import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
 import com.github.karixdev.webscraperservice.application.event.EventType;
 import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
 import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleFetchEvent;
 import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprint;
+import com.github.karixdev.webscraperservice.application.fingerprint.PageFingerprintService;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
 import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
 import com.github.karixdev.webscraperservice.application.props.PlanPolslClientProperties;
-import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseContentScraper;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScraper;
 import com.github.karixdev.webscraperservice.domain.*;
-import org.jsoup.Jsoup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ScheduleEventHandlerTest {
 
-    @InjectMocks
     ScheduleEventHandler underTest;
 
     @Mock
     PlanPolslClient planPolslClient;
 
     @Mock
-    PlanPolslResponseContentScraper scraper;
+    PlanPolslResponseScraper scraper;
 
     @Mock
     EventProducer<RawScheduleEvent> producer;
 
+    @Mock
+    EventProducer<ScheduleFetchEvent> fetchProducer;
+
+    @Mock
+    PageFingerprintService fingerprintService;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    ScrapeMetrics scrapeMetrics = new ScrapeMetrics(meterRegistry);
+
+    @BeforeEach
+    void setUp() {
+        // both producers are of the same raw type, constructor injection by type cannot tell them apart
+        underTest = new ScheduleEventHandler(
+                planPolslClient,
+                scraper,
+                producer,
+                fetchProducer,
+                fingerprintService,
+                scrapeMetrics
+        );
+    }
+
     @Test
     void GivenScheduleEventWithNotSupportedType_WhenHandle_ThenEventIsIgnored() {
         // Given
@@ -53,7 +88,7 @@ class ScheduleEventHandlerTest {
         underTest.handle(event);
 
         // Then
-        verify(planPolslClient, never()).getSchedule(anyInt(), anyInt(), anyInt(), anyInt(), anyInt());
+        verify(planPolslClient, never()).getSchedule(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any(), any());
         verify(scraper, never()).scrapSchedule(any());
         verify(producer, never()).produce(any());
     }
@@ -80,7 +115,7 @@ class ScheduleEventHandlerTest {
                 .build();
 
         PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
-                .content(Jsoup.parse(""))
+                .content("")
                 .build();
 
         when(planPolslClient.getSchedule(
@@ -88,7 +123,9 @@ class ScheduleEventHandlerTest {
                 planPolslData.type(),
                 planPolslData.weekDays(),
                 PlanPolslClientProperties.WIN_W,
-                PlanPolslClientProperties.WIN_H
+                PlanPolslClientProperties.WIN_H,
+                null,
+                null
         )).thenReturn(planPolslResponse);
 
         RawCourse rawCourse = RawCourse.builder()
@@ -120,7 +157,137 @@ class ScheduleEventHandlerTest {
         underTest.handle(event);
 
         // Then
-        verify(producer).produce(expectedEvent);
+        InOrder inOrder = inOrder(producer, fingerprintService);
+        inOrder.verify(producer).produce(expectedEvent);
+        inOrder.verify(producer).flush();
+        inOrder.verify(fingerprintService).save(eq(schedule.id()), eq(planPolslData), any());
+        verify(fetchProducer).produce(argThat(fetch -> fetch.scheduleId().equals(schedule.id()) && fetch.changed()));
+        assertThat(meterRegistry.get("web_scraper.scrape.outcome").tag("outcome", "success").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("web_scraper.scrape.courses").summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GivenPlanPolslClientThrowing_WhenHandle_ThenUpstreamErrorIsCountedAndExceptionIsRethrown() {
+        // Given
+        PlanPolslData planPolslData = PlanPolslData.builder()
+                .id(1)
+                .type(2)
+                .weekDays(3)
+                .build();
+
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(UUID.randomUUID().toString())
+                .entity(Schedule.builder().planPolslData(planPolslData).build())
+                .type(EventType.UPDATE)
+                .build();
+
+        RuntimeException ex = new IllegalStateException("plan.polsl.pl is down");
+        when(planPolslClient.getSchedule(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenThrow(ex);
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.handle(event)).isSameAs(ex);
+
+        assertThat(meterRegistry.get("web_scraper.scrape.outcome").tag("outcome", "upstream_error").counter().count())
+                .isEqualTo(1);
+        verify(producer, never()).produce(any());
+        verify(fetchProducer, never()).produce(any());
+    }
+
+    @Test
+    void GivenRawScheduleThatCouldNotBeSent_WhenHandle_ThenFingerprintIsNotSavedAndExceptionIsRethrown() {
+        // Given
+        PlanPolslData planPolslData = PlanPolslData.builder()
+                .id(1)
+                .type(2)
+                .weekDays(3)
+                .build();
+
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(UUID.randomUUID().toString())
+                .entity(Schedule.builder().planPolslData(planPolslData).build())
+                .type(EventType.UPDATE)
+                .build();
+
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .content("")
+                .build();
+
+        when(planPolslClient.getSchedule(anyInt(), anyInt(), anyInt(), anyInt(), anyInt(), any(), any()))
+                .thenReturn(planPolslResponse);
+        RawSchedule rawSchedule = RawSchedule.builder()
+                .courses(Set.of(RawCourse.builder().text("text").build()))
+                .timeIntervals(Set.of(RawTimeInterval.builder().start("07:00").end("08:00").build()))
+                .build();
+        when(scraper.scrapSchedule(planPolslResponse)).thenReturn(rawSchedule);
+
+        RuntimeException ex = new IllegalStateException("broker unavailable");
+        doThrow(ex).when(producer).flush();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.handle(event)).isSameAs(ex);
+
+        verify(fingerprintService, never()).save(any(), any(), any());
+        verify(fetchProducer, never()).produce(any());
+        assertThat(meterRegistry.get("web_scraper.scrape.outcome").tag("outcome", "error").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GivenScheduleEventForUnchangedPage_WhenHandle_ThenScrapingAndProducingIsSkipped() {
+        // Given
+        PlanPolslData planPolslData = PlanPolslData.builder()
+                .id(1)
+                .type(2)
+                .weekDays(3)
+                .build();
+
+        Schedule schedule = Schedule.builder()
+                .planPolslData(planPolslData)
+                .id(UUID.randomUUID().toString())
+                .build();
+
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(schedule.id())
+                .entity(schedule)
+                .type(EventType.CREATE)
+                .build();
+
+        PageFingerprint previousFingerprint = PageFingerprint.builder()
+                .contentHash("hash")
+                .etag("\"etag\"")
+                .build();
+
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .notModified(true)
+                .build();
+
+        when(fingerprintService.find(schedule.id(), planPolslData))
+                .thenReturn(Optional.of(previousFingerprint));
+        when(planPolslClient.getSchedule(
+                eq(planPolslData.id()),
+                eq(planPolslData.type()),
+                eq(planPolslData.weekDays()),
+                eq(PlanPolslClientProperties.WIN_W),
+                eq(PlanPolslClientProperties.WIN_H),
+                eq("\"etag\""),
+                isNull()
+        )).thenReturn(planPolslResponse);
+        when(fingerprintService.fingerprint(planPolslResponse, Optional.of(previousFingerprint)))
+                .thenReturn(previousFingerprint);
+        when(fingerprintService.isUnchanged(Optional.of(previousFingerprint), previousFingerprint))
+                .thenReturn(true);
+
+        // When
+        underTest.handle(event);
+
+        // Then
+        verify(scraper, never()).scrapSchedule(any());
+        verify(producer, never()).produce(any());
+        verify(fingerprintService, never()).save(any(), any(), any());
+        verify(fetchProducer).produce(argThat(fetch -> fetch.scheduleId().equals(schedule.id()) && !fetch.changed()));
     }
 
     private static Stream<Arguments> supportedEventTypes() {
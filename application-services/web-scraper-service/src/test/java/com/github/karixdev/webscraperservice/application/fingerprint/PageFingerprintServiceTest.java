@@ -0,0 +1,163 @@
+package com.github.karixdev.webscraperservice.application.fingerprint;
+
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.domain.PlanPolslData;
+import com.github.karixdev.webscraperservice.infrastructure.fingerprint.InMemoryPageFingerprintStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageFingerprintServiceTest {
+
+    PageFingerprintService underTest;
+
+    MeterRegistry meterRegistry;
+
+    static final Instant NOW = Instant.parse("2023-10-01T12:00:00Z");
+    static final String SCHEDULE_ID = "schedule-id";
+    static final PlanPolslData PLAN_POLSL_DATA = PlanPolslData.builder()
+            .id(1)
+            .type(0)
+            .weekDays(4)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new PageFingerprintService(
+                new InMemoryPageFingerprintStore(),
+                meterRegistry,
+                true,
+                Duration.ofHours(1),
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void GivenNoPreviousFingerprint_WhenIsUnchanged_ThenReturnsFalseAndCountsMiss() {
+        // Given
+        PlanPolslResponse response = PlanPolslResponse.builder()
+                .content("content")
+                .build();
+        Optional<PageFingerprint> previous = underTest.find(SCHEDULE_ID, PLAN_POLSL_DATA);
+
+        // When
+        boolean result = underTest.isUnchanged(previous, underTest.fingerprint(response, previous));
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void GivenSavedFingerprintOfSameContent_WhenIsUnchanged_ThenReturnsTrueAndCountsHit() {
+        // Given
+        PlanPolslResponse response = PlanPolslResponse.builder()
+                .content("content")
+                .build();
+        underTest.save(SCHEDULE_ID, PLAN_POLSL_DATA, underTest.fingerprint(response, Optional.empty()));
+
+        Optional<PageFingerprint> previous = underTest.find(SCHEDULE_ID, PLAN_POLSL_DATA);
+
+        // When
+        boolean result = underTest.isUnchanged(previous, underTest.fingerprint(response, previous));
+
+        // Then
+        assertThat(result).isTrue();
+        assertThat(count("hit")).isEqualTo(1);
+    }
+
+    @Test
+    void GivenSavedFingerprintOfDifferentContent_WhenIsUnchanged_ThenReturnsFalse() {
+        // Given
+        PlanPolslResponse oldResponse = PlanPolslResponse.builder()
+                .content("old content")
+                .build();
+        underTest.save(SCHEDULE_ID, PLAN_POLSL_DATA, underTest.fingerprint(oldResponse, Optional.empty()));
+
+        PlanPolslResponse newResponse = PlanPolslResponse.builder()
+                .content("new content")
+                .build();
+        Optional<PageFingerprint> previous = underTest.find(SCHEDULE_ID, PLAN_POLSL_DATA);
+
+        // When
+        boolean result = underTest.isUnchanged(previous, underTest.fingerprint(newResponse, previous));
+
+        // Then
+        assertThat(result).isFalse();
+        assertThat(count("miss")).isEqualTo(1);
+    }
+
+    @Test
+    void GivenNotModifiedResponse_WhenIsUnchanged_ThenReturnsTrue() {
+        // Given
+        PlanPolslResponse response = PlanPolslResponse.builder()
+                .content("content")
+                .etag("\"v1\"")
+                .build();
+        underTest.save(SCHEDULE_ID, PLAN_POLSL_DATA, underTest.fingerprint(response, Optional.empty()));
+
+        Optional<PageFingerprint> previous = underTest.find(SCHEDULE_ID, PLAN_POLSL_DATA);
+        PlanPolslResponse notModified = PlanPolslResponse.builder()
+                .etag("\"v1\"")
+                .notModified(true)
+                .build();
+
+        // When
+        boolean result = underTest.isUnchanged(previous, underTest.fingerprint(notModified, previous));
+
+        // Then
+        assertThat(previous).map(PageFingerprint::etag).contains("\"v1\"");
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    void GivenFingerprintOfOtherSchedule_WhenFind_ThenReturnsEmpty() {
+        // Given
+        PlanPolslResponse response = PlanPolslResponse.builder()
+                .content("content")
+                .build();
+        underTest.save(SCHEDULE_ID, PLAN_POLSL_DATA, underTest.fingerprint(response, Optional.empty()));
+
+        // When
+        Optional<PageFingerprint> result = underTest.find("other-schedule-id", PLAN_POLSL_DATA);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    void GivenExpiredFingerprint_WhenFind_ThenReturnsEmpty() {
+        // Given
+        PageFingerprint expired = PageFingerprint.builder()
+                .contentHash("hash")
+                .recordedAt(NOW.minus(Duration.ofHours(2)))
+                .build();
+        underTest.save(SCHEDULE_ID, PLAN_POLSL_DATA, expired);
+
+        // When
+        Optional<PageFingerprint> result = underTest.find(SCHEDULE_ID, PLAN_POLSL_DATA);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    private double count(String result) {
+        return meterRegistry.find("web_scraper.page_fingerprint.lookups")
+                .tag("result", result)
+                .counters()
+                .stream()
+                .mapToDouble(c -> c.count())
+                .sum();
+    }
+
+}
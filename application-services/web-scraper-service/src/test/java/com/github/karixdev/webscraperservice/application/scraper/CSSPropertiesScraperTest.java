@@ -0,0 +1,92 @@
+package com.github.karixdev.webscraperservice.application.scraper;
+
+import org.jsoup.nodes.Element;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CSSPropertiesScraperTest {
+
+    CSSPropertiesScraper underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new CSSPropertiesScraper();
+    }
+
+    @ParameterizedTest
+    @MethodSource("styles")
+    void GivenStyle_WhenGetPixelProperties_ThenReturnsCorrectValues(String style, CSSPixelProperties expected) {
+        // When
+        CSSPixelProperties result = underTest.getPixelProperties(style);
+
+        // Then
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void GivenElementWithStyle_WhenGetPixelProperties_ThenReturnsValuesOfItsStyleAttribute() {
+        // Given
+        Element element = new Element("div")
+                .attr("style", "position:absolute; top:253px; left:97px; height:80px; width:157px;");
+
+        // When
+        CSSPixelProperties result = underTest.getPixelProperties(element);
+
+        // Then
+        assertThat(result).isEqualTo(new CSSPixelProperties(253, 97, 157, 80));
+    }
+
+    @Test
+    void GivenNullStyle_WhenGetPixelProperties_ThenReturnsZeros() {
+        // When
+        CSSPixelProperties result = underTest.getPixelProperties((String) null);
+
+        // Then
+        assertThat(result).isEqualTo(new CSSPixelProperties(0, 0, 0, 0));
+    }
+
+    private static Stream<Arguments> styles() {
+        return Stream.of(
+                Arguments.of(
+                        "position:absolute; top:253px; left:97px; z-index:1; height:80px; width:157px; border:1px solid #000000; background-color:#FFFFFF;",
+                        new CSSPixelProperties(253, 97, 157, 80)
+                ),
+                Arguments.of(
+                        "left: 30px; top: 40px; background-color: #fff",
+                        new CSSPixelProperties(40, 30, 0, 0)
+                ),
+                Arguments.of(
+                        "TOP : 12PX ;Left:-3px",
+                        new CSSPixelProperties(12, -3, 0, 0)
+                ),
+                Arguments.of(
+                        "top:10; left:auto; width:1.5px; height:50%",
+                        new CSSPixelProperties(10, 0, 0, 0)
+                ),
+                Arguments.of(
+                        "background:url(http://plan.polsl.pl/bg.png); top:5px; top:6px",
+                        new CSSPixelProperties(6, 0, 0, 0)
+                ),
+                Arguments.of(
+                        "margin-top:7px; padding-left:8px; line-height:9px",
+                        new CSSPixelProperties(0, 0, 0, 0)
+                ),
+                Arguments.of(
+                        "",
+                        new CSSPixelProperties(0, 0, 0, 0)
+                ),
+                Arguments.of(
+                        ";;top;left:",
+                        new CSSPixelProperties(0, 0, 0, 0)
+                )
+        );
+    }
+
+}
@@ -1,11 +1,12 @@
 package com.github.karixdev.webscraperservice.application.scraper;
 
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
 import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
 import com.github.karixdev.webscraperservice.domain.RawAnchor;
 import com.github.karixdev.webscraperservice.domain.RawCourse;
 import com.github.karixdev.webscraperservice.domain.RawSchedule;
 import com.github.karixdev.webscraperservice.domain.RawTimeInterval;
-import org.jsoup.Jsoup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -21,7 +22,8 @@ class PlanPolslResponseContentScraperTest {
     void setUp() {
         underTest = new PlanPolslResponseContentScraper(
                 new ElementAttributesScraper(),
-                new CSSPropertiesScraper()
+                new CSSPropertiesScraper(),
+                new ScrapeMetrics(new SimpleMeterRegistry())
         );
     }
 
@@ -45,7 +47,7 @@ class PlanPolslResponseContentScraperTest {
                 """;
 
         PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
-                .content(Jsoup.parse(html))
+                .content(html)
                 .build();
 
         // When
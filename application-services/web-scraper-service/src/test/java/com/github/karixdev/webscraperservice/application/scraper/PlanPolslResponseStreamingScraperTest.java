@@ -0,0 +1,115 @@
+package com.github.karixdev.webscraperservice.application.scraper;
+
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.domain.RawAnchor;
+import com.github.karixdev.webscraperservice.domain.RawCourse;
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+import com.github.karixdev.webscraperservice.domain.RawTimeInterval;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanPolslResponseStreamingScraperTest {
+
+    PlanPolslResponseStreamingScraper underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new PlanPolslResponseStreamingScraper(
+                new ElementAttributesScraper(),
+                new CSSPropertiesScraper(),
+                new ScrapeMetrics(new SimpleMeterRegistry())
+        );
+    }
+
+    @Test
+    void GivenPlanPolslResponse_WhenScrapSchedule_ThenReturnCorrectRawSchedule() {
+        // Given
+        String html = """
+                <div class="cd">ab:cd-ef:gh</div>
+                <div class="cd">a1:c2-4f:g1</div>
+                <div class="cd"></div>
+                <div class="cd">08:00-09:00</div>
+                
+                <div class="coursediv"
+                     cw="10"
+                     ch="20"
+                     style="left: 30px; top: 40px; background-color: #fff"
+                >
+                course
+                <a href="link-address">link-text</a>
+                </div>
+                """;
+
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .content(html)
+                .build();
+
+        // When
+        RawSchedule result = underTest.scrapSchedule(planPolslResponse);
+
+        // Then
+        RawTimeInterval timeInterval = RawTimeInterval.builder()
+                .start("08:00")
+                .end("09:00")
+                .build();
+
+        RawAnchor anchor = RawAnchor.builder()
+                .text("link-text")
+                .address("link-address")
+                .build();
+
+        RawCourse course = RawCourse.builder()
+                .text("course")
+                .height(20)
+                .width(10)
+                .left(30)
+                .top(40)
+                .anchors(Set.of(anchor))
+                .build();
+
+        RawSchedule expected = RawSchedule.builder()
+                .courses(Set.of(course))
+                .timeIntervals(Set.of(timeInterval))
+                .build();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void GivenRealPlanPolslPage_WhenScrapSchedule_ThenReturnsSameRawScheduleAsJsoupScraper() throws IOException {
+        // Given
+        PlanPolslResponse planPolslResponse = PlanPolslResponse.builder()
+                .content(readResource("/plan-polsl/plan.html"))
+                .build();
+
+        PlanPolslResponseContentScraper jsoupScraper = new PlanPolslResponseContentScraper(
+                new ElementAttributesScraper(),
+                new CSSPropertiesScraper(),
+                new ScrapeMetrics(new SimpleMeterRegistry())
+        );
+
+        // When
+        RawSchedule result = underTest.scrapSchedule(planPolslResponse);
+
+        // Then
+        assertThat(result).isEqualTo(jsoupScraper.scrapSchedule(planPolslResponse));
+        assertThat(result.courses()).hasSize(3);
+        assertThat(result.timeIntervals()).hasSize(3);
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream inputStream = PlanPolslResponseStreamingScraperTest.class.getResourceAsStream(name)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+}
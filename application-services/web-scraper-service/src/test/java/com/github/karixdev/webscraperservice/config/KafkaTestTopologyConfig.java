@@ -1,10 +1,12 @@
 package com.github.karixdev.webscraperservice.config;
 
+import com.github.karixdev.webscraperservice.infrastructure.kafka.ScheduleEventRetryTopics;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
 
 @Configuration
 public class KafkaTestTopologyConfig {
@@ -14,11 +16,23 @@ public class KafkaTestTopologyConfig {
         return TopicBuilder.name(name).build();
     }
 
+    @Bean
+    NewTopic priorityScheduleTopic(@Value("${kafka.topics.schedule-event-priority}") String name) {
+        return TopicBuilder.name(name).build();
+    }
+
     @Bean
     NewTopic rawCourseTopic(@Value("${kafka.topics.course-raw}") String name) {
         return TopicBuilder.name(name).build();
     }
 
+    @Bean
+    KafkaAdmin.NewTopics retryTopics(ScheduleEventRetryTopics scheduleEventRetryTopics) {
+        return new KafkaAdmin.NewTopics(scheduleEventRetryTopics.topics().stream()
+                .map(name -> TopicBuilder.name(name).build())
+                .toArray(NewTopic[]::new));
+    }
+
     @Bean
     NewTopic dlt(@Value("${kafka.topics.dlt}") String name) {
         return TopicBuilder.name(name).build();
@@ -0,0 +1,114 @@
+package com.github.karixdev.webscraperservice.infrastructure.archive;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanPolslPageArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void GivenAppendedPages_WhenArchiveIsReopened_ThenLatestPageContentIsReadBack() throws IOException {
+        // Given
+        try (PlanPolslPageArchive archive = archiveAt("2023-10-02T10:00:00Z")) {
+            archive.append(1, 0, 4, "<div>old</div>");
+        }
+        try (PlanPolslPageArchive archive = archiveAt("2023-10-03T10:00:00Z")) {
+            archive.append(1, 0, 4, "<div>Łączność</div>");
+            archive.append(2, 0, 4, "<div>other</div>");
+        }
+
+        // When
+        try (PlanPolslPageArchive underTest = archiveAt("2023-10-04T10:00:00Z")) {
+            ArchivedPageEntry latest = underTest.findLatest(1, 0, 4).orElseThrow();
+
+            // Then
+            assertThat(underTest.readContent(latest)).isEqualTo("<div>Łączność</div>");
+            assertThat(latest.fetchedAt()).isEqualTo(Instant.parse("2023-10-03T10:00:00Z"));
+            assertThat(underTest.history(1, 0, 4)).hasSize(2);
+            assertThat(underTest.findLatest(1, 0, 5)).isEmpty();
+        }
+    }
+
+    @Test
+    void GivenPageFetchedTwiceWithSameContent_WhenAppend_ThenBodyIsStoredOnce() throws IOException {
+        // Given
+        String content = "<div class=\"coursediv\">course</div>".repeat(100);
+
+        try (PlanPolslPageArchive underTest = archiveAt("2023-10-02T10:00:00Z")) {
+            // When
+            ArchivedPageEntry first = underTest.append(1, 0, 4, content);
+            long dataSize = Files.size(directory.resolve(PlanPolslPageArchive.DATA_FILE));
+            ArchivedPageEntry second = underTest.append(1, 0, 4, content);
+
+            // Then
+            assertThat(second.bodyOffset()).isEqualTo(first.bodyOffset());
+            assertThat(second.contentHash()).isEqualTo(first.contentHash());
+            assertThat(Files.size(directory.resolve(PlanPolslPageArchive.DATA_FILE))).isEqualTo(dataSize);
+            assertThat(dataSize).isLessThan(content.length());
+            assertThat(underTest.findByContentHash(first.contentHash())).contains(first);
+            assertThat(underTest.readContent(second)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    void GivenHistoryOfPage_WhenFindLatestAt_ThenReturnsPageFetchedLastBeforeGivenTime() throws IOException {
+        // Given
+        try (PlanPolslPageArchive archive = archiveAt("2023-10-02T10:00:00Z")) {
+            archive.append(1, 0, 4, "v1");
+        }
+        try (PlanPolslPageArchive archive = archiveAt("2023-10-05T10:00:00Z")) {
+            archive.append(1, 0, 4, "v2");
+        }
+
+        try (PlanPolslPageArchive underTest = archiveAt("2023-10-06T10:00:00Z")) {
+            // When
+            ArchivedPageEntry result = underTest.findLatestAt(1, 0, 4, Instant.parse("2023-10-03T00:00:00Z"))
+                    .orElseThrow();
+
+            // Then
+            assertThat(underTest.readContent(result)).isEqualTo("v1");
+            assertThat(underTest.findLatestAt(1, 0, 4, Instant.parse("2023-10-01T00:00:00Z"))).isEmpty();
+        }
+    }
+
+    @Test
+    void GivenTornIndexRecordAtEndOfIndex_WhenArchiveIsOpened_ThenTornRecordIsDropped() throws IOException {
+        // Given
+        try (PlanPolslPageArchive archive = archiveAt("2023-10-02T10:00:00Z")) {
+            archive.append(1, 0, 4, "v1");
+        }
+        Files.write(
+                directory.resolve(PlanPolslPageArchive.INDEX_FILE),
+                new byte[PlanPolslPageArchive.INDEX_RECORD_SIZE / 2],
+                StandardOpenOption.APPEND
+        );
+
+        // When
+        try (PlanPolslPageArchive underTest = archiveAt("2023-10-03T10:00:00Z")) {
+            underTest.append(1, 0, 4, "v2");
+
+            // Then
+            assertThat(underTest.history(1, 0, 4)).hasSize(2);
+            assertThat(Files.size(directory.resolve(PlanPolslPageArchive.INDEX_FILE)))
+                    .isEqualTo(2L * PlanPolslPageArchive.INDEX_RECORD_SIZE);
+            assertThat(underTest.readContent(underTest.findLatest(1, 0, 4).orElseThrow())).isEqualTo("v2");
+        }
+    }
+
+    private PlanPolslPageArchive archiveAt(String instant) {
+        return new PlanPolslPageArchive(directory, Clock.fixed(Instant.parse(instant), ZoneOffset.UTC));
+    }
+
+}
@@ -1,26 +1,36 @@
 package com.github.karixdev.webscraperservice.infrastructure.client;
 
 import com.github.karixdev.webscraperservice.application.client.PlanPolslClient;
+import com.github.karixdev.webscraperservice.application.client.ReactivePlanPolslClient;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
 import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
 import com.github.karixdev.webscraperservice.application.props.PlanPolslClientProperties;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslResponseTooLargeException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslTimeoutException;
 import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
 import com.github.tomakehurst.wiremock.junit5.WireMockTest;
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 
+import java.nio.charset.Charset;
+
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 
 @SpringBootTest(classes = {
         PlanPolslClientConfig.class,
-        ObservationAutoConfiguration.class
+        ScrapeMetrics.class,
+        ObservationAutoConfiguration.class,
+        MetricsAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class
 })
 @WireMockTest(httpPort = 9999)
 class PlanPolslClientAdapterTest {
@@ -28,11 +38,23 @@ class PlanPolslClientAdapterTest {
     @Autowired
     PlanPolslClient underTest;
 
+    @Autowired
+    ReactivePlanPolslClient reactiveUnderTest;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @DynamicPropertySource
     static void overridePlanPolslUrl(DynamicPropertyRegistry registry) {
         registry.add(
                 "plan-polsl-url",
                 () -> "http://localhost:9999");
+        registry.add(
+                "plan-polsl.client.max-body-size",
+                () -> "1KB");
+        registry.add(
+                "plan-polsl.client.response-timeout",
+                () -> "2s");
     }
 
     @Test
@@ -95,18 +117,211 @@ class PlanPolslClientAdapterTest {
         );
 
         // Then
-        Document expectedResponseContent = Jsoup.parse("""
+        String expectedResponseContent = """
                 <div class="cd">07:00-08:00</div>
                 <div class="coursediv" styles="left: 40px; top: 30px;" cw="20" ch="10">
                     This is course div
                 </div>
-                """);
+                """;
 
         PlanPolslResponse expectedResponse = PlanPolslResponse.builder()
                 .content(expectedResponseContent)
                 .build();
 
-        assertThat(result.toString()).hasToString(expectedResponse.toString());
+        assertThat(result).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void GivenValidatorsOfUnchangedPage_WhenGetSchedule_ThenReturnsNotModifiedResponse() {
+        // Given
+        int planPolslId = 1001;
+        int type = 0;
+        int wd = 0;
+        String etag = "\"abc\"";
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .withHeader("If-None-Match", equalTo(etag))
+                .willReturn(aResponse().withStatus(304))
+        );
+
+        // When
+        PlanPolslResponse result = underTest.getSchedule(
+                planPolslId,
+                type,
+                wd,
+                PlanPolslClientProperties.WIN_W,
+                PlanPolslClientProperties.WIN_H,
+                etag,
+                null
+        );
+
+        // Then
+        PlanPolslResponse expectedResponse = PlanPolslResponse.builder()
+                .etag(etag)
+                .notModified(true)
+                .build();
+
+        assertThat(result).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void GivenAttrSuchThatSiteReturnsIso88592EncodedResponse_WhenGetSchedule_ThenReturnsDecodedContent() {
+        // Given
+        int planPolslId = 1004;
+        String content = "<div class=\"coursediv\">Łączność bezprzewodowa, ćw.</div>";
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .willReturn(ok().withBody(content.getBytes(Charset.forName("ISO-8859-2"))))
+        );
+
+        // When
+        PlanPolslResponse result = underTest.getSchedule(
+                planPolslId,
+                0,
+                0,
+                PlanPolslClientProperties.WIN_W,
+                PlanPolslClientProperties.WIN_H
+        );
+
+        // Then
+        assertThat(result.content()).isEqualTo(content);
+    }
+
+    @Test
+    void GivenAttrsThatSiteRespondsWithBodyLargerThanMaxBodySize_WhenGetSchedule_ThenThrowsPlanPolslResponseTooLargeException() {
+        // Given
+        int planPolslId = 1005;
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .willReturn(ok().withBody(new byte[2048]))
+        );
+
+        // When & Then
+        assertThatThrownBy(() ->
+                underTest.getSchedule(
+                        planPolslId,
+                        0,
+                        0,
+                        PlanPolslClientProperties.WIN_W,
+                        PlanPolslClientProperties.WIN_H
+                ))
+                .isInstanceOf(PlanPolslResponseTooLargeException.class);
+    }
+
+    @Test
+    void GivenSiteSupportingCompression_WhenGetSchedule_ThenRequestsCompressedBodyAndReturnsDecompressedContent() {
+        // Given
+        int planPolslId = 1004;
+        String content = "<div class=\"cd\">07:00-08:00</div>".repeat(20);
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .willReturn(ok().withBody(content))
+        );
+
+        // When
+        PlanPolslResponse result = underTest.getSchedule(
+                planPolslId,
+                0,
+                0,
+                PlanPolslClientProperties.WIN_W,
+                PlanPolslClientProperties.WIN_H
+        );
+
+        // Then
+        assertThat(result.content()).isEqualTo(content);
+        verify(getRequestedFor(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id", equalTo(String.valueOf(planPolslId)))
+                .withHeader("Accept-Encoding", containing("gzip")));
+        assertThat(meterRegistry.find("reactor.netty.connection.provider.active.connections")
+                .tag("name", "plan-polsl")
+                .gauge())
+                .isNotNull();
+    }
+
+    @Test
+    void GivenSiteRespondingSlowerThanResponseTimeout_WhenGetSchedule_ThenThrowsPlanPolslTimeoutException() {
+        // Given
+        int planPolslId = 1005;
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .willReturn(ok().withFixedDelay(5000))
+        );
+
+        // When & Then
+        assertThatThrownBy(() ->
+                underTest.getSchedule(
+                        planPolslId,
+                        0,
+                        0,
+                        PlanPolslClientProperties.WIN_W,
+                        PlanPolslClientProperties.WIN_H
+                ))
+                .isInstanceOf(PlanPolslTimeoutException.class)
+                .hasMessage("plan.polsl.pl did not respond in time");
+    }
+
+    @Test
+    void GivenAttrSuchThatSiteReturnsExpectedResponse_WhenGetScheduleReactively_ThenEmitsCorrectPlanPolslResponse() {
+        // Given
+        int planPolslId = 1002;
+        int type = 0;
+        int wd = 0;
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .willReturn(ok()
+                        .withHeader("Last-Modified", "Mon, 02 Oct 2023 10:00:00 GMT")
+                        .withBody("<div class=\"cd\">07:00-08:00</div>"))
+        );
+
+        // When
+        PlanPolslResponse result = reactiveUnderTest.getSchedule(
+                planPolslId,
+                type,
+                wd,
+                PlanPolslClientProperties.WIN_W,
+                PlanPolslClientProperties.WIN_H,
+                null,
+                null
+        ).block();
+
+        // Then
+        PlanPolslResponse expectedResponse = PlanPolslResponse.builder()
+                .content("<div class=\"cd\">07:00-08:00</div>")
+                .lastModified("Mon, 02 Oct 2023 10:00:00 GMT")
+                .build();
+
+        assertThat(result).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    void GivenAttrsThatSiteRespondsWithErrorStatus_WhenGetScheduleReactively_ThenEmitsPlanPolslUnavailableException() {
+        // Given
+        int planPolslId = 1003;
+
+        stubFor(get(urlPathEqualTo("/plan.php"))
+                .withQueryParam("id",   equalTo(String.valueOf(planPolslId)))
+                .willReturn(serviceUnavailable())
+        );
+
+        // When & Then
+        assertThatThrownBy(() ->
+                reactiveUnderTest.getSchedule(
+                        planPolslId,
+                        0,
+                        0,
+                        PlanPolslClientProperties.WIN_W,
+                        PlanPolslClientProperties.WIN_H,
+                        null,
+                        null
+                ).block())
+                .isInstanceOf(PlanPolslUnavailableException.class)
+                .hasMessage("plan.polsl.pl responded with error status code 503");
     }
 
 }
\ No newline at end of file
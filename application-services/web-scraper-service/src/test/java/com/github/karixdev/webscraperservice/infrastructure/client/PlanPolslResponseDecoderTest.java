@@ -0,0 +1,129 @@
+package com.github.karixdev.webscraperservice.infrastructure.client;
+
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslResponseTooLargeException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanPolslResponseDecoderTest {
+
+    static final Charset ISO_8859_2 = Charset.forName("ISO-8859-2");
+
+    DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ScrapeMetrics scrapeMetrics = new ScrapeMetrics(meterRegistry);
+
+    @Test
+    void GivenBodySplitIntoManyChunksWithoutContentLength_WhenDecodeBody_ThenReturnsWholeContentDecodedFromIso88592() {
+        // Given
+        PlanPolslResponseDecoder underTest = new PlanPolslResponseDecoder(1024 * 1024, scrapeMetrics);
+        String content = "<div class=\"cd\">Łączność bezprzewodowa, źródła, żółw</div>".repeat(1000);
+
+        // When
+        String result = underTest.decodeBody(chunks(content.getBytes(ISO_8859_2), 7), -1).block();
+
+        // Then
+        assertThat(result).isEqualTo(content);
+        assertThat(meterRegistry.get("web_scraper.scrape.response.size").summary().totalAmount())
+                .isEqualTo(content.length());
+        assertThat(meterRegistry.get("web_scraper.scrape.stage").tag("stage", "decode").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GivenOkResponse_WhenDecode_ThenReturnsContentAndValidators() {
+        // Given
+        PlanPolslResponseDecoder underTest = new PlanPolslResponseDecoder(1024, scrapeMetrics);
+        byte[] body = "<div>Śr</div>".getBytes(ISO_8859_2);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        headers.set(HttpHeaders.LAST_MODIFIED, "Mon, 02 Oct 2023 10:00:00 GMT");
+        headers.setContentLength(body.length);
+
+        ResponseEntity<Flux<DataBuffer>> response = new ResponseEntity<>(chunks(body, 4), headers, HttpStatus.OK);
+
+        // When
+        PlanPolslResponse result = underTest.decode(response, null, null).block();
+
+        // Then
+        PlanPolslResponse expected = PlanPolslResponse.builder()
+                .content("<div>Śr</div>")
+                .etag("\"v1\"")
+                .lastModified("Mon, 02 Oct 2023 10:00:00 GMT")
+                .build();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void GivenNotModifiedResponse_WhenDecode_ThenReturnsNotModifiedResponseWithSentValidators() {
+        // Given
+        PlanPolslResponseDecoder underTest = new PlanPolslResponseDecoder(1024, scrapeMetrics);
+        ResponseEntity<Flux<DataBuffer>> response = new ResponseEntity<>(Flux.empty(), HttpStatus.NOT_MODIFIED);
+
+        // When
+        PlanPolslResponse result = underTest.decode(response, "\"v1\"", null).block();
+
+        // Then
+        PlanPolslResponse expected = PlanPolslResponse.builder()
+                .etag("\"v1\"")
+                .notModified(true)
+                .build();
+
+        assertThat(result).isEqualTo(expected);
+    }
+
+    @Test
+    void GivenBodyLargerThanMaxBodySizeWithoutContentLength_WhenDecodeBody_ThenAbortsAfterCrossingLimit() {
+        // Given
+        PlanPolslResponseDecoder underTest = new PlanPolslResponseDecoder(100, scrapeMetrics);
+        AtomicInteger emittedChunks = new AtomicInteger();
+        Flux<DataBuffer> body = chunks(new byte[1000], 10).doOnNext(buffer -> emittedChunks.incrementAndGet());
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.decodeBody(body, -1).block())
+                .isInstanceOf(PlanPolslResponseTooLargeException.class)
+                .hasMessage("plan.polsl.pl response exceeded maximum body size of 100 bytes");
+
+        assertThat(emittedChunks.get()).isEqualTo(11);
+    }
+
+    @Test
+    void GivenContentLengthLargerThanMaxBodySize_WhenDecodeBody_ThenAbortsBeforeReadingBody() {
+        // Given
+        PlanPolslResponseDecoder underTest = new PlanPolslResponseDecoder(100, scrapeMetrics);
+        AtomicInteger emittedChunks = new AtomicInteger();
+        Flux<DataBuffer> body = chunks(new byte[1000], 10).doOnNext(buffer -> emittedChunks.incrementAndGet());
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.decodeBody(body, 1000).block())
+                .isInstanceOf(PlanPolslResponseTooLargeException.class);
+
+        assertThat(emittedChunks.get()).isLessThanOrEqualTo(1);
+    }
+
+    private Flux<DataBuffer> chunks(byte[] bytes, int chunkSize) {
+        return Flux.range(0, (bytes.length + chunkSize - 1) / chunkSize)
+                .map(i -> {
+                    int from = i * chunkSize;
+                    int length = Math.min(chunkSize, bytes.length - from);
+                    return bufferFactory.allocateBuffer(length).write(bytes, from, length);
+                });
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.breaker;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslFetchRejectedException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanPolslCircuitBreakerTest {
+
+    static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    PlanPolslCircuitBreaker underTest;
+
+    ScheduledExecutorService scheduler;
+    List<PlanPolslCircuitBreaker.State> transitions;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        transitions = new CopyOnWriteArrayList<>();
+
+        underTest = new PlanPolslCircuitBreaker(3, OPEN_DURATION, 1, scheduler, new SimpleMeterRegistry());
+        underTest.addListener(transitions::add);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void GivenConsecutiveUpstreamFailuresReachingThreshold_WhenExecute_ThenBreakerOpensAndRejectsFetches() {
+        // Given
+        failTimes(3);
+
+        // When & Then
+        assertThat(underTest.getState()).isEqualTo(PlanPolslCircuitBreaker.State.OPEN);
+        assertThat(transitions).containsExactly(PlanPolslCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> underTest.execute(() -> "page"))
+                .isInstanceOf(PlanPolslCircuitOpenException.class);
+    }
+
+    @Test
+    void GivenSuccessBetweenFailures_WhenExecute_ThenBreakerStaysClosed() {
+        // Given
+        failTimes(2);
+        underTest.execute(() -> "page");
+
+        // When
+        failTimes(2);
+
+        // Then
+        assertThat(underTest.getState()).isEqualTo(PlanPolslCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void GivenFetchesRejectedByScheduler_WhenExecute_ThenTheyAreNotCountedAsFailures() {
+        // Given
+        Supplier<String> rejected = () -> {
+            throw new PlanPolslFetchRejectedException("wait queue is full");
+        };
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> underTest.execute(rejected))
+                    .isInstanceOf(PlanPolslFetchRejectedException.class);
+        }
+
+        // Then
+        assertThat(underTest.getState()).isEqualTo(PlanPolslCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void GivenOpenBreaker_WhenOpenDurationElapsesAndProbeSucceeds_ThenBreakerCloses() throws Exception {
+        // Given
+        failTimes(3);
+
+        // When
+        awaitState(PlanPolslCircuitBreaker.State.HALF_OPEN);
+        String result = underTest.execute(() -> "page");
+
+        // Then
+        assertThat(result).isEqualTo("page");
+        assertThat(underTest.getState()).isEqualTo(PlanPolslCircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly(
+                PlanPolslCircuitBreaker.State.OPEN,
+                PlanPolslCircuitBreaker.State.HALF_OPEN,
+                PlanPolslCircuitBreaker.State.CLOSED
+        );
+    }
+
+    @Test
+    void GivenHalfOpenBreaker_WhenProbeFails_ThenBreakerOpensAgain() throws Exception {
+        // Given
+        failTimes(3);
+        awaitState(PlanPolslCircuitBreaker.State.HALF_OPEN);
+
+        // When
+        Mono<Object> probe = underTest.executeMono(() -> Mono.error(new PlanPolslUnavailableException(503)));
+        assertThatThrownBy(probe::block).isInstanceOf(PlanPolslUnavailableException.class);
+
+        // Then
+        assertThat(underTest.getState()).isEqualTo(PlanPolslCircuitBreaker.State.OPEN);
+        awaitState(PlanPolslCircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    void GivenHalfOpenBreakerWithProbeInFlight_WhenExecute_ThenOtherFetchesAreRejected() throws Exception {
+        // Given
+        failTimes(3);
+        awaitState(PlanPolslCircuitBreaker.State.HALF_OPEN);
+
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch probeMayFinish = new CountDownLatch(1);
+        CompletableFuture<String> probe = underTest.executeMono(() -> Mono.fromCallable(() -> {
+                    probeStarted.countDown();
+                    assertThat(probeMayFinish.await(5, TimeUnit.SECONDS)).isTrue();
+                    return "page";
+                }).subscribeOn(Schedulers.boundedElastic()))
+                .toFuture();
+        assertThat(probeStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.execute(() -> "page"))
+                .isInstanceOf(PlanPolslCircuitOpenException.class);
+
+        probeMayFinish.countDown();
+        assertThat(probe.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+        assertThat(underTest.getState()).isEqualTo(PlanPolslCircuitBreaker.State.CLOSED);
+    }
+
+    void failTimes(int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(() -> underTest.execute(() -> {
+                throw new PlanPolslUnavailableException(503);
+            })).isInstanceOf(PlanPolslUnavailableException.class);
+        }
+    }
+
+    void awaitState(PlanPolslCircuitBreaker.State state) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (underTest.getState() != state && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(underTest.getState()).isEqualTo(state);
+    }
+
+}
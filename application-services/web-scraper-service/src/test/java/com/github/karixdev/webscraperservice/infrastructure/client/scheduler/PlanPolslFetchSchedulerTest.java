@@ -0,0 +1,256 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.scheduler;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslFetchRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanPolslFetchSchedulerTest {
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void GivenRequestsPerSecondBudget_WhenExecuteMoreFetchesThanBurst_ThenFetchesArePaced() {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                20, 1, 4, 10, Duration.ofSeconds(5), meterRegistry
+        );
+
+        // When
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            underTest.execute(() -> "page");
+        }
+        long elapsed = System.nanoTime() - start;
+
+        // Then
+        assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+        assertThat(meterRegistry.get("web_scraper.plan_polsl.fetch.wait").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    void GivenMaxInFlight_WhenExecuteConcurrently_ThenAtMostMaxInFlightFetchesRunAtOnce() throws Exception {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                1000, 1000, 2, 10, Duration.ofSeconds(5), meterRegistry
+        );
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        List<Future<String>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 6; i++) {
+            futures.add(executor.submit(() -> underTest.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(50);
+                running.decrementAndGet();
+                return "page";
+            })));
+        }
+        for (Future<String> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void GivenFullWaitQueue_WhenExecute_ThenThrowsPlanPolslFetchRejectedException() throws Exception {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                1000, 1000, 1, 1, Duration.ofSeconds(5), meterRegistry
+        );
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> blocking = executor.submit(() -> underTest.execute(() -> {
+            started.countDown();
+            await(release);
+            return "page";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        Thread waiting = new Thread(() -> underTest.execute(() -> "page"));
+        waiting.start();
+        while (meterRegistry.get("web_scraper.plan_polsl.fetch.queued").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.execute(() -> "page"))
+                .isInstanceOf(PlanPolslFetchRejectedException.class)
+                .hasMessage("plan.polsl.pl fetch was rejected: wait queue is full");
+
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        waiting.join(5000);
+        executor.shutdown();
+    }
+
+    @Test
+    void GivenBudgetThatCannotBeMetWithinMaxWait_WhenExecute_ThenThrowsPlanPolslFetchRejectedException() {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                1, 1, 1, 10, Duration.ofMillis(100), meterRegistry
+        );
+        underTest.execute(() -> "page");
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.execute(() -> "page"))
+                .isInstanceOf(PlanPolslFetchRejectedException.class)
+                .hasMessage("plan.polsl.pl fetch was rejected: requests per second budget exhausted");
+    }
+
+    @Test
+    void GivenCallerWaitingForBudget_WhenInterrupted_ThenThrowsPlanPolslFetchRejectedExceptionAndReleasesSlot() throws Exception {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                1, 1, 1, 10, Duration.ofSeconds(5), meterRegistry
+        );
+        underTest.execute(() -> "page");
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        AtomicBoolean interrupted = new AtomicBoolean();
+        Thread waiting = new Thread(() -> {
+            try {
+                underTest.execute(() -> "page");
+            } catch (RuntimeException e) {
+                thrown.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        waiting.start();
+        Thread.sleep(100);
+
+        // When
+        waiting.interrupt();
+
+        // Then
+        waiting.join(500);
+        assertThat(waiting.isAlive()).isFalse();
+        assertThat(thrown.get()).isInstanceOf(PlanPolslFetchRejectedException.class);
+        assertThat(interrupted).isTrue();
+        assertThat(underTest.execute(() -> "page")).isEqualTo("page");
+    }
+
+    @Test
+    void GivenRequestsPerSecondBudget_WhenScheduleMoreFetchesThanBurst_ThenFetchesArePacedWithoutBlocking() {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                20, 1, 4, 10, Duration.ofSeconds(5), meterRegistry
+        );
+
+        // When
+        long start = System.nanoTime();
+        List<String> results = Flux.range(0, 5)
+                .flatMap(i -> underTest.schedule(() -> Mono.just("page")))
+                .collectList()
+                .block();
+        long elapsed = System.nanoTime() - start;
+
+        // Then
+        assertThat(results).hasSize(5);
+        assertThat(elapsed).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(190));
+        assertThat(meterRegistry.get("web_scraper.plan_polsl.fetch.queued").gauge().value()).isZero();
+        assertThat(meterRegistry.get("web_scraper.plan_polsl.fetch.wait").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    void GivenMaxInFlight_WhenScheduleConcurrently_ThenAtMostMaxInFlightFetchesRunAtOnce() {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                1000, 1000, 2, 10, Duration.ofSeconds(5), meterRegistry
+        );
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // When
+        List<String> results = Flux.range(0, 6)
+                .flatMap(i -> underTest.schedule(() -> Mono.fromRunnable(() ->
+                                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max))
+                        .then(Mono.delay(Duration.ofMillis(50)))
+                        .doOnNext(delay -> running.decrementAndGet())
+                        .thenReturn("page")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(results).hasSize(6);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("web_scraper.plan_polsl.fetch.in_flight").gauge().value()).isZero();
+    }
+
+    @Test
+    void GivenSlotHeldByBlockingFetch_WhenScheduleLongerThanMaxWait_ThenRejectsAndFreesItsQueuePlace() throws Exception {
+        // Given
+        PlanPolslFetchScheduler underTest = new PlanPolslFetchScheduler(
+                1000, 1000, 1, 10, Duration.ofMillis(100), meterRegistry
+        );
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> blocking = executor.submit(() -> underTest.execute(() -> {
+            started.countDown();
+            await(release);
+            return "page";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.schedule(() -> Mono.just("page")).block(Duration.ofSeconds(5)))
+                .isInstanceOf(PlanPolslFetchRejectedException.class)
+                .hasMessage("plan.polsl.pl fetch was rejected: no in-flight slot freed up in time");
+        assertThat(meterRegistry.get("web_scraper.plan_polsl.fetch.queued").gauge().value()).isZero();
+
+        release.countDown();
+        blocking.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(underTest.schedule(() -> Mono.just("page")).block(Duration.ofSeconds(5))).isEqualTo("page");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
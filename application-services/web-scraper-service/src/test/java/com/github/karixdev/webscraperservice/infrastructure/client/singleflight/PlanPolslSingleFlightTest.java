@@ -0,0 +1,176 @@
+package com.github.karixdev.webscraperservice.infrastructure.client.singleflight;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import com.github.karixdev.webscraperservice.infrastructure.client.singleflight.PlanPolslSingleFlight.FetchKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PlanPolslSingleFlightTest {
+
+    static final FetchKey KEY = new FetchKey(1, 0, 4, 1000, 1000, null, null);
+
+    PlanPolslSingleFlight underTest;
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new PlanPolslSingleFlight(meterRegistry);
+    }
+
+    @Test
+    void GivenFetchInFlight_WhenExecuteWithSameKey_ThenCallerSharesResultOfInFlightFetch() throws Exception {
+        // Given
+        AtomicInteger fetches = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> first = executor.submit(() -> underTest.execute(KEY, () -> {
+            fetches.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "page";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        Thread releasing = new Thread(() -> {
+            while (meterRegistry.get(PlanPolslSingleFlight.SAVED_FETCHES_METRIC).counter().count() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        });
+        releasing.start();
+
+        // When
+        String result = underTest.execute(KEY, () -> {
+            fetches.incrementAndGet();
+            return "other page";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("page");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("page");
+        assertThat(fetches.get()).isEqualTo(1);
+
+        releasing.join(5000);
+        executor.shutdown();
+    }
+
+    @Test
+    void GivenFetchInFlightThrowingError_WhenExecuteWithSameKey_ThenCallerReceivesErrorAndKeyIsReleased() throws Exception {
+        // Given
+        StackOverflowError error = new StackOverflowError();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> first = executor.submit(() -> underTest.execute(KEY, () -> {
+            started.countDown();
+            await(release);
+            throw error;
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        Thread releasing = new Thread(() -> {
+            while (meterRegistry.get(PlanPolslSingleFlight.SAVED_FETCHES_METRIC).counter().count() < 1) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+        });
+        releasing.start();
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.execute(KEY, () -> "other page")).isSameAs(error);
+        assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCause(error);
+        assertThat(underTest.execute(KEY, () -> "page")).isEqualTo("page");
+
+        releasing.join(5000);
+        executor.shutdown();
+    }
+
+    @Test
+    void GivenCompletedFetch_WhenExecuteWithSameKey_ThenFetchesAgain() {
+        // Given
+        AtomicInteger fetches = new AtomicInteger();
+        underTest.execute(KEY, fetches::incrementAndGet);
+
+        // When
+        int result = underTest.execute(KEY, fetches::incrementAndGet);
+
+        // Then
+        assertThat(result).isEqualTo(2);
+        assertThat(meterRegistry.get(PlanPolslSingleFlight.SAVED_FETCHES_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    void GivenFetchInFlightFailing_WhenScheduleWithSameKey_ThenEverySubscriberReceivesSameException() {
+        // Given
+        AtomicInteger fetches = new AtomicInteger();
+        Sinks.One<String> response = Sinks.one();
+        PlanPolslUnavailableException ex = new PlanPolslUnavailableException(503);
+
+        Mono<String> first = underTest.schedule(KEY, () -> {
+            fetches.incrementAndGet();
+            return response.asMono();
+        });
+        Mono<String> second = underTest.schedule(KEY, () -> {
+            fetches.incrementAndGet();
+            return Mono.just("other page");
+        });
+
+        // When
+        CompletableFuture<String> firstResult = first.toFuture();
+        CompletableFuture<String> secondResult = second.toFuture();
+        response.tryEmitError(ex);
+
+        // Then
+        assertThatThrownBy(firstResult::join).hasCause(ex);
+        assertThatThrownBy(secondResult::join).hasCause(ex);
+        assertThat(fetches.get()).isEqualTo(1);
+    }
+
+    @Test
+    void GivenFetchInFlight_WhenScheduleWithDifferentValidators_ThenFetchesSeparately() {
+        // Given
+        FetchKey conditionalKey = new FetchKey(1, 0, 4, 1000, 1000, "\"v1\"", null);
+        Sinks.One<String> response = Sinks.one();
+
+        CompletableFuture<String> first = underTest.schedule(KEY, response::asMono).toFuture();
+
+        // When
+        String result = underTest.schedule(conditionalKey, () -> Mono.just("not modified")).block();
+
+        // Then
+        assertThat(result).isEqualTo("not modified");
+        assertThat(first).isNotDone();
+
+        response.tryEmitValue("page");
+        assertThat(first.join()).isEqualTo("page");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
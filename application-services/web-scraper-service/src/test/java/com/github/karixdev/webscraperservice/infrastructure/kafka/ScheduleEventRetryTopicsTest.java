@@ -0,0 +1,114 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka;
+
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ListenerExecutionFailedException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleEventRetryTopicsTest {
+
+    static final Instant NOW = Instant.parse("2023-10-02T10:00:00Z");
+
+    ScheduleEventRetryTopics underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new ScheduleEventRetryTopics(
+                "schedule.event.retry",
+                List.of(Duration.ofSeconds(30), Duration.ofMinutes(2)),
+                "schedule.event.dlt",
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+    }
+
+    @Test
+    void GivenDelays_WhenTopics_ThenReturnsOneRetryTopicPerDelay() {
+        // When
+        List<String> result = underTest.topics();
+
+        // Then
+        assertThat(result).containsExactly("schedule.event.retry-1", "schedule.event.retry-2");
+    }
+
+    @Test
+    void GivenFirstAttemptFailedWithUnavailablePlanPolsl_WhenDestinationAndHeaders_ThenRoutesToFirstRetryTopicDueAfterFirstDelay() {
+        // Given
+        ConsumerRecord<String, String> consumerRecord = record(3);
+        Exception ex = new ListenerExecutionFailedException("failed", new PlanPolslUnavailableException(503));
+
+        // When
+        TopicPartition destination = underTest.destination(consumerRecord, ex);
+        Headers headers = underTest.headers(consumerRecord, ex);
+
+        // Then
+        assertThat(destination).isEqualTo(new TopicPartition("schedule.event.retry-1", -1));
+        assertThat(header(headers, ScheduleEventRetryTopics.ATTEMPT_HEADER)).isEqualTo("2");
+        assertThat(header(headers, ScheduleEventRetryTopics.DUE_AT_HEADER))
+                .isEqualTo(String.valueOf(NOW.plusSeconds(30).toEpochMilli()));
+    }
+
+    @Test
+    void GivenLastAttemptFailedWithUnavailablePlanPolsl_WhenDestinationAndHeaders_ThenRoutesToDlt() {
+        // Given
+        ConsumerRecord<String, String> consumerRecord = record(3);
+        consumerRecord.headers().add(ScheduleEventRetryTopics.ATTEMPT_HEADER, "3".getBytes(StandardCharsets.UTF_8));
+        Exception ex = new PlanPolslUnavailableException(503);
+
+        // When
+        TopicPartition destination = underTest.destination(consumerRecord, ex);
+        Headers headers = underTest.headers(consumerRecord, ex);
+
+        // Then
+        assertThat(destination).isEqualTo(new TopicPartition("schedule.event.dlt", 3));
+        assertThat(headers.toArray()).isEmpty();
+    }
+
+    @Test
+    void GivenFirstAttemptFailedWithOtherException_WhenDestination_ThenRoutesToDlt() {
+        // Given
+        ConsumerRecord<String, String> consumerRecord = record(3);
+
+        // When
+        TopicPartition result = underTest.destination(consumerRecord, new IllegalArgumentException());
+
+        // Then
+        assertThat(result).isEqualTo(new TopicPartition("schedule.event.dlt", 3));
+    }
+
+    @Test
+    void GivenRecordDueLater_WhenRemainingDelay_ThenReturnsMillisUntilDue() {
+        // Given
+        ConsumerRecord<String, String> consumerRecord = record(0);
+        consumerRecord.headers().add(
+                ScheduleEventRetryTopics.DUE_AT_HEADER,
+                String.valueOf(NOW.plusSeconds(5).toEpochMilli()).getBytes(StandardCharsets.UTF_8)
+        );
+
+        // When
+        long result = underTest.remainingDelay(consumerRecord);
+
+        // Then
+        assertThat(result).isEqualTo(5000);
+    }
+
+    private static ConsumerRecord<String, String> record(int partition) {
+        return new ConsumerRecord<>("schedule.event", partition, 0, "schedule-1", "event");
+    }
+
+    private static String header(Headers headers, String key) {
+        return new String(headers.lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+}
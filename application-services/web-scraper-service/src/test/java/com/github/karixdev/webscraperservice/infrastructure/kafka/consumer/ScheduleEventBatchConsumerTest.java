@@ -0,0 +1,206 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.EventHandler;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ScheduleEventBatchConsumerTest {
+
+    ScheduleEventBatchConsumer underTest;
+
+    EventHandler<ScheduleEvent> eventHandler;
+    EventProducer<RawScheduleEvent> producer;
+    ConsumerRecordRecoverer recoverer;
+    ExecutorService workers;
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventHandler = mock(EventHandler.class);
+        producer = mock(EventProducer.class);
+        recoverer = mock(ConsumerRecordRecoverer.class);
+        workers = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+
+        underTest = new ScheduleEventBatchConsumer(
+                eventHandler,
+                producer,
+                workers,
+                new ScheduleEventPriorityGate(Duration.ofSeconds(1), meterRegistry),
+                recoverer,
+                new FixedBackOff(0, 2),
+                new ScheduleEventAttemptMetrics(meterRegistry),
+                meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Test
+    void GivenRecordsWithDifferentKeys_WhenConsumeScheduleEvents_ThenRecordsAreHandledConcurrently() {
+        // Given
+        CountDownLatch latch = new CountDownLatch(2);
+        doAnswer(invocation -> {
+            latch.countDown();
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(eventHandler).handle(any());
+
+        List<ConsumerRecord<String, ScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-2")
+        );
+
+        // When
+        underTest.consumeScheduleEvents(records);
+
+        // Then
+        assertThat(latch.getCount()).isZero();
+        verify(eventHandler, times(2)).handle(any());
+        verify(producer, times(2)).flush();
+        verifyNoInteractions(recoverer);
+    }
+
+    @Test
+    void GivenRecordsWithSameKey_WhenConsumeScheduleEvents_ThenRecordsAreHandledInOffsetOrder() {
+        // Given
+        List<ScheduleEvent> handled = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> handled.add(invocation.getArgument(0))).when(eventHandler).handle(any());
+
+        List<ConsumerRecord<String, ScheduleEvent>> records = List.of(
+                record(0, "schedule-1", EventType.CREATE),
+                record(1, "schedule-2", EventType.CREATE),
+                record(2, "schedule-1", EventType.DELETE),
+                record(3, "schedule-1", EventType.CREATE)
+        );
+
+        // When
+        underTest.consumeScheduleEvents(records);
+
+        // Then
+        assertThat(handled.stream().filter(event -> event.scheduleId().equals("schedule-1")))
+                .containsExactly(records.get(0).value(), records.get(2).value(), records.get(3).value());
+    }
+
+    @Test
+    void GivenConsecutiveScrapeEventsWithSameKey_WhenConsumeScheduleEvents_ThenOnlyLatestOneIsHandled() {
+        // Given
+        List<ScheduleEvent> handled = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> handled.add(invocation.getArgument(0))).when(eventHandler).handle(any());
+
+        List<ConsumerRecord<String, ScheduleEvent>> records = List.of(
+                record(0, "schedule-1", EventType.CREATE),
+                record(1, "schedule-2", EventType.UPDATE),
+                record(2, "schedule-1", EventType.UPDATE),
+                record(3, "schedule-1", EventType.UPDATE)
+        );
+
+        // When
+        underTest.consumeScheduleEvents(records);
+
+        // Then
+        assertThat(handled).containsExactlyInAnyOrder(records.get(1).value(), records.get(3).value());
+        assertThat(meterRegistry.get("web_scraper.plan_polsl.fetch.saved").tag("reason", "superseded").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void GivenPlanPolslUnavailableExceptionThrownUntilRetriesAreExhausted_WhenConsumeScheduleEvents_ThenRecordIsRecovered() {
+        // Given
+        PlanPolslUnavailableException ex = new PlanPolslUnavailableException(503);
+        doThrow(ex).when(eventHandler).handle(any());
+
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(0, "schedule-1");
+
+        // When
+        underTest.consumeScheduleEvents(List.of(consumerRecord));
+
+        // Then
+        verify(eventHandler, times(3)).handle(consumerRecord.value());
+        verify(recoverer).accept(eq(consumerRecord), eq(ex));
+    }
+
+    @Test
+    void GivenNotRetryableException_WhenConsumeScheduleEvents_ThenRecordIsRecoveredWithoutRetries() {
+        // Given
+        RuntimeException ex = new IllegalArgumentException();
+        doThrow(ex).when(eventHandler).handle(any());
+
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(0, "schedule-1");
+
+        // When
+        underTest.consumeScheduleEvents(List.of(consumerRecord));
+
+        // Then
+        verify(eventHandler).handle(consumerRecord.value());
+        verify(recoverer).accept(eq(consumerRecord), eq(ex));
+    }
+
+    @Test
+    void GivenPlanPolslCircuitOpenException_WhenConsumeScheduleEvents_ThenBatchFailsAtRejectedRecordWithoutRecovering() {
+        // Given
+        List<ConsumerRecord<String, ScheduleEvent>> records = List.of(
+                record(0, "schedule-1", EventType.CREATE),
+                record(1, "schedule-2", EventType.CREATE),
+                record(2, "schedule-2", EventType.DELETE)
+        );
+        doThrow(new PlanPolslCircuitOpenException()).when(eventHandler).handle(records.get(1).value());
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.consumeScheduleEvents(records))
+                .isInstanceOfSatisfying(
+                        BatchListenerFailedException.class,
+                        ex -> assertThat(ex.getIndex()).isEqualTo(1)
+                );
+
+        verify(eventHandler).handle(records.get(0).value());
+        verify(eventHandler).handle(records.get(1).value());
+        verify(eventHandler, never()).handle(records.get(2).value());
+        verifyNoInteractions(recoverer);
+    }
+
+    private static ConsumerRecord<String, ScheduleEvent> record(long offset, String scheduleId) {
+        return record(offset, scheduleId, EventType.CREATE);
+    }
+
+    private static ConsumerRecord<String, ScheduleEvent> record(long offset, String scheduleId, EventType type) {
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(scheduleId)
+                .type(type)
+                .build();
+
+        return new ConsumerRecord<>("schedule.event", 0, offset, scheduleId, event);
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScheduleEventPriorityGateTest {
+
+    ScheduleEventPriorityGate underTest;
+
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new ScheduleEventPriorityGate(Duration.ofSeconds(5), meterRegistry);
+    }
+
+    @Test
+    void GivenNoPriorityEventInFlight_WhenAwaitIdle_ThenReturnsRightAwayWithoutRecordingHold() {
+        // Given
+        underTest.enter();
+        underTest.exit();
+
+        // When
+        underTest.awaitIdle();
+
+        // Then
+        assertThat(meterRegistry.get(ScheduleEventPriorityGate.HOLD_METRIC).timer().count()).isZero();
+    }
+
+    @Test
+    void GivenPriorityEventInFlight_WhenAwaitIdle_ThenBlocksUntilItExits() {
+        // Given
+        underTest.enter();
+        CompletableFuture<Void> bulk = CompletableFuture.runAsync(underTest::awaitIdle);
+
+        // When & Then
+        assertThat(bulk).isNotCompleted();
+        sleep(100);
+        assertThat(bulk).isNotCompleted();
+
+        underTest.exit();
+
+        assertThat(bulk).succeedsWithin(1, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get(ScheduleEventPriorityGate.HOLD_METRIC).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void GivenPriorityEventInFlightLongerThanHoldTimeout_WhenAwaitIdle_ThenReturnsAfterHoldTimeout() {
+        // Given
+        underTest = new ScheduleEventPriorityGate(Duration.ofMillis(100), meterRegistry);
+        underTest.enter();
+
+        // When
+        long start = System.nanoTime();
+        underTest.awaitIdle();
+
+        // Then
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    void GivenPriorityEventInFlight_WhenIdle_ThenCompletesOnceItExits() {
+        // Given
+        underTest.enter();
+        CompletableFuture<Void> bulk = underTest.idle().toFuture();
+
+        // When
+        sleep(100);
+        underTest.exit();
+
+        // Then
+        assertThat(bulk).succeedsWithin(1, TimeUnit.SECONDS);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.ReactiveEventHandler;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslCircuitOpenException;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.util.backoff.FixedBackOff;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ScheduleEventReactiveConsumerTest {
+
+    ScheduleEventReactiveConsumer underTest;
+
+    ReactiveEventHandler<ScheduleEvent> eventHandler;
+    ConsumerRecordRecoverer recoverer;
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventHandler = mock(ReactiveEventHandler.class);
+        recoverer = mock(ConsumerRecordRecoverer.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        underTest = new ScheduleEventReactiveConsumer(
+                eventHandler,
+                recoverer,
+                new FixedBackOff(0, 2),
+                16,
+                new ScheduleEventPriorityGate(Duration.ofSeconds(1), meterRegistry),
+                new ScheduleEventAttemptMetrics(meterRegistry),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void GivenRecordsWithDifferentKeys_WhenConsumeScheduleEvents_ThenRecordsAreHandledConcurrently() {
+        // Given
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(eventHandler.handle(any())).thenAnswer(invocation -> Mono.delay(Duration.ofMillis(100))
+                .doOnSubscribe(subscription -> maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max))
+                .doFinally(signal -> inFlight.decrementAndGet())
+                .then());
+
+        List<ConsumerRecord<String, ScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-2"),
+                record(2, "schedule-3")
+        );
+
+        // When
+        underTest.consumeScheduleEvents(records);
+
+        // Then
+        assertThat(maxInFlight.get()).isEqualTo(3);
+        verifyNoInteractions(recoverer);
+    }
+
+    @Test
+    void GivenPlanPolslUnavailableExceptionUntilRetriesAreExhausted_WhenConsumeScheduleEvents_ThenRecordIsRecovered() {
+        // Given
+        PlanPolslUnavailableException ex = new PlanPolslUnavailableException(503);
+        AtomicInteger attempts = new AtomicInteger();
+        when(eventHandler.handle(any())).thenAnswer(invocation -> Mono.error(ex)
+                .doOnSubscribe(subscription -> attempts.incrementAndGet()));
+
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(0, "schedule-1");
+
+        // When
+        underTest.consumeScheduleEvents(List.of(consumerRecord));
+
+        // Then
+        assertThat(attempts.get()).isEqualTo(3);
+        verify(recoverer).accept(eq(consumerRecord), eq(ex));
+        assertThat(meterRegistry.get("web_scraper.schedule_event.attempts")
+                .tag("attempt", "1")
+                .tag("outcome", "failure")
+                .counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void GivenNotRetryableException_WhenConsumeScheduleEvents_ThenRecordIsRecoveredWithoutRetries() {
+        // Given
+        RuntimeException ex = new IllegalArgumentException();
+        when(eventHandler.handle(any())).thenReturn(Mono.error(ex));
+
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(0, "schedule-1");
+
+        // When
+        underTest.consumeScheduleEvents(List.of(consumerRecord));
+
+        // Then
+        verify(eventHandler).handle(consumerRecord.value());
+        verify(recoverer).accept(eq(consumerRecord), eq(ex));
+    }
+
+    @Test
+    void GivenPlanPolslCircuitOpenException_WhenConsumeScheduleEvents_ThenBatchFailsAtRejectedRecordWithoutRecovering() {
+        // Given
+        List<ConsumerRecord<String, ScheduleEvent>> records = List.of(
+                record(0, "schedule-1"),
+                record(1, "schedule-2")
+        );
+        when(eventHandler.handle(records.get(0).value())).thenReturn(Mono.empty());
+        when(eventHandler.handle(records.get(1).value())).thenReturn(Mono.error(new PlanPolslCircuitOpenException()));
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.consumeScheduleEvents(records))
+                .isInstanceOfSatisfying(
+                        BatchListenerFailedException.class,
+                        ex -> assertThat(ex.getIndex()).isEqualTo(1)
+                );
+
+        verify(eventHandler).handle(records.get(1).value());
+        verifyNoInteractions(recoverer);
+    }
+
+    private static ConsumerRecord<String, ScheduleEvent> record(long offset, String scheduleId) {
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId(scheduleId)
+                .type(EventType.CREATE)
+                .build();
+
+        return new ConsumerRecord<>("schedule.event", 0, offset, scheduleId, event);
+    }
+
+}
@@ -0,0 +1,129 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.consumer;
+
+import com.github.karixdev.webscraperservice.application.event.EventType;
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.ScheduleEvent;
+import com.github.karixdev.webscraperservice.application.event.handler.EventHandler;
+import com.github.karixdev.webscraperservice.application.event.producer.EventProducer;
+import com.github.karixdev.webscraperservice.infrastructure.client.exception.PlanPolslUnavailableException;
+import com.github.karixdev.webscraperservice.infrastructure.kafka.ScheduleEventRetryTopics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ScheduleEventRetryConsumerTest {
+
+    static final Instant NOW = Instant.parse("2023-10-02T10:00:00Z");
+
+    ScheduleEventRetryConsumer underTest;
+
+    EventHandler<ScheduleEvent> eventHandler;
+    EventProducer<RawScheduleEvent> producer;
+    MeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        eventHandler = mock(EventHandler.class);
+        producer = mock(EventProducer.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        ScheduleEventRetryTopics retryTopics = new ScheduleEventRetryTopics(
+                "schedule.event.retry",
+                List.of(Duration.ofSeconds(30), Duration.ofMinutes(2)),
+                "schedule.event.dlt",
+                Clock.fixed(NOW, ZoneOffset.UTC)
+        );
+
+        underTest = new ScheduleEventRetryConsumer(
+                eventHandler,
+                producer,
+                retryTopics,
+                new ScheduleEventAttemptMetrics(meterRegistry)
+        );
+    }
+
+    @Test
+    void GivenRecordNotDueYet_WhenConsumeRetriedScheduleEvent_ThenThrowsNotDueExceptionWithoutHandling() {
+        // Given
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(2, NOW.plusSeconds(10));
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.consumeRetriedScheduleEvent(consumerRecord))
+                .isInstanceOfSatisfying(
+                        ScheduleEventRetryNotDueException.class,
+                        ex -> assertThat(ex.getRemainingDelay()).isEqualTo(10_000)
+                );
+
+        verifyNoInteractions(eventHandler);
+    }
+
+    @Test
+    void GivenDueRecord_WhenConsumeRetriedScheduleEvent_ThenHandlesEventAndCountsSuccessOfItsAttempt() {
+        // Given
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(2, NOW.minusSeconds(1));
+
+        // When
+        underTest.consumeRetriedScheduleEvent(consumerRecord);
+
+        // Then
+        verify(eventHandler).handle(consumerRecord.value());
+        verify(producer).flush();
+        assertThat(count("2", "success")).isEqualTo(1);
+    }
+
+    @Test
+    void GivenDueRecordFailingAgain_WhenConsumeRetriedScheduleEvent_ThenRethrowsAndCountsFailureOfItsAttempt() {
+        // Given
+        ConsumerRecord<String, ScheduleEvent> consumerRecord = record(3, NOW);
+        PlanPolslUnavailableException ex = new PlanPolslUnavailableException(503);
+        doThrow(ex).when(eventHandler).handle(consumerRecord.value());
+
+        // When & Then
+        assertThatThrownBy(() -> underTest.consumeRetriedScheduleEvent(consumerRecord)).isSameAs(ex);
+
+        assertThat(count("3", "failure")).isEqualTo(1);
+    }
+
+    private double count(String attempt, String outcome) {
+        return meterRegistry.get("web_scraper.schedule_event.attempts")
+                .tag("attempt", attempt)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static ConsumerRecord<String, ScheduleEvent> record(int attempt, Instant dueAt) {
+        ScheduleEvent event = ScheduleEvent.builder()
+                .scheduleId("schedule-1")
+                .type(EventType.UPDATE)
+                .build();
+
+        ConsumerRecord<String, ScheduleEvent> consumerRecord =
+                new ConsumerRecord<>("schedule.event.retry-1", 0, 0, "schedule-1", event);
+        consumerRecord.headers().add(
+                ScheduleEventRetryTopics.ATTEMPT_HEADER,
+                String.valueOf(attempt).getBytes(StandardCharsets.UTF_8)
+        );
+        consumerRecord.headers().add(
+                ScheduleEventRetryTopics.DUE_AT_HEADER,
+                String.valueOf(dueAt.toEpochMilli()).getBytes(StandardCharsets.UTF_8)
+        );
+
+        return consumerRecord;
+    }
+
+}
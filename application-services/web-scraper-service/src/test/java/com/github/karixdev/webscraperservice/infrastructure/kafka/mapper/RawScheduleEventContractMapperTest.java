@@ -0,0 +1,112 @@
+package com.github.karixdev.webscraperservice.infrastructure.kafka.mapper;
+
+import com.github.karixdev.contracts.codec.ContractCodec;
+import com.github.karixdev.contracts.codec.ContractSerializer;
+import com.github.karixdev.webscraperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.webscraperservice.domain.RawAnchor;
+import com.github.karixdev.webscraperservice.domain.RawCourse;
+import com.github.karixdev.webscraperservice.domain.RawSchedule;
+import com.github.karixdev.webscraperservice.domain.RawTimeInterval;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawScheduleEventContractMapperTest {
+
+    static final String TOPIC = "schedule.raw";
+
+    RawScheduleEventContractMapper underTest;
+
+    ContractSerializer<RawScheduleEvent, com.github.karixdev.contracts.raw.RawScheduleEvent> serializer;
+
+    ContractCodec<com.github.karixdev.contracts.raw.RawScheduleEvent> codec;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new RawScheduleEventContractMapper();
+        serializer = new ContractSerializer<>(
+                com.github.karixdev.contracts.raw.RawScheduleEvent.class,
+                underTest::toContract
+        );
+        codec = new ContractCodec<>(com.github.karixdev.contracts.raw.RawScheduleEvent.class);
+    }
+
+    @Test
+    void GivenRawScheduleEvent_WhenSerializedAsContract_ThenEveryFieldIsWritten() {
+        // Given
+        RawScheduleEvent event = rawScheduleEvent();
+
+        // When
+        com.github.karixdev.contracts.raw.RawScheduleEvent result = codec.decode(serializer.serialize(TOPIC, event));
+
+        // Then
+        assertThat(result).usingRecursiveComparison()
+                .ignoringCollectionOrder()
+                .isEqualTo(com.github.karixdev.contracts.raw.RawScheduleEvent.newBuilder()
+                        .setScheduleId("scheduleId")
+                        .setEntity(new com.github.karixdev.contracts.raw.RawSchedule(
+                                List.of(
+                                        new com.github.karixdev.contracts.raw.RawTimeInterval("7:00", "8:00"),
+                                        new com.github.karixdev.contracts.raw.RawTimeInterval("8:00", "9:00")
+                                ),
+                                List.of(
+                                        com.github.karixdev.contracts.raw.RawCourse.newBuilder()
+                                                .setText("Programowanie komputerów, wyk")
+                                                .setHeight(80)
+                                                .setWidth(154)
+                                                .setLeft(88)
+                                                .setTop(253)
+                                                .setAnchors(List.of(
+                                                        new com.github.karixdev.contracts.raw.RawAnchor("plan.php?type=10&id=1234&w=4", "JK"),
+                                                        new com.github.karixdev.contracts.raw.RawAnchor("plan.php?type=20&id=567&w=4", "CEK Lab. 302")
+                                                ))
+                                                .build(),
+                                        com.github.karixdev.contracts.raw.RawCourse.newBuilder()
+                                                .setText("Bazy danych, lab")
+                                                .setHeight(120)
+                                                .setWidth(76)
+                                                .setLeft(166)
+                                                .setTop(295)
+                                                .build()
+                                )
+                        ))
+                        .build());
+    }
+
+    private static RawScheduleEvent rawScheduleEvent() {
+        return RawScheduleEvent.builder()
+                .scheduleId("scheduleId")
+                .entity(new RawSchedule(
+                        Set.of(
+                                new RawTimeInterval("7:00", "8:00"),
+                                new RawTimeInterval("8:00", "9:00")
+                        ),
+                        Set.of(
+                                RawCourse.builder()
+                                        .text("Programowanie komputerów, wyk")
+                                        .height(80)
+                                        .width(154)
+                                        .left(88)
+                                        .top(253)
+                                        .anchors(Set.of(
+                                                new RawAnchor("plan.php?type=10&id=1234&w=4", "JK"),
+                                                new RawAnchor("plan.php?type=20&id=567&w=4", "CEK Lab. 302")
+                                        ))
+                                        .build(),
+                                RawCourse.builder()
+                                        .text("Bazy danych, lab")
+                                        .height(120)
+                                        .width(76)
+                                        .left(166)
+                                        .top(295)
+                                        .build()
+                        )
+                ))
+                .build();
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.webscraperservice.application.scraper.CSSPixelProperties;
+import com.github.karixdev.webscraperservice.application.scraper.CSSPropertiesScraper;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScrapers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares index based {@link CSSPropertiesScraper} with the split based parser it replaced,
+ * over inline styles of plan.polsl.pl {@code coursediv} cells.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSSPropertiesScraperBenchmark {
+
+    private static final String[] COURSE_DIV_STYLES = {
+            "position:absolute; top:253px; left:97px; z-index:1; height:80px; width:157px; border:1px solid #000000; background-color:#FFFFFF;",
+            "position:absolute; top:330px; left:256px; z-index:1; height:40px; width:76px; border:1px solid #000000; background-color:#C0C0FF;",
+            "position:absolute; top:410px; left:335px; z-index:1; height:118px; width:157px; border:1px solid #000000; background-color:#FFFF80;",
+            "position:absolute; top:176px; left:494px; z-index:1; height:80px; width:76px; border:1px solid #000000; background-color:#FFFFFF;",
+            "position:absolute; top:530px; left:652px; z-index:1; height:158px; width:157px; border:1px solid #000000; background-color:#80FF80;"
+    };
+
+    private final CSSPropertiesScraper scraper = PlanPolslResponseScrapers.cssProperties();
+    private final LegacyCSSPropertiesScraper legacyScraper = new LegacyCSSPropertiesScraper();
+
+    @Benchmark
+    public void indexBased(Blackhole blackhole) {
+        for (String style : COURSE_DIV_STYLES) {
+            CSSPixelProperties properties = scraper.getPixelProperties(style);
+            blackhole.consume(properties.top());
+            blackhole.consume(properties.left());
+        }
+    }
+
+    @Benchmark
+    public void splitBased(Blackhole blackhole) {
+        for (String style : COURSE_DIV_STYLES) {
+            blackhole.consume(legacyScraper.getTop(style));
+            blackhole.consume(legacyScraper.getLeft(style));
+        }
+    }
+
+    /**
+     * Previous implementation of {@link CSSPropertiesScraper}, kept as the benchmark baseline.
+     */
+    static class LegacyCSSPropertiesScraper {
+
+        private Map<String, String> getProperties(String styleStr) {
+            Map<String, String> map = new HashMap<>();
+
+            if (styleStr == null || styleStr.isEmpty()) {
+                return map;
+            }
+
+            String[] keys = styleStr.split(":");
+
+            if (keys.length < 2) {
+                return map;
+            }
+
+            for (int i = 0; i < keys.length - 1; i++) {
+                String[] split = keys[i].split(";");
+
+                String propertyName;
+                String propertyValue = keys[i + 1].split(";")[0].trim();
+
+                if (i % 2 != 0) {
+                    if (split.length == 1) {
+                        break;
+                    }
+
+                    propertyName = split[1].trim();
+                } else {
+                    propertyName = split[split.length - 1].trim();
+                }
+
+                map.put(propertyName, propertyValue);
+            }
+
+            return Collections.unmodifiableMap(map);
+        }
+
+        int getTop(String style) {
+            return getSizeProperty(getProperties(style), "top");
+        }
+
+        int getLeft(String style) {
+            return getSizeProperty(getProperties(style), "left");
+        }
+
+        private int getSizeProperty(Map<String, String> properties, String propertyName) {
+            if (properties.get(propertyName) == null) {
+                return 0;
+            }
+
+            return Integer.parseInt(
+                    properties.get(propertyName)
+                            .split("px")[0]
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.karixdev.contracts.codec.ContractCodec;
+import com.github.karixdev.contracts.codec.EventFixtures;
+import com.github.karixdev.contracts.processed.ProcessedRawScheduleEvent;
+import com.github.karixdev.contracts.raw.RawScheduleEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary contracts with the JSON the services produced before them, over the events of a group
+ * timetable. The JSON side (de)serializes records shaped like the ones of the services.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventCodecBenchmark {
+
+    private final ObjectMapper objectMapper = EventFixtures.OBJECT_MAPPER;
+
+    private final ContractCodec<RawScheduleEvent> rawCodec = new ContractCodec<>(RawScheduleEvent.class);
+    private final ContractCodec<ProcessedRawScheduleEvent> processedCodec =
+            new ContractCodec<>(ProcessedRawScheduleEvent.class);
+
+    private RawScheduleEvent rawContract;
+    private ProcessedRawScheduleEvent processedContract;
+    private RawScheduleEventJson rawJson;
+    private ProcessedRawScheduleEventJson processedJson;
+
+    private byte[] rawBinaryBytes;
+    private byte[] rawJsonBytes;
+    private byte[] processedBinaryBytes;
+    private byte[] processedJsonBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        rawContract = EventFixtures.rawScheduleEvent();
+        processedContract = EventFixtures.processedRawScheduleEvent();
+
+        rawJsonBytes = EventFixtures.toJson(rawContract);
+        processedJsonBytes = EventFixtures.toJson(processedContract);
+        rawJson = objectMapper.readValue(rawJsonBytes, RawScheduleEventJson.class);
+        processedJson = objectMapper.readValue(processedJsonBytes, ProcessedRawScheduleEventJson.class);
+
+        rawBinaryBytes = rawCodec.encode(rawContract);
+        processedBinaryBytes = processedCodec.encode(processedContract);
+    }
+
+    @Benchmark
+    public byte[] rawEncodeBinary() {
+        return rawCodec.encode(rawContract);
+    }
+
+    @Benchmark
+    public byte[] rawEncodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(rawJson);
+    }
+
+    @Benchmark
+    public RawScheduleEvent rawDecodeBinary() {
+        return rawCodec.decode(rawBinaryBytes);
+    }
+
+    @Benchmark
+    public RawScheduleEventJson rawDecodeJson() throws IOException {
+        return objectMapper.readValue(rawJsonBytes, RawScheduleEventJson.class);
+    }
+
+    @Benchmark
+    public byte[] processedEncodeBinary() {
+        return processedCodec.encode(processedContract);
+    }
+
+    @Benchmark
+    public byte[] processedEncodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(processedJson);
+    }
+
+    @Benchmark
+    public ProcessedRawScheduleEvent processedDecodeBinary() {
+        return processedCodec.decode(processedBinaryBytes);
+    }
+
+    @Benchmark
+    public ProcessedRawScheduleEventJson processedDecodeJson() throws IOException {
+        return objectMapper.readValue(processedJsonBytes, ProcessedRawScheduleEventJson.class);
+    }
+
+    public record RawScheduleEventJson(String scheduleId, RawScheduleJson entity) {}
+
+    public record RawScheduleJson(Set<RawTimeIntervalJson> timeIntervals, Set<RawCourseJson> courses) {}
+
+    public record RawTimeIntervalJson(String start, String end) {}
+
+    public record RawCourseJson(
+            String text,
+            Integer height,
+            Integer width,
+            Integer left,
+            Integer top,
+            Set<RawAnchorJson> anchors
+    ) {}
+
+    public record RawAnchorJson(String address, String text) {}
+
+    public record ProcessedRawScheduleEventJson(String scheduleId, ProcessedRawScheduleJson entity) {}
+
+    public record ProcessedRawScheduleJson(Set<ProcessedRawCourseJson> courses) {}
+
+    public record ProcessedRawCourseJson(
+            UUID scheduleId,
+            String name,
+            String courseType,
+            String teachers,
+            String classrooms,
+            String additionalInfo,
+            DayOfWeek dayOfWeek,
+            String weekType,
+            LocalTime startsAt,
+            LocalTime endsAt
+    ) {}
+
+}
@@ -0,0 +1,99 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseCache;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseMapper;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawTimeIntervalMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of the events of the scraped corpus, with the serializers the services configure when
+ * {@code kafka.producer.encoding} is {@code json}. Raw schedules are written as web-scraper-service writes them and
+ * read as domain-model-mapper-service reads them, processed schedules are read back into the records they are
+ * written from. One operation covers the whole corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class EventJsonBenchmark {
+
+    private static final String PROCESSED_RAW_SCHEDULE_TOPIC = "schedule.raw-processed";
+
+    private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+    private final JsonDeserializer<RawScheduleEvent> rawScheduleDeserializer =
+            new JsonDeserializer<>(RawScheduleEvent.class, false);
+    private final JsonDeserializer<ProcessedRawScheduleEvent> processedRawScheduleDeserializer =
+            new JsonDeserializer<>(ProcessedRawScheduleEvent.class, false);
+
+    private List<com.github.karixdev.webscraperservice.application.event.RawScheduleEvent> rawScheduleEvents;
+    private List<byte[]> serializedRawScheduleEvents;
+    private List<ProcessedRawScheduleEvent> processedRawScheduleEvents;
+    private List<byte[]> serializedProcessedRawScheduleEvents;
+
+    @Setup
+    public void setUp() {
+        rawScheduleEvents = ScrapedCorpus.scrapedEvents();
+        serializedRawScheduleEvents = rawScheduleEvents.stream()
+                .map(event -> serializer.serialize(ScrapedCorpus.RAW_SCHEDULE_TOPIC, event))
+                .toList();
+
+        RawScheduleEventHandler eventHandler = new RawScheduleEventHandler(
+                new ProcessedRawCourseMapper(ProcessedRawCourseCache.disabled()),
+                new ProcessedRawTimeIntervalMapper(),
+                new EventProducer<>() {
+                    @Override
+                    public void produce(ProcessedRawScheduleEvent event) {}
+
+                    @Override
+                    public void flush() {}
+                }
+        );
+        processedRawScheduleEvents = ScrapedCorpus.rawScheduleEvents().stream()
+                .map(eventHandler::map)
+                .toList();
+        serializedProcessedRawScheduleEvents = processedRawScheduleEvents.stream()
+                .map(event -> serializer.serialize(PROCESSED_RAW_SCHEDULE_TOPIC, event))
+                .toList();
+    }
+
+    @Benchmark
+    public void serializeRawSchedule(Blackhole blackhole) {
+        for (Object event : rawScheduleEvents) {
+            blackhole.consume(serializer.serialize(ScrapedCorpus.RAW_SCHEDULE_TOPIC, event));
+        }
+    }
+
+    @Benchmark
+    public void deserializeRawSchedule(Blackhole blackhole) {
+        for (byte[] event : serializedRawScheduleEvents) {
+            blackhole.consume(rawScheduleDeserializer.deserialize(ScrapedCorpus.RAW_SCHEDULE_TOPIC, event));
+        }
+    }
+
+    @Benchmark
+    public void serializeProcessedRawSchedule(Blackhole blackhole) {
+        for (Object event : processedRawScheduleEvents) {
+            blackhole.consume(serializer.serialize(PROCESSED_RAW_SCHEDULE_TOPIC, event));
+        }
+    }
+
+    @Benchmark
+    public void deserializeProcessedRawSchedule(Blackhole blackhole) {
+        for (byte[] event : serializedProcessedRawScheduleEvents) {
+            blackhole.consume(processedRawScheduleDeserializer.deserialize(PROCESSED_RAW_SCHEDULE_TOPIC, event));
+        }
+    }
+
+}
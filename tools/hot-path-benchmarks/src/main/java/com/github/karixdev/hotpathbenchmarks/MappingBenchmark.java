@@ -0,0 +1,92 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseCache;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseMapper;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawTimeIntervalMapper;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawTimeInterval;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of the scraped corpus by domain-model-mapper-service, course by course and as whole events handed to a
+ * producer that drops them. One operation covers the whole corpus. With the course cache enabled every course is
+ * already cached after the first operation, which is what a refresh of unchanged schedules looks like.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"0", "50000"})
+    private long courseCacheSize;
+
+    private ProcessedRawCourseMapper courseMapper;
+    private RawScheduleEventHandler eventHandler;
+
+    private List<RawScheduleEvent> events;
+    private List<ScheduleCourses> schedules;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        ProcessedRawTimeIntervalMapper timeIntervalMapper = new ProcessedRawTimeIntervalMapper();
+        courseMapper = new ProcessedRawCourseMapper(
+                new ProcessedRawCourseCache(courseCacheSize, Duration.ofHours(1), new SimpleMeterRegistry())
+        );
+        eventHandler = new RawScheduleEventHandler(courseMapper, timeIntervalMapper, new EventProducer<>() {
+            @Override
+            public void produce(ProcessedRawScheduleEvent event) {
+                blackhole.consume(event);
+            }
+
+            @Override
+            public void flush() {}
+        });
+
+        events = ScrapedCorpus.rawScheduleEvents();
+        schedules = events.stream()
+                .map(event -> new ScheduleCourses(
+                        UUID.fromString(event.scheduleId()),
+                        event.entity().timeIntervals().stream()
+                                .map(timeIntervalMapper::map)
+                                .map(ProcessedRawTimeInterval::start)
+                                .min(LocalTime::compareTo)
+                                .orElseThrow(),
+                        List.copyOf(event.entity().courses())
+                ))
+                .toList();
+    }
+
+    @Benchmark
+    public void mapCourses(Blackhole blackhole) {
+        for (ScheduleCourses schedule : schedules) {
+            for (RawCourse course : schedule.courses()) {
+                blackhole.consume(courseMapper.map(course, schedule.scheduleId(), schedule.startTime()));
+            }
+        }
+    }
+
+    @Benchmark
+    public void handle() {
+        for (RawScheduleEvent event : events) {
+            eventHandler.handle(event);
+        }
+    }
+
+    private record ScheduleCourses(UUID scheduleId, LocalTime startTime, List<RawCourse> courses) {}
+
+}
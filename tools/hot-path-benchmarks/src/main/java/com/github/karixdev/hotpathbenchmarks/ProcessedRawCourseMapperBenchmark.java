@@ -0,0 +1,278 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseCache;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseMapper;
+import com.github.karixdev.domainmodelmapperservice.application.props.CourseMapperProperties;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.CourseType;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.ProcessedRawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.processed.WeekType;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link ProcessedRawCourseMapper}, with its lookup table geometry and single pass link classification,
+ * with the arithmetic, map and stream based mapper it replaced, over a week of plan.polsl.pl course cells.
+ * {@code cached} maps the same week for another schedule with {@link ProcessedRawCourseCache} enabled, as happens to
+ * courses shared by groups during a full refresh.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessedRawCourseMapperBenchmark {
+
+    private static final UUID SCHEDULE_ID = UUID.randomUUID();
+    private static final LocalTime START_TIME = LocalTime.of(7, 0);
+    private static final String[] COURSE_TEXTS = {
+            "Analiza matematyczna, wyk\n",
+            "Programowanie komputerów, lab\n występowanie: 1-7 tyg.",
+            "Fizyka, ćw\n",
+            "Inżynieria oprogramowania, proj\n występowanie: co 2 tyg.",
+            "Język angielski\n"
+    };
+
+    private final ProcessedRawCourseMapper mapper = new ProcessedRawCourseMapper(ProcessedRawCourseCache.disabled());
+    private final ProcessedRawCourseMapper cachedMapper = new ProcessedRawCourseMapper(
+            new ProcessedRawCourseCache(1_000, Duration.ofHours(1), new SimpleMeterRegistry())
+    );
+    private final LegacyProcessedRawCourseMapper legacyMapper = new LegacyProcessedRawCourseMapper();
+
+    private List<RawCourse> courses;
+
+    @Setup
+    public void setUp() {
+        courses = new ArrayList<>();
+
+        int[] dayLefts = {88, 254, 420, 586, 752};
+        for (int day = 0; day < dayLefts.length; day++) {
+            for (int slot = 0; slot < 6; slot++) {
+                int i = day * 6 + slot;
+                boolean everyWeek = i % 3 != 0;
+
+                courses.add(RawCourse.builder()
+                        .top(237 + slot * 90 + (i % 4) * 11)
+                        .height(84 + (i % 2) * 45)
+                        .left(everyWeek || i % 2 == 0 ? dayLefts[day] : dayLefts[day] + CourseMapperProperties.WEEK_CELL_HALF_OF_WIDTH)
+                        .width(everyWeek ? CourseMapperProperties.EVERY_WEEK_CW_VALUE : 71)
+                        .text(COURSE_TEXTS[i % COURSE_TEXTS.length])
+                        .anchors(Set.of(
+                                RawAnchor.builder()
+                                        .address("plan.php?type=10&id=" + (1000 + i))
+                                        .text("dr inż. Prowadzący " + i)
+                                        .build(),
+                                RawAnchor.builder()
+                                        .address("plan.php?type=20&id=" + (2000 + i))
+                                        .text("CEK Sala " + i)
+                                        .build()
+                        ))
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public void current(Blackhole blackhole) {
+        for (RawCourse course : courses) {
+            blackhole.consume(mapper.map(course, SCHEDULE_ID, START_TIME));
+        }
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        UUID scheduleId = UUID.randomUUID();
+        for (RawCourse course : courses) {
+            blackhole.consume(cachedMapper.map(course, scheduleId, START_TIME));
+        }
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        for (RawCourse course : courses) {
+            blackhole.consume(legacyMapper.map(course, SCHEDULE_ID, START_TIME));
+        }
+    }
+
+    /**
+     * Previous implementation of {@link ProcessedRawCourseMapper}, kept as the benchmark baseline.
+     */
+    static class LegacyProcessedRawCourseMapper {
+
+        public ProcessedRawCourse map(RawCourse rawCourse, UUID scheduleId, LocalTime startTime) {
+            int scheduleStartTimeHour = startTime.getHour();
+
+            LocalTime startsAt = getTime(
+                    rawCourse.top(),
+                    scheduleStartTimeHour,
+                    false
+            );
+            LocalTime endsAt = getTime(
+                    rawCourse.top() + rawCourse.height(),
+                    scheduleStartTimeHour,
+                    true
+            );
+
+            CourseType courseType = getCourseType(rawCourse.text());
+            String name = getName(rawCourse.text());
+
+            DayOfWeek dayOfWeek = getDayOfWeek(rawCourse.left());
+            WeekType weeks = getWeekType(rawCourse.left(), rawCourse.width(), dayOfWeek);
+
+            String teachers = getTeachers(rawCourse.anchors());
+            String rooms = getRooms(rawCourse.anchors());
+
+            String additionalInfo = getAdditionalInfo(rawCourse.text());
+
+            return ProcessedRawCourse.builder()
+                    .scheduleId(scheduleId)
+                    .startsAt(startsAt)
+                    .endsAt(endsAt)
+                    .name(name)
+                    .courseType(courseType)
+                    .teachers(teachers)
+                    .dayOfWeek(dayOfWeek)
+                    .weekType(weeks)
+                    .classrooms(rooms)
+                    .additionalInfo(additionalInfo)
+                    .build();
+        }
+
+        private LocalTime getTime(int top, int startsAt, boolean addBorderToTop) {
+            if (addBorderToTop) {
+                top += CourseMapperProperties.COURSE_CELL_BORDER_SIZE;
+            }
+
+            int difference = top - CourseMapperProperties.FIRST_CELL_TOP_VALUE;
+            double ratio = difference / CourseMapperProperties.ONE_HOUR_CELL_HEIGHT;
+            ratio /= 0.25;
+
+            int totalNumOfQuarters = (int) Math.ceil(ratio);
+            totalNumOfQuarters *= 15;
+
+            double totalTime = totalNumOfQuarters / 60.0 + startsAt;
+            int hours = (int) totalTime;
+            int minutes = (int) ((totalTime - hours) * 60);
+
+            return LocalTime.of(hours, minutes);
+        }
+
+        private CourseType getCourseType(String text) {
+            String[] firstLineSplit = getFirstLineSplit(text);
+
+            if (firstLineSplit.length == 1) {
+                return CourseType.INFO;
+            }
+
+            String typeName = firstLineSplit[1].trim();
+
+            return Optional
+                    .ofNullable(CourseMapperProperties.COURSE_TYPE_MAP.get(typeName))
+                    .orElse(CourseType.INFO);
+        }
+
+        private String getName(String text) {
+            return getFirstLineSplit(text)[0].trim();
+        }
+
+        private String[] getFirstLineSplit(String text) {
+            String[] linesSplit = text.split("\n");
+
+            return linesSplit[0].split(",");
+        }
+
+        private String getTeachers(Set<RawAnchor> anchors) {
+            return String.join(", ", getTextFromLinks(
+                    anchors,
+                    CourseMapperProperties.COURSE_LINK_TEACHER_TYPE)
+            );
+        }
+
+        private String getTypeFromUrl(String href) {
+            int len = CourseMapperProperties.COURSE_LINKS_PREFIX.length();
+            String str = href.substring(len + 1);
+
+            int typeIdx = str.indexOf("type");
+
+            if (typeIdx == -1) {
+                return "";
+            }
+
+            String substr = str.substring(typeIdx);
+
+            if (substr.contains("&")) {
+                int typeEndIdx = substr.indexOf("&");
+                substr = substr.substring(typeIdx, typeEndIdx);
+            }
+
+            return substr.split("=")[1];
+        }
+
+        private DayOfWeek getDayOfWeek(int left) {
+            if (CourseMapperProperties.DAY_OF_WEEK_MAP.containsKey(left)) {
+                return CourseMapperProperties.DAY_OF_WEEK_MAP.get(left);
+            }
+
+            return CourseMapperProperties.DAY_OF_WEEK_MAP.get(left - CourseMapperProperties.WEEK_CELL_HALF_OF_WIDTH);
+        }
+
+        private String getRooms(Set<RawAnchor> anchors) {
+            return String.join(", ", getTextFromLinks(
+                    anchors,
+                    CourseMapperProperties.COURSE_LINK_ROOM_TYPE)
+            );
+        }
+
+        private WeekType getWeekType(int left, int cw, DayOfWeek dayOfWeek) {
+            if (cw == CourseMapperProperties.EVERY_WEEK_CW_VALUE) {
+                return WeekType.EVERY;
+            }
+
+            boolean isOdd = CourseMapperProperties.DAY_OF_WEEK_MAP
+                    .entrySet()
+                    .stream()
+                    .anyMatch(entry -> entry.getKey().equals(left) && entry.getValue().equals(dayOfWeek));
+
+            return isOdd ? WeekType.ODD : WeekType.EVEN;
+        }
+
+        private String getAdditionalInfo(String text) {
+            int idx = text.indexOf(CourseMapperProperties.COURSE_ADDITIONAL_INFO_PREFIX);
+
+            if (idx == -1) {
+                return null;
+            }
+
+            return text.substring(idx).trim()
+                    .replace("\n", " ")
+                    .replace(" +", " ");
+        }
+
+        private Set<String> getTextFromLinks(Set<RawAnchor> anchors, String type) {
+            if (anchors == null) {
+                return Set.of();
+            }
+
+            return anchors.stream()
+                    .filter(anchor -> getTypeFromUrl(anchor.address()).equals(type))
+                    .map(RawAnchor::text)
+                    .collect(Collectors.toSet());
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.domainmodelmapperservice.application.event.handler.RawScheduleEventHandler;
+import com.github.karixdev.domainmodelmapperservice.application.event.producer.EventProducer;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseCache;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawCourseMapper;
+import com.github.karixdev.domainmodelmapperservice.application.mapper.ProcessedRawTimeIntervalMapper;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawAnchor;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawCourse;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawSchedule;
+import com.github.karixdev.domainmodelmapperservice.domain.raw.RawTimeInterval;
+import com.github.karixdev.domainmodelmapperservice.infrastructure.kafka.consumer.RawScheduleBatchConsumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link RawScheduleBatchConsumer} by number of workers, over a batch of distinct schedules as polled
+ * during a full refresh. Compare with {@link #recordByRecord} for the record mode. It scales with the number of
+ * available cores only.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RawScheduleBatchConsumerBenchmark {
+
+    private static final int BATCH_SIZE = 64;
+    private static final int COURSES_PER_SCHEDULE = 30;
+
+    @Param({"1", "2", "4"})
+    private int workers;
+
+    private ExecutorService executor;
+    private RawScheduleEventHandler eventHandler;
+    private RawScheduleBatchConsumer batchConsumer;
+    private List<ConsumerRecord<String, RawScheduleEvent>> batch;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        EventProducer<ProcessedRawScheduleEvent> eventProducer = new EventProducer<>() {
+            @Override
+            public void produce(ProcessedRawScheduleEvent event) {
+                blackhole.consume(event);
+            }
+
+            @Override
+            public void flush() {}
+        };
+
+        executor = Executors.newFixedThreadPool(workers);
+        eventHandler = new RawScheduleEventHandler(
+                new ProcessedRawCourseMapper(ProcessedRawCourseCache.disabled()),
+                new ProcessedRawTimeIntervalMapper(),
+                eventProducer
+        );
+        batchConsumer = new RawScheduleBatchConsumer(
+                eventHandler,
+                eventProducer,
+                executor,
+                (consumerRecord, ex) -> {
+                    throw new IllegalStateException(ex);
+                }
+        );
+
+        batch = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            String scheduleId = UUID.randomUUID().toString();
+            batch.add(new ConsumerRecord<>("schedule.raw", 0, i, scheduleId, rawScheduleEvent(scheduleId)));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void batch() {
+        batchConsumer.consumeScheduleRaws(batch);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void recordByRecord() {
+        for (ConsumerRecord<String, RawScheduleEvent> consumerRecord : batch) {
+            eventHandler.handle(consumerRecord.value());
+        }
+    }
+
+    private static RawScheduleEvent rawScheduleEvent(String scheduleId) {
+        Set<RawCourse> courses = new HashSet<>();
+        int[] dayLefts = {88, 254, 420, 586, 752};
+        for (int i = 0; i < COURSES_PER_SCHEDULE; i++) {
+            courses.add(RawCourse.builder()
+                    .top(237 + (i % 6) * 90)
+                    .height(84)
+                    .left(dayLefts[i % dayLefts.length])
+                    .width(154)
+                    .text("Course " + i + ", wyk\n")
+                    .anchors(Set.of(
+                            RawAnchor.builder()
+                                    .address("plan.php?type=10&id=" + (1000 + i) + "&w=4")
+                                    .text("Teacher " + i)
+                                    .build(),
+                            RawAnchor.builder()
+                                    .address("plan.php?type=20&id=" + (2000 + i) + "&w=4")
+                                    .text("Room " + i)
+                                    .build()
+                    ))
+                    .build());
+        }
+
+        Set<RawTimeInterval> timeIntervals = new HashSet<>();
+        for (int hour = 7; hour < 20; hour++) {
+            timeIntervals.add(new RawTimeInterval("%02d:00".formatted(hour), "%02d:45".formatted(hour)));
+        }
+
+        return RawScheduleEvent.builder()
+                .scheduleId(scheduleId)
+                .entity(new RawSchedule(timeIntervals, courses))
+                .build();
+    }
+
+}
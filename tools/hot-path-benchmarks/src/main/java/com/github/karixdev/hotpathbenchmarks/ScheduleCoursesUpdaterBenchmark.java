@@ -0,0 +1,215 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.courseservice.application.dal.TransactionManager;
+import com.github.karixdev.courseservice.application.event.ProcessedRawScheduleEvent;
+import com.github.karixdev.courseservice.application.event.handler.ProcessedRawScheduleEventHandler;
+import com.github.karixdev.courseservice.application.mapper.ModelMapper;
+import com.github.karixdev.courseservice.application.mapper.ProcessedRawCourseToCourseMapper;
+import com.github.karixdev.courseservice.application.updater.ScheduleCoursesUpdater;
+import com.github.karixdev.courseservice.application.validator.ProcessedRawCourseValidator;
+import com.github.karixdev.courseservice.application.validator.Validator;
+import com.github.karixdev.courseservice.domain.entity.Course;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourse;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourseType;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawCourseWeekType;
+import com.github.karixdev.courseservice.domain.entity.processed.ProcessedRawSchedule;
+import com.github.karixdev.courseservice.domain.repository.CourseRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+
+/**
+ * Compares {@link ProcessedRawScheduleEventHandler}, diffing courses by their non-id fields, with the handler it
+ * replaced, which collected the received courses into a set and diffed them with nested loops. Both handle the event
+ * of a refresh of a schedule where every tenth course has been moved to another hour.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScheduleCoursesUpdaterBenchmark {
+
+    private static final TransactionManager TRANSACTION_MANAGER = callback -> callback.execute();
+
+    @Param({"50", "500", "5000"})
+    private int courses;
+
+    private final ModelMapper<ProcessedRawCourse, Course> mapper = new ProcessedRawCourseToCourseMapper();
+    private final Validator<ProcessedRawCourse> validator = new ProcessedRawCourseValidator();
+
+    private ProcessedRawScheduleEventHandler handler;
+    private LegacyProcessedRawScheduleEventHandler legacyHandler;
+
+    private ProcessedRawScheduleEvent event;
+
+    @Setup
+    public void setUp() {
+        UUID scheduleId = UUID.randomUUID();
+        DayOfWeek[] days = DayOfWeek.values();
+        ProcessedRawCourseType[] types = ProcessedRawCourseType.values();
+        ProcessedRawCourseWeekType[] weekTypes = ProcessedRawCourseWeekType.values();
+
+        List<Course> current = new ArrayList<>();
+        Set<ProcessedRawCourse> received = new HashSet<>();
+        for (int i = 0; i < courses; i++) {
+            LocalTime startsAt = LocalTime.of(7 + i % 12, 15 * (i % 4));
+            LocalTime receivedStartsAt = i % 10 == 0 ? startsAt.plusHours(1) : startsAt;
+
+            ProcessedRawCourse.ProcessedRawCourseBuilder course = ProcessedRawCourse.builder()
+                    .scheduleId(scheduleId)
+                    .name("Course " + i / 4)
+                    .courseType(types[i % types.length])
+                    .teachers("dr inż. Prowadzący " + i % 40)
+                    .classrooms("CEK Sala " + i % 60)
+                    .dayOfWeek(days[i % 5])
+                    .weekType(weekTypes[i % weekTypes.length]);
+
+            Course currentCourse = mapper.map(course.startsAt(startsAt).endsAt(startsAt.plusMinutes(90)).build());
+            currentCourse.setId(UUID.randomUUID());
+            current.add(currentCourse);
+
+            received.add(course.startsAt(receivedStartsAt).endsAt(receivedStartsAt.plusMinutes(90)).build());
+        }
+
+        event = ProcessedRawScheduleEvent.builder()
+                .scheduleId(scheduleId.toString())
+                .entity(ProcessedRawSchedule.builder().courses(received).build())
+                .build();
+
+        CourseRepository repository = new FixedCourseRepository(current);
+        handler = new ProcessedRawScheduleEventHandler(
+                mapper,
+                repository,
+                new ScheduleCoursesUpdater(repository, TRANSACTION_MANAGER),
+                validator
+        );
+        legacyHandler = new LegacyProcessedRawScheduleEventHandler(mapper, repository, validator);
+    }
+
+    @Benchmark
+    public void keyed() {
+        handler.handle(event);
+    }
+
+    @Benchmark
+    public void nestedLoops() {
+        legacyHandler.handle(event);
+    }
+
+    /**
+     * Previous implementation of {@link ProcessedRawScheduleEventHandler} and of the update of courses it ran, kept as
+     * the benchmark baseline.
+     */
+    static class LegacyProcessedRawScheduleEventHandler {
+
+        private final ModelMapper<ProcessedRawCourse, Course> toEntityMapper;
+        private final CourseRepository repository;
+        private final Validator<ProcessedRawCourse> processedRawCourseValidator;
+
+        LegacyProcessedRawScheduleEventHandler(
+                ModelMapper<ProcessedRawCourse, Course> toEntityMapper,
+                CourseRepository repository,
+                Validator<ProcessedRawCourse> processedRawCourseValidator
+        ) {
+            this.toEntityMapper = toEntityMapper;
+            this.repository = repository;
+            this.processedRawCourseValidator = processedRawCourseValidator;
+        }
+
+        public void handle(ProcessedRawScheduleEvent event) {
+            Set<Course> received = event.entity()
+                    .courses()
+                    .stream()
+                    .filter(processedRawCourseValidator::isValid)
+                    .map(toEntityMapper::map)
+                    .collect(Collectors.toSet());
+
+            UUID scheduleId = UUID.fromString(event.scheduleId());
+            Set<Course> current = new HashSet<>(repository.findByScheduleId(scheduleId));
+
+            Set<Course> coursesToSave = received.stream()
+                    .filter(retrievedCourse -> current.stream()
+                            .noneMatch(currentCourse -> areNonIdParamsEqualPredicate().test(retrievedCourse, currentCourse)))
+                    .collect(Collectors.toSet());
+
+            coursesToSave.forEach(course -> course.setId(UUID.randomUUID()));
+
+            Set<Course> coursesToDelete = current.stream()
+                    .filter(currentCourse -> received.stream()
+                            .noneMatch(retrievedCourse ->
+                                    areNonIdParamsEqualPredicate().test(retrievedCourse, currentCourse)))
+                    .collect(Collectors.toSet());
+
+            TRANSACTION_MANAGER.execute(() -> {
+                repository.saveAll(coursesToSave);
+                repository.deleteAll(coursesToDelete);
+            });
+        }
+
+        private BiPredicate<Course, Course> areNonIdParamsEqualPredicate() {
+            return (course1, course2) -> Objects.equals(course1.getName(), course2.getName()) &&
+                    course1.getCourseType() == course2.getCourseType() &&
+                    Objects.equals(course1.getTeachers(), course2.getTeachers()) &&
+                    Objects.equals(course1.getClassrooms(), course2.getClassrooms()) &&
+                    Objects.equals(course1.getAdditionalInfo(), course2.getAdditionalInfo()) &&
+                    course1.getDayOfWeek() == course2.getDayOfWeek() &&
+                    course1.getWeekType() == course2.getWeekType() &&
+                    Objects.equals(course1.getStartsAt(), course2.getStartsAt()) &&
+                    Objects.equals(course1.getEndsAt(), course2.getEndsAt());
+        }
+
+    }
+
+    /**
+     * Holds the current courses of the schedule, saves and deletes nothing so that every invocation sees them.
+     */
+    static class FixedCourseRepository implements CourseRepository {
+
+        private final List<Course> courses;
+
+        FixedCourseRepository(List<Course> courses) {
+            this.courses = courses;
+        }
+
+        @Override
+        public void save(Course course) {}
+
+        @Override
+        public void saveAll(Collection<Course> courses) {}
+
+        @Override
+        public void delete(Course course) {}
+
+        @Override
+        public void deleteAll(Collection<Course> courses) {}
+
+        @Override
+        public void deleteByScheduleId(UUID scheduleId) {}
+
+        @Override
+        public Optional<Course> findById(UUID id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public List<Course> findByScheduleId(UUID scheduleId) {
+            return courses;
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.domainmodelmapperservice.application.event.RawScheduleEvent;
+import com.github.karixdev.hotpathbenchmarks.corpus.TimetableCorpus;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseContentScraper;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScrapers;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Corpus pages as the events they become on their way through the pipeline.
+ */
+final class ScrapedCorpus {
+
+    static final String RAW_SCHEDULE_TOPIC = "schedule.raw";
+
+    private ScrapedCorpus() {}
+
+    /**
+     * Raw schedules produced by web-scraper-service, one per page of the corpus.
+     */
+    static List<com.github.karixdev.webscraperservice.application.event.RawScheduleEvent> scrapedEvents() {
+        PlanPolslResponseContentScraper scraper = PlanPolslResponseScrapers.content(new ScrapeMetrics(new SimpleMeterRegistry()));
+        List<String> pages = TimetableCorpus.pages();
+
+        return IntStream.range(0, pages.size())
+                .mapToObj(i -> com.github.karixdev.webscraperservice.application.event.RawScheduleEvent.builder()
+                        .scheduleId(UUID.nameUUIDFromBytes(Integer.toString(i).getBytes(StandardCharsets.UTF_8)).toString())
+                        .entity(scraper.scrapSchedule(PlanPolslResponse.builder()
+                                .content(pages.get(i))
+                                .build()))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * The same raw schedules as consumed by domain-model-mapper-service.
+     */
+    static List<RawScheduleEvent> rawScheduleEvents() {
+        try (JsonSerializer<Object> serializer = new JsonSerializer<>();
+             JsonDeserializer<RawScheduleEvent> deserializer = new JsonDeserializer<>(RawScheduleEvent.class, false)) {
+            return scrapedEvents().stream()
+                    .map(event -> deserializer.deserialize(RAW_SCHEDULE_TOPIC, serializer.serialize(RAW_SCHEDULE_TOPIC, event)))
+                    .toList();
+        }
+    }
+
+}
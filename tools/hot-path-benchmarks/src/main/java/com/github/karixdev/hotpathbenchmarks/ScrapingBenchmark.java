@@ -0,0 +1,79 @@
+package com.github.karixdev.hotpathbenchmarks;
+
+import com.github.karixdev.hotpathbenchmarks.corpus.TimetableCorpus;
+import com.github.karixdev.webscraperservice.application.metrics.ScrapeMetrics;
+import com.github.karixdev.webscraperservice.application.payload.PlanPolslResponse;
+import com.github.karixdev.webscraperservice.application.props.PlanPolslScrapperProperties;
+import com.github.karixdev.webscraperservice.application.scraper.CSSPixelProperties;
+import com.github.karixdev.webscraperservice.application.scraper.CSSPropertiesScraper;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseContentScraper;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseScrapers;
+import com.github.karixdev.webscraperservice.application.scraper.PlanPolslResponseStreamingScraper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scraping of every page of the corpus by web-scraper-service, with either scraper engine, and reading pixel
+ * properties of every course cell of the corpus. One operation covers the whole corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ScrapingBenchmark {
+
+    private final PlanPolslResponseContentScraper contentScraper =
+            PlanPolslResponseScrapers.content(new ScrapeMetrics(new SimpleMeterRegistry()));
+    private final PlanPolslResponseStreamingScraper streamingScraper =
+            PlanPolslResponseScrapers.streaming(new ScrapeMetrics(new SimpleMeterRegistry()));
+    private final CSSPropertiesScraper cssPropertiesScraper = PlanPolslResponseScrapers.cssProperties();
+
+    private List<PlanPolslResponse> responses;
+    private List<String> courseCellStyles;
+
+    @Setup
+    public void setUp() {
+        List<String> pages = TimetableCorpus.pages();
+
+        responses = pages.stream()
+                .map(page -> PlanPolslResponse.builder()
+                        .content(page)
+                        .build())
+                .toList();
+        courseCellStyles = pages.stream()
+                .flatMap(page -> Jsoup.parse(page).getElementsByClass(PlanPolslScrapperProperties.COURSE_CELL_CLASS).stream())
+                .map(element -> element.attr("style"))
+                .toList();
+    }
+
+    @Benchmark
+    public void scrapSchedule(Blackhole blackhole) {
+        for (PlanPolslResponse response : responses) {
+            blackhole.consume(contentScraper.scrapSchedule(response));
+        }
+    }
+
+    @Benchmark
+    public void scrapScheduleStreaming(Blackhole blackhole) {
+        for (PlanPolslResponse response : responses) {
+            blackhole.consume(streamingScraper.scrapSchedule(response));
+        }
+    }
+
+    @Benchmark
+    public void cssPixelProperties(Blackhole blackhole) {
+        for (String style : courseCellStyles) {
+            CSSPixelProperties properties = cssPropertiesScraper.getPixelProperties(style);
+            blackhole.consume(properties.top());
+            blackhole.consume(properties.left());
+        }
+    }
+
+}
@@ -0,0 +1,70 @@
+package com.github.karixdev.hotpathbenchmarks.corpus;
+
+import com.github.karixdev.timetablegenerator.TimetableGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * plan.php pages the benchmarks run over. Pages saved from plan.polsl.pl are read from the directory given by the
+ * {@value #CORPUS_PROPERTY} system property, every {@code *.html} file in it. Without it a fixed set of generated
+ * pages is used, so that results of separate runs can be compared.
+ */
+public final class TimetableCorpus {
+
+    public static final String CORPUS_PROPERTY = "benchmark.corpus";
+
+    private static final int GENERATED_PAGES = 50;
+    private static final int FIRST_GENERATED_ID = 18843;
+
+    private TimetableCorpus() {}
+
+    public static List<String> pages() {
+        String directory = System.getProperty(CORPUS_PROPERTY, "");
+        if (directory.isBlank()) {
+            return generatedPages();
+        }
+
+        return recordedPages(Path.of(directory));
+    }
+
+    private static List<String> generatedPages() {
+        TimetableGenerator generator = new TimetableGenerator();
+
+        return IntStream.range(FIRST_GENERATED_ID, FIRST_GENERATED_ID + GENERATED_PAGES)
+                .mapToObj(id -> generator.generate(id, 0, 4))
+                .toList();
+    }
+
+    private static List<String> recordedPages(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<String> pages = files
+                    .filter(file -> file.getFileName().toString().endsWith(".html"))
+                    .sorted()
+                    .map(TimetableCorpus::read)
+                    .toList();
+
+            if (pages.isEmpty()) {
+                throw new IllegalArgumentException("No *.html pages in " + directory);
+            }
+
+            return pages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Path file) {
+        try {
+            return Files.readString(file, TimetableGenerator.CHARSET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.github.karixdev.pipelineloadharness;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "harness")
+public record HarnessProperties(
+        Images images,
+        Path keycloakRealmFile,
+        PlanPolsl planPolsl,
+        Load load,
+        Topics topics,
+        String courseServiceGroupId,
+        Path reportFile
+) {
+
+    /**
+     * @param published         whether to run the published images below instead of images built from the modules
+     *                          of {@code servicesDirectory}
+     * @param servicesDirectory directory of the service modules, each packaged and holding its Dockerfile
+     */
+    public record Images(
+            boolean published,
+            Path servicesDirectory,
+            String webScraperService,
+            String domainModelMapperService,
+            String scheduleService,
+            String courseService
+    ) {}
+
+    /**
+     * @param recordedDirectory directory with recorded {@code <id>_<type>_<wd>.html} pages, generated pages are
+     *                          served when not set
+     */
+    public record PlanPolsl(
+            int port,
+            Duration latency,
+            Duration latencyJitter,
+            double errorRate,
+            int threads,
+            boolean changeOnFetch,
+            Path recordedDirectory
+    ) {}
+
+    public record Load(
+            int schedules,
+            int rounds,
+            int batchSize,
+            Duration roundInterval,
+            int firstPlanPolslId,
+            Duration timeout
+    ) {}
+
+    public record Topics(
+            String scheduleEvent,
+            String scheduleEventPriority,
+            String rawSchedule,
+            String processedRawSchedule
+    ) {}
+
+}
@@ -0,0 +1,169 @@
+package com.github.karixdev.pipelineloadharness;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.karixdev.pipelineloadharness.driver.KeycloakTokenProvider;
+import com.github.karixdev.pipelineloadharness.driver.LoadDriver;
+import com.github.karixdev.pipelineloadharness.driver.LoadDriverProperties;
+import com.github.karixdev.pipelineloadharness.driver.ScheduleAdminApi;
+import com.github.karixdev.pipelineloadharness.environment.PipelineEnvironment;
+import com.github.karixdev.pipelineloadharness.environment.PipelineEnvironmentProperties;
+import com.github.karixdev.pipelineloadharness.environment.ServiceImages;
+import com.github.karixdev.pipelineloadharness.fake.FakePlanPolslProperties;
+import com.github.karixdev.pipelineloadharness.fake.FakePlanPolslServer;
+import com.github.karixdev.pipelineloadharness.fake.GeneratedTimetableSource;
+import com.github.karixdev.pipelineloadharness.fake.RecordedTimetableSource;
+import com.github.karixdev.pipelineloadharness.fake.TimetableSource;
+import com.github.karixdev.pipelineloadharness.report.LoadReport;
+import com.github.karixdev.pipelineloadharness.report.LoadReportWriter;
+import com.github.karixdev.pipelineloadharness.report.PipelineProbe;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+
+/**
+ * Starts the fake plan.polsl.pl and the whole pipeline, drives load through schedule-service and reports
+ * per stage latency and end-to-end throughput.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadHarnessRunner implements CommandLineRunner {
+
+    private final HarnessProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Override
+    public void run(String... args) throws Exception {
+        HarnessProperties.PlanPolsl planPolsl = properties.planPolsl();
+        FakePlanPolslProperties fakeProperties = FakePlanPolslProperties.builder()
+                .port(planPolsl.port())
+                .latency(planPolsl.latency())
+                .latencyJitter(planPolsl.latencyJitter())
+                .errorRate(planPolsl.errorRate())
+                .threads(planPolsl.threads())
+                .changeOnFetch(planPolsl.changeOnFetch())
+                .build();
+
+        try (FakePlanPolslServer planPolslServer = new FakePlanPolslServer(timetableSource(), fakeProperties)) {
+            planPolslServer.start();
+
+            try (PipelineEnvironment environment = new PipelineEnvironment(environmentProperties(planPolslServer.port()))) {
+                environment.start();
+                runLoad(environment, planPolslServer);
+            }
+        }
+    }
+
+    private void runLoad(PipelineEnvironment environment, FakePlanPolslServer planPolslServer) throws Exception {
+        HarnessProperties.Load load = properties.load();
+        LoadDriver driver = new LoadDriver(scheduleAdminApi(environment), LoadDriverProperties.builder()
+                .schedules(load.schedules())
+                .rounds(load.rounds())
+                .batchSize(load.batchSize())
+                .roundInterval(load.roundInterval())
+                .firstPlanPolslId(load.firstPlanPolslId())
+                .build());
+
+        PipelineProbe.Topics topics = PipelineProbe.Topics.builder()
+                .scheduleEvent(properties.topics().scheduleEvent())
+                .scheduleEventPriority(properties.topics().scheduleEventPriority())
+                .rawSchedule(properties.topics().rawSchedule())
+                .processedRawSchedule(properties.topics().processedRawSchedule())
+                .build();
+
+        try (PipelineProbe probe = new PipelineProbe(
+                environment.kafkaBootstrapServers(),
+                topics,
+                properties.courseServiceGroupId(),
+                clock
+        )) {
+            Instant start = clock.instant();
+
+            // creating a schedule produces an event as well
+            List<UUID> ids = driver.createSchedules();
+            driver.refresh(ids);
+
+            int expectedEvents = ids.size() * (1 + load.rounds());
+            probe.await(expectedEvents, load.timeout());
+
+            Duration elapsed = Duration.between(start, clock.instant());
+            LoadReport report = LoadReport.builder()
+                    .schedules(ids.size())
+                    .expectedEvents(expectedEvents)
+                    .completedEvents(probe.storedCount())
+                    .elapsed(elapsed)
+                    .throughputPerSecond(probe.storedCount() * 1000.0 / Math.max(1, elapsed.toMillis()))
+                    .planPolslFetches(planPolslServer.served())
+                    .planPolslFailures(planPolslServer.failed())
+                    .stages(probe.stageLatencies())
+                    .build();
+
+            LoadReportWriter writer = new LoadReportWriter(objectMapper);
+            log.info("Load report:\n{}", writer.toText(report));
+            writer.writeJson(report, properties.reportFile());
+            log.info("Report written to {}", properties.reportFile().toAbsolutePath());
+        }
+    }
+
+    private TimetableSource timetableSource() {
+        if (properties.planPolsl().recordedDirectory() != null) {
+            return new RecordedTimetableSource(properties.planPolsl().recordedDirectory());
+        }
+
+        return new GeneratedTimetableSource();
+    }
+
+    private PipelineEnvironmentProperties environmentProperties(int planPolslPort) {
+        HarnessProperties.Images images = properties.images();
+
+        return PipelineEnvironmentProperties.builder()
+                .webScraperServiceImage(serviceImage(images.webScraperService(), "web-scraper-service"))
+                .domainModelMapperServiceImage(serviceImage(images.domainModelMapperService(), "domain-model-mapper-service"))
+                .scheduleServiceImage(serviceImage(images.scheduleService(), "schedule-service"))
+                .courseServiceImage(serviceImage(images.courseService(), "course-service"))
+                .keycloakRealmFile(properties.keycloakRealmFile())
+                .fakePlanPolslPort(planPolslPort)
+                .build();
+    }
+
+    private Future<String> serviceImage(String publishedImage, String module) {
+        HarnessProperties.Images images = properties.images();
+        if (images.published()) {
+            return ServiceImages.published(publishedImage);
+        }
+
+        return ServiceImages.local(images.servicesDirectory().resolve(module));
+    }
+
+    private ScheduleAdminApi scheduleAdminApi(PipelineEnvironment environment) {
+        KeycloakTokenProvider tokenProvider = new KeycloakTokenProvider(environment.keycloakUrl(), clock);
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl(environment.scheduleServiceUrl())
+                .filter((request, next) -> next.exchange(
+                        ClientRequest.from(request)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.getToken())
+                                .build()
+                ))
+                .build();
+
+        return HttpServiceProxyFactory.builder(WebClientAdapter.forClient(webClient))
+                .build()
+                .createClient(ScheduleAdminApi.class);
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.github.karixdev.pipelineloadharness;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Clock;
+
+@SpringBootApplication
+@ConfigurationPropertiesScan
+public class PipelineLoadHarnessApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(PipelineLoadHarnessApplication.class, args);
+	}
+
+	@Bean
+	Clock clock() {
+		return Clock.systemDefaultZone();
+	}
+
+}
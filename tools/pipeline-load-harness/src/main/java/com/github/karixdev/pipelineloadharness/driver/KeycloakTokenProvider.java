@@ -0,0 +1,63 @@
+package com.github.karixdev.pipelineloadharness.driver;
+
+import com.github.karixdev.pipelineloadharness.driver.payload.TokenResponse;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Clock;
+import java.time.Instant;
+
+/**
+ * Obtains admin access tokens from the imported polsl-course-api realm with the password grant and caches them
+ * until shortly before they expire.
+ */
+public class KeycloakTokenProvider {
+
+    private static final String CLIENT_ID = "test-client";
+    private static final String CLIENT_SECRET = "i2hDNLcuCBOHSBedlGELOp6RFvVQY4cc";
+    private static final String USERNAME = "admin";
+    private static final String PASSWORD = "admin";
+    private static final long EXPIRY_MARGIN_SECONDS = 10;
+
+    private final WebClient webClient;
+    private final Clock clock;
+
+    private String token;
+    private Instant expiresAt = Instant.MIN;
+
+    public KeycloakTokenProvider(String keycloakUrl, Clock clock) {
+        this.webClient = WebClient.builder()
+                .baseUrl(keycloakUrl + "/realms/polsl-course-api/protocol/openid-connect/token")
+                .build();
+        this.clock = clock;
+    }
+
+    public synchronized String getToken() {
+        Instant now = clock.instant();
+        if (token != null && now.isBefore(expiresAt)) {
+            return token;
+        }
+
+        TokenResponse response = webClient.post()
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData("grant_type", "password")
+                        .with("client_id", CLIENT_ID)
+                        .with("client_secret", CLIENT_SECRET)
+                        .with("username", USERNAME)
+                        .with("password", PASSWORD))
+                .retrieve()
+                .bodyToMono(TokenResponse.class)
+                .block();
+
+        if (response == null) {
+            throw new IllegalStateException("Keycloak returned no token");
+        }
+
+        token = response.accessToken();
+        expiresAt = now.plusSeconds(response.expiresIn() - EXPIRY_MARGIN_SECONDS);
+
+        return token;
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.github.karixdev.pipelineloadharness.driver;
+
+import com.github.karixdev.pipelineloadharness.driver.payload.Page;
+import com.github.karixdev.pipelineloadharness.driver.payload.ScheduleRequest;
+import com.github.karixdev.pipelineloadharness.driver.payload.ScheduleResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Drives the pipeline through schedule-service admin API: creates schedules, then refreshes them with blank
+ * updates in rounds. Every create and blank update results in a schedule event flowing through the pipeline.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadDriver {
+
+    private static final int PAGE_SIZE = 100;
+
+    private final ScheduleAdminApi scheduleAdminApi;
+    private final LoadDriverProperties properties;
+
+    public List<UUID> createSchedules() {
+        for (int i = 0; i < properties.schedules(); i++) {
+            ScheduleRequest request = ScheduleRequest.builder()
+                    .type(0)
+                    .planPolslId(properties.firstPlanPolslId() + i)
+                    .semester(1 + i % 7)
+                    .major("load-" + (i / 7))
+                    .groupNumber(1 + i % 5)
+                    .wd(4)
+                    .build();
+
+            scheduleAdminApi.createSchedule(request);
+        }
+        log.info("Created {} schedules", properties.schedules());
+
+        return findScheduleIds();
+    }
+
+    public void refresh(List<UUID> ids) throws InterruptedException {
+        for (int round = 0; round < properties.rounds(); round++) {
+            for (int from = 0; from < ids.size(); from += properties.batchSize()) {
+                List<UUID> batch = ids.subList(from, Math.min(ids.size(), from + properties.batchSize()));
+                scheduleAdminApi.blankUpdate(batch);
+            }
+            log.info("Requested refresh round {} of {}", round + 1, properties.rounds());
+
+            if (round + 1 < properties.rounds()) {
+                Thread.sleep(properties.roundInterval().toMillis());
+            }
+        }
+    }
+
+    private List<UUID> findScheduleIds() {
+        List<UUID> ids = new ArrayList<>();
+
+        int page = 0;
+        boolean isLast;
+        do {
+            Page<ScheduleResponse> response = scheduleAdminApi.findSchedules(page++, PAGE_SIZE);
+            response.content().forEach(schedule -> ids.add(schedule.id()));
+            isLast = Boolean.TRUE.equals(response.pageInfo().isLast());
+        } while (!isLast);
+
+        return ids;
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.github.karixdev.pipelineloadharness.driver;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * @param schedules      number of schedules created in schedule-service
+ * @param rounds         how many times every schedule is refreshed with a blank update
+ * @param batchSize      number of schedule ids sent in a single blank update request
+ * @param roundInterval  pause between consecutive rounds
+ * @param firstPlanPolslId plan.polsl.pl id of the first created schedule, following ones are consecutive
+ */
+@Builder
+public record LoadDriverProperties(
+        int schedules,
+        int rounds,
+        int batchSize,
+        Duration roundInterval,
+        int firstPlanPolslId
+) {}
@@ -0,0 +1,31 @@
+package com.github.karixdev.pipelineloadharness.driver;
+
+import com.github.karixdev.pipelineloadharness.driver.payload.Page;
+import com.github.karixdev.pipelineloadharness.driver.payload.ScheduleRequest;
+import com.github.karixdev.pipelineloadharness.driver.payload.ScheduleResponse;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
+
+import java.util.List;
+import java.util.UUID;
+
+@HttpExchange("/api/admin/schedules")
+public interface ScheduleAdminApi {
+
+    @PostExchange
+    void createSchedule(@RequestBody ScheduleRequest request);
+
+    @GetExchange
+    Page<ScheduleResponse> findSchedules(
+            @RequestParam(name = "page") int page,
+            @RequestParam(name = "size") int size
+    );
+
+    @PutExchange("/blank-update")
+    void blankUpdate(@RequestParam(name = "id") List<UUID> ids);
+
+}
@@ -0,0 +1,8 @@
+package com.github.karixdev.pipelineloadharness.driver.payload;
+
+import java.util.List;
+
+public record Page<T>(
+        List<T> content,
+        PageInfo pageInfo
+) {}
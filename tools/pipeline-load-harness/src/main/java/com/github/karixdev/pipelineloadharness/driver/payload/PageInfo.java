@@ -0,0 +1,10 @@
+package com.github.karixdev.pipelineloadharness.driver.payload;
+
+public record PageInfo(
+        Integer page,
+        Integer size,
+        Integer numberOfElements,
+        Long totalElements,
+        Integer totalPages,
+        Boolean isLast
+) {}
@@ -0,0 +1,13 @@
+package com.github.karixdev.pipelineloadharness.driver.payload;
+
+import lombok.Builder;
+
+@Builder
+public record ScheduleRequest(
+        Integer type,
+        Integer planPolslId,
+        Integer semester,
+        String major,
+        Integer groupNumber,
+        Integer wd
+) {}
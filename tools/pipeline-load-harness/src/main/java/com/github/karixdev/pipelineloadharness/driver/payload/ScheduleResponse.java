@@ -0,0 +1,10 @@
+package com.github.karixdev.pipelineloadharness.driver.payload;
+
+import java.util.UUID;
+
+public record ScheduleResponse(
+        UUID id,
+        Integer semester,
+        String major,
+        Integer group
+) {}
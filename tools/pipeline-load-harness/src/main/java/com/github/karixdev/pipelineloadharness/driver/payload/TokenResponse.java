@@ -0,0 +1,10 @@
+package com.github.karixdev.pipelineloadharness.driver.payload;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record TokenResponse(
+        @JsonProperty("access_token")
+        String accessToken,
+        @JsonProperty("expires_in")
+        Long expiresIn
+) {}
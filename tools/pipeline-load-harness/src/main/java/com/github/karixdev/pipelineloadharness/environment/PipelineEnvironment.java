@@ -0,0 +1,190 @@
+package com.github.karixdev.pipelineloadharness.environment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.Testcontainers;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.output.Slf4jLogConsumer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Whole pipeline (Kafka, Postgres, Keycloak and the four application services) started from images given
+ * by {@link ServiceImages} on a private Docker network. web-scraper-service is pointed at the fake plan.polsl.pl
+ * running on the host.
+ */
+@Slf4j
+public class PipelineEnvironment implements Closeable {
+
+    private static final String KAFKA_ALIAS = "kafka";
+    private static final String KEYCLOAK_ALIAS = "keycloak";
+    private static final int KEYCLOAK_PORT = 8000;
+    private static final int SERVICE_PORT = 8080;
+    private static final String SERVICE_STARTED_LOG = ".*Started .*Application.*\\n";
+
+    private final Network network = Network.newNetwork();
+
+    private final KafkaContainer kafka;
+    private final PostgreSQLContainer<?> scheduleServicePostgres;
+    private final PostgreSQLContainer<?> courseServicePostgres;
+    private final GenericContainer<?> keycloak;
+
+    private final GenericContainer<?> webScraperService;
+    private final GenericContainer<?> domainModelMapperService;
+    private final GenericContainer<?> scheduleService;
+    private final GenericContainer<?> courseService;
+
+    public PipelineEnvironment(PipelineEnvironmentProperties properties) {
+        kafka = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:7.4.3"))
+                .withNetwork(network)
+                .withNetworkAliases(KAFKA_ALIAS);
+
+        scheduleServicePostgres = postgres("schedule-service");
+        courseServicePostgres = postgres("course-service");
+
+        keycloak = new GenericContainer<>(DockerImageName.parse("quay.io/keycloak/keycloak:22.0.5"))
+                .withNetwork(network)
+                .withNetworkAliases(KEYCLOAK_ALIAS)
+                .withEnv("KEYCLOAK_ADMIN", "admin")
+                .withEnv("KEYCLOAK_ADMIN_PASSWORD", "admin")
+                .withEnv("KC_HTTP_PORT", String.valueOf(KEYCLOAK_PORT))
+                // tokens fetched from the host must carry the issuer the services see inside the network
+                .withEnv("KC_HOSTNAME_URL", "http://%s:%d".formatted(KEYCLOAK_ALIAS, KEYCLOAK_PORT))
+                .withCopyFileToContainer(
+                        MountableFile.forHostPath(properties.keycloakRealmFile()),
+                        "/opt/keycloak/data/import/realm.json"
+                )
+                .withCommand("start-dev", "--import-realm")
+                .withExposedPorts(KEYCLOAK_PORT)
+                .waitingFor(Wait.forHttp("/realms/polsl-course-api").forPort(KEYCLOAK_PORT))
+                .withStartupTimeout(Duration.ofMinutes(3));
+
+        String planPolslUrl = "http://%s:%d".formatted(
+                GenericContainer.INTERNAL_HOST_HOSTNAME,
+                properties.fakePlanPolslPort()
+        );
+
+        webScraperService = service(properties.webScraperServiceImage(), "web-scraper-service")
+                .withEnv("SPRING_APPLICATION_JSON", """
+                        {"plan-polsl-url": "%s", "eureka": {"client": {"enabled": false}}, "management": {"tracing": {"enabled": false}}}
+                        """.formatted(planPolslUrl))
+                .dependsOn(kafka);
+
+        domainModelMapperService = service(properties.domainModelMapperServiceImage(), "domain-model-mapper-service")
+                .withEnv("SPRING_APPLICATION_JSON", """
+                        {"management": {"tracing": {"enabled": false}}}
+                        """)
+                .dependsOn(kafka);
+
+        scheduleService = service(properties.scheduleServiceImage(), "schedule-service")
+                .withEnv(databaseEnv(scheduleServicePostgres, "schedule-service-postgres"))
+                .withEnv("KEYCLOAK_BASE_URL", "http://%s:%d".formatted(KEYCLOAK_ALIAS, KEYCLOAK_PORT))
+                .withEnv("SWAGGER_SERVER_URL", "http://localhost:" + SERVICE_PORT)
+                .withEnv("SPRING_APPLICATION_JSON", """
+                        {"eureka": {"client": {"enabled": false}}, "management": {"tracing": {"enabled": false}}}
+                        """)
+                .dependsOn(kafka, scheduleServicePostgres, keycloak);
+
+        courseService = service(properties.courseServiceImage(), "course-service")
+                .withEnv(databaseEnv(courseServicePostgres, "course-service-postgres"))
+                .withEnv("KEYCLOAK_BASE_URL", "http://%s:%d".formatted(KEYCLOAK_ALIAS, KEYCLOAK_PORT))
+                .withEnv("SWAGGER_SERVER_URL", "http://localhost:" + SERVICE_PORT)
+                .withEnv("SPRING_APPLICATION_JSON", """
+                        {"eureka": {"client": {"enabled": false}}, "management": {"tracing": {"enabled": false}}}
+                        """)
+                .dependsOn(kafka, courseServicePostgres, keycloak);
+
+        Testcontainers.exposeHostPorts(properties.fakePlanPolslPort());
+    }
+
+    public void start() {
+        log.info("Starting pipeline environment");
+        Startables.deepStart(Stream.of(
+                webScraperService,
+                domainModelMapperService,
+                scheduleService,
+                courseService
+        )).join();
+        log.info("Pipeline environment started");
+    }
+
+    public String kafkaBootstrapServers() {
+        return kafka.getBootstrapServers();
+    }
+
+    public String keycloakUrl() {
+        return "http://%s:%d".formatted(keycloak.getHost(), keycloak.getMappedPort(KEYCLOAK_PORT));
+    }
+
+    public String scheduleServiceUrl() {
+        return serviceUrl(scheduleService);
+    }
+
+    public String courseServiceUrl() {
+        return serviceUrl(courseService);
+    }
+
+    @Override
+    public void close() {
+        List.of(
+                courseService,
+                scheduleService,
+                domainModelMapperService,
+                webScraperService,
+                keycloak,
+                courseServicePostgres,
+                scheduleServicePostgres,
+                kafka
+        ).forEach(GenericContainer::stop);
+        network.close();
+    }
+
+    private PostgreSQLContainer<?> postgres(String database) {
+        return new PostgreSQLContainer<>(DockerImageName.parse("postgres:15.1-alpine"))
+                .withNetwork(network)
+                .withNetworkAliases(database + "-postgres")
+                .withDatabaseName(database)
+                .withUsername("root")
+                .withPassword("root");
+    }
+
+    private GenericContainer<?> service(Future<String> image, String name) {
+        return new GenericContainer<>(image)
+                .withNetwork(network)
+                .withNetworkAliases(name)
+                .withEnv("SPRING_PROFILES_ACTIVE", "docker")
+                .withEnv("BOOTSTRAP_SERVER_HOST", KAFKA_ALIAS)
+                .withEnv("BOOTSTRAP_SERVER_PORT", "9092")
+                .withEnv("EUREKA_BASE_URL", "http://localhost:8761")
+                .withEnv("ZIPKIN_BASE_URL", "http://localhost:9411")
+                .withExposedPorts(SERVICE_PORT)
+                .withLogConsumer(new Slf4jLogConsumer(log).withPrefix(name))
+                .waitingFor(Wait.forLogMessage(SERVICE_STARTED_LOG, 1))
+                .withStartupTimeout(Duration.ofMinutes(3));
+    }
+
+    private static Map<String, String> databaseEnv(PostgreSQLContainer<?> postgres, String alias) {
+        return Map.of(
+                "POSTGRES_HOST", alias,
+                "POSTGRES_PORT", String.valueOf(PostgreSQLContainer.POSTGRESQL_PORT),
+                "POSTGRES_USERNAME", postgres.getUsername(),
+                "POSTGRES_PASSWORD", postgres.getPassword()
+        );
+    }
+
+    private static String serviceUrl(GenericContainer<?> service) {
+        return "http://%s:%d".formatted(service.getHost(), service.getMappedPort(SERVICE_PORT));
+    }
+
+}
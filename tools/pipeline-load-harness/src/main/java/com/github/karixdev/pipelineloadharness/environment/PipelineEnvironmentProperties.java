@@ -0,0 +1,16 @@
+package com.github.karixdev.pipelineloadharness.environment;
+
+import lombok.Builder;
+
+import java.nio.file.Path;
+import java.util.concurrent.Future;
+
+@Builder
+public record PipelineEnvironmentProperties(
+        Future<String> webScraperServiceImage,
+        Future<String> domainModelMapperServiceImage,
+        Future<String> scheduleServiceImage,
+        Future<String> courseServiceImage,
+        Path keycloakRealmFile,
+        int fakePlanPolslPort
+) {}
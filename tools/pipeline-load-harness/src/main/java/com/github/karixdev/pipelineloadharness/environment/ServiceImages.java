@@ -0,0 +1,33 @@
+package com.github.karixdev.pipelineloadharness.environment;
+
+import org.testcontainers.images.RemoteDockerImage;
+import org.testcontainers.images.builder.ImageFromDockerfile;
+import org.testcontainers.utility.DockerImageName;
+
+import java.nio.file.Path;
+import java.util.concurrent.Future;
+
+/**
+ * Images of the application services, either built from the Dockerfile of a service module or pulled as published.
+ */
+public final class ServiceImages {
+
+    private static final String IMAGE_PREFIX = "polsl-course-schedule-api-";
+
+    private ServiceImages() {}
+
+    /**
+     * Image built from the Dockerfile of the module, which copies the jar packaged in its {@code target} directory.
+     */
+    public static Future<String> local(Path moduleDirectory) {
+        String name = IMAGE_PREFIX + moduleDirectory.toAbsolutePath().normalize().getFileName() + ":local";
+
+        return new ImageFromDockerfile(name, false)
+                .withDockerfile(moduleDirectory.resolve("Dockerfile"));
+    }
+
+    public static Future<String> published(String image) {
+        return new RemoteDockerImage(DockerImageName.parse(image));
+    }
+
+}
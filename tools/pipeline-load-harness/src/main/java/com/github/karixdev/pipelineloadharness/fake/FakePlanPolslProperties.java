@@ -0,0 +1,23 @@
+package com.github.karixdev.pipelineloadharness.fake;
+
+import lombok.Builder;
+
+import java.time.Duration;
+
+/**
+ * @param port           port to listen on, 0 picks a free one
+ * @param latency        delay added to every response
+ * @param latencyJitter  upper bound of random delay added on top of {@code latency}
+ * @param errorRate      probability of responding with 503 instead of the page
+ * @param threads        number of requests served concurrently
+ * @param changeOnFetch  whether every fetch returns different content, so page fingerprints never match
+ */
+@Builder
+public record FakePlanPolslProperties(
+        int port,
+        Duration latency,
+        Duration latencyJitter,
+        double errorRate,
+        int threads,
+        boolean changeOnFetch
+) {}
@@ -0,0 +1,179 @@
+package com.github.karixdev.pipelineloadharness.fake;
+
+import com.github.karixdev.timetablegenerator.TimetableGenerator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embeddable stand-in of plan.polsl.pl serving {@code /plan.php?id=&type=&wd=&winW=&winH=} from
+ * a {@link TimetableSource}, with configurable latency and error rate.
+ */
+@Slf4j
+public class FakePlanPolslServer implements Closeable {
+
+    private final TimetableSource timetables;
+    private final FakePlanPolslProperties properties;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final AtomicLong served = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public FakePlanPolslServer(TimetableSource timetables, FakePlanPolslProperties properties) {
+        this.timetables = timetables;
+        this.properties = properties;
+
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(properties.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        this.executor = Executors.newFixedThreadPool(properties.threads());
+        this.server.setExecutor(executor);
+        this.server.createContext("/plan.php", this::handle);
+    }
+
+    public void start() {
+        server.start();
+        log.info("Fake plan.polsl.pl listening on port {}", port());
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public long served() {
+        return served.get();
+    }
+
+    public long failed() {
+        return failed.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            Map<String, String> params = queryParams(exchange.getRequestURI().getRawQuery());
+
+            Optional<int[]> page = pageParams(params);
+            if (page.isEmpty()) {
+                respond(exchange, 400, new byte[0]);
+                return;
+            }
+
+            delay();
+
+            if (ThreadLocalRandom.current().nextDouble() < properties.errorRate()) {
+                failed.incrementAndGet();
+                respond(exchange, 503, new byte[0]);
+                return;
+            }
+
+            int[] pageParams = page.get();
+            Optional<byte[]> body = timetables.find(pageParams[0], pageParams[1], pageParams[2]);
+            if (body.isEmpty()) {
+                respond(exchange, 404, new byte[0]);
+                return;
+            }
+
+            served.incrementAndGet();
+            respond(exchange, 200, withFetchMarker(body.get()));
+        }
+    }
+
+    private byte[] withFetchMarker(byte[] body) {
+        if (!properties.changeOnFetch()) {
+            return body;
+        }
+
+        byte[] marker = "<!-- fetch %d -->\n".formatted(served.get()).getBytes(TimetableGenerator.CHARSET);
+        byte[] result = new byte[body.length + marker.length];
+        System.arraycopy(body, 0, result, 0, body.length);
+        System.arraycopy(marker, 0, result, body.length, marker.length);
+
+        return result;
+    }
+
+    private void delay() {
+        long millis = properties.latency().toMillis();
+        long jitter = properties.latencyJitter().toMillis();
+        if (jitter > 0) {
+            millis += ThreadLocalRandom.current().nextLong(jitter + 1);
+        }
+        if (millis <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=iso-8859-2");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static Optional<int[]> pageParams(Map<String, String> params) {
+        try {
+            return Optional.of(new int[]{
+                    Integer.parseInt(params.get("id")),
+                    Integer.parseInt(params.get("type")),
+                    Integer.parseInt(params.get("wd"))
+            });
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Map<String, String> queryParams(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null) {
+            return params;
+        }
+
+        for (String pair : rawQuery.split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0) {
+                params.put(
+                        URLDecoder.decode(pair.substring(0, idx), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8)
+                );
+            }
+        }
+
+        return params;
+    }
+
+}
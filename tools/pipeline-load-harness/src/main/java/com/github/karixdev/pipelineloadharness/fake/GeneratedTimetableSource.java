@@ -0,0 +1,16 @@
+package com.github.karixdev.pipelineloadharness.fake;
+
+import com.github.karixdev.timetablegenerator.TimetableGenerator;
+
+import java.util.Optional;
+
+public class GeneratedTimetableSource implements TimetableSource {
+
+    private final TimetableGenerator generator = new TimetableGenerator();
+
+    @Override
+    public Optional<byte[]> find(int id, int type, int wd) {
+        return Optional.of(generator.generate(id, type, wd).getBytes(TimetableGenerator.CHARSET));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.github.karixdev.pipelineloadharness.fake;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Serves pages saved from plan.polsl.pl as {@code <id>_<type>_<wd>.html} files, byte for byte.
+ */
+public class RecordedTimetableSource implements TimetableSource {
+
+    private final Path directory;
+
+    public RecordedTimetableSource(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public Optional<byte[]> find(int id, int type, int wd) {
+        Path file = directory.resolve("%d_%d_%d.html".formatted(id, type, wd));
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.github.karixdev.pipelineloadharness.fake;
+
+import java.util.Optional;
+
+public interface TimetableSource {
+
+    /**
+     * @return ISO-8859-2 encoded plan.php page of given schedule
+     */
+    Optional<byte[]> find(int id, int type, int wd);
+
+}
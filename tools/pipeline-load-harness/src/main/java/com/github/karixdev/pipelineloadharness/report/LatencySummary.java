@@ -0,0 +1,45 @@
+package com.github.karixdev.pipelineloadharness.report;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.List;
+
+@Builder
+public record LatencySummary(
+        int count,
+        Duration p50,
+        Duration p90,
+        Duration p99,
+        Duration max
+) {
+
+    public static LatencySummary of(List<Duration> samples) {
+        if (samples.isEmpty()) {
+            return LatencySummary.builder()
+                    .count(0)
+                    .p50(Duration.ZERO)
+                    .p90(Duration.ZERO)
+                    .p99(Duration.ZERO)
+                    .max(Duration.ZERO)
+                    .build();
+        }
+
+        List<Duration> sorted = samples.stream().sorted().toList();
+
+        return LatencySummary.builder()
+                .count(sorted.size())
+                .p50(percentile(sorted, 50))
+                .p90(percentile(sorted, 90))
+                .p99(percentile(sorted, 99))
+                .max(sorted.get(sorted.size() - 1))
+                .build();
+    }
+
+    // nearest-rank method
+    private static Duration percentile(List<Duration> sorted, int percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.github.karixdev.pipelineloadharness.report;
+
+import lombok.Builder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * @param expectedEvents  schedule events the driver caused
+ * @param completedEvents events whose processed schedule was consumed by course-service
+ * @param stages          latency of every pipeline stage, in pipeline order
+ */
+@Builder
+public record LoadReport(
+        int schedules,
+        int expectedEvents,
+        int completedEvents,
+        Duration elapsed,
+        double throughputPerSecond,
+        long planPolslFetches,
+        long planPolslFailures,
+        Map<String, LatencySummary> stages
+) {}
@@ -0,0 +1,56 @@
+package com.github.karixdev.pipelineloadharness.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class LoadReportWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public String toText(LoadReport report) {
+        StringBuilder text = new StringBuilder();
+
+        text.append("schedules: %d, events: %d/%d completed in %.1fs (%.2f events/s)%n".formatted(
+                report.schedules(),
+                report.completedEvents(),
+                report.expectedEvents(),
+                report.elapsed().toMillis() / 1000.0,
+                report.throughputPerSecond()
+        ));
+        text.append("plan.polsl.pl fetches: %d, failures: %d%n".formatted(
+                report.planPolslFetches(),
+                report.planPolslFailures()
+        ));
+        text.append("%-12s %8s %10s %10s %10s %10s%n".formatted("stage", "count", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+
+        for (Map.Entry<String, LatencySummary> stage : report.stages().entrySet()) {
+            LatencySummary summary = stage.getValue();
+            text.append("%-12s %8d %10d %10d %10d %10d%n".formatted(
+                    stage.getKey(),
+                    summary.count(),
+                    summary.p50().toMillis(),
+                    summary.p90().toMillis(),
+                    summary.p99().toMillis(),
+                    summary.max().toMillis()
+            ));
+        }
+
+        return text.toString();
+    }
+
+    public void writeJson(LoadReport report, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.copy()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .writeValue(file.toFile(), report);
+    }
+
+}
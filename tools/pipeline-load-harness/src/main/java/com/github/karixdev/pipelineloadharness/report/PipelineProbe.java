@@ -0,0 +1,214 @@
+package com.github.karixdev.pipelineloadharness.report;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+/**
+ * Observes the pipeline from the outside. Every stage is timed with the timestamp of the record it produced;
+ * the last stage (course-service storing courses) produces nothing, so it is timed with the moment the
+ * course-service consumer group committed past the processed schedule record.
+ */
+@Slf4j
+public class PipelineProbe implements Closeable {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+
+    private final Topics topics;
+    private final String courseServiceGroupId;
+    private final Clock clock;
+
+    private final KafkaConsumer<String, byte[]> consumer;
+    private final AdminClient adminClient;
+
+    private final Map<String, Map<String, List<Instant>>> timestamps = new HashMap<>();
+    private final Map<TopicPartition, List<PendingRecord>> pendingProcessed = new HashMap<>();
+    private final Map<String, List<Instant>> stored = new HashMap<>();
+    private int storedCount;
+
+    public PipelineProbe(String bootstrapServers, Topics topics, String courseServiceGroupId, Clock clock) {
+        this.topics = topics;
+        this.courseServiceGroupId = courseServiceGroupId;
+        this.clock = clock;
+
+        Properties consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, "pipeline-load-harness");
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        this.consumer = new KafkaConsumer<>(consumerProperties, new StringDeserializer(), new ByteArrayDeserializer());
+        this.consumer.subscribe(List.of(
+                topics.scheduleEvent(),
+                topics.scheduleEventPriority(),
+                topics.rawSchedule(),
+                topics.processedRawSchedule()
+        ));
+
+        Properties adminProperties = new Properties();
+        adminProperties.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        this.adminClient = AdminClient.create(adminProperties);
+    }
+
+    /**
+     * Observes the pipeline until {@code expectedEvents} processed schedules are stored by course-service
+     * or the timeout elapses.
+     */
+    public void await(int expectedEvents, Duration timeout) {
+        Instant deadline = clock.instant().plus(timeout);
+
+        while (storedCount < expectedEvents && clock.instant().isBefore(deadline)) {
+            for (ConsumerRecord<String, byte[]> consumerRecord : consumer.poll(POLL_TIMEOUT)) {
+                record(consumerRecord);
+            }
+            checkCourseServiceProgress();
+        }
+
+        if (storedCount < expectedEvents) {
+            log.warn("Timed out with {} of {} events stored by course-service", storedCount, expectedEvents);
+        }
+    }
+
+    public int storedCount() {
+        return storedCount;
+    }
+
+    /**
+     * Latencies of consecutive stages. The n-th record of a schedule on one topic is matched with the n-th record
+     * of the same schedule on the next one; events that did not reach a stage are left out of its summary.
+     * Schedule events of both lanes are merged in the order they were produced, as web-scraper-service scrapes both.
+     */
+    public Map<String, LatencySummary> stageLatencies() {
+        Map<String, List<Instant>> scheduleEvents = merged(
+                timestamps.getOrDefault(topics.scheduleEvent(), Map.of()),
+                timestamps.getOrDefault(topics.scheduleEventPriority(), Map.of())
+        );
+        Map<String, List<Instant>> rawSchedules = timestamps.getOrDefault(topics.rawSchedule(), Map.of());
+        Map<String, List<Instant>> processedSchedules = timestamps.getOrDefault(topics.processedRawSchedule(), Map.of());
+
+        Map<String, LatencySummary> stages = new LinkedHashMap<>();
+        stages.put("scrape", LatencySummary.of(between(scheduleEvents, rawSchedules)));
+        stages.put("map", LatencySummary.of(between(rawSchedules, processedSchedules)));
+        stages.put("store", LatencySummary.of(between(processedSchedules, stored)));
+        stages.put("end-to-end", LatencySummary.of(between(scheduleEvents, stored)));
+
+        return stages;
+    }
+
+    @Override
+    public void close() {
+        consumer.close();
+        adminClient.close();
+    }
+
+    private void record(ConsumerRecord<String, byte[]> consumerRecord) {
+        Instant timestamp = Instant.ofEpochMilli(consumerRecord.timestamp());
+
+        timestamps.computeIfAbsent(consumerRecord.topic(), topic -> new HashMap<>())
+                .computeIfAbsent(consumerRecord.key(), key -> new ArrayList<>())
+                .add(timestamp);
+
+        if (consumerRecord.topic().equals(topics.processedRawSchedule())) {
+            pendingProcessed.computeIfAbsent(
+                    new TopicPartition(consumerRecord.topic(), consumerRecord.partition()),
+                    partition -> new ArrayList<>()
+            ).add(new PendingRecord(consumerRecord.key(), consumerRecord.offset()));
+        }
+    }
+
+    private void checkCourseServiceProgress() {
+        if (pendingProcessed.values().stream().allMatch(List::isEmpty)) {
+            return;
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> committed;
+        try {
+            committed = adminClient.listConsumerGroupOffsets(courseServiceGroupId)
+                    .partitionsToOffsetAndMetadata()
+                    .get(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Could not fetch {} offsets", courseServiceGroupId, e);
+            return;
+        }
+
+        Instant now = clock.instant();
+        pendingProcessed.forEach((partition, pending) -> {
+            OffsetAndMetadata offset = committed.get(partition);
+            if (offset == null) {
+                return;
+            }
+
+            pending.removeIf(pendingRecord -> {
+                if (pendingRecord.offset() >= offset.offset()) {
+                    return false;
+                }
+
+                stored.computeIfAbsent(pendingRecord.key(), key -> new ArrayList<>()).add(now);
+                storedCount++;
+                return true;
+            });
+        });
+    }
+
+    private static Map<String, List<Instant>> merged(
+            Map<String, List<Instant>> first,
+            Map<String, List<Instant>> second
+    ) {
+        Map<String, List<Instant>> merged = new HashMap<>();
+        Stream.of(first, second).forEach(timestampsByKey -> timestampsByKey.forEach((key, keyTimestamps) ->
+                merged.computeIfAbsent(key, k -> new ArrayList<>()).addAll(keyTimestamps)));
+        merged.values().forEach(Collections::sort);
+
+        return merged;
+    }
+
+    private static List<Duration> between(Map<String, List<Instant>> from, Map<String, List<Instant>> to) {
+        List<Duration> durations = new ArrayList<>();
+
+        from.forEach((key, starts) -> {
+            List<Instant> ends = to.getOrDefault(key, List.of());
+            for (int i = 0; i < Math.min(starts.size(), ends.size()); i++) {
+                durations.add(Duration.between(starts.get(i), ends.get(i)));
+            }
+        });
+
+        return durations;
+    }
+
+    @Builder
+    public record Topics(
+            String scheduleEvent,
+            String scheduleEventPriority,
+            String rawSchedule,
+            String processedRawSchedule
+    ) {}
+
+    private record PendingRecord(String key, long offset) {}
+
+}
@@ -0,0 +1,119 @@
+package com.github.karixdev.pipelineloadharness.fake;
+
+import com.github.karixdev.timetablegenerator.TimetableGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FakePlanPolslServerTest {
+
+    static final byte[] PAGE = "<html>zażółć</html>".getBytes(TimetableGenerator.CHARSET);
+
+    FakePlanPolslServer underTest;
+
+    HttpClient httpClient = HttpClient.newHttpClient();
+
+    @AfterEach
+    void tearDown() {
+        underTest.close();
+    }
+
+    @Test
+    void GivenExistingPage_WhenGetPlan_ThenRespondsWithIso88592Page() throws Exception {
+        // Given
+        underTest = start((id, type, wd) -> Optional.of(PAGE), 0.0, false);
+
+        // When
+        HttpResponse<byte[]> result = get("/plan.php?id=1&type=0&wd=4&winW=1000&winH=1000");
+
+        // Then
+        assertThat(result.statusCode()).isEqualTo(200);
+        assertThat(result.headers().firstValue("Content-Type")).hasValue("text/html; charset=iso-8859-2");
+        assertThat(result.body()).isEqualTo(PAGE);
+        assertThat(underTest.served()).isEqualTo(1);
+    }
+
+    @Test
+    void GivenMissingParameters_WhenGetPlan_ThenRespondsWithBadRequest() throws Exception {
+        // Given
+        underTest = start((id, type, wd) -> Optional.of(PAGE), 0.0, false);
+
+        // When
+        HttpResponse<byte[]> result = get("/plan.php?id=1");
+
+        // Then
+        assertThat(result.statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void GivenMissingPage_WhenGetPlan_ThenRespondsWithNotFound() throws Exception {
+        // Given
+        underTest = start((id, type, wd) -> Optional.empty(), 0.0, false);
+
+        // When
+        HttpResponse<byte[]> result = get("/plan.php?id=1&type=0&wd=4&winW=1000&winH=1000");
+
+        // Then
+        assertThat(result.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void GivenErrorRateOfOne_WhenGetPlan_ThenRespondsWithServiceUnavailable() throws Exception {
+        // Given
+        underTest = start((id, type, wd) -> Optional.of(PAGE), 1.0, false);
+
+        // When
+        HttpResponse<byte[]> result = get("/plan.php?id=1&type=0&wd=4&winW=1000&winH=1000");
+
+        // Then
+        assertThat(result.statusCode()).isEqualTo(503);
+        assertThat(underTest.failed()).isEqualTo(1);
+    }
+
+    @Test
+    void GivenChangeOnFetch_WhenGetPlanTwice_ThenRespondsWithDifferentPages() throws Exception {
+        // Given
+        underTest = start((id, type, wd) -> Optional.of(PAGE), 0.0, true);
+
+        // When
+        HttpResponse<byte[]> first = get("/plan.php?id=1&type=0&wd=4&winW=1000&winH=1000");
+        HttpResponse<byte[]> second = get("/plan.php?id=1&type=0&wd=4&winW=1000&winH=1000");
+
+        // Then
+        assertThat(first.body()).startsWith(PAGE);
+        assertThat(second.body()).startsWith(PAGE);
+        assertThat(first.body()).isNotEqualTo(second.body());
+    }
+
+    FakePlanPolslServer start(TimetableSource source, double errorRate, boolean changeOnFetch) {
+        FakePlanPolslServer server = new FakePlanPolslServer(source, FakePlanPolslProperties.builder()
+                .port(0)
+                .latency(Duration.ZERO)
+                .latencyJitter(Duration.ZERO)
+                .errorRate(errorRate)
+                .threads(2)
+                .changeOnFetch(changeOnFetch)
+                .build());
+        server.start();
+
+        return server;
+    }
+
+    HttpResponse<byte[]> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + underTest.port() + path))
+                .GET()
+                .build();
+
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.github.karixdev.pipelineloadharness.report;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencySummaryTest {
+
+    @Test
+    void GivenNoSamples_WhenOf_ThenReturnsZeroSummary() {
+        // Given
+        List<Duration> samples = List.of();
+
+        // When
+        LatencySummary result = LatencySummary.of(samples);
+
+        // Then
+        assertThat(result.count()).isZero();
+        assertThat(result.max()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    void GivenUnorderedSamples_WhenOf_ThenReturnsNearestRankPercentiles() {
+        // Given
+        List<Duration> samples = IntStream.rangeClosed(1, 100)
+                .map(i -> 101 - i)
+                .mapToObj(Duration::ofMillis)
+                .toList();
+
+        // When
+        LatencySummary result = LatencySummary.of(samples);
+
+        // Then
+        assertThat(result.count()).isEqualTo(100);
+        assertThat(result.p50()).isEqualTo(Duration.ofMillis(50));
+        assertThat(result.p90()).isEqualTo(Duration.ofMillis(90));
+        assertThat(result.p99()).isEqualTo(Duration.ofMillis(99));
+        assertThat(result.max()).isEqualTo(Duration.ofMillis(100));
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.github.karixdev.timetablegenerator;
+
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Generates plan.php pages with the same markup and geometry as plan.polsl.pl, so that they pass through
+ * web-scraper-service and domain-model-mapper-service like real ones. The page depends only on its parameters.
+ */
+public class TimetableGenerator {
+
+    public static final Charset CHARSET = Charset.forName("ISO-8859-2");
+
+    private static final int FIRST_CELL_TOP = 237;
+    private static final double ONE_HOUR_HEIGHT = 45.0;
+    private static final int BORDER_SIZE = 6;
+    private static final int HALF_OF_DAY_WIDTH = 83;
+    private static final int EVERY_WEEK_CW = 154;
+    private static final int ONE_WEEK_CW = 71;
+    private static final int[] DAY_LEFTS = {88, 254, 420, 586, 752};
+
+    private static final List<String> NAMES = List.of(
+            "Analiza matematyczna", "Algebra liniowa", "Fizyka", "Podstawy programowania",
+            "Systemy operacyjne", "Bazy danych", "Sieci komputerowe", "Język angielski",
+            "Grafika komputerowa", "Inżynieria oprogramowania", "Metody numeryczne", "Elektronika"
+    );
+    private static final List<String> TYPES = List.of("wyk", "ćw", "lab", "proj");
+    private static final List<String> TEACHERS = List.of("JKow", "ANow", "PWiś", "MZaj", "KŁuk", "TŻył");
+    private static final List<String> ROOMS = List.of("CEK Aula A", "lab. 520", "sala 105", "sala 302", "lab. 201");
+
+    public String generate(int id, int type, int wd) {
+        Random random = new Random(Objects.hash(id, type, wd));
+        StringBuilder page = new StringBuilder(16 * 1024);
+
+        page.append("""
+                <!DOCTYPE HTML PUBLIC "-//W3C//DTD HTML 4.01 Transitional//EN">
+                <html>
+                <head>
+                <meta http-equiv="Content-Type" content="text/html; charset=iso-8859-2">
+                <title>Plan zajęć</title>
+                </head>
+                <body>
+                <table class="tabtab" border="0" cellspacing="0" cellpadding="0">
+                """);
+
+        for (int quarter = 0; quarter < 13 * 4; quarter += 3) {
+            int start = 7 * 60 + 30 + quarter * 15;
+            page.append("<tr><td class=\"CD\" align=\"right\">")
+                    .append(time(start)).append('-').append(time(start + 45))
+                    .append("</td></tr>\n");
+        }
+        page.append("</table>\n");
+
+        int courses = 10 + random.nextInt(16);
+        for (int i = 0; i < courses; i++) {
+            appendCourse(page, random, i);
+        }
+
+        page.append("</body>\n</html>\n");
+
+        return page.toString();
+    }
+
+    private void appendCourse(StringBuilder page, Random random, int index) {
+        int startQuarter = random.nextInt(11 * 4);
+        int lengthQuarters = 6 + random.nextInt(3) * 2;
+
+        int top = FIRST_CELL_TOP + (int) Math.round(startQuarter * ONE_HOUR_HEIGHT / 4);
+        int ch = (int) Math.round(lengthQuarters * ONE_HOUR_HEIGHT / 4) - BORDER_SIZE;
+
+        boolean everyWeek = random.nextInt(3) > 0;
+        int left = DAY_LEFTS[random.nextInt(DAY_LEFTS.length)] + (!everyWeek && random.nextBoolean() ? HALF_OF_DAY_WIDTH : 0);
+        int cw = everyWeek ? EVERY_WEEK_CW : ONE_WEEK_CW;
+
+        String name = NAMES.get(random.nextInt(NAMES.size()));
+        String courseType = TYPES.get(random.nextInt(TYPES.size()));
+        String teacher = TEACHERS.get(random.nextInt(TEACHERS.size()));
+        String room = ROOMS.get(random.nextInt(ROOMS.size()));
+
+        page.append("<div id=\"course_").append(index).append("\" class=\"coursediv\" style=\"position:absolute; top:")
+                .append(top).append("px; left:").append(left).append("px; z-index:1; height:")
+                .append(ch - 2).append("px; width:").append(cw - 2).append("px;\" cw=\"")
+                .append(cw).append("\" ch=\"").append(ch).append("\">")
+                .append(name).append(", ").append(courseType).append("<br>")
+                .append("<a href=\"plan.php?type=10&amp;id=").append(1000 + random.nextInt(1000)).append("\">")
+                .append(teacher).append("</a> ")
+                .append("<a href=\"plan.php?type=20&amp;id=").append(random.nextInt(1000)).append("\">")
+                .append(room).append("</a>")
+                .append("</div>\n");
+    }
+
+    private static String time(int minutes) {
+        return "%02d:%02d".formatted(minutes / 60, minutes % 60);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.github.karixdev.timetablegenerator;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimetableGeneratorTest {
+
+    TimetableGenerator underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new TimetableGenerator();
+    }
+
+    @Test
+    void GivenSameParameters_WhenGenerate_ThenReturnsSamePage() {
+        // Given
+        int id = 1;
+        int type = 0;
+        int wd = 4;
+
+        // When
+        String first = underTest.generate(id, type, wd);
+        String second = underTest.generate(id, type, wd);
+
+        // Then
+        assertThat(first).isEqualTo(second);
+        assertThat(underTest.generate(2, type, wd)).isNotEqualTo(first);
+    }
+
+    @Test
+    void GivenParameters_WhenGenerate_ThenReturnsPageWithPlanPolslGeometry() {
+        // Given
+        int id = 1337;
+
+        // When
+        Document result = Jsoup.parse(underTest.generate(id, 0, 4));
+
+        // Then
+        assertThat(result.getElementsByClass("CD"))
+                .isNotEmpty()
+                .allSatisfy(cell -> assertThat(cell.text()).matches("^\\d{2}:\\d{2}-\\d{2}:\\d{2}$"));
+
+        assertThat(result.getElementsByClass("coursediv"))
+                .isNotEmpty()
+                .allSatisfy(course -> {
+                    assertThat(Set.of("154", "71")).contains(course.attr("cw"));
+                    assertThat(course.getElementsByTag("a")).hasSize(2);
+                    assertThat(course.ownText()).contains(",");
+                });
+    }
+
+}